@@ -20,11 +20,18 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.function.IntFunction;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
 import software.amazon.awssdk.identity.spi.IdentityProvider;
+import software.amazon.awssdk.identity.spi.ResolveIdentityRequest;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.ExecutorUtils;
 import software.amazon.awssdk.utils.IoUtils;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.SdkAutoCloseable;
@@ -45,6 +52,13 @@ import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
  * will continue to use that provider when credentials are requested in the future, instead of traversing the chain each time.
  * This behavior can be controlled through the {@link Builder#reuseLastProviderEnabled(Boolean)} method.</p>
  *
+ * <p>When {@link Builder#concurrentProbingEnabled(Boolean)} is enabled, the chain instead calls all of its providers at the same
+ * time, and returns the credentials from the first provider in the chain that was able to provide them. This means that slow
+ * failures (e.g. a timeout connecting to the EC2 metadata service) overlap instead of adding up, at the cost of calling
+ * providers that would otherwise not have been called. Once the credentials are chosen, the calls to the providers after it
+ * are cancelled. The providers are called on a bounded pool of SDK threads shared by the whole process, and never on the calling
+ * thread. If that pool and its queue are full, the chain fails instead of skipping providers.</p>
+ *
  * <p>This chain implements {@link AutoCloseable}. When closed, it will call the {@link AutoCloseable#close()} on any credential
  * providers in the chain that need to be closed.</p>
  */
@@ -59,6 +73,8 @@ public final class AwsCredentialsProviderChain
 
     private final boolean reuseLastProviderEnabled;
 
+    private final boolean concurrentProbingEnabled;
+
     private volatile IdentityProvider<? extends AwsCredentialsIdentity> lastUsedProvider;
 
     /**
@@ -67,6 +83,7 @@ public final class AwsCredentialsProviderChain
     private AwsCredentialsProviderChain(BuilderImpl builder) {
         Validate.notEmpty(builder.credentialsProviders, "No credential providers were specified.");
         this.reuseLastProviderEnabled = builder.reuseLastProviderEnabled;
+        this.concurrentProbingEnabled = builder.concurrentProbingEnabled;
         this.credentialsProviders = Collections.unmodifiableList(builder.credentialsProviders);
     }
 
@@ -100,18 +117,23 @@ public final class AwsCredentialsProviderChain
     @Override
     public AwsCredentials resolveCredentials() {
         if (reuseLastProviderEnabled && lastUsedProvider != null) {
-            return CredentialUtils.toCredentials(CompletableFutureUtils.joinLikeSync(lastUsedProvider.resolveIdentity()));
+            return resolveCredentials(lastUsedProvider);
+        }
+
+        if (concurrentProbingEnabled) {
+            return CredentialUtils.toCredentials(CompletableFutureUtils.joinLikeSync(
+                resolveIdentity(ResolveIdentityRequest.builder().build())));
         }
 
         List<String> exceptionMessages = null;
         for (IdentityProvider<? extends AwsCredentialsIdentity> provider : credentialsProviders) {
             try {
-                AwsCredentialsIdentity credentials = CompletableFutureUtils.joinLikeSync(provider.resolveIdentity());
+                AwsCredentials credentials = resolveCredentials(provider);
 
                 log.debug(() -> "Loading credentials from " + provider);
 
                 lastUsedProvider = provider;
-                return CredentialUtils.toCredentials(credentials);
+                return credentials;
             } catch (RuntimeException e) {
                 // Ignore any exceptions and move onto the next provider
                 String message = provider + ": " + e.getMessage();
@@ -124,10 +146,128 @@ public final class AwsCredentialsProviderChain
             }
         }
 
-        throw SdkClientException.builder()
-                                .message("Unable to load credentials from any of the providers in the chain " +
-                                         this + " : " + exceptionMessages)
-                                .build();
+        throw noCredentialsException(exceptionMessages);
+    }
+
+    /**
+     * Resolve credentials without blocking the calling thread, by checking each provider with
+     * {@link IdentityProvider#resolveIdentity(ResolveIdentityRequest)} once the previous provider has failed.
+     */
+    @Override
+    public CompletableFuture<AwsCredentialsIdentity> resolveIdentity(ResolveIdentityRequest request) {
+        IdentityProvider<? extends AwsCredentialsIdentity> provider = lastUsedProvider;
+        if (reuseLastProviderEnabled && provider != null) {
+            return resolveIdentity(provider, request).thenApply(CredentialUtils::toCredentials);
+        }
+
+        if (concurrentProbingEnabled) {
+            List<CompletableFuture<AwsCredentialsIdentity>> probes = new ArrayList<>(credentialsProviders.size());
+            try {
+                for (IdentityProvider<? extends AwsCredentialsIdentity> p : credentialsProviders) {
+                    probes.add(probe(p, request));
+                }
+            } catch (RejectedExecutionException e) {
+                // Skipping a provider could return credentials from a later provider, so fail instead.
+                probes.forEach(probe -> probe.cancel(false));
+                return CompletableFutureUtils.failedFuture(
+                    SdkClientException.create("Unable to probe the credential providers in the chain, because the SDK's "
+                                              + "blocking I/O executor is saturated.", e));
+            }
+            // Once a provider wins (or every provider fails), cancel the probes of the providers after it.
+            return firstResolvedIdentity(probes::get, 0, new ArrayList<>())
+                .whenComplete((credentials, t) -> probes.forEach(probe -> probe.cancel(false)));
+        }
+
+        return firstResolvedIdentity(i -> resolveIdentity(credentialsProviders.get(i), request), 0, new ArrayList<>());
+    }
+
+    /**
+     * Get the credentials of the first provider, starting at the given index, that resolves them successfully. The provider at
+     * each index is only checked once every provider before it has failed.
+     */
+    private CompletableFuture<AwsCredentialsIdentity> firstResolvedIdentity(
+        IntFunction<CompletableFuture<? extends AwsCredentialsIdentity>> resolveProvider,
+        int providerIndex,
+        List<String> exceptionMessages) {
+
+        if (providerIndex == credentialsProviders.size()) {
+            return CompletableFutureUtils.failedFuture(noCredentialsException(exceptionMessages));
+        }
+
+        IdentityProvider<? extends AwsCredentialsIdentity> provider = credentialsProviders.get(providerIndex);
+        return resolveProvider.apply(providerIndex).handle((credentials, t) -> {
+            if (t == null) {
+                log.debug(() -> "Loading credentials from " + provider);
+
+                lastUsedProvider = provider;
+                return CompletableFuture.<AwsCredentialsIdentity>completedFuture(CredentialUtils.toCredentials(credentials));
+            }
+
+            // Ignore any exceptions and move onto the next provider
+            Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+            String message = provider + ": " + cause.getMessage();
+            log.debug(() -> "Unable to load credentials from " + message, cause);
+
+            exceptionMessages.add(message);
+            return firstResolvedIdentity(resolveProvider, providerIndex + 1, exceptionMessages);
+        }).thenCompose(Function.identity());
+    }
+
+    /**
+     * Call a provider on the {@link ExecutorUtils#sharedBlockingIoExecutor()}, because providers can block while they are
+     * called. If the returned future is cancelled before the provider is called, the provider is not called. If it is cancelled
+     * afterwards, the future returned by the provider is cancelled.
+     *
+     * @throws RejectedExecutionException If the executor is saturated.
+     */
+    private static CompletableFuture<AwsCredentialsIdentity> probe(IdentityProvider<? extends AwsCredentialsIdentity> provider,
+                                                                   ResolveIdentityRequest request) {
+        CompletableFuture<AwsCredentialsIdentity> probe = new CompletableFuture<>();
+        ExecutorUtils.sharedBlockingIoExecutor().execute(() -> {
+            if (probe.isDone()) {
+                return;
+            }
+
+            CompletableFuture<? extends AwsCredentialsIdentity> credentials = resolveIdentity(provider, request);
+            credentials.whenComplete((c, t) -> {
+                if (t != null) {
+                    probe.completeExceptionally(t);
+                } else {
+                    probe.complete(c);
+                }
+            });
+            probe.whenComplete((c, t) -> {
+                if (probe.isCancelled()) {
+                    credentials.cancel(false);
+                }
+            });
+        });
+        return probe;
+    }
+
+    private static AwsCredentials resolveCredentials(IdentityProvider<? extends AwsCredentialsIdentity> provider) {
+        // Prefer the provider's synchronous method, which refreshes credentials on the calling thread instead of handing the
+        // refresh to a background thread and waiting for it.
+        if (provider instanceof AwsCredentialsProvider) {
+            return ((AwsCredentialsProvider) provider).resolveCredentials();
+        }
+        return CredentialUtils.toCredentials(CompletableFutureUtils.joinLikeSync(provider.resolveIdentity()));
+    }
+
+    private static CompletableFuture<? extends AwsCredentialsIdentity> resolveIdentity(
+        IdentityProvider<? extends AwsCredentialsIdentity> provider, ResolveIdentityRequest request) {
+        try {
+            return provider.resolveIdentity(request);
+        } catch (RuntimeException e) {
+            return CompletableFutureUtils.failedFuture(e);
+        }
+    }
+
+    private SdkClientException noCredentialsException(List<String> exceptionMessages) {
+        return SdkClientException.builder()
+                                 .message("Unable to load credentials from any of the providers in the chain " +
+                                          this + " : " + exceptionMessages)
+                                 .build();
     }
 
     @Override
@@ -161,6 +301,24 @@ public final class AwsCredentialsProviderChain
          */
         Builder reuseLastProviderEnabled(Boolean reuseLastProviderEnabled);
 
+        /**
+         * Controls whether the chain should call all of its credentials providers at the same time when it searches through the
+         * chain, instead of calling each one only after the providers before it have failed. The credentials of the first
+         * provider in the chain that succeeds are still used, but the time taken to search the chain is that of the slowest
+         * provider before it, instead of the sum of them all.
+         *
+         * <p>
+         * This is useful when providers early in the chain can be slow to fail, for example when they make network calls or run
+         * processes. It should only be enabled when it is acceptable to call providers that would otherwise not have been
+         * called.
+         *
+         * <p>
+         * By default, this is disabled
+         */
+        default Builder concurrentProbingEnabled(Boolean concurrentProbingEnabled) {
+            throw new UnsupportedOperationException();
+        }
+
         /**
          * Configure the credentials providers that should be checked for credentials, in the order they should be checked.
          */
@@ -205,6 +363,7 @@ public final class AwsCredentialsProviderChain
 
     private static final class BuilderImpl implements Builder {
         private Boolean reuseLastProviderEnabled = true;
+        private Boolean concurrentProbingEnabled = false;
         private List<IdentityProvider<? extends AwsCredentialsIdentity>> credentialsProviders = new ArrayList<>();
 
         private BuilderImpl() {
@@ -212,6 +371,7 @@ public final class AwsCredentialsProviderChain
 
         private BuilderImpl(AwsCredentialsProviderChain provider) {
             this.reuseLastProviderEnabled = provider.reuseLastProviderEnabled;
+            this.concurrentProbingEnabled = provider.concurrentProbingEnabled;
             this.credentialsProviders = provider.credentialsProviders;
         }
 
@@ -225,6 +385,16 @@ public final class AwsCredentialsProviderChain
             reuseLastProviderEnabled(reuseLastProviderEnabled);
         }
 
+        @Override
+        public Builder concurrentProbingEnabled(Boolean concurrentProbingEnabled) {
+            this.concurrentProbingEnabled = concurrentProbingEnabled;
+            return this;
+        }
+
+        public void setConcurrentProbingEnabled(Boolean concurrentProbingEnabled) {
+            concurrentProbingEnabled(concurrentProbingEnabled);
+        }
+
         @Override
         public Builder credentialsProviders(Collection<? extends AwsCredentialsProvider> credentialsProviders) {
             this.credentialsProviders = new ArrayList<>(credentialsProviders);
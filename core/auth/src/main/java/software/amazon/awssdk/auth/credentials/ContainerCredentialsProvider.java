@@ -32,6 +32,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.auth.credentials.internal.ContainerCredentialsRetryPolicy;
@@ -40,17 +41,22 @@ import software.amazon.awssdk.auth.credentials.internal.HttpCredentialsLoader.Lo
 import software.amazon.awssdk.core.SdkSystemSetting;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.util.SdkUserAgent;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+import software.amazon.awssdk.identity.spi.ResolveIdentityRequest;
 import software.amazon.awssdk.regions.util.ResourcesEndpointProvider;
 import software.amazon.awssdk.regions.util.ResourcesEndpointRetryPolicy;
 import software.amazon.awssdk.utils.ComparableUtils;
+import software.amazon.awssdk.utils.IoUtils;
 import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.awssdk.utils.ToString;
 import software.amazon.awssdk.utils.Validate;
 import software.amazon.awssdk.utils.builder.CopyableBuilder;
 import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
 import software.amazon.awssdk.utils.cache.CachedSupplier;
+import software.amazon.awssdk.utils.cache.CachedValueSupplier;
 import software.amazon.awssdk.utils.cache.NonBlocking;
 import software.amazon.awssdk.utils.cache.RefreshResult;
+import software.amazon.awssdk.utils.cache.SharedCachedSupplier;
 
 /**
  * {@link AwsCredentialsProvider} implementation that loads credentials from a local metadata service.
@@ -85,10 +91,12 @@ public final class ContainerCredentialsProvider
 
     private final String endpoint;
     private final HttpCredentialsLoader httpCredentialsLoader;
-    private final CachedSupplier<AwsCredentials> credentialsCache;
+    private final CachedValueSupplier<AwsCredentials> credentialsCache;
 
     private final Boolean asyncCredentialUpdateEnabled;
 
+    private final Boolean sharedCredentialCacheEnabled;
+
     private final String asyncThreadName;
 
     /**
@@ -98,9 +106,17 @@ public final class ContainerCredentialsProvider
         this.endpoint = builder.endpoint;
         this.asyncCredentialUpdateEnabled = builder.asyncCredentialUpdateEnabled;
         this.asyncThreadName = builder.asyncThreadName;
+        this.sharedCredentialCacheEnabled = builder.sharedCredentialCacheEnabled;
         this.httpCredentialsLoader = HttpCredentialsLoader.create(PROVIDER_NAME);
 
-        if (Boolean.TRUE.equals(builder.asyncCredentialUpdateEnabled)) {
+        if (Boolean.TRUE.equals(builder.sharedCredentialCacheEnabled)) {
+            Validate.paramNotBlank(builder.asyncThreadName, "asyncThreadName");
+            this.credentialsCache = SharedCachedSupplier.builder(this::refreshCredentials)
+                                                        .key(Arrays.asList(PROVIDER_NAME, endpoint))
+                                                        .cachedValueName(toString())
+                                                        .asyncThreadName(builder.asyncThreadName)
+                                                        .build();
+        } else if (Boolean.TRUE.equals(builder.asyncCredentialUpdateEnabled)) {
             Validate.paramNotBlank(builder.asyncThreadName, "asyncThreadName");
             this.credentialsCache = CachedSupplier.builder(this::refreshCredentials)
                                                   .cachedValueName(toString())
@@ -165,9 +181,14 @@ public final class ContainerCredentialsProvider
         return credentialsCache.get();
     }
 
+    @Override
+    public CompletableFuture<AwsCredentialsIdentity> resolveIdentity(ResolveIdentityRequest request) {
+        return credentialsCache.getAsync().thenApply(c -> c);
+    }
+
     @Override
     public void close() {
-        credentialsCache.close();
+        IoUtils.closeIfCloseable(credentialsCache, null);
     }
 
     @Override
@@ -318,6 +339,7 @@ public final class ContainerCredentialsProvider
         private String endpoint;
         private Boolean asyncCredentialUpdateEnabled;
         private String asyncThreadName;
+        private Boolean sharedCredentialCacheEnabled;
 
         private BuilderImpl() {
             asyncThreadName("container-credentials-provider");
@@ -327,6 +349,7 @@ public final class ContainerCredentialsProvider
             this.endpoint = credentialsProvider.endpoint;
             this.asyncCredentialUpdateEnabled = credentialsProvider.asyncCredentialUpdateEnabled;
             this.asyncThreadName = credentialsProvider.asyncThreadName;
+            this.sharedCredentialCacheEnabled = credentialsProvider.sharedCredentialCacheEnabled;
         }
 
         @Override
@@ -359,6 +382,16 @@ public final class ContainerCredentialsProvider
             asyncThreadName(asyncThreadName);
         }
 
+        @Override
+        public Builder sharedCredentialCacheEnabled(Boolean sharedCredentialCacheEnabled) {
+            this.sharedCredentialCacheEnabled = sharedCredentialCacheEnabled;
+            return this;
+        }
+
+        public void setSharedCredentialCacheEnabled(Boolean sharedCredentialCacheEnabled) {
+            sharedCredentialCacheEnabled(sharedCredentialCacheEnabled);
+        }
+
         @Override
         public ContainerCredentialsProvider build() {
             return new ContainerCredentialsProvider(this);
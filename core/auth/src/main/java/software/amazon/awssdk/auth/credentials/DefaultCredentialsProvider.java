@@ -16,9 +16,12 @@
 package software.amazon.awssdk.auth.credentials;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.auth.credentials.internal.LazyAwsCredentialsProvider;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+import software.amazon.awssdk.identity.spi.ResolveIdentityRequest;
 import software.amazon.awssdk.profiles.ProfileFile;
 import software.amazon.awssdk.profiles.ProfileFileSupplier;
 import software.amazon.awssdk.utils.SdkAutoCloseable;
@@ -62,6 +65,8 @@ public final class DefaultCredentialsProvider
 
     private final Boolean asyncCredentialUpdateEnabled;
 
+    private final Boolean concurrentProbingEnabled;
+
     /**
      * @see #builder()
      */
@@ -70,6 +75,7 @@ public final class DefaultCredentialsProvider
         this.profileName = builder.profileName;
         this.reuseLastProviderEnabled = builder.reuseLastProviderEnabled;
         this.asyncCredentialUpdateEnabled = builder.asyncCredentialUpdateEnabled;
+        this.concurrentProbingEnabled = builder.concurrentProbingEnabled;
         this.providerChain = createChain(builder);
     }
 
@@ -88,6 +94,7 @@ public final class DefaultCredentialsProvider
     private static LazyAwsCredentialsProvider createChain(Builder builder) {
         boolean asyncCredentialUpdateEnabled = builder.asyncCredentialUpdateEnabled;
         boolean reuseLastProviderEnabled = builder.reuseLastProviderEnabled;
+        boolean concurrentProbingEnabled = builder.concurrentProbingEnabled;
 
         return LazyAwsCredentialsProvider.create(() -> {
             AwsCredentialsProvider[] credentialsProviders = new AwsCredentialsProvider[] {
@@ -112,6 +119,7 @@ public final class DefaultCredentialsProvider
 
             return AwsCredentialsProviderChain.builder()
                                               .reuseLastProviderEnabled(reuseLastProviderEnabled)
+                                              .concurrentProbingEnabled(concurrentProbingEnabled)
                                               .credentialsProviders(credentialsProviders)
                                               .build();
         });
@@ -129,6 +137,11 @@ public final class DefaultCredentialsProvider
         return providerChain.resolveCredentials();
     }
 
+    @Override
+    public CompletableFuture<AwsCredentialsIdentity> resolveIdentity(ResolveIdentityRequest request) {
+        return providerChain.resolveIdentity(request);
+    }
+
     @Override
     public void close() {
         providerChain.close();
@@ -154,6 +167,7 @@ public final class DefaultCredentialsProvider
         private String profileName;
         private Boolean reuseLastProviderEnabled = true;
         private Boolean asyncCredentialUpdateEnabled = false;
+        private Boolean concurrentProbingEnabled = false;
 
         /**
          * Created with {@link #builder()}.
@@ -166,6 +180,7 @@ public final class DefaultCredentialsProvider
             this.profileName = credentialsProvider.profileName;
             this.reuseLastProviderEnabled = credentialsProvider.reuseLastProviderEnabled;
             this.asyncCredentialUpdateEnabled = credentialsProvider.asyncCredentialUpdateEnabled;
+            this.concurrentProbingEnabled = credentialsProvider.concurrentProbingEnabled;
         }
 
         public Builder profileFile(ProfileFile profileFile) {
@@ -207,6 +222,21 @@ public final class DefaultCredentialsProvider
             return this;
         }
 
+        /**
+         * Configure whether the provider should check every credentials provider in the chain at the same time when it first
+         * looks for credentials, instead of one after another. Credentials are still taken from the first provider in the chain
+         * that has them, but finding them takes as long as the slowest of the providers before it, instead of all of them
+         * combined.
+         *
+         * <p>By default, this is disabled.</p>
+         *
+         * @see AwsCredentialsProviderChain.Builder#concurrentProbingEnabled(Boolean)
+         */
+        public Builder concurrentProbingEnabled(Boolean concurrentProbingEnabled) {
+            this.concurrentProbingEnabled = concurrentProbingEnabled;
+            return this;
+        }
+
         /**
          * Create a {@link DefaultCredentialsProvider} using the configuration defined in this builder.
          */
@@ -42,6 +42,19 @@ public interface HttpCredentialsProvider extends AwsCredentialsProvider, SdkAuto
          */
         BuilderT asyncThreadName(String asyncThreadName);
 
+        /**
+         * Configure whether the provider should share its cached credentials with every other provider of the same type that
+         * was created with the same configuration in this process. If this is true, providers for many clients load
+         * credentials once per refresh, credentials are refreshed by a single background thread at a jittered time before
+         * they expire, and the last loaded credentials are used while a refresh fails. This overrides
+         * {@link #asyncCredentialUpdateEnabled(Boolean)}.
+         *
+         * <p>By default, this is disabled.</p>
+         */
+        default BuilderT sharedCredentialCacheEnabled(Boolean sharedCredentialCacheEnabled) {
+            throw new UnsupportedOperationException();
+        }
+
         /**
          * Override the default hostname (not path) that is used for credential refreshing. Most users do not need to modify
          * this behavior, except for testing purposes where mocking the HTTP credential source would be useful.
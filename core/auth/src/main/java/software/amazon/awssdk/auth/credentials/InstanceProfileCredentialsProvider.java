@@ -24,9 +24,11 @@ import java.net.URI;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
@@ -37,20 +39,25 @@ import software.amazon.awssdk.auth.credentials.internal.StaticResourcesEndpointP
 import software.amazon.awssdk.core.SdkSystemSetting;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+import software.amazon.awssdk.identity.spi.ResolveIdentityRequest;
 import software.amazon.awssdk.profiles.ProfileFile;
 import software.amazon.awssdk.profiles.ProfileFileSupplier;
 import software.amazon.awssdk.profiles.ProfileFileSystemSetting;
 import software.amazon.awssdk.profiles.ProfileProperty;
 import software.amazon.awssdk.regions.util.HttpResourcesUtils;
 import software.amazon.awssdk.regions.util.ResourcesEndpointProvider;
+import software.amazon.awssdk.utils.IoUtils;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.ToString;
 import software.amazon.awssdk.utils.Validate;
 import software.amazon.awssdk.utils.builder.CopyableBuilder;
 import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
 import software.amazon.awssdk.utils.cache.CachedSupplier;
+import software.amazon.awssdk.utils.cache.CachedValueSupplier;
 import software.amazon.awssdk.utils.cache.NonBlocking;
 import software.amazon.awssdk.utils.cache.RefreshResult;
+import software.amazon.awssdk.utils.cache.SharedCachedSupplier;
 
 /**
  * Credentials provider implementation that loads credentials from the Amazon EC2 Instance Metadata Service.
@@ -78,10 +85,12 @@ public final class InstanceProfileCredentialsProvider
     private final String endpoint;
     private final Ec2MetadataConfigProvider configProvider;
     private final HttpCredentialsLoader httpCredentialsLoader;
-    private final CachedSupplier<AwsCredentials> credentialsCache;
+    private final CachedValueSupplier<AwsCredentials> credentialsCache;
 
     private final Boolean asyncCredentialUpdateEnabled;
 
+    private final Boolean sharedCredentialCacheEnabled;
+
     private final String asyncThreadName;
 
     private final Supplier<ProfileFile> profileFile;
@@ -98,6 +107,7 @@ public final class InstanceProfileCredentialsProvider
         this.endpoint = builder.endpoint;
         this.asyncCredentialUpdateEnabled = builder.asyncCredentialUpdateEnabled;
         this.asyncThreadName = builder.asyncThreadName;
+        this.sharedCredentialCacheEnabled = builder.sharedCredentialCacheEnabled;
         this.profileFile = Optional.ofNullable(builder.profileFile)
                                    .orElseGet(() -> ProfileFileSupplier.fixedProfileFile(ProfileFile.defaultProfileFile()));
         this.profileName = Optional.ofNullable(builder.profileName)
@@ -112,7 +122,16 @@ public final class InstanceProfileCredentialsProvider
 
         this.staleTime = Validate.getOrDefault(builder.staleTime, () -> Duration.ofSeconds(1));
 
-        if (Boolean.TRUE.equals(builder.asyncCredentialUpdateEnabled)) {
+        if (Boolean.TRUE.equals(builder.sharedCredentialCacheEnabled)) {
+            Validate.paramNotBlank(builder.asyncThreadName, "asyncThreadName");
+            this.credentialsCache = SharedCachedSupplier.builder(this::refreshCredentials)
+                                                        .key(Arrays.asList(PROVIDER_NAME, endpoint, builder.profileFile,
+                                                                           profileName, staleTime))
+                                                        .cachedValueName(toString())
+                                                        .asyncThreadName(builder.asyncThreadName)
+                                                        .clock(clock)
+                                                        .build();
+        } else if (Boolean.TRUE.equals(builder.asyncCredentialUpdateEnabled)) {
             Validate.paramNotBlank(builder.asyncThreadName, "asyncThreadName");
             this.credentialsCache = CachedSupplier.builder(this::refreshCredentials)
                                                   .cachedValueName(toString())
@@ -150,6 +169,11 @@ public final class InstanceProfileCredentialsProvider
         return credentialsCache.get();
     }
 
+    @Override
+    public CompletableFuture<AwsCredentialsIdentity> resolveIdentity(ResolveIdentityRequest request) {
+        return credentialsCache.getAsync().thenApply(c -> c);
+    }
+
     private RefreshResult<AwsCredentials> refreshCredentials() {
         if (isLocalCredentialLoadingDisabled()) {
             throw SdkClientException.create("IMDS credentials have been disabled by environment variable or system property.");
@@ -199,7 +223,7 @@ public final class InstanceProfileCredentialsProvider
 
     @Override
     public void close() {
-        credentialsCache.close();
+        IoUtils.closeIfCloseable(credentialsCache, null);
     }
 
     @Override
@@ -369,6 +393,7 @@ public final class InstanceProfileCredentialsProvider
         private String endpoint;
         private Boolean asyncCredentialUpdateEnabled;
         private String asyncThreadName;
+        private Boolean sharedCredentialCacheEnabled;
         private Supplier<ProfileFile> profileFile;
         private String profileName;
         private Duration staleTime;
@@ -382,6 +407,7 @@ public final class InstanceProfileCredentialsProvider
             this.endpoint = provider.endpoint;
             this.asyncCredentialUpdateEnabled = provider.asyncCredentialUpdateEnabled;
             this.asyncThreadName = provider.asyncThreadName;
+            this.sharedCredentialCacheEnabled = provider.sharedCredentialCacheEnabled;
             this.profileFile = provider.profileFile;
             this.profileName = provider.profileName;
             this.staleTime = provider.staleTime;
@@ -422,6 +448,16 @@ public final class InstanceProfileCredentialsProvider
             asyncThreadName(asyncThreadName);
         }
 
+        @Override
+        public Builder sharedCredentialCacheEnabled(Boolean sharedCredentialCacheEnabled) {
+            this.sharedCredentialCacheEnabled = sharedCredentialCacheEnabled;
+            return this;
+        }
+
+        public void setSharedCredentialCacheEnabled(Boolean sharedCredentialCacheEnabled) {
+            sharedCredentialCacheEnabled(sharedCredentialCacheEnabled);
+        }
+
         @Override
         public Builder profileFile(ProfileFile profileFile) {
             return profileFile(Optional.ofNullable(profileFile)
@@ -15,22 +15,30 @@
 
 package software.amazon.awssdk.auth.credentials;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.auth.credentials.internal.ProfileCredentialsUtils;
 import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+import software.amazon.awssdk.identity.spi.ResolveIdentityRequest;
 import software.amazon.awssdk.profiles.ProfileFile;
 import software.amazon.awssdk.profiles.ProfileFileSupplier;
 import software.amazon.awssdk.profiles.ProfileFileSystemSetting;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.IoUtils;
 import software.amazon.awssdk.utils.SdkAutoCloseable;
 import software.amazon.awssdk.utils.ToString;
 import software.amazon.awssdk.utils.builder.CopyableBuilder;
 import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+import software.amazon.awssdk.utils.cache.CachedSupplier;
+import software.amazon.awssdk.utils.cache.RefreshResult;
 
 /**
  * Credentials provider based on AWS configuration profiles. This loads credentials from a {@link ProfileFile}, allowing you to
@@ -48,6 +56,10 @@ public final class ProfileCredentialsProvider
     implements AwsCredentialsProvider,
                SdkAutoCloseable,
                ToCopyableBuilder<ProfileCredentialsProvider.Builder, ProfileCredentialsProvider> {
+    /**
+     * How often {@link #resolveIdentity(ResolveIdentityRequest)} checks the profile file for changes.
+     */
+    private static final Duration ASYNC_PROFILE_FILE_CHECK_INTERVAL = Duration.ofSeconds(1);
 
     private volatile AwsCredentialsProvider credentialsProvider;
     private final RuntimeException loadException;
@@ -58,6 +70,12 @@ public final class ProfileCredentialsProvider
 
     private final Object credentialsProviderLock = new Object();
 
+    /**
+     * The credentials provider used by {@link #resolveIdentity(ResolveIdentityRequest)}. Loading and checking the profile file
+     * can read from disk, so this is done on a background thread instead of the calling thread.
+     */
+    private final CachedSupplier<AwsCredentialsProvider> asyncCredentialsProvider;
+
     /**
      * @see #builder()
      */
@@ -85,6 +103,12 @@ public final class ProfileCredentialsProvider
         this.loadException = thrownException;
         this.profileName = selectedProfileName;
         this.profileFile = selectedProfileSupplier;
+        this.asyncCredentialsProvider =
+            CachedSupplier.builder(() -> RefreshResult.builder(currentCredentialsProvider())
+                                                      .prefetchTime(Instant.now().plus(ASYNC_PROFILE_FILE_CHECK_INTERVAL))
+                                                      .build())
+                          .cachedValueName("ProfileCredentialsProvider()")
+                          .build();
     }
 
     /**
@@ -118,6 +142,23 @@ public final class ProfileCredentialsProvider
             throw loadException;
         }
 
+        return currentCredentialsProvider().resolveCredentials();
+    }
+
+    /**
+     * Resolve credentials without reading the profile file on the calling thread. Changes to the profile file are picked up
+     * after up to a second, instead of on the next call as with {@link #resolveCredentials()}.
+     */
+    @Override
+    public CompletableFuture<AwsCredentialsIdentity> resolveIdentity(ResolveIdentityRequest request) {
+        if (loadException != null) {
+            return CompletableFutureUtils.failedFuture(loadException);
+        }
+
+        return asyncCredentialsProvider.getAsync().thenCompose(provider -> provider.resolveIdentity(request));
+    }
+
+    private AwsCredentialsProvider currentCredentialsProvider() {
         ProfileFile cachedOrRefreshedProfileFile = refreshProfileFile();
         if (shouldUpdateCredentialsProvider(cachedOrRefreshedProfileFile)) {
             synchronized (credentialsProviderLock) {
@@ -128,7 +169,7 @@ public final class ProfileCredentialsProvider
             }
         }
 
-        return credentialsProvider.resolveCredentials();
+        return credentialsProvider;
     }
 
     private void handleProfileFileReload(ProfileFile profileFile) {
@@ -156,6 +197,7 @@ public final class ProfileCredentialsProvider
         // The delegate credentials provider may be closeable (eg. if it's an STS credentials provider). In this case, we should
         // clean it up when this credentials provider is closed.
         IoUtils.closeIfCloseable(credentialsProvider, null);
+        asyncCredentialsProvider.close();
     }
 
     @Override
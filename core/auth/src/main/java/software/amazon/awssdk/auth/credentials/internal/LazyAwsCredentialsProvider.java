@@ -15,10 +15,16 @@
 
 package software.amazon.awssdk.auth.credentials.internal;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+import software.amazon.awssdk.identity.spi.ResolveIdentityRequest;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.ExecutorUtils;
 import software.amazon.awssdk.utils.IoUtils;
 import software.amazon.awssdk.utils.Lazy;
 import software.amazon.awssdk.utils.SdkAutoCloseable;
@@ -45,6 +51,24 @@ public class LazyAwsCredentialsProvider implements AwsCredentialsProvider, SdkAu
         return delegate.getValue().resolveCredentials();
     }
 
+    /**
+     * Creating a provider can read files (e.g. the profile file), so the first call creates it on the
+     * {@link ExecutorUtils#sharedBlockingIoExecutor()} instead of the calling thread. If that executor is saturated, the
+     * returned future fails instead.
+     */
+    @Override
+    public CompletableFuture<AwsCredentialsIdentity> resolveIdentity(ResolveIdentityRequest request) {
+        if (delegate.hasValue()) {
+            return delegate.getValue().resolveIdentity(request);
+        }
+        try {
+            return CompletableFuture.supplyAsync(delegate::getValue, ExecutorUtils.sharedBlockingIoExecutor())
+                                    .thenCompose(provider -> provider.resolveIdentity(request));
+        } catch (RejectedExecutionException e) {
+            return CompletableFutureUtils.failedFuture(e);
+        }
+    }
+
     @Override
     public void close() {
         IoUtils.closeIfCloseable(delegate, null);
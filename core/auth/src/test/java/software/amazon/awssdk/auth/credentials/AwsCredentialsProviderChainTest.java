@@ -16,16 +16,22 @@
 package software.amazon.awssdk.auth.credentials;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import org.junit.Test;
 import org.junit.jupiter.api.function.Executable;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
 import software.amazon.awssdk.identity.spi.IdentityProvider;
+import software.amazon.awssdk.identity.spi.ResolveIdentityRequest;
 import software.amazon.awssdk.profiles.ProfileFile;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.StringInputStream;
 
 public class AwsCredentialsProviderChainTest {
@@ -120,6 +126,103 @@ public class AwsCredentialsProviderChainTest {
         assertThat(e.getMessage()).contains(provider2.exceptionMessage);
     }
 
+    @Test
+    public void resolveIdentity_reuseEnabled_resolvesFromNextProviderAndReusesIt() {
+        MockCredentialsProvider provider1 = new MockCredentialsProvider("Failed!");
+        MockCredentialsProvider provider2 = new MockCredentialsProvider();
+        AwsCredentialsProviderChain chain = AwsCredentialsProviderChain.of(provider1, provider2);
+
+        assertThat(chain.resolveIdentity().join().accessKeyId()).isEqualTo("accessKey");
+        assertThat(chain.resolveIdentity().join().accessKeyId()).isEqualTo("accessKey");
+        assertEquals(1, provider1.getCredentialsCallCount);
+        assertEquals(2, provider2.getCredentialsCallCount);
+    }
+
+    @Test
+    public void resolveIdentity_allProvidersFail_failsWithMessageFromAllProviders() {
+        MockCredentialsProvider provider1 = new MockCredentialsProvider("Failed!");
+        IdentityProvider<AwsCredentialsIdentity> provider2 = new AsyncCredentialsProvider(
+            CompletableFutureUtils.failedFuture(new RuntimeException("Bad!")));
+        AwsCredentialsProviderChain chain = AwsCredentialsProviderChain.of(provider1, provider2);
+
+        assertThatThrownBy(() -> chain.resolveIdentity().join()).hasCauseInstanceOf(SdkClientException.class)
+                                                               .hasMessageContaining("Failed!")
+                                                               .hasMessageContaining("Bad!");
+    }
+
+    @Test
+    public void resolveIdentity_providerStillResolving_doesNotWaitForIt() {
+        CompletableFuture<AwsCredentialsIdentity> credentials = new CompletableFuture<>();
+        AwsCredentialsProviderChain chain = AwsCredentialsProviderChain.of(new AsyncCredentialsProvider(credentials));
+
+        CompletableFuture<? extends AwsCredentialsIdentity> result = chain.resolveIdentity();
+        assertThat(result).isNotDone();
+
+        credentials.complete(AwsBasicCredentials.create("accessKey", "secretKey"));
+        assertThat(result.join().accessKeyId()).isEqualTo("accessKey");
+    }
+
+    @Test
+    public void resolveIdentity_concurrentProbingEnabled_usesFirstProviderInChainThatSucceeds() {
+        CompletableFuture<AwsCredentialsIdentity> slowCredentials = new CompletableFuture<>();
+        AwsCredentialsProviderChain chain = AwsCredentialsProviderChain
+            .builder()
+            .concurrentProbingEnabled(true)
+            .credentialsProviders(new AsyncCredentialsProvider(slowCredentials),
+                                  new AsyncCredentialsProvider(CompletableFuture.completedFuture(
+                                      AwsBasicCredentials.create("otherAccessKey", "otherSecretKey"))))
+            .build();
+
+        CompletableFuture<? extends AwsCredentialsIdentity> result = chain.resolveIdentity();
+        assertThat(result).isNotDone();
+
+        slowCredentials.complete(AwsBasicCredentials.create("accessKey", "secretKey"));
+        assertThat(result.join().accessKeyId()).isEqualTo("accessKey");
+    }
+
+    @Test
+    public void resolveIdentity_concurrentProbingEnabled_cancelsLaterProvidersOnceOneSucceeds() throws Exception {
+        CompletableFuture<AwsCredentialsIdentity> credentials = new CompletableFuture<>();
+        CompletableFuture<AwsCredentialsIdentity> laterCredentials = new CompletableFuture<>();
+        AsyncCredentialsProvider provider1 = new AsyncCredentialsProvider(credentials);
+        AsyncCredentialsProvider provider2 = new AsyncCredentialsProvider(laterCredentials);
+        AwsCredentialsProviderChain chain = AwsCredentialsProviderChain
+            .builder()
+            .concurrentProbingEnabled(true)
+            .credentialsProviders(provider1, provider2)
+            .build();
+
+        CompletableFuture<? extends AwsCredentialsIdentity> result = chain.resolveIdentity();
+        provider1.called.get(10, TimeUnit.SECONDS);
+        provider2.called.get(10, TimeUnit.SECONDS);
+
+        credentials.complete(AwsBasicCredentials.create("accessKey", "secretKey"));
+        assertThat(result.get(10, TimeUnit.SECONDS).accessKeyId()).isEqualTo("accessKey");
+        assertThatThrownBy(() -> laterCredentials.get(10, TimeUnit.SECONDS)).isInstanceOf(CancellationException.class);
+    }
+
+    @Test
+    public void resolveCredentials_concurrentProbingEnabled_callsProvidersBeforeEarlierProvidersFail() throws Exception {
+        CompletableFuture<AwsCredentialsIdentity> slowFailure = new CompletableFuture<>();
+        AsyncCredentialsProvider provider2 = new AsyncCredentialsProvider(CompletableFuture.completedFuture(
+            AwsBasicCredentials.create("accessKey", "secretKey")));
+        AwsCredentialsProviderChain chain = AwsCredentialsProviderChain
+            .builder()
+            .concurrentProbingEnabled(true)
+            .credentialsProviders(new AsyncCredentialsProvider(slowFailure), provider2)
+            .build();
+
+        CompletableFuture<AwsCredentials> result = CompletableFuture.supplyAsync(chain::resolveCredentials);
+        provider2.called.get(10, TimeUnit.SECONDS);
+        assertThat(result).isNotDone();
+
+        slowFailure.completeExceptionally(new RuntimeException("Failed!"));
+        assertThat(result.get(10, TimeUnit.SECONDS).accessKeyId()).isEqualTo("accessKey");
+
+        // The provider that succeeded is reused, without calling the first provider again.
+        assertThat(chain.resolveCredentials().accessKeyId()).isEqualTo("accessKey");
+    }
+
     @Test
     public void resolveCredentials_emptyChain_throwsException() {
         assertThrowsIllegalArgument(() -> AwsCredentialsProviderChain.of());
@@ -197,4 +300,24 @@ public class AwsCredentialsProviderChainTest {
             }
         }
     }
+
+    private static final class AsyncCredentialsProvider implements IdentityProvider<AwsCredentialsIdentity> {
+        private final CompletableFuture<AwsCredentialsIdentity> credentials;
+        private final CompletableFuture<Void> called = new CompletableFuture<>();
+
+        private AsyncCredentialsProvider(CompletableFuture<AwsCredentialsIdentity> credentials) {
+            this.credentials = credentials;
+        }
+
+        @Override
+        public Class<AwsCredentialsIdentity> identityType() {
+            return AwsCredentialsIdentity.class;
+        }
+
+        @Override
+        public CompletableFuture<AwsCredentialsIdentity> resolveIdentity(ResolveIdentityRequest request) {
+            called.complete(null);
+            return credentials;
+        }
+    }
 }
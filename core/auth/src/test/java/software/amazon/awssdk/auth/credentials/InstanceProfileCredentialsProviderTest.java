@@ -49,6 +49,7 @@ import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletionException;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.AfterAll;
@@ -151,6 +152,23 @@ public class InstanceProfileCredentialsProviderTest {
         verifyImdsCallWithToken();
     }
 
+    @Test
+    void resolveCredentials_sharedCredentialCacheEnabled_loadsCredentialsOnceForEquivalentProviders() {
+        stubSecureCredentialsResponse(aResponse().withBody(STUB_CREDENTIALS));
+        InstanceProfileCredentialsProvider.Builder builder =
+            InstanceProfileCredentialsProvider.builder()
+                                              .endpoint("http://localhost:" + wireMockServer.getPort())
+                                              .sharedCredentialCacheEnabled(true);
+
+        try (InstanceProfileCredentialsProvider first = builder.build();
+             InstanceProfileCredentialsProvider second = builder.build()) {
+            AwsCredentials credentials = first.resolveCredentials();
+            assertThat(second.resolveCredentials()).isSameAs(credentials);
+        }
+
+        WireMock.verify(exactly(1), getRequestedFor(urlPathEqualTo(CREDENTIALS_RESOURCE_PATH + PROFILE_NAME)));
+    }
+
     @Test
     void resolveCredentials_WhenConnectionDelaySetToHighValue() {
         environmentVariableHelper.set(SdkSystemSetting.AWS_METADATA_SERVICE_TIMEOUT, "10");
@@ -191,8 +209,9 @@ public class InstanceProfileCredentialsProviderTest {
     void resolveIdentityFails_WhenConnectionDelaySetToHighValue_ForDefaultConnectionTimeoutValue() {
         stubSecureCredentialsResponse(aResponse().withBody(STUB_CREDENTIALS).withFixedDelay(1100));
         InstanceProfileCredentialsProvider provider = InstanceProfileCredentialsProvider.builder().build();
-        assertThatExceptionOfType(SdkClientException.class).isThrownBy(() -> provider.resolveIdentity().join())
-                                                           .withRootCauseExactlyInstanceOf(SocketTimeoutException.class);
+        assertThatExceptionOfType(CompletionException.class).isThrownBy(() -> provider.resolveIdentity().join())
+                                                            .withCauseInstanceOf(SdkClientException.class)
+                                                            .withRootCauseExactlyInstanceOf(SocketTimeoutException.class);
 
     }
 
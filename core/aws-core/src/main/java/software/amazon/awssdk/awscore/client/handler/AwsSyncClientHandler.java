@@ -30,6 +30,7 @@ import software.amazon.awssdk.core.http.Crc32Validation;
 import software.amazon.awssdk.core.http.ExecutionContext;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 
@@ -50,6 +51,7 @@ public final class AwsSyncClientHandler extends SdkSyncClientHandler implements
     public <InputT extends SdkRequest, OutputT extends SdkResponse> OutputT execute(
         ClientExecutionParams<InputT, OutputT> executionParams) {
         ClientExecutionParams<InputT, OutputT> clientExecutionParams = addCrc32Validation(executionParams);
+        clientExecutionParams.putExecutionAttribute(SdkInternalExecutionAttribute.RESPONSE_DECOMPRESSION_SUPPORTED, true);
         return super.execute(clientExecutionParams);
     }
 
@@ -73,13 +75,15 @@ public final class AwsSyncClientHandler extends SdkSyncClientHandler implements
             return executionParams.withCombinedResponseHandler(
                 new Crc32ValidationResponseHandler<>(executionParams.getCombinedResponseHandler()));
         } else {
-            return executionParams.withResponseHandler(
-                new Crc32ValidationResponseHandler<>(executionParams.getResponseHandler()));
+            // Error responses are decompressed too, so that they can be unmarshalled when response compression is enabled.
+            return executionParams.withResponseHandler(new Crc32ValidationResponseHandler<>(executionParams.getResponseHandler()))
+                                  .withErrorResponseHandler(
+                                      new Crc32ValidationResponseHandler<>(executionParams.getErrorResponseHandler()));
         }
     }
 
     /**
-     * Decorate {@link HttpResponseHandler} to validate CRC32 if needed.
+     * Decorate {@link HttpResponseHandler} to validate CRC32 and decompress the response if needed.
      */
     private class Crc32ValidationResponseHandler<T> implements HttpResponseHandler<T> {
         private final HttpResponseHandler<T> delegate;
@@ -90,7 +94,8 @@ public final class AwsSyncClientHandler extends SdkSyncClientHandler implements
 
         @Override
         public T handle(SdkHttpFullResponse response, ExecutionAttributes executionAttributes) throws Exception {
-            return delegate.handle(Crc32Validation.validate(isCalculateCrc32FromCompressedData(), response), executionAttributes);
+            return delegate.handle(Crc32Validation.validate(isCalculateCrc32FromCompressedData(), response, executionAttributes),
+                                   executionAttributes);
         }
     }
 }
@@ -36,6 +36,7 @@ import software.amazon.awssdk.core.RequestOverrideConfiguration;
 import software.amazon.awssdk.core.SdkRequest;
 import software.amazon.awssdk.core.SdkResponse;
 import software.amazon.awssdk.core.SelectedAuthScheme;
+import software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption;
 import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
@@ -122,6 +123,8 @@ public final class AwsExecutionContextBuilder {
             .putAttribute(AwsExecutionAttribute.AWS_AUTH_ACCOUNT_ID_ENDPOINT_MODE,
                           clientConfig.option(AwsClientOption.ACCOUNT_ID_ENDPOINT_MODE))
             .putAttribute(RESOLVED_CHECKSUM_SPECS, HttpChecksumResolver.resolveChecksumSpecs(executionAttributes))
+            .putAttribute(SdkInternalExecutionAttribute.CHECKSUM_EXECUTOR,
+                          clientConfig.option(SdkAdvancedAsyncClientOption.CHECKSUM_EXECUTOR))
             .putAttribute(SdkInternalExecutionAttribute.REQUEST_CHECKSUM_CALCULATION,
                           clientConfig.option(SdkClientOption.REQUEST_CHECKSUM_CALCULATION))
             .putAttribute(SdkInternalExecutionAttribute.RESPONSE_CHECKSUM_VALIDATION,
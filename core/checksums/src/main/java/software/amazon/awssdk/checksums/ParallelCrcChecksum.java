@@ -0,0 +1,171 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.checksums;
+
+import static software.amazon.awssdk.utils.NumericUtils.longToByte;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.checksums.internal.CrcCombineFunction;
+import software.amazon.awssdk.checksums.internal.SdkCrc32CChecksum;
+import software.amazon.awssdk.checksums.internal.SdkCrc32Checksum;
+import software.amazon.awssdk.checksums.internal.SdkCrc64NvmeChecksum;
+import software.amazon.awssdk.checksums.spi.ChecksumAlgorithm;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.IoUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Calculates the CRC checksum of a range of a file in parallel.
+ * <p>
+ * The range is split into up to one segment per processor. The segments are checksummed concurrently on an executor chosen by
+ * the caller, and their CRCs are combined in order into the CRC of the whole range, so no data is read twice. This is supported
+ * for the CRC algorithms that have a combine function: CRC32, CRC32C and CRC64NVME.
+ */
+@SdkProtectedApi
+public final class ParallelCrcChecksum {
+    /**
+     * The smallest segment that is checksummed by its own task, so that each task does enough work to be worth scheduling.
+     */
+    private static final long MIN_SEGMENT_SIZE = 8L * 1024 * 1024;
+
+    private static final Logger LOG = Logger.loggerFor(ParallelCrcChecksum.class);
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private static final int MAX_SEGMENTS = Runtime.getRuntime().availableProcessors();
+
+    private ParallelCrcChecksum() {
+    }
+
+    /**
+     * Whether a checksum of the given algorithm and data length can be calculated in parallel. This is true for CRC
+     * algorithms when there is enough data to split into at least two segments.
+     */
+    public static boolean isSupported(ChecksumAlgorithm algorithm, long length) {
+        return combineFunction(algorithm) != null && length >= 2 * MIN_SEGMENT_SIZE;
+    }
+
+    /**
+     * Calculate the checksum of a range of a file in parallel, returning the checksum bytes that
+     * {@link SdkChecksum#getChecksumBytes()} would return for the same data.
+     *
+     * @param algorithm The CRC algorithm, which must be supported by {@link #isSupported(ChecksumAlgorithm, long)}.
+     * @param file The file to read.
+     * @param position The position of the first byte in the file to checksum.
+     * @param length The number of bytes to checksum.
+     * @param executor The executor that the segments are read and checksummed on. The segments block on file reads.
+     * @return A future that is completed with the checksum bytes, or with an {@link UncheckedIOException} if the file can't
+     * be read. If the executor rejects a segment, the future is completed with its {@link RejectedExecutionException}.
+     */
+    public static CompletableFuture<byte[]> checksum(ChecksumAlgorithm algorithm, Path file, long position, long length,
+                                                     Executor executor) {
+        CrcCombineFunction combineFunction = Validate.notNull(combineFunction(algorithm),
+                                                              "Checksum algorithm %s cannot be calculated in parallel.",
+                                                              algorithm);
+        Validate.isNotNegative(position, "position");
+        Validate.isNotNegative(length, "length");
+        Validate.paramNotNull(executor, "executor");
+
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+        } catch (IOException e) {
+            return CompletableFutureUtils.failedFuture(new UncheckedIOException(e));
+        }
+
+        long segmentCount = Math.max(1, Math.min(MAX_SEGMENTS, length / MIN_SEGMENT_SIZE));
+        long segmentSize = length / segmentCount;
+
+        List<CompletableFuture<Long>> segments = new ArrayList<>();
+        CompletableFuture<Long> crc = null;
+        for (long i = 0; i < segmentCount; i++) {
+            long segmentPosition = position + i * segmentSize;
+            long segmentLength = i == segmentCount - 1 ? length - i * segmentSize : segmentSize;
+            CompletableFuture<Long> segmentCrc;
+            try {
+                segmentCrc =
+                    CompletableFuture.supplyAsync(() -> segmentCrc(algorithm, channel, segmentPosition, segmentLength), executor);
+            } catch (RejectedExecutionException e) {
+                segmentCrc = CompletableFutureUtils.failedFuture(e);
+            }
+            segments.add(segmentCrc);
+            crc = crc == null ? segmentCrc
+                              : crc.thenCombine(segmentCrc, (left, right) -> combineFunction.combine(left, right, segmentLength));
+        }
+
+        // Close the channel once every segment is done with it, even if one of them failed.
+        CompletableFuture.allOf(segments.toArray(new CompletableFuture[0]))
+                         .whenComplete((r, t) -> IoUtils.closeQuietlyV2(channel, LOG));
+        return crc.thenApply(value -> checksumBytes(algorithm, value));
+    }
+
+    private static CrcCombineFunction combineFunction(ChecksumAlgorithm algorithm) {
+        switch (algorithm.algorithmId()) {
+            case "CRC32":
+                return SdkCrc32Checksum::combine;
+            case "CRC32C":
+                return SdkCrc32CChecksum::combine;
+            case "CRC64NVME":
+                return SdkCrc64NvmeChecksum::combine;
+            default:
+                return null;
+        }
+    }
+
+    private static byte[] checksumBytes(ChecksumAlgorithm algorithm, long crc) {
+        byte[] valueBytes = longToByte(crc);
+        if ("CRC64NVME".equals(algorithm.algorithmId())) {
+            return valueBytes;
+        }
+        return Arrays.copyOfRange(valueBytes, 4, 8);
+    }
+
+    private static long segmentCrc(ChecksumAlgorithm algorithm, FileChannel channel, long position, long length) {
+        SdkChecksum checksum = SdkChecksum.forAlgorithm(algorithm);
+        ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(READ_BUFFER_SIZE, length));
+        try {
+            long offset = 0;
+            while (offset < length) {
+                buffer.clear();
+                buffer.limit((int) Math.min(buffer.capacity(), length - offset));
+                int read = channel.read(buffer, position + offset);
+                if (read < 0) {
+                    throw new EOFException("File ended before " + length + " bytes could be read at position " + position);
+                }
+                buffer.flip();
+                checksum.update(buffer);
+                offset += read;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return checksum.getValue();
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.checksums;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Updates an {@link SdkChecksum} on an executor instead of on the thread that has the data, so that the thread delivering
+ * the data (e.g. an I/O thread) can move on to the next buffer while the checksum catches up.
+ * <p>
+ * Updates are applied one at a time, in the order they were queued, so this works for any checksum algorithm. At most one
+ * task is running on the executor for each checksum at a time. If the executor rejects a task, the queued updates are applied
+ * on the calling thread instead.
+ * <p>
+ * Queueing an update does not copy the data, so the contents of a queued buffer must not be changed until the future returned
+ * for it completes. Callers should bound the number of {@link #pendingUpdates()}, because every pending update holds on to its
+ * buffer.
+ */
+@SdkProtectedApi
+@ThreadSafe
+public final class PipelinedChecksum {
+    private final SdkChecksum checksum;
+    private final Executor executor;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingTasks = new AtomicInteger();
+    private volatile Throwable failure;
+
+    private PipelinedChecksum(SdkChecksum checksum, Executor executor) {
+        this.checksum = Validate.paramNotNull(checksum, "checksum");
+        this.executor = Validate.paramNotNull(executor, "executor");
+    }
+
+    /**
+     * Create a pipelined checksum that applies updates to the given checksum on the given executor.
+     */
+    public static PipelinedChecksum create(SdkChecksum checksum, Executor executor) {
+        return new PipelinedChecksum(checksum, executor);
+    }
+
+    /**
+     * Queue an update of the checksum with the remaining bytes of the buffer. The buffer's position is not changed.
+     *
+     * @return A future that is completed once the checksum has been updated with the buffer, or completed exceptionally if
+     * this or an earlier update failed.
+     */
+    public CompletableFuture<Void> update(ByteBuffer buffer) {
+        ByteBuffer data = buffer.duplicate();
+        return submit(() -> {
+            checksum.update(data);
+            return null;
+        });
+    }
+
+    /**
+     * Get the checksum bytes once every update queued before this call has been applied.
+     *
+     * @see SdkChecksum#getChecksumBytes()
+     */
+    public CompletableFuture<byte[]> checksumBytes() {
+        return submit(checksum::getChecksumBytes);
+    }
+
+    /**
+     * The number of queued operations that have not been applied yet, including the one that is being applied.
+     */
+    public int pendingUpdates() {
+        return pendingTasks.get();
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> operation) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        tasks.add(() -> apply(operation, result));
+        if (pendingTasks.getAndIncrement() == 0) {
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                drain();
+            }
+        }
+        return result;
+    }
+
+    private <T> void apply(Supplier<T> operation, CompletableFuture<T> result) {
+        Throwable previousFailure = failure;
+        if (previousFailure != null) {
+            result.completeExceptionally(previousFailure);
+            return;
+        }
+
+        T value;
+        try {
+            value = operation.get();
+        } catch (RuntimeException | Error e) {
+            failure = e;
+            result.completeExceptionally(e);
+            return;
+        }
+        result.complete(value);
+    }
+
+    private void drain() {
+        do {
+            tasks.poll().run();
+        } while (pendingTasks.decrementAndGet() != 0);
+    }
+}
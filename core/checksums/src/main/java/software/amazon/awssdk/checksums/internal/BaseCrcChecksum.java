@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.checksums.internal;
 
+import java.nio.ByteBuffer;
 import java.util.zip.Checksum;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.checksums.SdkChecksum;
@@ -51,6 +52,11 @@ public abstract class BaseCrcChecksum implements SdkChecksum {
         checksum.update(b, off, len);
     }
 
+    @Override
+    public void update(ByteBuffer buffer) {
+        ChecksumBufferUpdater.update(checksum, buffer);
+    }
+
     @Override
     public long getValue() {
         return checksum.getValue();
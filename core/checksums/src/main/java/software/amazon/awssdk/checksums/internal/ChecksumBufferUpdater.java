@@ -0,0 +1,82 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.checksums.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+import java.util.zip.Checksum;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Updates a {@link Checksum} with the remaining bytes of a {@link ByteBuffer} without copying them, when the checksum supports
+ * it.
+ * <p>
+ * {@link CRC32} can be updated from any buffer on Java 8. Other checksums, like the JDK's CRC32C, can only be updated from a
+ * buffer through {@code Checksum#update(ByteBuffer)}, which was added in Java 9, so it is looked up at runtime. Buffers backed
+ * by an array are always read from the array directly.
+ */
+@SdkInternalApi
+final class ChecksumBufferUpdater {
+    private static final int COPY_BUFFER_SIZE = 4096;
+
+    private static final MethodHandle BYTE_BUFFER_UPDATE = byteBufferUpdate();
+
+    private ChecksumBufferUpdater() {
+    }
+
+    /**
+     * Update the checksum with the remaining bytes of the buffer. Upon return, the buffer's position will be its limit.
+     */
+    static void update(Checksum checksum, ByteBuffer buffer) {
+        if (checksum instanceof CRC32) {
+            ((CRC32) checksum).update(buffer);
+        } else if (buffer.hasArray()) {
+            checksum.update(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            buffer.position(buffer.limit());
+        } else if (BYTE_BUFFER_UPDATE != null) {
+            invokeByteBufferUpdate(checksum, buffer);
+        } else {
+            byte[] b = new byte[Math.min(buffer.remaining(), COPY_BUFFER_SIZE)];
+            while (buffer.hasRemaining()) {
+                int length = Math.min(buffer.remaining(), b.length);
+                buffer.get(b, 0, length);
+                checksum.update(b, 0, length);
+            }
+        }
+    }
+
+    private static void invokeByteBufferUpdate(Checksum checksum, ByteBuffer buffer) {
+        try {
+            BYTE_BUFFER_UPDATE.invokeExact(checksum, buffer);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Failed to update the checksum", t);
+        }
+    }
+
+    private static MethodHandle byteBufferUpdate() {
+        try {
+            return MethodHandles.publicLookup()
+                                .findVirtual(Checksum.class, "update", MethodType.methodType(void.class, ByteBuffer.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+}
@@ -29,7 +29,11 @@ public final class Crc64NvmeChecksum implements SdkChecksum {
     private final SdkChecksum sdkChecksum;
 
     public Crc64NvmeChecksum() {
-        this.sdkChecksum = CrcChecksumProvider.crc64NvmeCrtImplementation();
+        this(CrcChecksumProvider.crc64NvmeImplementation());
+    }
+
+    Crc64NvmeChecksum(SdkChecksum sdkChecksum) {
+        this.sdkChecksum = sdkChecksum;
     }
 
     @Override
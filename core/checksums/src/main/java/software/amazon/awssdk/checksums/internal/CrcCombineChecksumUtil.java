@@ -32,17 +32,34 @@ public final class CrcCombineChecksumUtil {
 
     public static final int CRC_SIZE = 32;
 
+    /**
+     * Number of combine matrices, each one applying twice as many zero bits as the one before it. Matrix 3 applies one zero
+     * byte, so lengths below 2^61 bytes can be combined.
+     */
+    private static final int MATRIX_COUNT = 64;
+
     private CrcCombineChecksumUtil() {
     }
 
     /**
-     * Generates the combine matrices for CRC calculations.
+     * Generates the combine matrices for 32-bit CRC calculations.
      *
      * @param polynomial The CRC polynomial.
      * @return A 2D array representing the combine matrices.
      */
     public static long[][] generateCombineMatrices(long polynomial) {
-        long[][] combineMatrices = new long[CRC_SIZE][CRC_SIZE];
+        return generateCombineMatrices(polynomial, CRC_SIZE);
+    }
+
+    /**
+     * Generates the combine matrices for CRC calculations of the given width, such as 64 for CRC64-NVME.
+     *
+     * @param polynomial The bit-reflected CRC polynomial.
+     * @param crcSize The number of bits in the CRC.
+     * @return A 2D array representing the combine matrices.
+     */
+    public static long[][] generateCombineMatrices(long polynomial, int crcSize) {
+        long[][] combineMatrices = new long[MATRIX_COUNT][crcSize];
         initializeFirstMatrix(combineMatrices, polynomial);
         deriveRemainingMatrices(combineMatrices);
         return combineMatrices;
@@ -103,7 +120,7 @@ public final class CrcCombineChecksumUtil {
             if ((vector & 1) != 0) {
                 sum ^= l;
             }
-            vector >>= 1;
+            vector >>>= 1;
         }
         return sum;
     }
@@ -111,7 +128,7 @@ public final class CrcCombineChecksumUtil {
     private static void initializeFirstMatrix(long[][] combineMatrices, long polynomial) {
         combineMatrices[0][0] = polynomial;
         long row = 1;
-        for (int i = 1; i < CRC_SIZE; i++) {
+        for (int i = 1; i < combineMatrices[0].length; i++) {
             combineMatrices[0][i] = row;
             row <<= 1;
         }
@@ -123,8 +140,8 @@ public final class CrcCombineChecksumUtil {
      * @param combineMatrices The combine matrices to be derived.
      */
     private static void deriveRemainingMatrices(long[][] combineMatrices) {
-        for (int i = 0; i < CRC_SIZE - 1; i++) {
-            for (int j = 0; j < CRC_SIZE; j++) {
+        for (int i = 0; i < combineMatrices.length - 1; i++) {
+            for (int j = 0; j < combineMatrices[i].length; j++) {
                 combineMatrices[i + 1][j] = gf2MatrixTimes(combineMatrices[i], combineMatrices[i][j]);
             }
         }
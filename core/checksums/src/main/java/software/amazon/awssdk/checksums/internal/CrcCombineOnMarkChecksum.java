@@ -17,6 +17,7 @@ package software.amazon.awssdk.checksums.internal;
 
 import static software.amazon.awssdk.utils.NumericUtils.longToByte;
 
+import java.nio.ByteBuffer;
 import java.util.function.BiFunction;
 import java.util.zip.Checksum;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -79,6 +80,13 @@ public class CrcCombineOnMarkChecksum implements SdkChecksum {
         dataLengthForChecksum += len;
     }
 
+    @Override
+    public void update(ByteBuffer buffer) {
+        int len = buffer.remaining();
+        ChecksumBufferUpdater.update(crc, buffer);
+        dataLengthForChecksum += len;
+    }
+
     @Override
     public long getValue() {
         if (canRestoreMarkedState()) {
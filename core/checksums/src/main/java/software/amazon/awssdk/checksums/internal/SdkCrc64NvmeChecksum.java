@@ -0,0 +1,155 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.checksums.internal;
+
+import java.util.zip.Checksum;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * A pure Java implementation of CRC64-NVME, used when the CRT is not on the classpath.
+ * <p>
+ * Data is processed 16 bytes at a time with the slice-by-16 algorithm: sixteen 256-entry tables are derived from the
+ * polynomial when the class is loaded, and each 16-byte block is folded into the CRC with sixteen table lookups.
+ */
+@SdkInternalApi
+public final class SdkCrc64NvmeChecksum implements Checksum, Cloneable {
+
+    /**
+     * The bit-reflected form of the CRC64-NVME polynomial 0xAD93D23594C93659.
+     */
+    private static final long POLYNOMIAL = 0x9A6C9329AC4BC9B5L;
+
+    private static final int SLICES = 16;
+
+    private static final long[][] T = generateTables();
+
+    private static final long[][] COMBINE_MATRICES = CrcCombineChecksumUtil.generateCombineMatrices(POLYNOMIAL, Long.SIZE);
+
+    /**
+     * the current CRC value, bit-flipped
+     */
+    private long crc;
+
+    private SdkCrc64NvmeChecksum() {
+        reset();
+    }
+
+    private SdkCrc64NvmeChecksum(long crc) {
+        this.crc = crc;
+    }
+
+    public static SdkCrc64NvmeChecksum create() {
+        return new SdkCrc64NvmeChecksum();
+    }
+
+    /**
+     * Combines the CRCs of two parts. Please refer {@link CrcCombineChecksumUtil#combine(long, long, long, long[][])}
+     *
+     * @param crc1 The CRC of the first part.
+     * @param crc2 The CRC of the second part.
+     * @param originalLengthOfCrc2 The length of the second part's CRC before combining.
+     * @return The combined CRC.
+     */
+    public static long combine(long crc1, long crc2, long originalLengthOfCrc2) {
+        return CrcCombineChecksumUtil.combine(crc1, crc2, originalLengthOfCrc2, COMBINE_MATRICES);
+    }
+
+    @Override
+    public long getValue() {
+        return ~crc;
+    }
+
+    @Override
+    public void reset() {
+        crc = 0xFFFFFFFFFFFFFFFFL;
+    }
+
+    @Override
+    public void update(byte[] b, int off, int len) {
+        crc = update(crc, b, off, len);
+    }
+
+    @Override
+    public void update(int b) {
+        crc = (crc >>> 8) ^ T[0][(int) (crc ^ b) & 0xFF];
+    }
+
+    @Override
+    public SdkCrc64NvmeChecksum clone() {
+        return new SdkCrc64NvmeChecksum(crc);
+    }
+
+    private static long update(long crc, byte[] b, int off, int len) {
+        while (len >= SLICES) {
+            crc ^= (b[off] & 0xFFL)
+                        | (b[off + 1] & 0xFFL) << 8
+                        | (b[off + 2] & 0xFFL) << 16
+                        | (b[off + 3] & 0xFFL) << 24
+                        | (b[off + 4] & 0xFFL) << 32
+                        | (b[off + 5] & 0xFFL) << 40
+                        | (b[off + 6] & 0xFFL) << 48
+                        | (b[off + 7] & 0xFFL) << 56;
+
+            crc = T[15][(int) crc & 0xFF]
+                       ^ T[14][(int) (crc >>> 8) & 0xFF]
+                       ^ T[13][(int) (crc >>> 16) & 0xFF]
+                       ^ T[12][(int) (crc >>> 24) & 0xFF]
+                       ^ T[11][(int) (crc >>> 32) & 0xFF]
+                       ^ T[10][(int) (crc >>> 40) & 0xFF]
+                       ^ T[9][(int) (crc >>> 48) & 0xFF]
+                       ^ T[8][(int) (crc >>> 56)]
+                       ^ T[7][b[off + 8] & 0xFF]
+                       ^ T[6][b[off + 9] & 0xFF]
+                       ^ T[5][b[off + 10] & 0xFF]
+                       ^ T[4][b[off + 11] & 0xFF]
+                       ^ T[3][b[off + 12] & 0xFF]
+                       ^ T[2][b[off + 13] & 0xFF]
+                       ^ T[1][b[off + 14] & 0xFF]
+                       ^ T[0][b[off + 15] & 0xFF];
+
+            off += SLICES;
+            len -= SLICES;
+        }
+
+        for (int index = off; index < off + len; index++) {
+            crc = (crc >>> 8) ^ T[0][(int) (crc ^ b[index]) & 0xFF];
+        }
+        return crc;
+    }
+
+    /**
+     * Table 0 holds the CRC of each single byte. Table k holds the CRC of each byte followed by k zero bytes, so that the
+     * byte at offset i of a 16-byte block is looked up in table 15 - i.
+     */
+    private static long[][] generateTables() {
+        long[][] tables = new long[SLICES][256];
+        for (int n = 0; n < 256; n++) {
+            long value = n;
+            for (int bit = 0; bit < 8; bit++) {
+                value = (value & 1) != 0 ? (value >>> 1) ^ POLYNOMIAL : value >>> 1;
+            }
+            tables[0][n] = value;
+        }
+
+        for (int k = 1; k < SLICES; k++) {
+            for (int n = 0; n < 256; n++) {
+                long previous = tables[k - 1][n];
+                tables[k][n] = (previous >>> 8) ^ tables[0][(int) previous & 0xFF];
+            }
+        }
+        return tables;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.checksums;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ParallelCrcChecksumTest {
+    private static final int FILE_SIZE = 40 * 1024 * 1024 + 123;
+
+    @TempDir
+    static Path tempDir;
+
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(4);
+
+    private static Path file;
+    private static byte[] contents;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        contents = new byte[FILE_SIZE];
+        new Random(42).nextBytes(contents);
+        file = tempDir.resolve("payload");
+        Files.write(file, contents);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"CRC32", "CRC32C", "CRC64NVME"})
+    void checksum_ofWholeFile_matchesSequentialChecksum(String algorithm) {
+        byte[] checksum = ParallelCrcChecksum.checksum(() -> algorithm, file, 0, FILE_SIZE, EXECUTOR).join();
+
+        assertThat(checksum).isEqualTo(sequentialChecksum(algorithm, 0, FILE_SIZE));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"CRC32", "CRC32C", "CRC64NVME"})
+    void checksum_ofFileRange_matchesSequentialChecksum(String algorithm) {
+        int position = 1001;
+        int length = FILE_SIZE - 5000;
+        byte[] checksum = ParallelCrcChecksum.checksum(() -> algorithm, file, position, length, EXECUTOR).join();
+
+        assertThat(checksum).isEqualTo(sequentialChecksum(algorithm, position, length));
+    }
+
+    @Test
+    void checksum_rangeBeyondEndOfFile_fails() {
+        assertThatThrownBy(() -> ParallelCrcChecksum.checksum(DefaultChecksumAlgorithm.CRC32C, file, 1, FILE_SIZE, EXECUTOR)
+                                                    .join())
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(UncheckedIOException.class);
+    }
+
+    @Test
+    void checksum_executorRejectsSegments_fails() {
+        Executor rejectingExecutor = task -> {
+            throw new RejectedExecutionException();
+        };
+
+        assertThatThrownBy(() -> ParallelCrcChecksum.checksum(DefaultChecksumAlgorithm.CRC32C, file, 0, FILE_SIZE,
+                                                              rejectingExecutor).join())
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void isSupported_onlyForCrcAlgorithmsAndLargeLengths() {
+        assertThat(ParallelCrcChecksum.isSupported(DefaultChecksumAlgorithm.CRC64NVME, FILE_SIZE)).isTrue();
+        assertThat(ParallelCrcChecksum.isSupported(DefaultChecksumAlgorithm.CRC64NVME, 1024)).isFalse();
+        assertThat(ParallelCrcChecksum.isSupported(DefaultChecksumAlgorithm.SHA256, FILE_SIZE)).isFalse();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        EXECUTOR.shutdown();
+    }
+
+    private static byte[] sequentialChecksum(String algorithm, int position, int length) {
+        SdkChecksum checksum = SdkChecksum.forAlgorithm(() -> algorithm);
+        checksum.update(contents, position, length);
+        return checksum.getChecksumBytes();
+    }
+}
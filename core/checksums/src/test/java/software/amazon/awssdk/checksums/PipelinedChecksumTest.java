@@ -0,0 +1,140 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.checksums;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class PipelinedChecksumTest {
+    private static ExecutorService executor;
+
+    @BeforeAll
+    static void setup() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterAll
+    static void teardown() {
+        executor.shutdownNow();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"CRC32C", "CRC32", "SHA256", "CRC64NVME"})
+    void updates_appliedInOrder_matchChecksumOfWholeData(String algorithm) {
+        byte[] data = new byte[1024 * 1024];
+        new Random(3).nextBytes(data);
+
+        SdkChecksum expected = SdkChecksum.forAlgorithm(() -> algorithm);
+        expected.update(data);
+
+        PipelinedChecksum pipelined = PipelinedChecksum.create(SdkChecksum.forAlgorithm(() -> algorithm), executor);
+        for (int offset = 0; offset < data.length; offset += 1000) {
+            pipelined.update(ByteBuffer.wrap(data, offset, Math.min(1000, data.length - offset)));
+        }
+
+        assertThat(pipelined.checksumBytes().join()).isEqualTo(expected.getChecksumBytes());
+    }
+
+    @Test
+    void update_doesNotChangeBufferPosition() {
+        PipelinedChecksum pipelined = PipelinedChecksum.create(SdkChecksum.forAlgorithm(DefaultChecksumAlgorithm.CRC32),
+                                                               executor);
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[100]);
+        buffer.position(10);
+
+        pipelined.update(buffer).join();
+
+        assertThat(buffer.position()).isEqualTo(10);
+        assertThat(buffer.remaining()).isEqualTo(90);
+    }
+
+    @Test
+    void failedUpdate_failsLaterUpdatesAndChecksum() {
+        RuntimeException failure = new RuntimeException("boom");
+        SdkChecksum failing = new FailingChecksum(failure);
+        PipelinedChecksum pipelined = PipelinedChecksum.create(failing, executor);
+
+        CompletableFuture<Void> first = pipelined.update(ByteBuffer.wrap(new byte[1]));
+        CompletableFuture<Void> second = pipelined.update(ByteBuffer.wrap(new byte[1]));
+
+        assertThatThrownBy(first::join).isInstanceOf(CompletionException.class).hasCause(failure);
+        assertThatThrownBy(second::join).isInstanceOf(CompletionException.class).hasCause(failure);
+        assertThatThrownBy(() -> pipelined.checksumBytes().join()).hasCause(failure);
+    }
+
+    @Test
+    void rejectingExecutor_updatesOnCallingThread() {
+        PipelinedChecksum pipelined = PipelinedChecksum.create(SdkChecksum.forAlgorithm(DefaultChecksumAlgorithm.SHA256),
+                                                               r -> {
+                                                                   throw new RejectedExecutionException();
+                                                               });
+        byte[] data = "Hello world".getBytes();
+        SdkChecksum expected = SdkChecksum.forAlgorithm(DefaultChecksumAlgorithm.SHA256);
+        expected.update(data);
+
+        assertThat(pipelined.update(ByteBuffer.wrap(data))).isDone();
+        assertThat(pipelined.checksumBytes().join()).isEqualTo(expected.getChecksumBytes());
+    }
+
+    private static final class FailingChecksum implements SdkChecksum {
+        private final RuntimeException failure;
+
+        private FailingChecksum(RuntimeException failure) {
+            this.failure = failure;
+        }
+
+        @Override
+        public byte[] getChecksumBytes() {
+            return new byte[0];
+        }
+
+        @Override
+        public void mark(int readLimit) {
+        }
+
+        @Override
+        public void update(int b) {
+            throw failure;
+        }
+
+        @Override
+        public void update(byte[] b, int off, int len) {
+            throw failure;
+        }
+
+        @Override
+        public long getValue() {
+            return 0;
+        }
+
+        @Override
+        public void reset() {
+        }
+    }
+}
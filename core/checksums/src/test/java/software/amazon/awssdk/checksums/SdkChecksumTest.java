@@ -1,7 +1,9 @@
 package software.amazon.awssdk.checksums;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
@@ -49,6 +51,38 @@ class SdkChecksumTest {
         }
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "CRC32C",
+        "CRC32",
+        "SHA1",
+        "SHA256",
+        "MD5",
+        "CRC64NVME"
+    })
+    void updateWithByteBuffer_matchesUpdateWithArray(String algorithm) {
+        byte[] bytes = getRandomBytes();
+
+        SdkChecksum fromArray = SdkChecksum.forAlgorithm(() -> algorithm);
+        fromArray.update(bytes, 100, 900);
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip();
+        direct.position(100).limit(1000);
+        SdkChecksum fromDirectBuffer = SdkChecksum.forAlgorithm(() -> algorithm);
+        fromDirectBuffer.update(direct);
+
+        ByteBuffer heap = ByteBuffer.wrap(bytes, 50, 950).slice();
+        heap.position(50);
+        SdkChecksum fromHeapBuffer = SdkChecksum.forAlgorithm(() -> algorithm);
+        fromHeapBuffer.update(heap);
+
+        assertArrayEquals(fromArray.getChecksumBytes(), fromDirectBuffer.getChecksumBytes());
+        assertArrayEquals(fromArray.getChecksumBytes(), fromHeapBuffer.getChecksumBytes());
+        assertEquals(1000, direct.position());
+        assertEquals(heap.limit(), heap.position());
+    }
+
     private static byte[] getRandomBytes() {
         byte[] randomBytes = new byte[1024];
         Random random = new Random();
@@ -26,7 +26,7 @@ import software.amazon.awssdk.utils.BinaryUtils;
 
 class Crc64NvmeChecksumTest {
 
-    private SdkChecksum sdkChecksum;
+    protected SdkChecksum sdkChecksum;
     private static final String TEST_STRING = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
 
     @BeforeEach
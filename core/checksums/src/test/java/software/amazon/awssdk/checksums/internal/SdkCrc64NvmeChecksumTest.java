@@ -0,0 +1,94 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.checksums.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.zip.Checksum;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class SdkCrc64NvmeChecksumTest extends Crc64NvmeChecksumTest {
+
+    @Override
+    @BeforeEach
+    public void setUp() {
+        sdkChecksum = new Crc64NvmeChecksum(CrcChecksumProvider.createSdkBasedCrc64Nvme());
+    }
+
+    @Test
+    void checkValue_matchesCrc64NvmeSpecification() {
+        SdkCrc64NvmeChecksum checksum = SdkCrc64NvmeChecksum.create();
+        byte[] bytes = "123456789".getBytes(StandardCharsets.UTF_8);
+        checksum.update(bytes, 0, bytes.length);
+        assertThat(checksum.getValue()).isEqualTo(0xAE8B14860A799888L);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 15, 16, 17, 31, 33, 1000, 65_537})
+    void update_matchesCrtImplementation(int length) {
+        byte[] bytes = randomBytes(length);
+
+        Checksum crt = new software.amazon.awssdk.crt.checksums.CRC64NVME();
+        crt.update(bytes, 0, bytes.length);
+        SdkCrc64NvmeChecksum checksum = SdkCrc64NvmeChecksum.create();
+        checksum.update(bytes, 0, bytes.length);
+
+        assertThat(checksum.getValue()).isEqualTo(crt.getValue());
+    }
+
+    @Test
+    void updateOneByteAtATime_matchesUpdateOfArray() {
+        byte[] bytes = randomBytes(100);
+        SdkCrc64NvmeChecksum byteAtATime = SdkCrc64NvmeChecksum.create();
+        for (byte b : bytes) {
+            byteAtATime.update(b);
+        }
+
+        SdkCrc64NvmeChecksum array = SdkCrc64NvmeChecksum.create();
+        array.update(bytes, 0, bytes.length);
+
+        assertThat(byteAtATime.getValue()).isEqualTo(array.getValue());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 16, 1000, 100_000})
+    void combine_matchesChecksumOfConcatenatedData(int secondPartLength) {
+        byte[] first = randomBytes(1234);
+        byte[] second = randomBytes(secondPartLength);
+
+        SdkCrc64NvmeChecksum firstChecksum = SdkCrc64NvmeChecksum.create();
+        firstChecksum.update(first, 0, first.length);
+        SdkCrc64NvmeChecksum secondChecksum = SdkCrc64NvmeChecksum.create();
+        secondChecksum.update(second, 0, second.length);
+        SdkCrc64NvmeChecksum wholeChecksum = SdkCrc64NvmeChecksum.create();
+        wholeChecksum.update(first, 0, first.length);
+        wholeChecksum.update(second, 0, second.length);
+
+        assertThat(SdkCrc64NvmeChecksum.combine(firstChecksum.getValue(), secondChecksum.getValue(), second.length))
+            .isEqualTo(wholeChecksum.getValue());
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(length).nextBytes(bytes);
+        return bytes;
+    }
+}
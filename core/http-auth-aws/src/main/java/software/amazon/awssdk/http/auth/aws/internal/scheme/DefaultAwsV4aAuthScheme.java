@@ -47,8 +47,8 @@ public final class DefaultAwsV4aAuthScheme implements AwsV4aAuthScheme {
     }
 
     /**
-     * AwsV4aHttpSigner.create() returns the CRT implementation and requires the optional dependency http-auth-aws-crt to be
-     * added. So lazily creating the instance only when this method is called.
+     * AwsV4aHttpSigner.create() returns the CRT implementation when the optional dependency http-auth-aws-crt is added, so
+     * lazily creating the instance only when this method is called.
      */
     @Override
     public AwsV4aHttpSigner signer() {
@@ -53,6 +53,9 @@ import software.amazon.awssdk.utils.Validate;
 /**
  * An implementation of a V4PayloadSigner which chunk-encodes a payload, optionally adding a chunk-signature chunk-extension,
  * and/or trailers representing trailing headers with their signature at the end.
+ * <p>
+ * Payloads are encoded by a {@link ChunkedEncodedInputStream}, which reuses a single chunk-sized buffer for the payload data,
+ * so the chunk size can be raised for large uploads without allocating a larger data buffer for every chunk.
  */
 @SdkInternalApi
 public final class AwsChunkedV4PayloadSigner implements V4PayloadSigner {
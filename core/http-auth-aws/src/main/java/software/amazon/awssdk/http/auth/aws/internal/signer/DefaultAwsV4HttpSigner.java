@@ -128,8 +128,8 @@ public final class DefaultAwsV4HttpSigner implements AwsV4HttpSigner {
         return requestSigner.apply(v4Properties);
     }
 
-    private static Checksummer checksummer(BaseSignRequest<?, ? extends AwsCredentialsIdentity> request,
-                                           Boolean isPayloadSigningOverride) {
+    static Checksummer checksummer(BaseSignRequest<?, ? extends AwsCredentialsIdentity> request,
+                                   Boolean isPayloadSigningOverride) {
         boolean isPayloadSigning = isPayloadSigningOverride != null ? isPayloadSigningOverride : isPayloadSigning(request);
         boolean isEventStreaming = isEventStreaming(request.request());
         boolean hasChecksumHeader = hasChecksumHeader(request);
@@ -178,7 +178,7 @@ public final class DefaultAwsV4HttpSigner implements AwsV4HttpSigner {
      * unsigned-payload as signed-payload (fallback). We have to do some finagling of the payload-signing options before
      * calling the actual checksummer() method
      */
-    private static Checksummer asyncChecksummer(BaseSignRequest<?, ? extends AwsCredentialsIdentity> request) {
+    static Checksummer asyncChecksummer(BaseSignRequest<?, ? extends AwsCredentialsIdentity> request) {
         boolean isHttp = !"https".equals(request.request().protocol());
         boolean isPayloadSigning = isPayloadSigning(request);
         boolean isChunkEncoding = request.requireProperty(CHUNK_ENCODING_ENABLED, false);
@@ -254,10 +254,10 @@ public final class DefaultAwsV4HttpSigner implements AwsV4HttpSigner {
         return V4PayloadSigner.create();
     }
 
-    private static SignedRequest doSign(SignRequest<? extends AwsCredentialsIdentity> request,
-                                        Checksummer checksummer,
-                                        V4RequestSigner requestSigner,
-                                        V4PayloadSigner payloadSigner) {
+    static SignedRequest doSign(SignRequest<? extends AwsCredentialsIdentity> request,
+                                Checksummer checksummer,
+                                V4RequestSigner requestSigner,
+                                V4PayloadSigner payloadSigner) {
 
         SdkHttpRequest.Builder requestBuilder = request.request().toBuilder();
         ContentStreamProvider requestPayload = request.payload().orElse(null);
@@ -278,10 +278,10 @@ public final class DefaultAwsV4HttpSigner implements AwsV4HttpSigner {
                             .build();
     }
 
-    private static CompletableFuture<AsyncSignedRequest> doSign(AsyncSignRequest<? extends AwsCredentialsIdentity> request,
-                                                                Checksummer checksummer,
-                                                                V4RequestSigner requestSigner,
-                                                                V4PayloadSigner payloadSigner) {
+    static CompletableFuture<AsyncSignedRequest> doSign(AsyncSignRequest<? extends AwsCredentialsIdentity> request,
+                                                        Checksummer checksummer,
+                                                        V4RequestSigner requestSigner,
+                                                        V4PayloadSigner payloadSigner) {
 
         SdkHttpRequest.Builder requestBuilder = request.request().toBuilder();
 
@@ -295,7 +295,7 @@ public final class DefaultAwsV4HttpSigner implements AwsV4HttpSigner {
                           });
     }
 
-    private static Duration validateExpirationDuration(Duration expirationDuration) {
+    static Duration validateExpirationDuration(Duration expirationDuration) {
         if (!isBetweenInclusive(Duration.ofSeconds(1), expirationDuration, PRESIGN_URL_MAX_EXPIRATION_DURATION)) {
             throw new IllegalArgumentException(
                 "Requests that are pre-signed by SigV4 algorithm are valid for at least 1 second and at most 7" +
@@ -310,7 +310,7 @@ public final class DefaultAwsV4HttpSigner implements AwsV4HttpSigner {
         return start.compareTo(x) <= 0 && x.compareTo(end) <= 0;
     }
 
-    private static boolean isPayloadSigning(BaseSignRequest<?, ? extends AwsCredentialsIdentity> request) {
+    static boolean isPayloadSigning(BaseSignRequest<?, ? extends AwsCredentialsIdentity> request) {
         boolean isAnonymous = CredentialUtils.isAnonymous(request.identity());
         boolean isPayloadSigningEnabled = request.requireProperty(PAYLOAD_SIGNING_ENABLED, true);
         boolean isEncrypted = "https".equals(request.request().protocol());
@@ -331,11 +331,11 @@ public final class DefaultAwsV4HttpSigner implements AwsV4HttpSigner {
         return isPayloadSigningEnabled;
     }
 
-    private static boolean isEventStreaming(SdkHttpRequest request) {
+    static boolean isEventStreaming(SdkHttpRequest request) {
         return "application/vnd.amazon.eventstream".equals(request.firstMatchingHeader(Header.CONTENT_TYPE).orElse(""));
     }
 
-    private static boolean hasChecksumHeader(BaseSignRequest<?, ? extends AwsCredentialsIdentity> request) {
+    static boolean hasChecksumHeader(BaseSignRequest<?, ? extends AwsCredentialsIdentity> request) {
         ChecksumAlgorithm checksumAlgorithm = request.property(CHECKSUM_ALGORITHM);
 
         if (checksumAlgorithm != null) {
@@ -346,8 +346,8 @@ public final class DefaultAwsV4HttpSigner implements AwsV4HttpSigner {
         return false;
     }
 
-    private static boolean useChunkEncoding(boolean payloadSigningEnabled, boolean chunkEncodingEnabled,
-                                            boolean isTrailingOrFlexible) {
+    static boolean useChunkEncoding(boolean payloadSigningEnabled, boolean chunkEncodingEnabled,
+                                    boolean isTrailingOrFlexible) {
 
         return (payloadSigningEnabled && chunkEncodingEnabled) || (chunkEncodingEnabled && isTrailingOrFlexible);
     }
@@ -0,0 +1,262 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.auth.aws.internal.signer;
+
+import static software.amazon.awssdk.http.auth.aws.internal.signer.DefaultAwsV4HttpSigner.asyncChecksummer;
+import static software.amazon.awssdk.http.auth.aws.internal.signer.DefaultAwsV4HttpSigner.checksummer;
+import static software.amazon.awssdk.http.auth.aws.internal.signer.DefaultAwsV4HttpSigner.doSign;
+import static software.amazon.awssdk.http.auth.aws.internal.signer.DefaultAwsV4HttpSigner.hasChecksumHeader;
+import static software.amazon.awssdk.http.auth.aws.internal.signer.DefaultAwsV4HttpSigner.isEventStreaming;
+import static software.amazon.awssdk.http.auth.aws.internal.signer.DefaultAwsV4HttpSigner.isPayloadSigning;
+import static software.amazon.awssdk.http.auth.aws.internal.signer.DefaultAwsV4HttpSigner.useChunkEncoding;
+import static software.amazon.awssdk.http.auth.aws.internal.signer.DefaultAwsV4HttpSigner.validateExpirationDuration;
+import static software.amazon.awssdk.http.auth.aws.internal.signer.V4CanonicalRequest.getCanonicalHeaders;
+import static software.amazon.awssdk.http.auth.aws.internal.signer.V4CanonicalRequest.getSignedHeadersString;
+import static software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerConstant.AWS4A_SIGNING_ALGORITHM;
+import static software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerConstant.AWS4_TERMINATOR;
+import static software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerConstant.X_AMZ_CONTENT_SHA256;
+import static software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerConstant.X_AMZ_REGION_SET;
+import static software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerConstant.X_AMZ_TRAILER;
+import static software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerUtils.addDateHeader;
+import static software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerUtils.addHostHeader;
+import static software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerUtils.getContentHash;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.auth.aws.internal.signer.util.CredentialUtils;
+import software.amazon.awssdk.http.auth.aws.internal.signer.util.EcdsaSigningKeys;
+import software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerConstant;
+import software.amazon.awssdk.http.auth.aws.signer.AwsV4aHttpSigner;
+import software.amazon.awssdk.http.auth.aws.signer.RegionSet;
+import software.amazon.awssdk.http.auth.spi.signer.AsyncSignRequest;
+import software.amazon.awssdk.http.auth.spi.signer.AsyncSignedRequest;
+import software.amazon.awssdk.http.auth.spi.signer.BaseSignRequest;
+import software.amazon.awssdk.http.auth.spi.signer.SignRequest;
+import software.amazon.awssdk.http.auth.spi.signer.SignedRequest;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+import software.amazon.awssdk.identity.spi.AwsSessionCredentialsIdentity;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Pair;
+
+/**
+ * A Java implementation of a {@link AwsV4aHttpSigner}, which does not require the CRT. It shares the canonicalization,
+ * checksumming and chunk-encoding steps with {@link DefaultAwsV4HttpSigner}, and signs the request with an ECDSA P-256 key
+ * derived from the credentials.
+ * <p>
+ * Signing a payload with aws-chunked encoding requires a signature per chunk, which is only supported by the CRT
+ * implementation.
+ */
+@SdkInternalApi
+public final class DefaultAwsV4aHttpSigner implements AwsV4aHttpSigner {
+
+    private static final int DEFAULT_CHUNK_SIZE_IN_BYTES = 128 * 1024;
+    private static final Logger LOG = Logger.loggerFor(DefaultAwsV4aHttpSigner.class);
+
+    @Override
+    public SignedRequest sign(SignRequest<? extends AwsCredentialsIdentity> request) {
+        validateSupported(request, isPayloadSigning(request));
+        Checksummer checksummer = checksummer(request, null);
+        V4Properties v4aProperties = v4aProperties(request);
+        V4RequestSigner requestSigner = v4aRequestSigner(request, v4aProperties);
+        V4PayloadSigner payloadSigner = v4aPayloadSigner(request, v4aProperties);
+
+        return doSign(request, checksummer, requestSigner, payloadSigner);
+    }
+
+    @Override
+    public CompletableFuture<AsyncSignedRequest> signAsync(AsyncSignRequest<? extends AwsCredentialsIdentity> request) {
+        // Match the async v4 signer, which treats a streaming payload over HTTP as unsigned.
+        validateSupported(request, isPayloadSigning(request) && "https".equals(request.request().protocol()));
+        Checksummer checksummer = asyncChecksummer(request);
+        V4Properties v4aProperties = v4aProperties(request);
+        V4RequestSigner requestSigner = v4aRequestSigner(request, v4aProperties);
+
+        return doSign(request, checksummer, requestSigner, V4PayloadSigner.create());
+    }
+
+    private static void validateSupported(BaseSignRequest<?, ? extends AwsCredentialsIdentity> request,
+                                          boolean isPayloadSigning) {
+        if (isEventStreaming(request.request())) {
+            throw new UnsupportedOperationException("Event-stream signing is not supported with V4a.");
+        }
+        if (isPayloadSigning && request.requireProperty(CHUNK_ENCODING_ENABLED, false)) {
+            throw new UnsupportedOperationException(
+                "Signing an aws-chunked payload with V4a requires the CRT. Add a dependency on the "
+                + "'software.amazon.awssdk:http-auth-aws-crt' module, or disable " + PAYLOAD_SIGNING_ENABLED + ".");
+        }
+    }
+
+    private static V4Properties v4aProperties(BaseSignRequest<?, ? extends AwsCredentialsIdentity> request) {
+        Clock signingClock = request.requireProperty(SIGNING_CLOCK, Clock.systemUTC());
+        Instant signingInstant = signingClock.instant();
+        AwsCredentialsIdentity credentials = CredentialUtils.sanitizeCredentials(request.identity());
+        RegionSet regionSet = request.requireProperty(REGION_SET);
+        String serviceSigningName = request.requireProperty(SERVICE_SIGNING_NAME);
+        CredentialScope credentialScope = new CredentialScope(regionSet.asString(), serviceSigningName, signingInstant);
+        boolean doubleUrlEncode = request.requireProperty(DOUBLE_URL_ENCODE, true);
+        boolean normalizePath = request.requireProperty(NORMALIZE_PATH, true);
+
+        return V4Properties.builder()
+                           .credentials(credentials)
+                           .credentialScope(credentialScope)
+                           .signingClock(signingClock)
+                           .doubleUrlEncode(doubleUrlEncode)
+                           .normalizePath(normalizePath)
+                           .build();
+    }
+
+    private static V4RequestSigner v4aRequestSigner(BaseSignRequest<?, ? extends AwsCredentialsIdentity> request,
+                                                    V4Properties properties) {
+        AuthLocation authLocation = request.requireProperty(AUTH_LOCATION, AuthLocation.HEADER);
+        Duration expirationDuration = request.property(EXPIRATION_DURATION);
+
+        if (CredentialUtils.isAnonymous(request.identity())) {
+            return V4RequestSigner.anonymous(properties);
+        }
+
+        switch (authLocation) {
+            case HEADER:
+                if (expirationDuration != null) {
+                    throw new UnsupportedOperationException(
+                        String.format("%s is not supported for %s.", EXPIRATION_DURATION, AuthLocation.HEADER));
+                }
+                return header(properties);
+            case QUERY_STRING:
+                return query(properties, expirationDuration == null ? null : validateExpirationDuration(expirationDuration));
+            default:
+                throw new UnsupportedOperationException("Unsupported authLocation " + authLocation);
+        }
+    }
+
+    private static V4RequestSigner header(V4Properties properties) {
+        return requestBuilder -> {
+            // Add pre-requisites
+            if (properties.getCredentials() instanceof AwsSessionCredentialsIdentity) {
+                requestBuilder.putHeader(SignerConstant.X_AMZ_SECURITY_TOKEN,
+                                         ((AwsSessionCredentialsIdentity) properties.getCredentials()).sessionToken());
+            }
+            addHostHeader(requestBuilder);
+            addDateHeader(requestBuilder, properties.getCredentialScope().getDatetime());
+            requestBuilder.putHeader(X_AMZ_REGION_SET, properties.getCredentialScope().getRegion());
+
+            V4RequestSigningResult result = sign(properties, requestBuilder, getContentHash(requestBuilder));
+
+            // Add the signature within an authorization header
+            String authHeader = AWS4A_SIGNING_ALGORITHM
+                                + " Credential=" + properties.getCredentials().accessKeyId() + "/" + scope(properties)
+                                + ", SignedHeaders=" + result.getCanonicalRequest().getSignedHeadersString()
+                                + ", Signature=" + result.getSignature();
+
+            requestBuilder.putHeader(SignerConstant.AUTHORIZATION, authHeader);
+            return result;
+        };
+    }
+
+    /**
+     * Sign the request with query parameters, adding an expiration if the request is pre-signed.
+     */
+    private static V4RequestSigner query(V4Properties properties, Duration expirationDuration) {
+        return requestBuilder -> {
+            // Add pre-requisites
+            if (properties.getCredentials() instanceof AwsSessionCredentialsIdentity) {
+                requestBuilder.putRawQueryParameter(SignerConstant.X_AMZ_SECURITY_TOKEN,
+                                                    ((AwsSessionCredentialsIdentity) properties.getCredentials()).sessionToken());
+            }
+            // We have to add the host-header here explicitly, since query-signed request requires it in the signed-header param
+            addHostHeader(requestBuilder);
+
+            String contentHash = getContentHash(requestBuilder);
+            if (expirationDuration != null) {
+                // Pre-signed requests shouldn't have the content-hash header
+                requestBuilder.removeHeader(X_AMZ_CONTENT_SHA256);
+            }
+
+            List<Pair<String, List<String>>> canonicalHeaders = getCanonicalHeaders(requestBuilder.build());
+            requestBuilder.putRawQueryParameter(SignerConstant.X_AMZ_ALGORITHM, AWS4A_SIGNING_ALGORITHM);
+            requestBuilder.putRawQueryParameter(SignerConstant.X_AMZ_DATE, properties.getCredentialScope().getDatetime());
+            requestBuilder.putRawQueryParameter(SignerConstant.X_AMZ_SIGNED_HEADERS, getSignedHeadersString(canonicalHeaders));
+            requestBuilder.putRawQueryParameter(SignerConstant.X_AMZ_CREDENTIAL,
+                                                properties.getCredentials().accessKeyId() + "/" + scope(properties));
+            requestBuilder.putRawQueryParameter(X_AMZ_REGION_SET, properties.getCredentialScope().getRegion());
+            if (expirationDuration != null) {
+                requestBuilder.putRawQueryParameter(SignerConstant.X_AMZ_EXPIRES,
+                                                    Long.toString(expirationDuration.getSeconds()));
+            }
+
+            V4RequestSigningResult result = sign(properties, requestBuilder, contentHash);
+
+            // Add the signature
+            requestBuilder.putRawQueryParameter(SignerConstant.X_AMZ_SIGNATURE, result.getSignature());
+            return result;
+        };
+    }
+
+    private static V4RequestSigningResult sign(V4Properties properties, SdkHttpRequest.Builder requestBuilder,
+                                               String contentHash) {
+        V4CanonicalRequest canonicalRequest = new V4CanonicalRequest(requestBuilder.build(), contentHash,
+                                                                     new V4CanonicalRequest.Options(
+                                                                         properties.shouldDoubleUrlEncode(),
+                                                                         properties.shouldNormalizePath()));
+
+        LOG.debug(() -> "AWS4A Canonical Request: " + canonicalRequest.getCanonicalRequestString());
+
+        String stringToSign = AWS4A_SIGNING_ALGORITHM +
+                              SignerConstant.LINE_SEPARATOR +
+                              properties.getCredentialScope().getDatetime() +
+                              SignerConstant.LINE_SEPARATOR +
+                              scope(properties) +
+                              SignerConstant.LINE_SEPARATOR +
+                              canonicalRequest.getCanonicalRequestHash();
+
+        LOG.debug(() -> "AWS4A String to sign: " + stringToSign);
+
+        byte[] signature = EcdsaSigningKeys.sign(stringToSign, EcdsaSigningKeys.signingKey(properties.getCredentials()));
+        return new V4RequestSigningResult(contentHash, new byte[0], BinaryUtils.toHex(signature), canonicalRequest,
+                                          requestBuilder);
+    }
+
+    /**
+     * The V4a credential scope, which unlike the V4 scope does not contain the region.
+     */
+    private static String scope(V4Properties properties) {
+        CredentialScope credentialScope = properties.getCredentialScope();
+        return credentialScope.getDate() + "/" + credentialScope.getService() + "/" + AWS4_TERMINATOR;
+    }
+
+    private static V4PayloadSigner v4aPayloadSigner(SignRequest<? extends AwsCredentialsIdentity> request,
+                                                    V4Properties properties) {
+        boolean isChunkEncoding = request.requireProperty(CHUNK_ENCODING_ENABLED, false);
+        boolean isTrailing = request.request().firstMatchingHeader(X_AMZ_TRAILER).isPresent();
+        boolean isFlexible = request.hasProperty(CHECKSUM_ALGORITHM) && !hasChecksumHeader(request);
+
+        // Signed chunk-encoding has already been rejected, so this is only ever an unsigned payload with trailers.
+        if (useChunkEncoding(false, isChunkEncoding, isTrailing || isFlexible)) {
+            return AwsChunkedV4PayloadSigner.builder()
+                                            .credentialScope(properties.getCredentialScope())
+                                            .chunkSize(DEFAULT_CHUNK_SIZE_IN_BYTES)
+                                            .checksumAlgorithm(request.property(CHECKSUM_ALGORITHM))
+                                            .build();
+        }
+
+        return V4PayloadSigner.create();
+    }
+}
@@ -21,9 +21,12 @@ import static software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerUt
 
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -35,12 +38,16 @@ import software.amazon.awssdk.http.ContentStreamProvider;
 import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.http.auth.aws.internal.signer.io.ChecksumInputStream;
 import software.amazon.awssdk.http.auth.aws.internal.signer.io.ChecksumSubscriber;
+import software.amazon.awssdk.http.auth.aws.internal.signer.io.ConcurrentFileChecksums;
 import software.amazon.awssdk.utils.Validate;
 
 /**
  * A "flexible" implementation of a checksummer. It takes a map of checksums and their header names, computes them efficiently by
  * updating each checksum while reading the payload (once), and adds the computed checksum strings to the request using the given
  * header names in the map. This should be used in cases where a (flexible) checksum algorithm is present during signing.
+ * <p>
+ * Large file payloads are checksummed by {@link ConcurrentFileChecksums}, with each checksum computed concurrently by its own
+ * reader using positional reads into pooled direct buffers.
  */
 @SdkInternalApi
 public final class FlexibleChecksummer implements Checksummer {
@@ -56,6 +63,13 @@ public final class FlexibleChecksummer implements Checksummer {
 
     @Override
     public void checksum(ContentStreamProvider payload, SdkHttpRequest.Builder request) {
+        Optional<Path> file = ConcurrentFileChecksums.checksummableFile(payload);
+        if (file.isPresent()) {
+            ConcurrentFileChecksums.update(file.get(), new ArrayList<>(optionToSdkChecksum.values()));
+            addChecksums(request);
+            return;
+        }
+
         InputStream payloadStream = getBinaryRequestPayloadStream(payload);
 
         ChecksumInputStream computingStream = new ChecksumInputStream(
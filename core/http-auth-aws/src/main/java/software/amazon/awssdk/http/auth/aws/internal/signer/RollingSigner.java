@@ -15,27 +15,34 @@
 
 package software.amazon.awssdk.http.auth.aws.internal.signer;
 
-import static software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerUtils.computeSignature;
 import static software.amazon.awssdk.utils.BinaryUtils.toHex;
 
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.util.function.Function;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.auth.aws.internal.signer.util.SigningAlgorithm;
 
 /**
  * A class which calculates a rolling signature of arbitrary data using HMAC-SHA256. Each time a signature is calculated, the
  * prior calculation is incorporated, hence "rolling".
+ * <p>
+ * The signer keeps its own {@link Mac}, initialized with the signing key once, since it is used to sign every chunk of a
+ * payload with the same key.
  */
 @SdkInternalApi
 public final class RollingSigner {
 
-    private final byte[] signingKey;
+    private final Mac mac;
     private final String seedSignature;
     private String previousSignature;
 
     public RollingSigner(byte[] signingKey, String seedSignature) {
         this.seedSignature = seedSignature;
         this.previousSignature = seedSignature;
-        this.signingKey = signingKey.clone();
+        this.mac = newMac(signingKey);
     }
 
     /**
@@ -43,7 +50,7 @@ public final class RollingSigner {
      */
     public String sign(Function<String, String> stringToSignTemplate) {
         String stringToSign = stringToSignTemplate.apply(previousSignature);
-        byte[] bytes = computeSignature(stringToSign, signingKey);
+        byte[] bytes = mac.doFinal(stringToSign.getBytes(StandardCharsets.UTF_8));
         previousSignature = toHex(bytes);
         return previousSignature;
     }
@@ -51,4 +58,15 @@ public final class RollingSigner {
     public void reset() {
         previousSignature = seedSignature;
     }
+
+    private static Mac newMac(byte[] signingKey) {
+        String algorithm = SigningAlgorithm.HMAC_SHA256.getAlgorithmName();
+        try {
+            Mac mac = Mac.getInstance(algorithm);
+            mac.init(new SecretKeySpec(signingKey, algorithm));
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException("Unable to calculate a request signature: ", e);
+        }
+    }
 }
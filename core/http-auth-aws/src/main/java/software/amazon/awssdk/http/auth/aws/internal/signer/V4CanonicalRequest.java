@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.SortedMap;
@@ -29,6 +30,8 @@ import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerConstant;
+import software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerUtils;
+import software.amazon.awssdk.utils.BinaryUtils;
 import software.amazon.awssdk.utils.Pair;
 import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.awssdk.utils.http.SdkHttpUtils;
@@ -45,6 +48,15 @@ public final class V4CanonicalRequest {
     private static final List<String> HEADERS_TO_IGNORE_IN_LOWER_CASE =
         Arrays.asList("connection", "x-amzn-trace-id", "user-agent", "expect");
 
+    /**
+     * Header names the SDK commonly sends in mixed case, mapped to their lower-case form so that canonicalizing them does not
+     * allocate a new string on every signature.
+     */
+    private static final Map<String, String> LOWER_CASE_HEADER_NAMES = lowerCaseHeaderNames(
+        "Host", "Content-Type", "Content-Length", "Content-MD5", "Content-Encoding", "X-Amz-Date", "X-Amz-Target",
+        "X-Amz-Security-Token", "X-Amz-Content-Sha256", "X-Amz-Decoded-Content-Length", "X-Amz-Trailer",
+        "X-Amz-Api-Version", "X-Amz-Sdk-Checksum-Algorithm", "Amz-Sdk-Invocation-Id", "Amz-Sdk-Request");
+
     private final SdkHttpRequest request;
     private final String contentHash;
     private final Options options;
@@ -52,11 +64,14 @@ public final class V4CanonicalRequest {
     // Compute these fields lazily when, and, if needed.
     private String canonicalUri;
     private SortedMap<String, List<String>> canonicalParams;
-    private List<Pair<String, List<String>>> canonicalHeaders;
+    private String[] canonicalHeaderNames;
+    private List<String>[] canonicalHeaderValues;
+    private int canonicalHeaderCount;
     private String canonicalQueryString;
     private String canonicalHeadersString;
     private String signedHeadersString;
     private String canonicalRequestString;
+    private String canonicalRequestHash;
 
     /**
      * Create a canonical request.
@@ -77,7 +92,15 @@ public final class V4CanonicalRequest {
      */
     public String getSignedHeadersString() {
         if (signedHeadersString == null) {
-            signedHeadersString = getSignedHeadersString(canonicalHeaders());
+            canonicalizeHeaders();
+            StringBuilder result = new StringBuilder(canonicalHeaderCount * 16);
+            for (int i = 0; i < canonicalHeaderCount; i++) {
+                if (i > 0) {
+                    result.append(';');
+                }
+                result.append(canonicalHeaderNames[i]);
+            }
+            signedHeadersString = result.toString();
         }
         return signedHeadersString;
     }
@@ -94,6 +117,44 @@ public final class V4CanonicalRequest {
         return canonicalRequestString;
     }
 
+    /**
+     * Get the hex-encoded SHA-256 hash of the canonical request string.
+     * <p>
+     * This writes the canonical request directly into a reusable per-thread byte buffer that is fed to the digest, rather than
+     * assembling it from intermediate strings, so it should be preferred over hashing {@link #getCanonicalRequestString()}.
+     */
+    public String getCanonicalRequestHash() {
+        if (canonicalRequestHash == null) {
+            CanonicalRequestBuffer buffer = CanonicalRequestBuffer.forCurrentThread();
+            writeCanonicalRequest(buffer);
+            canonicalRequestHash = BinaryUtils.toHex(SignerUtils.hash(buffer.bytes, 0, buffer.size));
+            buffer.trim();
+        }
+        return canonicalRequestHash;
+    }
+
+    /**
+     * Write the UTF-8 bytes of {@link #getCanonicalRequestString()} into the given buffer.
+     */
+    private void writeCanonicalRequest(CanonicalRequestBuffer buffer) {
+        canonicalizeHeaders();
+        buffer.append(request.method().toString()).append('\n')
+              .append(canonicalUri()).append('\n')
+              .append(canonicalQueryString()).append('\n');
+        for (int i = 0; i < canonicalHeaderCount; i++) {
+            buffer.append(canonicalHeaderNames[i]).append(':');
+            for (String headerValue : canonicalHeaderValues[i]) {
+                appendAndTrim(buffer, headerValue);
+                buffer.append(',');
+            }
+            buffer.size--;
+            buffer.append('\n');
+        }
+        buffer.append('\n')
+              .append(getSignedHeadersString()).append('\n')
+              .append(contentHash);
+    }
+
     private SortedMap<String, List<String>> canonicalQueryParams() {
         if (canonicalParams == null) {
             canonicalParams = getCanonicalQueryParams(request);
@@ -101,11 +162,43 @@ public final class V4CanonicalRequest {
         return canonicalParams;
     }
 
-    private List<Pair<String, List<String>>> canonicalHeaders() {
-        if (canonicalHeaders == null) {
-            canonicalHeaders = getCanonicalHeaders(request);
+    /**
+     * Collect the lower-cased names and the values of the headers to be signed into parallel arrays, sorted by name.
+     */
+    @SuppressWarnings("unchecked")
+    private void canonicalizeHeaders() {
+        if (canonicalHeaderNames != null) {
+            return;
+        }
+        int numHeaders = request.numHeaders();
+        String[] names = new String[numHeaders];
+        List<String>[] values = new List[numHeaders];
+        request.forEachHeader((key, value) -> {
+            String lowerCaseHeader = lowerCaseHeaderName(key);
+            if (!HEADERS_TO_IGNORE_IN_LOWER_CASE.contains(lowerCaseHeader)) {
+                names[canonicalHeaderCount] = lowerCaseHeader;
+                values[canonicalHeaderCount] = value;
+                canonicalHeaderCount++;
+            }
+        });
+
+        // Headers retrieved from the request are already sorted case-insensitively, which is the same order for the ASCII
+        // names allowed in HTTP headers, so this insertion sort is normally a single pass without any moves.
+        for (int i = 1; i < canonicalHeaderCount; i++) {
+            String name = names[i];
+            List<String> value = values[i];
+            int j = i - 1;
+            while (j >= 0 && names[j].compareTo(name) > 0) {
+                names[j + 1] = names[j];
+                values[j + 1] = values[j];
+                j--;
+            }
+            names[j + 1] = name;
+            values[j + 1] = value;
         }
-        return canonicalHeaders;
+
+        canonicalHeaderNames = names;
+        canonicalHeaderValues = values;
     }
 
     private String canonicalUri() {
@@ -124,7 +217,12 @@ public final class V4CanonicalRequest {
 
     private String canonicalHeadersString() {
         if (canonicalHeadersString == null) {
-            canonicalHeadersString = getCanonicalHeadersString(canonicalHeaders());
+            canonicalizeHeaders();
+            StringBuilder result = new StringBuilder(2048);
+            for (int i = 0; i < canonicalHeaderCount; i++) {
+                appendCanonicalHeader(result, canonicalHeaderNames[i], canonicalHeaderValues[i]);
+            }
+            canonicalHeadersString = result.toString();
         }
         return canonicalHeadersString;
     }
@@ -140,7 +238,7 @@ public final class V4CanonicalRequest {
 
         // headers retrieved from the request are already sorted case-insensitively
         request.forEachHeader((key, value) -> {
-            String lowerCaseHeader = lowerCase(key);
+            String lowerCaseHeader = lowerCaseHeaderName(key);
             if (!HEADERS_TO_IGNORE_IN_LOWER_CASE.contains(lowerCaseHeader)) {
                 result.add(Pair.of(lowerCaseHeader, value));
             }
@@ -158,7 +256,7 @@ public final class V4CanonicalRequest {
         List<Pair<String, List<String>>> result = new ArrayList<>(headers.size());
 
         headers.forEach((key, value) -> {
-            String lowerCaseHeader = lowerCase(key);
+            String lowerCaseHeader = lowerCaseHeaderName(key);
             if (!HEADERS_TO_IGNORE_IN_LOWER_CASE.contains(lowerCaseHeader)) {
                 result.add(Pair.of(lowerCaseHeader, value));
             }
@@ -185,19 +283,21 @@ public final class V4CanonicalRequest {
         // The minimal DynamoDB get-item request at the time of testing used ~1100 bytes. 2048 was chosen as the
         // next-highest power-of-two.
         StringBuilder result = new StringBuilder(2048);
-        canonicalHeaders.forEach(header -> {
-            result.append(header.left());
-            result.append(":");
-            for (String headerValue : header.right()) {
-                addAndTrim(result, headerValue);
-                result.append(",");
-            }
-            result.setLength(result.length() - 1);
-            result.append("\n");
-        });
+        canonicalHeaders.forEach(header -> appendCanonicalHeader(result, header.left(), header.right()));
         return result.toString();
     }
 
+    private static void appendCanonicalHeader(StringBuilder result, String name, List<String> values) {
+        result.append(name);
+        result.append(":");
+        for (String headerValue : values) {
+            addAndTrim(result, headerValue);
+            result.append(",");
+        }
+        result.setLength(result.length() - 1);
+        result.append("\n");
+    }
+
     /**
      * Get the string representing which headers are part of the signing process. Header names are separated by a semicolon.
      */
@@ -290,6 +390,35 @@ public final class V4CanonicalRequest {
         }
     }
 
+    /**
+     * The same as {@link #addAndTrim(StringBuilder, String)}, but writing UTF-8 bytes into a {@link CanonicalRequestBuffer}.
+     */
+    private static void appendAndTrim(CanonicalRequestBuffer result, String value) {
+        if (value == null) {
+            return;
+        }
+        int valueLength = value.length();
+        int i = 0;
+        boolean firstWord = true;
+        while (i < valueLength) {
+            while (i < valueLength && isWhiteSpace(value.charAt(i))) {
+                ++i;
+            }
+            if (i == valueLength) {
+                return;
+            }
+            int wordStart = i;
+            while (i < valueLength && !isWhiteSpace(value.charAt(i))) {
+                ++i;
+            }
+            if (!firstWord) {
+                result.append(' ');
+            }
+            result.append(value, wordStart, i);
+            firstWord = false;
+        }
+    }
+
     /**
      * Get the uri-encoded version of the absolute path component URL.
      * <p>
@@ -329,6 +458,9 @@ public final class V4CanonicalRequest {
      * Get the sorted map of query parameters that are to be signed.
      */
     private static SortedMap<String, List<String>> getCanonicalQueryParams(SdkHttpRequest request) {
+        if (request.numRawQueryParameters() == 0) {
+            return Collections.emptySortedMap();
+        }
         SortedMap<String, List<String>> sorted = new TreeMap<>();
 
         // Signing protocol expects the param values also to be sorted after url
@@ -377,6 +509,19 @@ public final class V4CanonicalRequest {
         return stringBuilder.toString();
     }
 
+    private static String lowerCaseHeaderName(String name) {
+        String lowerCaseName = LOWER_CASE_HEADER_NAMES.get(name);
+        return lowerCaseName != null ? lowerCaseName : lowerCase(name);
+    }
+
+    private static Map<String, String> lowerCaseHeaderNames(String... names) {
+        Map<String, String> result = new HashMap<>();
+        for (String name : names) {
+            result.put(name, lowerCase(name));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
     private static boolean isWhiteSpace(char ch) {
         switch (ch) {
             case ' ':
@@ -391,6 +536,84 @@ public final class V4CanonicalRequest {
         }
     }
 
+    /**
+     * A growable buffer of UTF-8 bytes, reused by each thread to hold a canonical request while it is hashed.
+     */
+    private static final class CanonicalRequestBuffer {
+        private static final int INITIAL_CAPACITY = 2048;
+        private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+        private static final ThreadLocal<CanonicalRequestBuffer> BUFFERS =
+            ThreadLocal.withInitial(CanonicalRequestBuffer::new);
+
+        private byte[] bytes = new byte[INITIAL_CAPACITY];
+        private int size;
+
+        static CanonicalRequestBuffer forCurrentThread() {
+            CanonicalRequestBuffer buffer = BUFFERS.get();
+            buffer.size = 0;
+            return buffer;
+        }
+
+        /**
+         * Drop an unusually large backing array, so a single huge request does not stay pinned to the thread.
+         */
+        void trim() {
+            if (bytes.length > MAX_RETAINED_CAPACITY) {
+                bytes = new byte[INITIAL_CAPACITY];
+            }
+        }
+
+        /**
+         * Append a single ASCII character.
+         */
+        CanonicalRequestBuffer append(char c) {
+            ensureCapacity(1);
+            bytes[size++] = (byte) c;
+            return this;
+        }
+
+        CanonicalRequestBuffer append(String value) {
+            return append(value, 0, value.length());
+        }
+
+        /**
+         * Append the UTF-8 encoding of {@code value[start, end)}, replacing unpaired surrogates with {@code '?'} the same as
+         * {@link String#getBytes(java.nio.charset.Charset)}.
+         */
+        CanonicalRequestBuffer append(String value, int start, int end) {
+            ensureCapacity((end - start) * 3);
+            for (int i = start; i < end; i++) {
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    bytes[size++] = (byte) c;
+                } else if (c < 0x800) {
+                    bytes[size++] = (byte) (0xC0 | (c >> 6));
+                    bytes[size++] = (byte) (0x80 | (c & 0x3F));
+                } else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    bytes[size++] = (byte) (0xF0 | (codePoint >> 18));
+                    bytes[size++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    bytes[size++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    bytes[size++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else if (Character.isSurrogate(c)) {
+                    bytes[size++] = '?';
+                } else {
+                    bytes[size++] = (byte) (0xE0 | (c >> 12));
+                    bytes[size++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    bytes[size++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+            return this;
+        }
+
+        private void ensureCapacity(int additional) {
+            int required = size + additional;
+            if (required > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(required, bytes.length << 1));
+            }
+        }
+    }
+
     /**
      * A class for representing options used when creating a {@link V4CanonicalRequest}
      */
@@ -0,0 +1,122 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.auth.aws.internal.signer.chunkedencoding;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.Pair;
+
+/**
+ * Writes the parts of a chunk-encoded message that surround the chunk-data: the chunk-size, chunk-extensions and CRLF that
+ * precede each chunk's data, and the trailer-part that follows the last chunk.
+ * <p>
+ * The metadata for each chunk is written into a buffer that is reused for every chunk, so encoding a chunk does not allocate
+ * anything beyond what the header and extension providers return.
+ */
+@SdkInternalApi
+final class ChunkEncoder {
+    static final byte[] CRLF = {'\r', '\n'};
+    private static final byte[] SEMICOLON = {';'};
+    private static final byte[] EQUALS = {'='};
+    private static final byte[] COLON = {':'};
+    private static final byte[] COMMA = {','};
+
+    private final ChunkHeaderProvider header;
+    private final List<ChunkExtensionProvider> extensions;
+    private final List<TrailerProvider> trailers;
+    private final ReusableByteArrayOutputStream metadata = new ReusableByteArrayOutputStream();
+
+    ChunkEncoder(ChunkHeaderProvider header, List<ChunkExtensionProvider> extensions, List<TrailerProvider> trailers) {
+        this.header = header;
+        this.extensions = new ArrayList<>(extensions);
+        this.trailers = new ArrayList<>(trailers);
+    }
+
+    /**
+     * Write the chunk-size, chunk-extensions and CRLF that precede the given chunk-data, replacing the metadata of the previous
+     * chunk. The final chunk is encoded by passing empty chunk-data.
+     */
+    void writeMetadata(ByteBuffer chunkData) {
+        metadata.reset();
+        write(header.get(chunkData.asReadOnlyBuffer()));
+        for (ChunkExtensionProvider extension : extensions) {
+            Pair<byte[], byte[]> ext = extension.get(chunkData.asReadOnlyBuffer());
+            write(SEMICOLON);
+            write(ext.left());
+            write(EQUALS);
+            write(ext.right());
+        }
+        write(CRLF);
+    }
+
+    /**
+     * The buffer containing the metadata written by the last call to {@link #writeMetadata(ByteBuffer)}. Only the first
+     * {@link #metadataLength()} bytes are valid, and the contents are replaced by the next call.
+     */
+    byte[] metadata() {
+        return metadata.buffer();
+    }
+
+    int metadataLength() {
+        return metadata.size();
+    }
+
+    /**
+     * Get the trailer-part of the message, which must only be called after the metadata of the final chunk is written, since
+     * trailers may depend on it (e.g. a trailer signature that incorporates the signature of the final chunk).
+     */
+    byte[] trailers() {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        for (TrailerProvider trailer : trailers) {
+            Pair<String, List<String>> tlr = trailer.get();
+            byte[] name = tlr.left().getBytes(StandardCharsets.UTF_8);
+            result.write(name, 0, name.length);
+            result.write(COLON, 0, COLON.length);
+            for (int i = 0; i < tlr.right().size(); i++) {
+                if (i > 0) {
+                    result.write(COMMA, 0, COMMA.length);
+                }
+                byte[] value = tlr.right().get(i).getBytes(StandardCharsets.UTF_8);
+                result.write(value, 0, value.length);
+            }
+            result.write(CRLF, 0, CRLF.length);
+        }
+        return result.toByteArray();
+    }
+
+    void reset() {
+        trailers.forEach(TrailerProvider::reset);
+        extensions.forEach(ChunkExtensionProvider::reset);
+        header.reset();
+    }
+
+    private void write(byte[] bytes) {
+        metadata.write(bytes, 0, bytes.length);
+    }
+
+    /**
+     * A {@link ByteArrayOutputStream} whose contents can be read without copying them.
+     */
+    private static final class ReusableByteArrayOutputStream extends ByteArrayOutputStream {
+        private byte[] buffer() {
+            return buf;
+        }
+    }
+}
@@ -15,18 +15,16 @@
 
 package software.amazon.awssdk.http.auth.aws.internal.signer.chunkedencoding;
 
-import java.io.ByteArrayInputStream;
+import static software.amazon.awssdk.http.auth.aws.internal.signer.chunkedencoding.ChunkEncoder.CRLF;
+
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.SequenceInputStream;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.utils.Logger;
-import software.amazon.awssdk.utils.Pair;
 import software.amazon.awssdk.utils.Validate;
 
 
@@ -47,23 +45,19 @@ import software.amazon.awssdk.utils.Validate;
  *     last-chunk     = 1*("0") [ chunk-ext ] CRLF
  *     chunk-data     = 1*OCTET ; a sequence of chunk-size octets
  * </pre>
+ * <p>
+ * The chunk-data and chunk metadata are read into buffers that are allocated once per stream and reused for every chunk.
  */
 @SdkInternalApi
 public final class ChunkedEncodedInputStream extends InputStream {
     private static final Logger LOG = Logger.loggerFor(ChunkedEncodedInputStream.class);
-    private static final byte[] CRLF = {'\r', '\n'};
     private static final byte[] END = {};
-    private static final byte[] SEMICOLON = {';'};
-    private static final byte[] EQUALS = {'='};
-    private static final byte[] COLON = {':'};
-    private static final byte[] COMMA = {','};
 
     private final InputStream inputStream;
     private final int chunkSize;
-
-    private final ChunkHeaderProvider header;
-    private final List<ChunkExtensionProvider> extensions = new ArrayList<>();
-    private final List<TrailerProvider> trailers = new ArrayList<>();
+    private final ChunkEncoder encoder;
+    private final EncodedChunk encodedChunk;
+    private byte[] chunkData;
 
     private Chunk currentChunk;
     private boolean isFinished = false;
@@ -71,9 +65,10 @@ public final class ChunkedEncodedInputStream extends InputStream {
     private ChunkedEncodedInputStream(Builder builder) {
         this.inputStream = Validate.notNull(builder.inputStream, "Input-Stream cannot be null!");
         this.chunkSize = Validate.isPositive(builder.chunkSize, "Chunk-size must be greater than 0!");
-        this.header = Validate.notNull(builder.header, "Header cannot be null!");
-        this.extensions.addAll(Validate.notNull(builder.extensions, "Extensions cannot be null!"));
-        this.trailers.addAll(Validate.notNull(builder.trailers, "Trailers cannot be null!"));
+        this.encoder = new ChunkEncoder(Validate.notNull(builder.header, "Header cannot be null!"),
+                                        Validate.notNull(builder.extensions, "Extensions cannot be null!"),
+                                        Validate.notNull(builder.trailers, "Trailers cannot be null!"));
+        this.encodedChunk = new EncodedChunk(encoder);
     }
 
     public static Builder builder() {
@@ -107,13 +102,16 @@ public final class ChunkedEncodedInputStream extends InputStream {
             currentChunk.close();
         }
 
-        // We have to read from the input stream into a format that can be used for signing and headers.
-        byte[] chunkData = new byte[chunkSize];
+        // We have to read from the input stream into a format that can be used for signing and headers. The previous chunk has
+        // been fully read by now, so its buffer can be reused.
+        if (chunkData == null) {
+            chunkData = new byte[chunkSize];
+        }
         int read = read(stream, chunkData, chunkSize);
 
         if (read > 0) {
             // set the current chunk to the newly written chunk
-            return getNextChunk(ByteBuffer.wrap(chunkData, 0, read));
+            return getNextChunk(chunkData, read);
         }
 
         LOG.debug(() -> "End of backing stream reached. Reading final chunk.");
@@ -144,81 +142,26 @@ public final class ChunkedEncodedInputStream extends InputStream {
     }
 
     /**
-     * Create a chunk from a byte-array, which includes the header, the extensions, and the chunk data. The input array should be
-     * correctly sized, i.e. the number of bytes should equal its length.
+     * Create a chunk from the first {@code length} bytes of a byte-array, which includes the header, the extensions, and the
+     * chunk data.
      */
-    private Chunk getNextChunk(ByteBuffer data) {
-        LengthAwareSequenceInputStream newChunkData =
-            LengthAwareSequenceInputStream.builder()
-                                          .add(createChunkStream(data))
-                                          .add(CRLF)
-                                          .build();
-        return Chunk.create(newChunkData, newChunkData.size);
+    private Chunk getNextChunk(byte[] data, int length) {
+        encoder.writeMetadata(ByteBuffer.wrap(data, 0, length));
+        return encodedChunk.body(data, length);
     }
 
     /**
      * Create the final chunk, which includes the header, the extensions, the chunk (if applicable), and the trailer
      */
-    private Chunk getFinalChunk() throws IOException {
-        LengthAwareSequenceInputStream chunkData =
-            LengthAwareSequenceInputStream.builder()
-                                          .add(createChunkStream(ByteBuffer.wrap(END)))
-                                          .add(createTrailerStream())
-                                          .add(CRLF)
-                                          .build();
-
-        return Chunk.create(chunkData, chunkData.size);
-    }
-
-    private LengthAwareSequenceInputStream createChunkStream(ByteBuffer chunkData) {
-        return LengthAwareSequenceInputStream.builder()
-                                             .add(createHeaderStream(chunkData.asReadOnlyBuffer()))
-                                             .add(createExtensionsStream(chunkData.asReadOnlyBuffer()))
-                                             .add(CRLF)
-                                             .add(new ByteArrayInputStream(chunkData.array(),
-                                                                           chunkData.arrayOffset(),
-                                                                           chunkData.remaining()))
-                                             .build();
-    }
-
-    private ByteArrayInputStream createHeaderStream(ByteBuffer chunkData) {
-        return new ByteArrayInputStream(header.get(chunkData));
-    }
-
-    private LengthAwareSequenceInputStream createExtensionsStream(ByteBuffer chunkData) {
-        LengthAwareSequenceInputStream.Builder result = LengthAwareSequenceInputStream.builder();
-        for (ChunkExtensionProvider chunkExtensionProvider : extensions) {
-            Pair<byte[], byte[]> ext = chunkExtensionProvider.get(chunkData);
-            result.add(SEMICOLON);
-            result.add(ext.left());
-            result.add(EQUALS);
-            result.add(ext.right());
-        }
-        return result.build();
-    }
-
-    private LengthAwareSequenceInputStream createTrailerStream() throws IOException {
-        LengthAwareSequenceInputStream.Builder result = LengthAwareSequenceInputStream.builder();
-        for (TrailerProvider trailer : trailers) {
-            Pair<String, List<String>> tlr = trailer.get();
-            result.add(tlr.left().getBytes(StandardCharsets.UTF_8));
-            result.add(COLON);
-            for (String trailerValue : tlr.right()) {
-                result.add(trailerValue.getBytes(StandardCharsets.UTF_8));
-                result.add(COMMA);
-            }
-
-            // Replace trailing comma with clrf
-            result.replaceLast(new ByteArrayInputStream(CRLF), COMMA.length);
-        }
-        return result.build();
+    private Chunk getFinalChunk() {
+        encoder.writeMetadata(ByteBuffer.wrap(END));
+        byte[] trailers = encoder.trailers();
+        return encodedChunk.body(trailers, trailers.length);
     }
 
     @Override
     public synchronized void reset() throws IOException {
-        trailers.forEach(TrailerProvider::reset);
-        extensions.forEach(ChunkExtensionProvider::reset);
-        header.reset();
+        encoder.reset();
         inputStream.reset();
         isFinished = false;
         currentChunk = null;
@@ -287,50 +230,89 @@ public final class ChunkedEncodedInputStream extends InputStream {
         }
     }
 
+    /**
+     * A chunk made of the metadata most recently written by a {@link ChunkEncoder}, a body (the chunk-data, or the trailer-part
+     * of the final chunk), and a CRLF. A single instance is reused for every chunk of a stream.
+     */
+    private static final class EncodedChunk extends InputStream implements Chunk {
+        private final ChunkEncoder encoder;
+        private byte[] body;
+        private int bodyLength;
+        private int position;
+
+        private EncodedChunk(ChunkEncoder encoder) {
+            this.encoder = encoder;
+        }
 
-    private static class LengthAwareSequenceInputStream extends SequenceInputStream {
-        private final int size;
-
-        private LengthAwareSequenceInputStream(Builder builder) {
-            super(Collections.enumeration(builder.streams));
-            this.size = builder.size;
+        private EncodedChunk body(byte[] body, int bodyLength) {
+            this.body = body;
+            this.bodyLength = bodyLength;
+            this.position = 0;
+            return this;
         }
 
-        private static Builder builder() {
-            return new Builder();
+        @Override
+        public InputStream stream() {
+            return this;
         }
 
-        private static class Builder {
-            private final List<InputStream> streams = new ArrayList<>();
-            private int size = 0;
+        @Override
+        public boolean hasRemaining() {
+            return position < length();
+        }
 
-            public Builder add(ByteArrayInputStream stream) {
-                streams.add(stream);
-                size += stream.available();
-                return this;
+        @Override
+        public int read() {
+            if (!hasRemaining()) {
+                return -1;
             }
 
-            public Builder add(byte[] stream) {
-                return add(new ByteArrayInputStream(stream));
+            int metadataLength = encoder.metadataLength();
+            int index = position++;
+            if (index < metadataLength) {
+                return encoder.metadata()[index] & 0xFF;
             }
-
-            public Builder add(LengthAwareSequenceInputStream stream) {
-                streams.add(stream);
-                size += stream.size;
-                return this;
+            index -= metadataLength;
+            if (index < bodyLength) {
+                return body[index] & 0xFF;
             }
+            return CRLF[index - bodyLength];
+        }
 
-            public Builder replaceLast(ByteArrayInputStream stream, int lastLength) {
-                streams.set(streams.size() - 1, stream);
-                size -= lastLength;
-                size += stream.available();
-                return this;
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (!hasRemaining()) {
+                return -1;
             }
 
-            public LengthAwareSequenceInputStream build() {
-                return new LengthAwareSequenceInputStream(this);
+            int metadataLength = encoder.metadataLength();
+            int copied = copy(encoder.metadata(), metadataLength, 0, b, off, len);
+            copied += copy(body, bodyLength, metadataLength, b, off + copied, len - copied);
+            copied += copy(CRLF, CRLF.length, metadataLength + bodyLength, b, off + copied, len - copied);
+            return copied;
+        }
+
+        /**
+         * Copy the unread bytes of one segment of this chunk that starts at {@code segmentStart}, returning how many were copied.
+         */
+        private int copy(byte[] segment, int segmentLength, int segmentStart, byte[] dst, int off, int len) {
+            int segmentPosition = position - segmentStart;
+            if (len == 0 || segmentPosition < 0 || segmentPosition >= segmentLength) {
+                return 0;
             }
+
+            int count = Math.min(segmentLength - segmentPosition, len);
+            System.arraycopy(segment, segmentPosition, dst, off, count);
+            position += count;
+            return count;
+        }
+
+        private int length() {
+            return encoder.metadataLength() + bodyLength + CRLF.length;
+        }
+
+        @Override
+        public void close() {
         }
     }
 }
-
@@ -30,12 +30,19 @@ public class SigV4ChunkExtensionProvider implements ChunkExtensionProvider {
 
     private static final String EMPTY_HASH = toHex(hash(""));
 
+    private static final byte[] CHUNK_SIGNATURE = "chunk-signature".getBytes(StandardCharsets.UTF_8);
+
     private final RollingSigner signer;
-    private final CredentialScope credentialScope;
+    private final String stringToSignPrefix;
 
     public SigV4ChunkExtensionProvider(RollingSigner signer, CredentialScope credentialScope) {
         this.signer = signer;
-        this.credentialScope = credentialScope;
+        // everything in the string-to-sign before the previous signature is the same for every chunk
+        this.stringToSignPrefix = String.join("\n",
+                                              "AWS4-HMAC-SHA256-PAYLOAD",
+                                              credentialScope.getDatetime(),
+                                              credentialScope.scope(),
+                                              "");
     }
 
     @Override
@@ -45,20 +52,12 @@ public class SigV4ChunkExtensionProvider implements ChunkExtensionProvider {
 
     private String getStringToSign(String previousSignature, ByteBuffer chunk) {
         // build the string-to-sign template for the rolling-signer to sign
-        return String.join("\n",
-                           "AWS4-HMAC-SHA256-PAYLOAD",
-                           credentialScope.getDatetime(),
-                           credentialScope.scope(),
-                           previousSignature,
-                           EMPTY_HASH,
-                           toHex(hash(chunk))
-        );
+        return stringToSignPrefix + previousSignature + "\n" + EMPTY_HASH + "\n" + toHex(hash(chunk));
     }
 
     @Override
     public Pair<byte[], byte[]> get(ByteBuffer chunk) {
         String chunkSig = signer.sign(previousSig -> getStringToSign(previousSig, chunk));
-        return Pair.of("chunk-signature".getBytes(StandardCharsets.UTF_8),
-                       chunkSig.getBytes(StandardCharsets.UTF_8));
+        return Pair.of(CHUNK_SIGNATURE, chunkSig.getBytes(StandardCharsets.UTF_8));
     }
 }
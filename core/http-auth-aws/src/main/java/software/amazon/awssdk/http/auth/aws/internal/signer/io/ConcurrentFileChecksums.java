@@ -0,0 +1,143 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.auth.aws.internal.signer.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.checksums.SdkChecksum;
+import software.amazon.awssdk.http.ContentStreamProvider;
+import software.amazon.awssdk.http.FileBackedContentStreamProvider;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.ExecutorUtils;
+
+/**
+ * Computes checksums of a file-backed payload concurrently, updating each checksum from its own reader.
+ * <p>
+ * Checksums like SHA-256 cannot be split across threads, but independent checksums can be computed concurrently. When the
+ * payload hash and a flexible checksum are both needed, this takes as long as the slower of the two instead of their sum. The
+ * first checksum is updated on the calling thread and each additional checksum on the
+ * {@link ExecutorUtils#sharedBackgroundExecutor()}. The readers share the file's pages through the OS page cache, so the file is
+ * only read from disk once.
+ * <p>
+ * Each reader reads the file with positional reads into a direct buffer borrowed from a small shared pool, so no memory stays
+ * mapped or allocated after the checksums are computed.
+ */
+@SdkInternalApi
+public final class ConcurrentFileChecksums {
+    /**
+     * Files smaller than this are cheaper to read through the content stream than to read concurrently.
+     */
+    private static final long MIN_FILE_SIZE = 8L * 1024 * 1024;
+
+    /**
+     * The size of the buffer each reader reads the file through.
+     */
+    private static final int READ_BUFFER_SIZE = 1024 * 1024;
+
+    private static final BlockingQueue<ByteBuffer> READ_BUFFERS =
+        new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors());
+
+    private ConcurrentFileChecksums() {
+    }
+
+    /**
+     * The file backing the payload, if the payload is a file that is large enough to be checksummed with
+     * {@link #update(Path, List)}.
+     */
+    public static Optional<Path> checksummableFile(ContentStreamProvider payload) {
+        if (!(payload instanceof FileBackedContentStreamProvider)) {
+            return Optional.empty();
+        }
+
+        Path file = ((FileBackedContentStreamProvider) payload).path();
+        try {
+            return Files.size(file) >= MIN_FILE_SIZE ? Optional.of(file) : Optional.empty();
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Update every checksum with the entire contents of the file, returning once all of them have been updated.
+     */
+    public static void update(Path file, List<? extends SdkChecksum> checksums) {
+        if (checksums.isEmpty()) {
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            List<CompletableFuture<Void>> updates = new ArrayList<>(checksums.size());
+            for (int i = checksums.size() - 1; i >= 0; i--) {
+                SdkChecksum checksum = checksums.get(i);
+                Executor executor = i == 0 ? Runnable::run : ExecutorUtils.sharedBackgroundExecutor();
+                updates.add(CompletableFuture.runAsync(() -> update(channel, size, checksum), executor));
+            }
+
+            // Wait for every reader, even if one fails, so that none of them outlives the channel.
+            CompletableFutureUtils.joinLikeSync(CompletableFuture.allOf(updates.toArray(new CompletableFuture[0])));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read request payload to sign request: ", e);
+        }
+    }
+
+    private static void update(FileChannel channel, long size, SdkChecksum checksum) {
+        ByteBuffer buffer = borrowBuffer();
+        try {
+            long position = 0;
+            while (position < size) {
+                buffer.clear();
+                int read = channel.read(buffer, position);
+                if (read < 0) {
+                    throw new IOException("File ended after " + position + " of " + size + " bytes.");
+                }
+                position += read;
+                buffer.flip();
+                checksum.update(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read request payload to sign request: ", e);
+        } finally {
+            releaseBuffer(buffer);
+        }
+    }
+
+    private static ByteBuffer borrowBuffer() {
+        ByteBuffer buffer = READ_BUFFERS.poll();
+        return buffer != null ? buffer : ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+    }
+
+    /**
+     * Return a buffer to the pool, returning false if the pool is full and the buffer is left to the garbage collector.
+     */
+    private static boolean releaseBuffer(ByteBuffer buffer) {
+        buffer.clear();
+        return READ_BUFFERS.offer(buffer);
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.auth.aws.internal.signer.util;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.Signature;
+import java.security.interfaces.ECPrivateKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPrivateKeySpec;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+import software.amazon.awssdk.utils.Pair;
+import software.amazon.awssdk.utils.cache.lru.LruCache;
+
+/**
+ * Utilities for the ECDSA P-256 keys used by SigV4a, implemented with the JCA so that SigV4a signing does not require the CRT.
+ * <p>
+ * The private key is derived from the credentials with the NIST SP 800-108 HMAC-SHA256 counter-mode KDF described by the SigV4a
+ * specification. The derivation compares and increments the candidate key without branching on its value, and the derived keys
+ * are cached per access key and secret key, since they never change for a given set of credentials.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class EcdsaSigningKeys {
+    private static final int MAX_CACHED_KEYS = 100;
+    private static final int KEY_LENGTH_IN_BYTES = 32;
+    private static final int MAX_KDF_COUNTER = 254;
+    private static final String SECRET_PREFIX = "AWS4A";
+
+    private static final ECParameterSpec P256 = p256Parameters();
+    private static final byte[] ORDER_MINUS_TWO = toFixedLength(P256.getOrder().subtract(BigInteger.valueOf(2)));
+
+    private static final LruCache<Pair<String, String>, ECPrivateKey> PRIVATE_KEYS =
+        LruCache.<Pair<String, String>, ECPrivateKey>builder(k -> toPrivateKey(derivePrivateKey(k.left(), k.right())))
+                .maxSize(MAX_CACHED_KEYS)
+                .build();
+
+    private static final ThreadLocal<Signature> SIGNATURE = ThreadLocal.withInitial(() -> {
+        try {
+            return Signature.getInstance("SHA256withECDSA");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("SHA256withECDSA is not supported by any installed security provider.", e);
+        }
+    });
+
+    private EcdsaSigningKeys() {
+    }
+
+    /**
+     * Get the SigV4a private key for the given credentials, deriving it if it is not already cached.
+     */
+    public static ECPrivateKey signingKey(AwsCredentialsIdentity credentials) {
+        return PRIVATE_KEYS.get(Pair.of(credentials.accessKeyId(), credentials.secretAccessKey()));
+    }
+
+    /**
+     * Sign the given string with ECDSA over its SHA-256 digest, returning the DER-encoded signature.
+     */
+    public static byte[] sign(String stringToSign, ECPrivateKey signingKey) {
+        Signature signature = SIGNATURE.get();
+        try {
+            signature.initSign(signingKey);
+            signature.update(stringToSign.getBytes(StandardCharsets.UTF_8));
+            return signature.sign();
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException("Unable to calculate a request signature: ", e);
+        }
+    }
+
+    /**
+     * Derive the SigV4a private key (the scalar {@code d}) for the given access key and secret key.
+     */
+    public static BigInteger derivePrivateKey(String accessKeyId, String secretAccessKey) {
+        byte[] inputKey = (SECRET_PREFIX + secretAccessKey).getBytes(StandardCharsets.UTF_8);
+        byte[] accessKey = accessKeyId.getBytes(StandardCharsets.UTF_8);
+
+        for (int counter = 1; counter <= MAX_KDF_COUNTER; counter++) {
+            byte[] candidate = SignerUtils.sign(fixedInput(accessKey, counter), inputKey, SigningAlgorithm.HMAC_SHA256);
+
+            // The candidate is usable as k0 if it is at most n - 2, so that d = k0 + 1 is a valid scalar in [1, n - 1].
+            if (compareConstantTime(candidate, ORDER_MINUS_TWO) <= 0) {
+                addOneConstantTime(candidate);
+                return new BigInteger(1, candidate);
+            }
+        }
+        throw new IllegalStateException("Unable to derive a SigV4a signing key from the given credentials.");
+    }
+
+    /**
+     * The NIST SP 800-108 fixed input: i || label || 0x00 || context || L, where the context is the access key followed by the
+     * counter byte, and the output length L is 256 bits.
+     */
+    private static byte[] fixedInput(byte[] accessKey, int counter) {
+        ByteArrayOutputStream fixedInput = new ByteArrayOutputStream(64 + accessKey.length);
+        writeInt(fixedInput, 1);
+        byte[] label = SignerConstant.AWS4A_SIGNING_ALGORITHM.getBytes(StandardCharsets.UTF_8);
+        fixedInput.write(label, 0, label.length);
+        fixedInput.write(0);
+        fixedInput.write(accessKey, 0, accessKey.length);
+        fixedInput.write(counter);
+        writeInt(fixedInput, KEY_LENGTH_IN_BYTES * 8);
+        return fixedInput.toByteArray();
+    }
+
+    private static void writeInt(ByteArrayOutputStream out, int value) {
+        out.write(value >>> 24);
+        out.write(value >>> 16);
+        out.write(value >>> 8);
+        out.write(value);
+    }
+
+    /**
+     * Compare two equal-length big-endian unsigned integers, visiting every byte regardless of where they first differ.
+     */
+    static int compareConstantTime(byte[] a, byte[] b) {
+        int gt = 0;
+        int eq = 1;
+        for (int i = 0; i < a.length; i++) {
+            int x = a[i] & 0xff;
+            int y = b[i] & 0xff;
+            // (y - x) >>> 31 is 1 exactly when x > y; ((x ^ y) - 1) >>> 31 is 1 exactly when x == y.
+            gt |= ((y - x) >>> 31) & eq;
+            eq &= ((x ^ y) - 1) >>> 31;
+        }
+        return gt - (eq ^ 1 ^ gt);
+    }
+
+    /**
+     * Add one to a big-endian unsigned integer in place, carrying through every byte regardless of the value.
+     */
+    static void addOneConstantTime(byte[] value) {
+        int carry = 1;
+        for (int i = value.length - 1; i >= 0; i--) {
+            int sum = (value[i] & 0xff) + carry;
+            value[i] = (byte) sum;
+            carry = sum >>> 8;
+        }
+    }
+
+    private static ECPrivateKey toPrivateKey(BigInteger privateKey) {
+        try {
+            return (ECPrivateKey) KeyFactory.getInstance("EC").generatePrivate(new ECPrivateKeySpec(privateKey, P256));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to create a SigV4a signing key.", e);
+        }
+    }
+
+    private static ECParameterSpec p256Parameters() {
+        try {
+            AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+            parameters.init(new ECGenParameterSpec("secp256r1"));
+            return parameters.getParameterSpec(ECParameterSpec.class);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("The secp256r1 curve is not supported by any installed security provider.", e);
+        }
+    }
+
+    private static byte[] toFixedLength(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        byte[] fixed = new byte[KEY_LENGTH_IN_BYTES];
+        int length = Math.min(bytes.length, KEY_LENGTH_IN_BYTES);
+        System.arraycopy(bytes, bytes.length - length, fixed, KEY_LENGTH_IN_BYTES - length, length);
+        return fixed;
+    }
+}
@@ -22,7 +22,10 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.auth.aws.crt.internal.signer.DefaultAwsCrtV4aHttpSigner;
 import software.amazon.awssdk.http.auth.aws.eventstream.internal.signer.EventStreamV4PayloadSigner;
 import software.amazon.awssdk.http.auth.aws.internal.signer.CredentialScope;
+import software.amazon.awssdk.http.auth.aws.internal.signer.DefaultAwsV4aHttpSigner;
+import software.amazon.awssdk.http.auth.aws.signer.AwsV4aHttpSigner;
 import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+import software.amazon.awssdk.utils.ClassLoaderHelper;
 import software.amazon.awssdk.utils.Logger;
 
 /**
@@ -43,8 +46,19 @@ public final class OptionalDependencyLoaderUtil {
     private OptionalDependencyLoaderUtil() {
     }
 
-    public static DefaultAwsCrtV4aHttpSigner getDefaultAwsCrtV4aHttpSigner() {
-        requireClass(HTTP_AUTH_AWS_CRT_PATH, HTTP_AUTH_AWS_CRT_MODULE, "CRT-V4a signing");
+    /**
+     * Get the CRT-based V4a signer if the {@code http-auth-aws-crt} module is on the classpath, otherwise fall back to the
+     * pure-Java V4a signer.
+     */
+    public static AwsV4aHttpSigner getDefaultAwsV4aHttpSigner() {
+        try {
+            ClassLoaderHelper.loadClass(HTTP_AUTH_AWS_CRT_PATH, false);
+        } catch (ClassNotFoundException e) {
+            LOG.debug(() -> "Cannot find the " + HTTP_AUTH_AWS_CRT_PATH + " class, using the Java implementation of "
+                            + "V4a signing. Add a dependency on the '" + HTTP_AUTH_AWS_CRT_MODULE + "' module to use the CRT "
+                            + "implementation.");
+            return new DefaultAwsV4aHttpSigner();
+        }
         return new DefaultAwsCrtV4aHttpSigner();
     }
 
@@ -25,6 +25,8 @@ public final class SignerConstant {
 
     public static final String AWS4_SIGNING_ALGORITHM = "AWS4-HMAC-SHA256";
 
+    public static final String AWS4A_SIGNING_ALGORITHM = "AWS4-ECDSA-P256-SHA256";
+
     public static final String X_AMZ_CONTENT_SHA256 = "x-amz-content-sha256";
 
     public static final String AUTHORIZATION = "Authorization";
@@ -49,6 +51,8 @@ public final class SignerConstant {
 
     public static final String X_AMZ_TRAILER = "x-amz-trailer";
 
+    public static final String X_AMZ_REGION_SET = "X-Amz-Region-Set";
+
     public static final String AWS_CHUNKED = "aws-chunked";
 
     public static final String HOST = "Host";
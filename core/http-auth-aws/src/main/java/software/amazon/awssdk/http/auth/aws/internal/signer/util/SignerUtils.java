@@ -36,7 +36,6 @@ import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.http.auth.aws.internal.signer.CredentialScope;
 import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
 import software.amazon.awssdk.utils.BinaryUtils;
-import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.http.SdkHttpUtils;
 
 /**
@@ -45,11 +44,6 @@ import software.amazon.awssdk.utils.http.SdkHttpUtils;
 @SdkInternalApi
 public final class SignerUtils {
 
-    private static final Logger LOG = Logger.loggerFor(SignerUtils.class);
-
-    private static final FifoCache<SignerKey> SIGNER_CACHE =
-        new FifoCache<>(300);
-
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter
         .ofPattern("yyyyMMdd").withZone(ZoneId.of("UTC"));
 
@@ -94,37 +88,10 @@ public final class SignerUtils {
      * Get the signing key based on the given credentials and a credential-scope
      */
     public static byte[] deriveSigningKey(AwsCredentialsIdentity credentials, CredentialScope credentialScope) {
-        String cacheKey = createSigningCacheKeyName(credentials, credentialScope.getRegion(), credentialScope.getService());
-        SignerKey signerKey = SIGNER_CACHE.get(cacheKey);
-
-        if (signerKey != null && signerKey.isValidForDate(credentialScope.getInstant())) {
-            return signerKey.getSigningKey();
-        }
-
-        LOG.trace(() -> "Generating a new signing key as the signing key not available in the cache for the date: " +
-                        credentialScope.getInstant().toEpochMilli());
-        byte[] signingKey = newSigningKey(credentials,
-                                          credentialScope.getDate(),
-                                          credentialScope.getRegion(),
-                                          credentialScope.getService());
-        SIGNER_CACHE.add(cacheKey, new SignerKey(credentialScope.getInstant(), signingKey));
-        return signingKey;
-    }
-
-    private static String createSigningCacheKeyName(AwsCredentialsIdentity credentials,
-                                                    String regionName,
-                                                    String serviceName) {
-        return credentials.secretAccessKey() + "-" + regionName + "-" + serviceName;
-    }
-
-    private static byte[] newSigningKey(AwsCredentialsIdentity credentials,
-                                        String dateStamp, String regionName, String serviceName) {
-        byte[] kSecret = ("AWS4" + credentials.secretAccessKey())
-            .getBytes(StandardCharsets.UTF_8);
-        byte[] kDate = sign(dateStamp, kSecret);
-        byte[] kRegion = sign(regionName, kDate);
-        byte[] kService = sign(serviceName, kRegion);
-        return sign(SignerConstant.AWS4_TERMINATOR, kService);
+        return SigningKeyCache.shared().signingKey(credentials.secretAccessKey(),
+                                                   credentialScope.getInstant(),
+                                                   credentialScope.getRegion(),
+                                                   credentialScope.getService());
     }
 
     /**
@@ -262,6 +229,16 @@ public final class SignerUtils {
         }
     }
 
+    public static byte[] hash(byte[] data, int offset, int length) {
+        try {
+            SdkChecksum md = sha256Checksum();
+            md.update(data, offset, length);
+            return md.getChecksumBytes();
+        } catch (Exception e) {
+            throw new RuntimeException("Unable to compute hash while signing request: ", e);
+        }
+    }
+
     public static byte[] hash(String text) {
         return hash(text.getBytes(StandardCharsets.UTF_8));
     }
@@ -0,0 +1,202 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.auth.aws.internal.signer.util;
+
+import static software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerConstant.AWS4_TERMINATOR;
+import static software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerUtils.sign;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.DateUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A bounded, lock-free cache of derived SigV4 signing keys, keyed by secret access key, signing day, region and service.
+ * <p>
+ * Deriving a signing key takes four chained HMAC-SHA256 operations, but the result only changes once per day for a given
+ * credential scope. Lookups never block: the keys live in a {@link ConcurrentHashMap}, and once the cache is full the
+ * oldest inserted entries are evicted first, tracked by a lock-free queue.
+ * <p>
+ * The {@link #shared()} instance is used by both the {@code http-auth-aws} signers and the legacy {@code auth} signers. Its
+ * size defaults to 300 entries and can be changed with {@link SignerSystemSetting#AWS_SIGNING_KEY_CACHE_SIZE}.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class SigningKeyCache {
+    private static final Logger LOG = Logger.loggerFor(SigningKeyCache.class);
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd").withZone(ZoneOffset.UTC);
+    private static final SigningKeyCache SHARED = new SigningKeyCache(sharedMaxSize());
+
+    private final ConcurrentHashMap<Key, byte[]> signingKeys = new ConcurrentHashMap<>();
+    private final Queue<Key> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final int maxSize;
+
+    private SigningKeyCache(int maxSize) {
+        this.maxSize = Validate.isPositive(maxSize, "maxSize");
+    }
+
+    /**
+     * Create a new cache holding at most {@code maxSize} signing keys.
+     */
+    public static SigningKeyCache create(int maxSize) {
+        return new SigningKeyCache(maxSize);
+    }
+
+    /**
+     * The cache shared by all SigV4 signers in this class loader.
+     */
+    public static SigningKeyCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Get the signing key for the given secret access key and credential scope, deriving and caching it if it is not already
+     * cached. The returned array is a copy that the caller may modify.
+     */
+    public byte[] signingKey(String secretAccessKey, Instant signingInstant, String region, String service) {
+        Key key = new Key(secretAccessKey, DateUtils.numberOfDaysSinceEpoch(signingInstant.toEpochMilli()), region, service);
+        byte[] signingKey = signingKeys.get(key);
+        if (signingKey != null) {
+            hits.increment();
+            return signingKey.clone();
+        }
+
+        misses.increment();
+        LOG.trace(() -> "Generating a new signing key as the signing key not available in the cache for the date: " +
+                        signingInstant.toEpochMilli());
+        signingKey = deriveSigningKey(secretAccessKey, DATE_FORMATTER.format(signingInstant), region, service);
+        if (signingKeys.putIfAbsent(key, signingKey) == null) {
+            insertionOrder.add(key);
+            if (size.incrementAndGet() > maxSize) {
+                evict();
+            }
+        }
+        return signingKey.clone();
+    }
+
+    /**
+     * The number of lookups that were served from the cache.
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * The number of lookups that had to derive a new signing key.
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * The number of signing keys currently cached.
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * The maximum number of signing keys this cache will hold.
+     */
+    public int maxSize() {
+        return maxSize;
+    }
+
+    private void evict() {
+        while (size.get() > maxSize) {
+            Key eldest = insertionOrder.poll();
+            if (eldest == null) {
+                return;
+            }
+            if (signingKeys.remove(eldest) != null) {
+                size.decrementAndGet();
+            }
+        }
+    }
+
+    private static byte[] deriveSigningKey(String secretAccessKey, String dateStamp, String region, String service) {
+        byte[] kSecret = ("AWS4" + secretAccessKey).getBytes(StandardCharsets.UTF_8);
+        byte[] kDate = sign(dateStamp, kSecret);
+        byte[] kRegion = sign(region, kDate);
+        byte[] kService = sign(service, kRegion);
+        return sign(AWS4_TERMINATOR, kService);
+    }
+
+    private static int sharedMaxSize() {
+        int defaultSize = Integer.parseInt(SignerSystemSetting.AWS_SIGNING_KEY_CACHE_SIZE.defaultValue());
+        try {
+            int configured = SignerSystemSetting.AWS_SIGNING_KEY_CACHE_SIZE.getIntegerValue().orElse(defaultSize);
+            return configured < 1 ? defaultSize : configured;
+        } catch (NumberFormatException e) {
+            LOG.warn(() -> "Ignoring invalid signing key cache size, and using the default of " + defaultSize + ".", e);
+            return defaultSize;
+        }
+    }
+
+    private static final class Key {
+        private final String secretAccessKey;
+        private final long daysSinceEpoch;
+        private final String region;
+        private final String service;
+        private final int hashCode;
+
+        private Key(String secretAccessKey, long daysSinceEpoch, String region, String service) {
+            this.secretAccessKey = secretAccessKey;
+            this.daysSinceEpoch = daysSinceEpoch;
+            this.region = region;
+            this.service = service;
+            int result = secretAccessKey.hashCode();
+            result = 31 * result + Long.hashCode(daysSinceEpoch);
+            result = 31 * result + region.hashCode();
+            result = 31 * result + service.hashCode();
+            this.hashCode = result;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return hashCode == other.hashCode &&
+                   daysSinceEpoch == other.daysSinceEpoch &&
+                   secretAccessKey.equals(other.secretAccessKey) &&
+                   region.equals(other.region) &&
+                   service.equals(other.service);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -15,7 +15,7 @@
 
 package software.amazon.awssdk.http.auth.aws.signer;
 
-import static software.amazon.awssdk.http.auth.aws.internal.signer.util.OptionalDependencyLoaderUtil.getDefaultAwsCrtV4aHttpSigner;
+import static software.amazon.awssdk.http.auth.aws.internal.signer.util.OptionalDependencyLoaderUtil.getDefaultAwsV4aHttpSigner;
 
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.http.auth.spi.signer.HttpSigner;
@@ -93,9 +93,13 @@ public interface AwsV4aHttpSigner extends AwsV4FamilyHttpSigner<AwsCredentialsId
     SignerProperty<RegionSet> REGION_SET = SignerProperty.create(AwsV4aHttpSigner.class, "RegionSet");
 
     /**
-     * Get a default implementation of a {@link AwsV4aHttpSigner}
+     * Get a default implementation of a {@link AwsV4aHttpSigner}.
+     * <p>
+     * If the optional {@code http-auth-aws-crt} module is on the classpath, the returned signer uses the CRT. Otherwise, a
+     * Java implementation is returned, which supports every signing configuration except payload signing with aws-chunked
+     * encoding.
      */
     static AwsV4aHttpSigner create() {
-        return getDefaultAwsCrtV4aHttpSigner();
+        return getDefaultAwsV4aHttpSigner();
     }
 }
@@ -15,26 +15,31 @@
 
 package software.amazon.awssdk.http.auth.aws;
 
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.assertj.core.api.Assertions.assertThat;
 
-import org.assertj.core.api.AssertionsForClassTypes;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
+import software.amazon.awssdk.http.auth.aws.crt.internal.signer.DefaultAwsCrtV4aHttpSigner;
+import software.amazon.awssdk.http.auth.aws.internal.signer.DefaultAwsV4aHttpSigner;
 import software.amazon.awssdk.http.auth.aws.signer.AwsV4aHttpSigner;
 import software.amazon.awssdk.utils.ClassLoaderHelper;
 
 public class AwsV4aHttpSignerTest {
 
     @Test
-    public void create_WithoutHttpAuthAwsCrtModule_throws() {
+    public void create_WithHttpAuthAwsCrtModule_returnsCrtSigner() {
+        assertThat(AwsV4aHttpSigner.create()).isInstanceOf(DefaultAwsCrtV4aHttpSigner.class);
+    }
+
+    @Test
+    public void create_WithoutHttpAuthAwsCrtModule_returnsJavaSigner() {
         try (MockedStatic<ClassLoaderHelper> utilities = Mockito.mockStatic(ClassLoaderHelper.class)) {
             utilities.when(() -> ClassLoaderHelper.loadClass(
                 "software.amazon.awssdk.http.auth.aws.crt.HttpAuthAwsCrt",
                 false)
             ).thenThrow(new ClassNotFoundException("boom!"));
-            Exception e = assertThrows(RuntimeException.class, AwsV4aHttpSigner::create);
-            AssertionsForClassTypes.assertThat(e).hasMessageContaining("http-auth-aws-crt");
+            assertThat(AwsV4aHttpSigner.create()).isInstanceOf(DefaultAwsV4aHttpSigner.class);
         }
     }
 }
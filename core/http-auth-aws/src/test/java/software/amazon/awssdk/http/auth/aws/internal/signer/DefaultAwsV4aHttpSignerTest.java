@@ -0,0 +1,233 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.auth.aws.internal.signer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static software.amazon.awssdk.checksums.DefaultChecksumAlgorithm.CRC32;
+import static software.amazon.awssdk.http.auth.aws.crt.TestUtils.generateBasicRequest;
+import static software.amazon.awssdk.http.auth.aws.crt.TestUtils.verifyEcdsaSignature;
+import static software.amazon.awssdk.http.auth.aws.crt.internal.util.CrtUtils.toCredentials;
+import static software.amazon.awssdk.http.auth.aws.signer.AwsV4aHttpSigner.AUTH_LOCATION;
+import static software.amazon.awssdk.http.auth.aws.signer.AwsV4aHttpSigner.CHECKSUM_ALGORITHM;
+import static software.amazon.awssdk.http.auth.aws.signer.AwsV4aHttpSigner.CHUNK_ENCODING_ENABLED;
+import static software.amazon.awssdk.http.auth.aws.signer.AwsV4aHttpSigner.EXPIRATION_DURATION;
+import static software.amazon.awssdk.http.auth.aws.signer.AwsV4aHttpSigner.PAYLOAD_SIGNING_ENABLED;
+import static software.amazon.awssdk.http.auth.aws.signer.AwsV4aHttpSigner.REGION_SET;
+import static software.amazon.awssdk.http.auth.aws.signer.AwsV4aHttpSigner.SERVICE_SIGNING_NAME;
+import static software.amazon.awssdk.http.auth.spi.signer.HttpSigner.SIGNING_CLOCK;
+
+import java.io.IOException;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.crt.auth.signing.AwsSigningConfig;
+import software.amazon.awssdk.http.auth.aws.TestUtils.AnonymousCredentialsIdentity;
+import software.amazon.awssdk.http.auth.aws.crt.internal.signer.DefaultAwsCrtV4aHttpSigner;
+import software.amazon.awssdk.http.auth.aws.signer.AwsV4FamilyHttpSigner.AuthLocation;
+import software.amazon.awssdk.http.auth.spi.signer.AsyncSignRequest;
+import software.amazon.awssdk.http.auth.spi.signer.AsyncSignedRequest;
+import software.amazon.awssdk.http.auth.spi.signer.SignRequest;
+import software.amazon.awssdk.http.auth.spi.signer.SignedRequest;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+import software.amazon.awssdk.identity.spi.AwsSessionCredentialsIdentity;
+import software.amazon.awssdk.utils.IoUtils;
+
+/**
+ * Functional tests for the Java Sigv4a signer. Signatures are verified with the CRT, using the public key that corresponds to
+ * the test credentials.
+ */
+public class DefaultAwsV4aHttpSignerTest {
+    private static final AwsCredentialsIdentity CREDENTIALS =
+        AwsCredentialsIdentity.create("AKIDEXAMPLE", "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY");
+    private static final String PAYLOAD_HASH = "a15c8292b1d12abbbbe4148605f7872fbdf645618fee5ab0e8072a7b34f155e2";
+
+    private final DefaultAwsV4aHttpSigner signer = new DefaultAwsV4aHttpSigner();
+
+    @Test
+    public void sign_withBasicRequest_shouldSignWithHeaders() {
+        SignRequest<AwsCredentialsIdentity> request = generateBasicRequest(CREDENTIALS, r -> { }, r -> { });
+
+        SignedRequest signedRequest = signer.sign(request);
+
+        String expectedCanonicalRequest = "POST\n" +
+                                          "/\n" +
+                                          "\n" +
+                                          "host:demo.us-east-1.amazonaws.com\n" +
+                                          "x-amz-archive-description:test test\n" +
+                                          "x-amz-content-sha256:" + PAYLOAD_HASH + "\n" +
+                                          "x-amz-date:20200803T174823Z\n" +
+                                          "x-amz-region-set:aws-global\n" +
+                                          "\n" +
+                                          "host;x-amz-archive-description;x-amz-content-sha256;x-amz-date;x-amz-region-set\n" +
+                                          PAYLOAD_HASH;
+        String authorization = signedRequest.request().firstMatchingHeader("Authorization").get();
+        String signature = authorization.substring(authorization.indexOf("Signature=") + "Signature=".length());
+
+        assertThat(signedRequest.request().firstMatchingHeader("X-Amz-Date")).hasValue("20200803T174823Z");
+        assertThat(signedRequest.request().firstMatchingHeader("X-Amz-Region-Set")).hasValue("aws-global");
+        assertThat(authorization).startsWith("AWS4-ECDSA-P256-SHA256 Credential=AKIDEXAMPLE/20200803/demo/aws4_request, "
+                                             + "SignedHeaders=host;x-amz-archive-description;x-amz-content-sha256;"
+                                             + "x-amz-date;x-amz-region-set, Signature=");
+        assertThat(verifyEcdsaSignature(request.request(), request.payload().get(), expectedCanonicalRequest,
+                                        headerSigningConfig(), signature))
+            .isTrue();
+    }
+
+    @Test
+    public void sign_withExpiration_shouldPresignWithQueryParams() {
+        SignRequest<AwsCredentialsIdentity> request = generateBasicRequest(
+            CREDENTIALS,
+            r -> { },
+            r -> r.putProperty(AUTH_LOCATION, AuthLocation.QUERY_STRING)
+                  .putProperty(EXPIRATION_DURATION, Duration.ofMinutes(10))
+                  .putProperty(PAYLOAD_SIGNING_ENABLED, false)
+        );
+
+        SignedRequest signedRequest = signer.sign(request);
+
+        String expectedCanonicalRequest = "POST\n" +
+                                          "/\n" +
+                                          "X-Amz-Algorithm=AWS4-ECDSA-P256-SHA256&" +
+                                          "X-Amz-Credential=AKIDEXAMPLE%2F20200803%2Fdemo%2Faws4_request&" +
+                                          "X-Amz-Date=20200803T174823Z&X-Amz-Expires=600&X-Amz-Region-Set=aws-global&" +
+                                          "X-Amz-SignedHeaders=host%3Bx-amz-archive-description\n" +
+                                          "host:demo.us-east-1.amazonaws.com\n" +
+                                          "x-amz-archive-description:test test\n" +
+                                          "\n" +
+                                          "host;x-amz-archive-description\n" +
+                                          "UNSIGNED-PAYLOAD";
+        String signature = signedRequest.request().firstMatchingRawQueryParameter("X-Amz-Signature").get();
+
+        assertThat(signedRequest.request().firstMatchingHeader("x-amz-content-sha256")).isNotPresent();
+        assertThat(signedRequest.request().firstMatchingRawQueryParameter("X-Amz-Credential"))
+            .hasValue("AKIDEXAMPLE/20200803/demo/aws4_request");
+        assertThat(signedRequest.request().firstMatchingRawQueryParameter("X-Amz-Region-Set")).hasValue("aws-global");
+        assertThat(signedRequest.request().firstMatchingRawQueryParameter("X-Amz-Expires")).hasValue("600");
+        assertThat(verifyEcdsaSignature(request.request(), request.payload().get(), expectedCanonicalRequest,
+                                        presigningConfig(), signature))
+            .isTrue();
+    }
+
+    @Test
+    public void sign_withBasicRequest_matchesCrtSignerExceptForSignature() {
+        SignedRequest javaSigned = signer.sign(generateBasicRequest(CREDENTIALS, r -> { }, r -> { }));
+        SignedRequest crtSigned = new DefaultAwsCrtV4aHttpSigner().sign(generateBasicRequest(CREDENTIALS, r -> { }, r -> { }));
+
+        assertThat(withoutSignature(javaSigned)).isEqualTo(withoutSignature(crtSigned));
+        assertThat(javaSigned.request().headers().keySet())
+            .containsExactlyInAnyOrderElementsOf(crtSigned.request().headers().keySet());
+    }
+
+    @Test
+    public void sign_withSessionCredentials_shouldSignSecurityToken() {
+        AwsSessionCredentialsIdentity credentials =
+            AwsSessionCredentialsIdentity.create("AKIDEXAMPLE", "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY", "token");
+
+        SignedRequest signedRequest = signer.sign(generateBasicRequest(credentials, r -> { }, r -> { }));
+
+        assertThat(signedRequest.request().firstMatchingHeader("X-Amz-Security-Token")).hasValue("token");
+        assertThat(signedRequest.request().firstMatchingHeader("Authorization").get())
+            .contains("x-amz-region-set;x-amz-security-token");
+    }
+
+    @Test
+    public void sign_withAnonymousCredentials_shouldNotSign() {
+        SignedRequest signedRequest = signer.sign(generateBasicRequest(new AnonymousCredentialsIdentity(), r -> { }, r -> { }));
+
+        assertThat(signedRequest.request().firstMatchingHeader("Authorization")).isNotPresent();
+        assertThat(signedRequest.request().firstMatchingHeader("X-Amz-Region-Set")).isNotPresent();
+    }
+
+    @Test
+    public void sign_withSignedChunkEncoding_throws() {
+        SignRequest<AwsCredentialsIdentity> request =
+            generateBasicRequest(CREDENTIALS, r -> { }, r -> r.putProperty(CHUNK_ENCODING_ENABLED, true));
+
+        assertThatThrownBy(() -> signer.sign(request))
+            .isInstanceOf(UnsupportedOperationException.class)
+            .hasMessageContaining("http-auth-aws-crt");
+    }
+
+    @Test
+    public void sign_withUnsignedChunkEncodingAndChecksum_shouldAddChecksumTrailer() throws IOException {
+        SignRequest<AwsCredentialsIdentity> request = generateBasicRequest(
+            CREDENTIALS,
+            r -> { },
+            r -> r.putProperty(CHUNK_ENCODING_ENABLED, true)
+                  .putProperty(PAYLOAD_SIGNING_ENABLED, false)
+                  .putProperty(CHECKSUM_ALGORITHM, CRC32)
+        );
+
+        SignedRequest signedRequest = signer.sign(request);
+
+        assertThat(signedRequest.request().firstMatchingHeader("x-amz-content-sha256"))
+            .hasValue("STREAMING-UNSIGNED-PAYLOAD-TRAILER");
+        assertThat(signedRequest.request().firstMatchingHeader("x-amz-trailer")).hasValue("x-amz-checksum-crc32");
+        assertThat(signedRequest.request().firstMatchingHeader("Content-Encoding")).hasValue("aws-chunked");
+        assertThat(IoUtils.toUtf8String(signedRequest.payload().get().newStream()))
+            .startsWith("14\r\n{\"TableName\": \"foo\"}\r\n0\r\nx-amz-checksum-crc32:")
+            .endsWith("\r\n\r\n");
+    }
+
+    @Test
+    public void signAsync_withBasicRequest_shouldSignWithHeaders() {
+        SignRequest<AwsCredentialsIdentity> syncRequest = generateBasicRequest(CREDENTIALS, r -> { }, r -> { });
+        AsyncSignRequest<AwsCredentialsIdentity> request =
+            AsyncSignRequest.builder(CREDENTIALS)
+                            .request(syncRequest.request())
+                            .putProperty(REGION_SET, syncRequest.property(REGION_SET))
+                            .putProperty(SERVICE_SIGNING_NAME, "demo")
+                            .putProperty(SIGNING_CLOCK, syncRequest.property(SIGNING_CLOCK))
+                            .build();
+
+        AsyncSignedRequest signedRequest = signer.signAsync(request).join();
+
+        assertThat(signedRequest.request().firstMatchingHeader("X-Amz-Region-Set")).hasValue("aws-global");
+        assertThat(signedRequest.request().firstMatchingHeader("x-amz-content-sha256")).isPresent();
+        assertThat(signedRequest.request().firstMatchingHeader("Authorization").get())
+            .startsWith("AWS4-ECDSA-P256-SHA256 Credential=AKIDEXAMPLE/20200803/demo/aws4_request");
+    }
+
+    private static String withoutSignature(SignedRequest signedRequest) {
+        String authorization = signedRequest.request().firstMatchingHeader("Authorization").get();
+        return authorization.substring(0, authorization.indexOf("Signature="));
+    }
+
+    private static AwsSigningConfig headerSigningConfig() {
+        AwsSigningConfig signingConfig = signingConfig();
+        signingConfig.setSignatureType(AwsSigningConfig.AwsSignatureType.HTTP_REQUEST_VIA_HEADERS);
+        signingConfig.setSignedBodyHeader(AwsSigningConfig.AwsSignedBodyHeaderType.X_AMZ_CONTENT_SHA256);
+        return signingConfig;
+    }
+
+    private static AwsSigningConfig presigningConfig() {
+        AwsSigningConfig signingConfig = signingConfig();
+        signingConfig.setSignatureType(AwsSigningConfig.AwsSignatureType.HTTP_REQUEST_VIA_QUERY_PARAMS);
+        signingConfig.setSignedBodyValue(AwsSigningConfig.AwsSignedBodyValue.UNSIGNED_PAYLOAD);
+        signingConfig.setExpirationInSeconds(600);
+        return signingConfig;
+    }
+
+    private static AwsSigningConfig signingConfig() {
+        AwsSigningConfig signingConfig = new AwsSigningConfig();
+        signingConfig.setCredentials(toCredentials(CREDENTIALS));
+        signingConfig.setService("demo");
+        signingConfig.setRegion("aws-global");
+        signingConfig.setAlgorithm(AwsSigningConfig.AwsSigningAlgorithm.SIGV4_ASYMMETRIC);
+        signingConfig.setTime(1596476903000L);
+        return signingConfig;
+    }
+}
@@ -23,12 +23,19 @@ import static software.amazon.awssdk.http.auth.aws.internal.signer.FlexibleCheck
 
 import io.reactivex.Flowable;
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.reactivestreams.Publisher;
 import software.amazon.awssdk.http.ContentStreamProvider;
+import software.amazon.awssdk.http.FileBackedContentStreamProvider;
 import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.utils.BinaryUtils;
@@ -126,4 +133,39 @@ public class FlexibleChecksummerTest {
 
         assertEquals(expectedRequest.headers(), request.build().headers());
     }
+
+    @Test
+    public void checksummer_withLargeFilePayload_matchesStreamedChecksums(@TempDir Path tempDir) throws IOException {
+        byte[] content = new byte[9 * 1024 * 1024 + 17];
+        new Random(0).nextBytes(content);
+        Path file = Files.write(tempDir.resolve("payload"), content);
+
+        FileBackedContentStreamProvider filePayload = new FileBackedContentStreamProvider() {
+            @Override
+            public Path path() {
+                return file;
+            }
+
+            @Override
+            public InputStream newStream() {
+                throw new AssertionError("A large file payload should be read from the file channel.");
+            }
+        };
+        SdkHttpRequest.Builder fileRequest = request.copy();
+        SdkHttpRequest.Builder streamRequest = request.copy();
+
+        multipleChecksummer().checksum(filePayload, fileRequest);
+        multipleChecksummer().checksum(ContentStreamProvider.fromByteArrayUnsafe(content), streamRequest);
+
+        assertEquals(streamRequest.build().headers(), fileRequest.build().headers());
+        assertEquals(3, fileRequest.build().headers().size());
+    }
+
+    private static FlexibleChecksummer multipleChecksummer() {
+        return new FlexibleChecksummer(
+            option().headerName("sha256").algorithm(SHA256).formatter(BinaryUtils::toHex).build(),
+            option().headerName("crc32").algorithm(CRC32).formatter(BinaryUtils::toBase64).build(),
+            option().headerName("crc64nvme").algorithm(CRC64NVME).formatter(BinaryUtils::toBase64).build()
+        );
+    }
 }
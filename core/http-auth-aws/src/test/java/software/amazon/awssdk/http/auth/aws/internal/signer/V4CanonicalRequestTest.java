@@ -23,6 +23,8 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerUtils;
+import software.amazon.awssdk.utils.BinaryUtils;
 import software.amazon.awssdk.utils.ToString;
 
 /**
@@ -183,6 +185,43 @@ public class V4CanonicalRequestTest {
         assertEquals("PUT\n/\n\n\n\nsha-256", cr.getCanonicalRequestString());
     }
 
+    @Test
+    public void canonicalRequestHash_matchesHashOfCanonicalRequestString() {
+        SdkHttpRequest request = SdkHttpRequest.builder()
+                                               .protocol("https")
+                                               .host("localhost")
+                                               .encodedPath("/foo/bar")
+                                               .method(SdkHttpMethod.POST)
+                                               .putHeader("Host", "localhost")
+                                               .putHeader("X-Amz-Date", "20240101T000000Z")
+                                               .putHeader("Content-Type", "application/x-amz-json-1.0")
+                                               .appendHeader("X-Custom", "  multiple   spaced\twords  ")
+                                               .appendHeader("X-Custom", "")
+                                               .appendHeader("X-Custom", "\u00e9\u4e2d\ud83d\ude00 unpaired \ud83d")
+                                               .putHeader("x-amz-meta-empty", "   ")
+                                               .putHeader("user-agent", "ignored")
+                                               .putRawQueryParameter("b", Arrays.asList("2", "1"))
+                                               .putRawQueryParameter("a", (String) null)
+                                               .build();
+        V4CanonicalRequest cr = new V4CanonicalRequest(request, "sha-256", new V4CanonicalRequest.Options(true, true));
+
+        String expected = BinaryUtils.toHex(SignerUtils.hash(cr.getCanonicalRequestString()));
+        assertEquals(expected, cr.getCanonicalRequestHash());
+        assertEquals("content-type;host;x-amz-date;x-amz-meta-empty;x-custom", cr.getSignedHeadersString());
+    }
+
+    @Test
+    public void canonicalRequestHash_noHeaders_matchesHashOfCanonicalRequestString() {
+        SdkHttpRequest request = SdkHttpRequest.builder()
+                                               .protocol("https")
+                                               .host("localhost")
+                                               .method(SdkHttpMethod.GET)
+                                               .build();
+        V4CanonicalRequest cr = new V4CanonicalRequest(request, "sha-256", new V4CanonicalRequest.Options(true, true));
+
+        assertEquals(BinaryUtils.toHex(SignerUtils.hash(cr.getCanonicalRequestString())), cr.getCanonicalRequestHash());
+    }
+
     private static class TestCase {
         private final String name;
         private final String path;
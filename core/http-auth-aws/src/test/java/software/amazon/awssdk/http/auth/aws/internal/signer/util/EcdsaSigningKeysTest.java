@@ -0,0 +1,101 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.auth.aws.internal.signer.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.interfaces.ECPrivateKey;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+
+public class EcdsaSigningKeysTest {
+    private static final AwsCredentialsIdentity CREDENTIALS =
+        AwsCredentialsIdentity.create("AKIDEXAMPLE", "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY");
+
+    // The public key the CRT derives for the credentials above
+    private static final BigInteger PUBLIC_X =
+        new BigInteger("b6618f6a65740a99e650b33b6b4b5bd0d43b176d721a3edfea7e7d2d56d936b1", 16);
+    private static final BigInteger PUBLIC_Y =
+        new BigInteger("865ed22a7eadc9c5cb9d2cbaca1b3699139fedc5043dc6661864218330c8e518", 16);
+
+    @Test
+    public void sign_withDerivedKey_verifiesWithCrtPublicKey() throws Exception {
+        ECPrivateKey privateKey = EcdsaSigningKeys.signingKey(CREDENTIALS);
+        PublicKey publicKey = KeyFactory.getInstance("EC").generatePublic(
+            new ECPublicKeySpec(new ECPoint(PUBLIC_X, PUBLIC_Y), privateKey.getParams()));
+
+        byte[] signature = EcdsaSigningKeys.sign("string to sign", privateKey);
+
+        Signature verifier = Signature.getInstance("SHA256withECDSA");
+        verifier.initVerify(publicKey);
+        verifier.update("string to sign".getBytes(StandardCharsets.UTF_8));
+        assertThat(verifier.verify(signature)).isTrue();
+    }
+
+    @Test
+    public void signingKey_sameCredentials_returnsCachedKey() {
+        ECPrivateKey first = EcdsaSigningKeys.signingKey(CREDENTIALS);
+        ECPrivateKey second = EcdsaSigningKeys.signingKey(
+            AwsCredentialsIdentity.create(CREDENTIALS.accessKeyId(), CREDENTIALS.secretAccessKey()));
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.getS()).isEqualTo(EcdsaSigningKeys.derivePrivateKey("AKIDEXAMPLE",
+                                                                             "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY"));
+    }
+
+    @Test
+    public void signingKey_differentSecret_returnsDifferentKey() {
+        ECPrivateKey first = EcdsaSigningKeys.signingKey(CREDENTIALS);
+        ECPrivateKey second = EcdsaSigningKeys.signingKey(AwsCredentialsIdentity.create(CREDENTIALS.accessKeyId(), "other"));
+
+        assertThat(second.getS()).isNotEqualTo(first.getS());
+    }
+
+    @Test
+    public void compareConstantTime_matchesBigIntegerComparison() {
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            byte[] a = new byte[4];
+            byte[] b = new byte[4];
+            random.nextBytes(a);
+            random.nextBytes(b);
+            // Share a random-length prefix so that equal prefixes and equal values are both exercised
+            System.arraycopy(a, 0, b, 0, random.nextInt(5));
+
+            int expected = Integer.signum(new BigInteger(1, a).compareTo(new BigInteger(1, b)));
+            assertThat(EcdsaSigningKeys.compareConstantTime(a, b)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void addOneConstantTime_carriesThroughAllBytes() {
+        byte[] value = {0x01, (byte) 0xff, (byte) 0xff};
+        EcdsaSigningKeys.addOneConstantTime(value);
+        assertThat(value).containsExactly(0x02, 0x00, 0x00);
+
+        byte[] noCarry = {0x01, 0x02, 0x03};
+        EcdsaSigningKeys.addOneConstantTime(noCarry);
+        assertThat(noCarry).containsExactly(0x01, 0x02, 0x04);
+    }
+}
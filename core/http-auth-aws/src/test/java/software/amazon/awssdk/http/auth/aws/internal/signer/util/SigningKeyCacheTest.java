@@ -0,0 +1,148 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.auth.aws.internal.signer.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+public class SigningKeyCacheTest {
+    private static final String SECRET = "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY";
+    private static final Instant INSTANT = Instant.parse("2015-08-30T12:36:00Z");
+
+    @Test
+    public void signingKey_matchesSigV4TestSuiteDerivation() {
+        SigningKeyCache cache = SigningKeyCache.create(10);
+
+        byte[] signingKey = cache.signingKey(SECRET, INSTANT, "us-east-1", "iam");
+
+        assertThat(BinaryUtils.toHex(signingKey))
+            .isEqualTo(BinaryUtils.toHex(deriveManually("20150830", "us-east-1", "iam")));
+    }
+
+    @Test
+    public void signingKey_sameScope_hitsCacheAndReturnsCopies() {
+        SigningKeyCache cache = SigningKeyCache.create(10);
+
+        byte[] first = cache.signingKey(SECRET, INSTANT, "us-east-1", "iam");
+        first[0]++;
+        byte[] second = cache.signingKey(SECRET, INSTANT.plus(Duration.ofHours(8)), "us-east-1", "iam");
+
+        assertThat(second).isNotEqualTo(first);
+        assertThat(cache.missCount()).isEqualTo(1);
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void signingKey_differentDayRegionServiceOrSecret_misses() {
+        SigningKeyCache cache = SigningKeyCache.create(10);
+
+        cache.signingKey(SECRET, INSTANT, "us-east-1", "iam");
+        cache.signingKey(SECRET, INSTANT.plus(Duration.ofDays(1)), "us-east-1", "iam");
+        cache.signingKey(SECRET, INSTANT, "us-west-2", "iam");
+        cache.signingKey(SECRET, INSTANT, "us-east-1", "sqs");
+        cache.signingKey("other" + SECRET, INSTANT, "us-east-1", "iam");
+
+        assertThat(cache.missCount()).isEqualTo(5);
+        assertThat(cache.hitCount()).isZero();
+        assertThat(cache.size()).isEqualTo(5);
+    }
+
+    @Test
+    public void signingKey_exceedsMaxSize_evictsOldestFirst() {
+        SigningKeyCache cache = SigningKeyCache.create(2);
+
+        cache.signingKey(SECRET, INSTANT, "region-1", "iam");
+        cache.signingKey(SECRET, INSTANT, "region-2", "iam");
+        cache.signingKey(SECRET, INSTANT, "region-3", "iam");
+        assertThat(cache.size()).isEqualTo(2);
+
+        cache.signingKey(SECRET, INSTANT, "region-3", "iam");
+        cache.signingKey(SECRET, INSTANT, "region-2", "iam");
+        assertThat(cache.hitCount()).isEqualTo(2);
+
+        cache.signingKey(SECRET, INSTANT, "region-1", "iam");
+        assertThat(cache.missCount()).isEqualTo(4);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void signingKey_concurrentAccess_staysWithinMaxSize() throws Exception {
+        SigningKeyCache cache = SigningKeyCache.create(16);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 1_000; i++) {
+                        String region = "region-" + ((i * 7 + thread) % 64);
+                        assertThat(cache.signingKey(SECRET, INSTANT, region, "iam"))
+                            .isEqualTo(deriveManually("20150830", region, "iam"));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(16);
+        assertThat(cache.hitCount() + cache.missCount()).isEqualTo(8_000);
+    }
+
+    @Test
+    public void create_nonPositiveSize_throws() {
+        assertThatThrownBy(() -> SigningKeyCache.create(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static byte[] deriveManually(String date, String region, String service) {
+        byte[] kDate = hmacSha256(date, ("AWS4" + SECRET).getBytes(StandardCharsets.UTF_8));
+        byte[] kRegion = hmacSha256(region, kDate);
+        byte[] kService = hmacSha256(service, kRegion);
+        return hmacSha256("aws4_request", kService);
+    }
+
+    private static byte[] hmacSha256(String data, byte[] key) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(key, "HmacSHA256"));
+            return mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
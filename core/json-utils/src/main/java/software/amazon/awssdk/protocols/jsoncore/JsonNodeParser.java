@@ -20,11 +20,10 @@ import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.protocols.jsoncore.internal.ArrayJsonNode;
+import software.amazon.awssdk.protocols.jsoncore.internal.CompactObjectMap;
 import software.amazon.awssdk.protocols.jsoncore.internal.EmbeddedObjectJsonNode;
 import software.amazon.awssdk.protocols.jsoncore.internal.ObjectJsonNode;
 import software.amazon.awssdk.thirdparty.jackson.core.JsonFactory;
@@ -34,7 +33,8 @@ import software.amazon.awssdk.thirdparty.jackson.core.JsonToken;
 import software.amazon.awssdk.thirdparty.jackson.core.json.JsonReadFeature;
 
 /**
- * Parses an JSON document into a simple DOM-like structure, {@link JsonNode}.
+ * Parses an JSON document into a simple DOM-like structure, {@link JsonNode}, or streams it to a {@link JsonStreamVisitor}
+ * without building the tree.
  *
  * <p>This is created using {@link #create()} or {@link #builder()}.
  */
@@ -109,6 +109,42 @@ public final class JsonNodeParser {
         });
     }
 
+    /**
+     * Stream the provided {@link InputStream} to the given {@link JsonStreamVisitor}, without building a {@link JsonNode} tree.
+     */
+    public void parse(InputStream content, JsonStreamVisitor visitor) {
+        invokeSafely(() -> {
+            try (JsonParser parser = jsonFactory.createParser(content)
+                                                .configure(JsonParser.Feature.AUTO_CLOSE_SOURCE, false)) {
+                stream(parser, visitor);
+            }
+        });
+    }
+
+    /**
+     * Stream the provided {@code byte[]} to the given {@link JsonStreamVisitor}, without building a {@link JsonNode} tree.
+     */
+    public void parse(byte[] content, JsonStreamVisitor visitor) {
+        invokeSafely(() -> {
+            try (JsonParser parser = jsonFactory.createParser(content)
+                                                .configure(JsonParser.Feature.AUTO_CLOSE_SOURCE, false)) {
+                stream(parser, visitor);
+            }
+        });
+    }
+
+    /**
+     * Stream the provided {@link String} to the given {@link JsonStreamVisitor}, without building a {@link JsonNode} tree.
+     */
+    public void parse(String content, JsonStreamVisitor visitor) {
+        invokeSafely(() -> {
+            try (JsonParser parser = jsonFactory.createParser(content)
+                                                .configure(JsonParser.Feature.AUTO_CLOSE_SOURCE, false)) {
+                stream(parser, visitor);
+            }
+        });
+    }
+
     private JsonNode parse(JsonParser parser) throws IOException {
         try {
             return parseToken(parser, parser.nextToken());
@@ -118,6 +154,52 @@ public final class JsonNodeParser {
         }
     }
 
+    /**
+     * Delivers the tokens of the first JSON value in the input to the visitor, stopping once that value is complete, the same
+     * as {@link #parse(JsonParser)}.
+     */
+    private void stream(JsonParser parser, JsonStreamVisitor visitor) throws IOException {
+        try {
+            JsonToken token = parser.nextToken();
+            while (token != null) {
+                streamToken(parser, token, visitor);
+                if (parser.getParsingContext().inRoot()) {
+                    return;
+                }
+                token = parser.nextToken();
+            }
+        } catch (Exception e) {
+            removeErrorLocationsIfRequired(e);
+            throw e;
+        }
+    }
+
+    private void streamToken(JsonParser parser, JsonToken token, JsonStreamVisitor visitor) throws IOException {
+        switch (token) {
+            case START_OBJECT:
+                visitor.visitStartObject();
+                break;
+            case FIELD_NAME:
+                visitor.visitFieldName(parser.currentName());
+                break;
+            case END_OBJECT:
+                visitor.visitEndObject();
+                break;
+            case START_ARRAY:
+                visitor.visitStartArray();
+                break;
+            case END_ARRAY:
+                visitor.visitEndArray();
+                break;
+            case VALUE_EMBEDDED_OBJECT:
+                visitor.visitValue(new EmbeddedObjectJsonNode(parser.getEmbeddedObject()));
+                break;
+            default:
+                visitor.visitValue(jsonValueNodeFactory.node(parser, token));
+                break;
+        }
+    }
+
     private void removeErrorLocationsIfRequired(Throwable exception) {
         if (removeErrorLocations) {
             removeErrorLocations(exception);
@@ -161,13 +243,13 @@ public final class JsonNodeParser {
 
     private JsonNode parseObject(JsonParser parser) throws IOException {
         JsonToken currentToken = parser.nextToken();
-        Map<String, JsonNode> object = new LinkedHashMap<>();
+        CompactObjectMap.Builder object = CompactObjectMap.builder();
         while (currentToken != JsonToken.END_OBJECT) {
             String fieldName = parser.getText();
             object.put(fieldName, parseToken(parser, parser.nextToken()));
             currentToken = parser.nextToken();
         }
-        return new ObjectJsonNode(object);
+        return new ObjectJsonNode(object.build());
     }
 
     private JsonNode parseArray(JsonParser parser) throws IOException {
@@ -0,0 +1,65 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.jsoncore;
+
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+
+/**
+ * Receives the structure of a JSON document as it is read, without building a {@link JsonNode} tree. This is usually invoked
+ * via {@link JsonNodeParser#parse(java.io.InputStream, JsonStreamVisitor)}.
+ *
+ * <p>Events are delivered in document order. Every {@link #visitStartObject()} is matched by a {@link #visitEndObject()}, and
+ * every {@link #visitStartArray()} by a {@link #visitEndArray()}. Inside an object, each member value is preceded by
+ * {@link #visitFieldName(String)}.
+ */
+@SdkProtectedApi
+public interface JsonStreamVisitor {
+    /**
+     * Invoked when a JSON object is opened.
+     */
+    default void visitStartObject() {
+    }
+
+    /**
+     * Invoked with the name of the next member of the enclosing object.
+     */
+    default void visitFieldName(String fieldName) {
+    }
+
+    /**
+     * Invoked when a JSON object is closed.
+     */
+    default void visitEndObject() {
+    }
+
+    /**
+     * Invoked when a JSON array is opened.
+     */
+    default void visitStartArray() {
+    }
+
+    /**
+     * Invoked when a JSON array is closed.
+     */
+    default void visitEndArray() {
+    }
+
+    /**
+     * Invoked for every null, boolean, number, string or embedded object value. The node is created by the parser's
+     * {@link JsonValueNodeFactory}.
+     */
+    void visitValue(JsonNode value);
+}
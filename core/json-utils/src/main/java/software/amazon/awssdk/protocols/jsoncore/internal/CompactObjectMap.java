@@ -0,0 +1,194 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.jsoncore.internal;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.protocols.jsoncore.JsonNode;
+
+/**
+ * An immutable, insertion-ordered map of JSON object members, stored as a single flat array of alternating keys and
+ * values instead of one {@code LinkedHashMap} entry per member.
+ *
+ * <p>Objects with only a few members are searched linearly. Larger objects also carry an open-addressing table of
+ * {@code int} positions into the flat array, so lookups stay constant time without allocating an entry per member.
+ */
+@SdkInternalApi
+public final class CompactObjectMap extends AbstractMap<String, JsonNode> {
+    private static final int MAX_LINEAR_SCAN_SIZE = 8;
+    private static final CompactObjectMap EMPTY = new CompactObjectMap(new Object[0], 0, null);
+
+    private final Object[] entries;
+    private final int size;
+    private final int[] index;
+
+    private CompactObjectMap(Object[] entries, int size, int[] index) {
+        this.entries = entries;
+        this.size = size;
+        this.index = index;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(entries, size, index, key) >= 0;
+    }
+
+    @Override
+    public JsonNode get(Object key) {
+        int i = indexOf(entries, size, index, key);
+        return i < 0 ? null : (JsonNode) entries[(i << 1) + 1];
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super JsonNode> action) {
+        for (int i = 0; i < size; i++) {
+            action.accept((String) entries[i << 1], (JsonNode) entries[(i << 1) + 1]);
+        }
+    }
+
+    @Override
+    public Set<Entry<String, JsonNode>> entrySet() {
+        return new AbstractSet<Entry<String, JsonNode>>() {
+            @Override
+            public Iterator<Entry<String, JsonNode>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private static int indexOf(Object[] entries, int size, int[] index, Object key) {
+        if (index == null) {
+            for (int i = 0; i < size; i++) {
+                Object candidate = entries[i << 1];
+                if (candidate == key || candidate.equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        if (key == null) {
+            return -1;
+        }
+        int mask = index.length - 1;
+        for (int slot = hash(key) & mask; index[slot] != 0; slot = (slot + 1) & mask) {
+            int i = index[slot] - 1;
+            Object candidate = entries[i << 1];
+            if (candidate == key || candidate.equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private final class EntryIterator implements Iterator<Entry<String, JsonNode>> {
+        private int next;
+
+        @Override
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        @Override
+        public Entry<String, JsonNode> next() {
+            if (next >= size) {
+                throw new NoSuchElementException();
+            }
+            int i = next++;
+            return new SimpleImmutableEntry<>((String) entries[i << 1], (JsonNode) entries[(i << 1) + 1]);
+        }
+    }
+
+    /**
+     * Accumulates members in document order. A repeated key replaces the earlier value but keeps its position, the same as
+     * {@link java.util.LinkedHashMap#put(Object, Object)}. The builder must not be used after {@link #build()}.
+     */
+    public static final class Builder {
+        private Object[] entries = new Object[8];
+        private int size;
+        private int[] index;
+
+        private Builder() {
+        }
+
+        public Builder put(String key, JsonNode value) {
+            int existing = indexOf(entries, size, index, key);
+            if (existing >= 0) {
+                entries[(existing << 1) + 1] = value;
+                return this;
+            }
+            if ((size << 1) == entries.length) {
+                entries = Arrays.copyOf(entries, entries.length << 1);
+            }
+            entries[size << 1] = key;
+            entries[(size << 1) + 1] = value;
+            size++;
+
+            if (size > MAX_LINEAR_SCAN_SIZE) {
+                if (index == null || (size << 1) > index.length) {
+                    index = new int[Integer.highestOneBit(size) << 2];
+                    for (int i = 0; i < size; i++) {
+                        addToIndex(i);
+                    }
+                } else {
+                    addToIndex(size - 1);
+                }
+            }
+            return this;
+        }
+
+        public Map<String, JsonNode> build() {
+            if (size == 0) {
+                return EMPTY;
+            }
+            return new CompactObjectMap(Arrays.copyOf(entries, size << 1), size, index);
+        }
+
+        private void addToIndex(int i) {
+            int mask = index.length - 1;
+            int slot = hash(entries[i << 1]) & mask;
+            while (index[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            index[slot] = i + 1;
+        }
+    }
+}
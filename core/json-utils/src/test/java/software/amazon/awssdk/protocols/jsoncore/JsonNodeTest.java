@@ -4,6 +4,10 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 import software.amazon.awssdk.utils.StringInputStream;
 
@@ -266,4 +270,87 @@ public class JsonNodeTest {
                 }
             });
     }
-}
\ No newline at end of file
+
+    @Test
+    public void parseObject_largeObjectWithDuplicateKeys_keepsFirstPositionAndLastValue() {
+        StringBuilder json = new StringBuilder("{");
+        Map<String, String> expected = new LinkedHashMap<>();
+        for (int i = 0; i < 100; i++) {
+            String key = "key" + (i % 40);
+            json.append(i == 0 ? "" : ",").append('"').append(key).append("\":\"").append(i).append('"');
+            expected.put(key, String.valueOf(i));
+        }
+        Map<String, JsonNode> object = PARSER.parse(json.append('}').toString()).asObject();
+
+        assertThat(object).hasSize(expected.size());
+        assertThat(object.keySet()).containsExactlyElementsOf(expected.keySet());
+        expected.forEach((k, v) -> assertThat(object.get(k).asString()).isEqualTo(v));
+        assertThat(object.get("missing")).isNull();
+        assertThat(object).isEqualTo(PARSER.parse(json.toString()).asObject());
+    }
+
+    @Test
+    public void parseWithVisitor_deliversEventsInDocumentOrder() {
+        List<String> events = new ArrayList<>();
+        JsonStreamVisitor visitor = new JsonStreamVisitor() {
+            @Override
+            public void visitStartObject() {
+                events.add("{");
+            }
+
+            @Override
+            public void visitFieldName(String fieldName) {
+                events.add(fieldName + ":");
+            }
+
+            @Override
+            public void visitEndObject() {
+                events.add("}");
+            }
+
+            @Override
+            public void visitStartArray() {
+                events.add("[");
+            }
+
+            @Override
+            public void visitEndArray() {
+                events.add("]");
+            }
+
+            @Override
+            public void visitValue(JsonNode value) {
+                events.add(String.valueOf(value));
+            }
+        };
+
+        PARSER.parse(new StringInputStream("{\"a\": [1, true, null, {\"b\": \"c\"}], \"d\": {}} {\"ignored\": 1}"),
+                     visitor);
+
+        assertThat(events).containsExactly("{", "a:", "[", "1", "true", "null", "{", "b:", "\"c\"", "}", "]",
+                                           "d:", "{", "}", "}");
+    }
+
+    @Test
+    public void parseWithVisitor_scalarRoot_deliversSingleValue() {
+        List<JsonNode> values = new ArrayList<>();
+        PARSER.parse("\"foo\"".getBytes(UTF_8), values::add);
+
+        assertThat(values).containsExactly(PARSER.parse("\"foo\""));
+    }
+
+    @Test
+    public void parseWithVisitor_removeErrorLocations_removesErrorLocations() {
+        assertThatThrownBy(() -> JsonNode.parserBuilder()
+                                         .removeErrorLocations(true)
+                                         .build()
+                                         .parse("{{foo}", value -> { }))
+            .satisfies(exception -> {
+                Throwable cause = exception;
+                while (cause != null) {
+                    assertThat(cause.getMessage()).doesNotContain("foo");
+                    cause = cause.getCause();
+                }
+            });
+    }
+}
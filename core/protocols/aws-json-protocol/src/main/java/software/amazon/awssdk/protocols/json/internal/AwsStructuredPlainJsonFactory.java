@@ -31,8 +31,16 @@ public final class AwsStructuredPlainJsonFactory {
 
     /**
      * Recommended to share JsonFactory instances per http://wiki.fasterxml.com/JacksonBestPracticesPerformance
+     *
+     * <p>Field name canonicalization and interning are Jackson defaults, but they are enabled explicitly because the fast
+     * unmarshaller relies on them: field names are hashed from the raw input bytes into a symbol table shared by all parsers
+     * created from this factory, so a field name seen before is resolved without allocating a new {@link String}. Because
+     * the canonical instance is interned, it is the same instance as the string literal keys of each generated shape's
+     * {@code sdkFieldNameToField()} map, and the lookup short-circuits on reference equality.
      */
     private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+                                                               .enable(JsonFactory.Feature.CANONICALIZE_FIELD_NAMES)
+                                                               .enable(JsonFactory.Feature.INTERN_FIELD_NAMES)
                                                                .enable(StreamReadFeature.USE_FAST_BIG_NUMBER_PARSER)
                                                                .enable(StreamReadFeature.USE_FAST_DOUBLE_PARSER)
                                                                .enable(StreamWriteFeature.USE_FAST_DOUBLE_WRITER)
@@ -105,7 +105,9 @@ final class JsonUnmarshallingParser {
         Map<String, SdkField<?>> pojoFields = pojo.sdkFieldNameToField();
         JsonToken currentToken = parser.nextToken();
         while (currentToken != JsonToken.END_OBJECT) {
-            String fieldName = parser.getText();
+            // With the factory's field name canonicalization this returns a shared, interned instance instead of allocating,
+            // so the lookup below hits the shape's precomputed map on reference equality.
+            String fieldName = parser.currentName();
             SdkField<?> pojoField = pojoFields.get(fieldName);
             // if the name of the field is unknown or the field is expected in a non-payload location (e.g., header), we ignore
             // its value here.
@@ -309,7 +311,11 @@ final class JsonUnmarshallingParser {
                     return SdkBytes.fromByteArray((byte[]) parser.getEmbeddedObject());
                 }
                 expect(lookAhead, JsonToken.VALUE_STRING);
-                return SdkBytes.fromByteArray(BinaryUtils.fromBase64(parser.getText()));
+                // Decode straight from the parser's character buffer into a freshly allocated array that nothing else
+                // references, so there is no need for an intermediate String or a defensive copy.
+                byte[] decoded = BinaryUtils.fromBase64(parser.getTextCharacters(), parser.getTextOffset(),
+                                                        parser.getTextLength());
+                return SdkBytes.fromByteArrayUnsafe(decoded);
             default:
                 throw new JsonParseException("unexpected token, expecting token for: " + knownType + ", got: " + lookAhead);
         }
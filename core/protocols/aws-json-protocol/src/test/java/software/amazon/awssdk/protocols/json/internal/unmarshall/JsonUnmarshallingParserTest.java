@@ -19,14 +19,18 @@ import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Random;
 import org.junit.jupiter.api.Test;
 import software.amazon.awssdk.core.document.Document;
 import software.amazon.awssdk.core.protocol.MarshallLocation;
 import software.amazon.awssdk.thirdparty.jackson.core.JsonParseException;
+import software.amazon.awssdk.utils.BinaryUtils;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -99,6 +103,38 @@ class JsonUnmarshallingParserTest {
         assertTrue(doc.asBoolean());
     }
 
+    @Test
+    public void parsingBlobFieldDecodesBase64() {
+        byte[] expected = new byte[256 * 1024];
+        new Random(0).nextBytes(expected);
+        String json = "{\"blobMember\": \"" + BinaryUtils.toBase64(expected) + "\"}";
+
+        JsonUnmarshallingParser parser = parser();
+        TestRequest req = (TestRequest) parser.parse(TestRequest.builder(), from(json));
+        assertArrayEquals(expected, req.blobMember().asByteArrayUnsafe());
+    }
+
+    @Test
+    public void parsingBlobFieldWithInvalidBase64Throws() {
+        JsonUnmarshallingParser parser = parser();
+        assertThrows(IllegalArgumentException.class, () -> {
+            parser.parse(TestRequest.builder(), from("{\"blobMember\": \"not base64!\"}"));
+        });
+    }
+
+    @Test
+    public void parsingFieldNamesReusesCanonicalInstances() {
+        JsonUnmarshallingParser parser = parser();
+        String json = "{\"mapOfStringToStringMember\": {\"attributeName\": \"value\"}}";
+        TestRequest first = (TestRequest) parser.parse(TestRequest.builder(), from(json));
+        TestRequest second = (TestRequest) parser.parse(TestRequest.builder(), from(json));
+
+        String firstKey = first.mapOfStringToStringMember().keySet().iterator().next();
+        String secondKey = second.mapOfStringToStringMember().keySet().iterator().next();
+        assertSame(firstKey, secondKey);
+        assertSame("attributeName", firstKey);
+    }
+
     static JsonUnmarshallingParser parser() {
         ProtocolUnmarshallDependencies dependencies = JsonProtocolUnmarshaller.defaultProtocolUnmarshallDependencies();
         JsonUnmarshallingParser parser = JsonUnmarshallingParser
@@ -94,7 +94,8 @@ public final class StringToValueConverter {
     }
 
     private static SdkBytes toSdkBytes(String s) {
-        return SdkBytes.fromByteArray(BinaryUtils.fromBase64(s));
+        // The decoded array is never exposed elsewhere, so it does not need to be copied again.
+        return SdkBytes.fromByteArrayUnsafe(BinaryUtils.fromBase64(s));
     }
 
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.retries;
+
+import java.time.Instant;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * The state an {@link AdaptiveRetryStrategy} shares through an {@link AdaptiveRetryStateStore}: when it was last throttled, the
+ * send rate at which it was throttled, and the send rate it reduced to in response.
+ */
+@SdkPublicApi
+@Immutable
+public final class AdaptiveRetryState {
+    private final Instant throttleTime;
+    private final double maxRate;
+    private final double fillRate;
+
+    private AdaptiveRetryState(Instant throttleTime, double maxRate, double fillRate) {
+        this.throttleTime = Validate.paramNotNull(throttleTime, "throttleTime");
+        this.maxRate = maxRate;
+        this.fillRate = fillRate;
+        Validate.isTrue(maxRate >= 0, "maxRate must not be negative.");
+        Validate.isTrue(fillRate > 0, "fillRate must be positive.");
+    }
+
+    public static AdaptiveRetryState create(Instant throttleTime, double maxRate, double fillRate) {
+        return new AdaptiveRetryState(throttleTime, maxRate, fillRate);
+    }
+
+    /**
+     * The time of the throttling response.
+     */
+    public Instant throttleTime() {
+        return throttleTime;
+    }
+
+    /**
+     * The send rate, in requests per second, at which the throttling response was received.
+     */
+    public double maxRate() {
+        return maxRate;
+    }
+
+    /**
+     * The send rate, in requests per second, that was calculated in response to the throttling.
+     */
+    public double fillRate() {
+        return fillRate;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        AdaptiveRetryState that = (AdaptiveRetryState) o;
+        return Double.compare(maxRate, that.maxRate) == 0
+               && Double.compare(fillRate, that.fillRate) == 0
+               && throttleTime.equals(that.throttleTime);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = throttleTime.hashCode();
+        result = 31 * result + Double.hashCode(maxRate);
+        result = 31 * result + Double.hashCode(fillRate);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("AdaptiveRetryState")
+                       .add("throttleTime", throttleTime)
+                       .add("maxRate", maxRate)
+                       .add("fillRate", fillRate)
+                       .build();
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.retries;
+
+import java.nio.file.Path;
+import java.util.Optional;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.retries.internal.state.InMemoryAdaptiveRetryStateStore;
+import software.amazon.awssdk.retries.internal.state.MappedFileAdaptiveRetryStateStore;
+
+/**
+ * A store that shares the throttling state learned by an {@link AdaptiveRetryStrategy} with other strategies, so that a new
+ * client starts at the send rate that other clients already measured instead of rediscovering it with a burst of throttled
+ * requests.
+ * <p>
+ * Each strategy keeps its own token bucket, and publishes the send rate it calculates after every throttling response to the
+ * store. Strategies sharing the store adopt the most recent throttling state for a scope the next time they acquire a token,
+ * and recover from it along the same curve as the strategy that was throttled.
+ * <p>
+ * Only strategies that send requests to the same throttled resource should share a store. Every SDK client uses the same
+ * retry scope, so state shared across clients of unrelated services would slow all of them down.
+ *
+ * @see AdaptiveRetryStrategy.Builder#stateStore(AdaptiveRetryStateStore)
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface AdaptiveRetryStateStore {
+    /**
+     * Returns the most recent throttling state stored for the scope, or empty if none was stored.
+     */
+    Optional<AdaptiveRetryState> load(String scope);
+
+    /**
+     * Stores the throttling state for the scope, unless the store already has a more recent state for it.
+     */
+    void store(String scope, AdaptiveRetryState state);
+
+    /**
+     * Returns a store that shares state with every other in-memory store of the same name in this process.
+     */
+    static AdaptiveRetryStateStore inMemory(String name) {
+        return InMemoryAdaptiveRetryStateStore.create(name);
+    }
+
+    /**
+     * Returns a store that shares state through a memory-mapped file, with every other store of the same file in this or other
+     * processes on the same host. The file is created if it does not exist, and remains mapped for the lifetime of the process.
+     * <p>
+     * The file holds the state of a limited number of scopes. Once it is full, state for new scopes is not shared.
+     */
+    static AdaptiveRetryStateStore mappedFile(Path file) {
+        return MappedFileAdaptiveRetryStateStore.create(file);
+    }
+}
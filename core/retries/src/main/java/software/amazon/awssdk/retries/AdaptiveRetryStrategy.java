@@ -88,6 +88,24 @@ public interface AdaptiveRetryStrategy extends RetryStrategy {
          */
         Builder treatAsThrottling(Predicate<Throwable> treatAsThrottling);
 
+        /**
+         * Configure the store through which the strategy shares the send rate it learns from throttling responses with other
+         * strategies, so that new clients do not have to rediscover it. By default, the strategy does not share its state.
+         *
+         * <p>Example Usage
+         * <pre>
+         * AdaptiveRetryStrategy retryStrategy =
+         *     AdaptiveRetryStrategy.builder()
+         *                          .stateStore(AdaptiveRetryStateStore.inMemory("orders-table"))
+         *                          .build();
+         * </pre>
+         *
+         * @see AdaptiveRetryStateStore
+         */
+        default Builder stateStore(AdaptiveRetryStateStore stateStore) {
+            throw new UnsupportedOperationException();
+        }
+
         @Override
         AdaptiveRetryStrategy build();
     }
@@ -0,0 +1,123 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.retries;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.retries.api.RetryStrategy;
+import software.amazon.awssdk.retries.internal.hedging.DefaultHedgingPolicy;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * A hedging policy sends a second, concurrent attempt of a request when the first attempt is slow, and uses whichever
+ * response arrives first. The losing attempt is cancelled.
+ * <p>
+ * Unlike a {@link RetryStrategy}, which only makes a new attempt after an attempt fails, hedging reduces the tail latency
+ * caused by attempts that are slow but eventually succeed. Because every hedge duplicates the load sent to the service, it
+ * should only be used for idempotent read operations, and hedges are limited by a budget:
+ * <ol>
+ *     <li>A hedge is sent after a fixed delay ({@link Builder#delay(Duration)}), or after the configured percentile of
+ *     recently observed latencies ({@link Builder#latencyPercentile(double)}).
+ *     <li>Every request adds to the hedge budget, and every hedge consumes from it, so that at most
+ *     {@link Builder#budgetRatio(double)} of requests are hedged over time (5% by default).
+ *     <li>Only the configured operations are hedged. If no operations are configured, only GET and HEAD requests are
+ *     hedged.
+ * </ol>
+ * <p>
+ * A request and its hedge count as a single attempt of the client's retry strategy, so hedging does not change how many
+ * times failed requests are retried.
+ *
+ * <p>Example Usage
+ * <pre>
+ * HedgingPolicy hedgingPolicy =
+ *     HedgingPolicy.builder()
+ *                  .latencyPercentile(95)
+ *                  .addOperation("GetItem")
+ *                  .build();
+ * </pre>
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface HedgingPolicy extends ToCopyableBuilder<HedgingPolicy.Builder, HedgingPolicy> {
+
+    /**
+     * Create a new {@link HedgingPolicy.Builder}.
+     */
+    static Builder builder() {
+        return DefaultHedgingPolicy.builder();
+    }
+
+    /**
+     * Returns true if requests to the given operation, sent with the given HTTP method, may be hedged by this policy.
+     */
+    boolean isHedgeable(String operationName, String httpMethod);
+
+    /**
+     * The amount of time to wait for the first attempt of a request before sending a hedge, or empty if a hedge should not be
+     * sent, for example because no latencies have been recorded yet for a percentile-based policy.
+     */
+    Optional<Duration> hedgeDelay();
+
+    /**
+     * Try to take a hedge from the budget. Returns false, without changing the budget, if sending a hedge would exceed it.
+     */
+    boolean tryAcquireHedge();
+
+    /**
+     * Record that a hedgeable request was sent, adding to the hedge budget.
+     */
+    void recordRequest();
+
+    /**
+     * Record the latency of a successful response, used to calculate the delay of percentile-based policies.
+     */
+    void recordLatency(Duration latency);
+
+    interface Builder extends CopyableBuilder<Builder, HedgingPolicy> {
+        /**
+         * Send a hedge after a fixed delay. If a {@link #latencyPercentile(double)} is also configured, this delay is only
+         * used until enough latencies have been recorded to calculate the percentile.
+         */
+        Builder delay(Duration delay);
+
+        /**
+         * Send a hedge after the given percentile (between 0 and 100, exclusive) of the latencies of recent responses.
+         */
+        Builder latencyPercentile(double latencyPercentile);
+
+        /**
+         * The maximum fraction of requests that are hedged over time, between 0 and 1. Defaults to 0.05.
+         */
+        Builder budgetRatio(double budgetRatio);
+
+        /**
+         * Add an operation that may be hedged, e.g. {@code "GetItem"}.
+         */
+        Builder addOperation(String operationName);
+
+        /**
+         * Replace the operations that may be hedged. If no operations are configured, only GET and HEAD requests are hedged.
+         */
+        Builder operations(Collection<String> operationNames);
+
+        @Override
+        HedgingPolicy build();
+    }
+}
@@ -319,10 +319,13 @@ public abstract class BaseRetryStrategy implements DefaultAwareRetryStrategy {
 
     private void logAcquireInitialToken(AcquireInitialTokenRequest request) {
         // Request attempt 1 token acquired (backoff: 0ms, cost: 0, capacity: 500/500)
-        TokenBucket tokenBucket = tokenBucketStore.tokenBucketForScope(request.scope());
-        log.debug(() -> String.format("Request attempt 1 token acquired "
-                                      + "(backoff: 0ms, cost: 0, capacity: %d/%d)",
-                                      tokenBucket.currentCapacity(), tokenBucket.maxCapacity()));
+        // The token bucket is only looked up when debug logging is enabled, since this is called for every request.
+        log.debug(() -> {
+            TokenBucket tokenBucket = tokenBucketStore.tokenBucketForScope(request.scope());
+            return String.format("Request attempt 1 token acquired "
+                                 + "(backoff: 0ms, cost: 0, capacity: %d/%d)",
+                                 tokenBucket.currentCapacity(), tokenBucket.maxCapacity());
+        });
     }
 
     private void logRefreshTokenSuccess(DefaultRetryToken token, AcquireResponse acquireResponse, Duration delay) {
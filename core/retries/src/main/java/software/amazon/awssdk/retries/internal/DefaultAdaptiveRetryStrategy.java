@@ -18,6 +18,7 @@ package software.amazon.awssdk.retries.internal;
 import java.time.Duration;
 import java.util.function.Predicate;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.retries.AdaptiveRetryStateStore;
 import software.amazon.awssdk.retries.AdaptiveRetryStrategy;
 import software.amazon.awssdk.retries.api.AcquireInitialTokenRequest;
 import software.amazon.awssdk.retries.api.BackoffStrategy;
@@ -37,8 +38,17 @@ public final class DefaultAdaptiveRetryStrategy
 
     DefaultAdaptiveRetryStrategy(Builder builder) {
         super(LOG, builder);
-        this.rateLimiterTokenBucketStore = Validate.paramNotNull(builder.rateLimiterTokenBucketStore,
-                                                                 "rateLimiterTokenBucketStore");
+        this.rateLimiterTokenBucketStore = withStateStore(Validate.paramNotNull(builder.rateLimiterTokenBucketStore,
+                                                                                "rateLimiterTokenBucketStore"),
+                                                          builder.stateStore);
+    }
+
+    private static RateLimiterTokenBucketStore withStateStore(RateLimiterTokenBucketStore store,
+                                                              AdaptiveRetryStateStore stateStore) {
+        if (stateStore == null || stateStore == store.stateStore()) {
+            return store;
+        }
+        return store.toBuilder().stateStore(stateStore).build();
     }
 
     @Override
@@ -80,6 +90,7 @@ public final class DefaultAdaptiveRetryStrategy
 
     public static class Builder extends BaseRetryStrategy.Builder implements AdaptiveRetryStrategy.Builder {
         private RateLimiterTokenBucketStore rateLimiterTokenBucketStore;
+        private AdaptiveRetryStateStore stateStore;
 
         Builder() {
         }
@@ -87,6 +98,7 @@ public final class DefaultAdaptiveRetryStrategy
         Builder(DefaultAdaptiveRetryStrategy strategy) {
             super(strategy);
             this.rateLimiterTokenBucketStore = strategy.rateLimiterTokenBucketStore;
+            this.stateStore = strategy.rateLimiterTokenBucketStore.stateStore();
         }
 
         @Override
@@ -134,6 +146,12 @@ public final class DefaultAdaptiveRetryStrategy
             return this;
         }
 
+        @Override
+        public Builder stateStore(AdaptiveRetryStateStore stateStore) {
+            this.stateStore = stateStore;
+            return this;
+        }
+
         public Builder tokenBucketStore(TokenBucketStore tokenBucketStore) {
             setTokenBucketStore(tokenBucketStore);
             return this;
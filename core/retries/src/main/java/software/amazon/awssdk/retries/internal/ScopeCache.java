@@ -0,0 +1,118 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.retries.internal;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A bounded cache of per-scope state, such as the token buckets used by the retry strategies.
+ * <p>
+ * The state for a scope is looked up on every request attempt, from every request thread, so lookups must not contend on a
+ * lock. Unlike an exact LRU cache, which needs to reorder a shared list on every lookup, this cache only sets a flag on the
+ * entry when it is used. When the cache grows past its maximum size, entries that have not been used since the previous
+ * eviction are removed (a "second chance" approximation of LRU). Only one thread evicts at a time, and lookups never wait
+ * for it.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class ScopeCache<V> {
+    /**
+     * The number of passes over the entries before entries are evicted regardless of whether they were recently used.
+     */
+    private static final int MAX_EVICTION_PASSES = 2;
+
+    private final Map<String, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final Function<String, V> valueSupplier;
+    private final int maxEntries;
+
+    public ScopeCache(int maxEntries, Function<String, V> valueSupplier) {
+        this.maxEntries = Validate.isPositive(maxEntries, "maxEntries");
+        this.valueSupplier = Validate.paramNotNull(valueSupplier, "valueSupplier");
+    }
+
+    /**
+     * Returns the value for the given scope, creating it if it is not in the cache.
+     */
+    public V get(String scope) {
+        Entry<V> entry = entries.get(scope);
+        if (entry == null) {
+            entry = entries.computeIfAbsent(scope, s -> new Entry<>(valueSupplier.apply(s)));
+            if (entries.size() > maxEntries) {
+                evict();
+            }
+        }
+        entry.markUsed();
+        return entry.value;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void evict() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            for (int pass = 0; pass <= MAX_EVICTION_PASSES && entries.size() > maxEntries; pass++) {
+                Iterator<Entry<V>> values = entries.values().iterator();
+                while (values.hasNext() && entries.size() > maxEntries) {
+                    Entry<V> entry = values.next();
+                    if (!entry.clearUsed() || pass == MAX_EVICTION_PASSES) {
+                        values.remove();
+                    }
+                }
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private volatile boolean used = true;
+
+        private Entry(V value) {
+            this.value = value;
+        }
+
+        private void markUsed() {
+            // Only write when the flag changes, so that lookups of a hot entry don't invalidate its cache line.
+            if (!used) {
+                used = true;
+            }
+        }
+
+        /**
+         * Clear the used flag, returning whether the entry was used since the flag was last cleared.
+         */
+        private boolean clearUsed() {
+            if (used) {
+                used = false;
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -23,6 +23,9 @@ import software.amazon.awssdk.utils.Validate;
 /**
  * A lock-free implementation of a token bucket. Tokens can be acquired from the bucket as long as there is sufficient capacity in
  * the bucket.
+ * <p>
+ * The bucket is shared by every request in a scope, and tokens are released after every successful request. In the common
+ * case, the bucket is already full when tokens are released, so releasing does not write to the shared capacity at all.
  */
 @SdkInternalApi
 public final class TokenBucket {
@@ -32,7 +35,7 @@ public final class TokenBucket {
     /**
      * Create a bucket containing the specified number of tokens.
      */
-    TokenBucket(int maxCapacity) {
+    public TokenBucket(int maxCapacity) {
         this.maxCapacity = maxCapacity;
         this.capacity = new AtomicInteger(maxCapacity);
     }
@@ -97,6 +100,10 @@ public final class TokenBucket {
         int newCapacity;
         do {
             currentCapacity = capacity.get();
+            if (currentCapacity >= maxCapacity) {
+                return builder.currentCapacity(currentCapacity)
+                              .build();
+            }
             newCapacity = Math.min(currentCapacity + amountToRelease, maxCapacity);
         } while (!capacity.compareAndSet(currentCapacity, newCapacity));
 
@@ -0,0 +1,170 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.retries.internal.hedging;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.retries.HedgingPolicy;
+import software.amazon.awssdk.retries.internal.circuitbreaker.TokenBucket;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+
+@SdkInternalApi
+public final class DefaultHedgingPolicy implements HedgingPolicy {
+    static final double DEFAULT_BUDGET_RATIO = 0.05;
+
+    /**
+     * The number of hedges that can be sent in a burst, before requests have added to the budget.
+     */
+    static final int MAX_BURST_HEDGES = 10;
+
+    private final Duration delay;
+    private final Double latencyPercentile;
+    private final double budgetRatio;
+    private final Set<String> operations;
+    private final int hedgeCost;
+    private final TokenBucket budget;
+    private final LatencyTracker latencyTracker;
+
+    DefaultHedgingPolicy(Builder builder) {
+        this.delay = Validate.isPositiveOrNull(builder.delay, "delay");
+        this.latencyPercentile = builder.latencyPercentile;
+        this.budgetRatio = builder.budgetRatio == null ? DEFAULT_BUDGET_RATIO : builder.budgetRatio;
+        this.operations = Collections.unmodifiableSet(new HashSet<>(builder.operations));
+        Validate.isTrue(delay != null || latencyPercentile != null,
+                        "Either a delay or a latencyPercentile must be configured.");
+        Validate.isTrue(latencyPercentile == null || latencyPercentile > 0 && latencyPercentile < 100,
+                        "latencyPercentile must be between 0 and 100, exclusive.");
+        Validate.isTrue(budgetRatio > 0 && budgetRatio <= 1, "budgetRatio must be greater than 0 and at most 1.");
+
+        this.hedgeCost = (int) Math.ceil(1 / budgetRatio);
+        this.budget = new TokenBucket(hedgeCost * MAX_BURST_HEDGES);
+        this.latencyTracker = latencyPercentile == null ? null : new LatencyTracker(latencyPercentile);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public boolean isHedgeable(String operationName, String httpMethod) {
+        if (!operations.isEmpty()) {
+            return operations.contains(operationName);
+        }
+        return "GET".equals(httpMethod) || "HEAD".equals(httpMethod);
+    }
+
+    @Override
+    public Optional<Duration> hedgeDelay() {
+        if (latencyTracker != null) {
+            long percentileNanos = latencyTracker.percentileNanos();
+            if (percentileNanos >= 0) {
+                return Optional.of(Duration.ofNanos(percentileNanos));
+            }
+        }
+        return Optional.ofNullable(delay);
+    }
+
+    @Override
+    public boolean tryAcquireHedge() {
+        return !budget.tryAcquire(hedgeCost).acquisitionFailed();
+    }
+
+    @Override
+    public void recordRequest() {
+        budget.release(1);
+    }
+
+    @Override
+    public void recordLatency(Duration latency) {
+        if (latencyTracker != null) {
+            latencyTracker.record(latency.toNanos());
+        }
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new Builder(this);
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("HedgingPolicy")
+                       .add("delay", delay)
+                       .add("latencyPercentile", latencyPercentile)
+                       .add("budgetRatio", budgetRatio)
+                       .add("operations", operations)
+                       .build();
+    }
+
+    public static final class Builder implements HedgingPolicy.Builder {
+        private final Set<String> operations = new HashSet<>();
+        private Duration delay;
+        private Double latencyPercentile;
+        private Double budgetRatio;
+
+        Builder() {
+        }
+
+        Builder(DefaultHedgingPolicy policy) {
+            this.delay = policy.delay;
+            this.latencyPercentile = policy.latencyPercentile;
+            this.budgetRatio = policy.budgetRatio;
+            this.operations.addAll(policy.operations);
+        }
+
+        @Override
+        public Builder delay(Duration delay) {
+            this.delay = delay;
+            return this;
+        }
+
+        @Override
+        public Builder latencyPercentile(double latencyPercentile) {
+            this.latencyPercentile = latencyPercentile;
+            return this;
+        }
+
+        @Override
+        public Builder budgetRatio(double budgetRatio) {
+            this.budgetRatio = budgetRatio;
+            return this;
+        }
+
+        @Override
+        public Builder addOperation(String operationName) {
+            this.operations.add(Validate.paramNotNull(operationName, "operationName"));
+            return this;
+        }
+
+        @Override
+        public Builder operations(Collection<String> operationNames) {
+            this.operations.clear();
+            operationNames.forEach(this::addOperation);
+            return this;
+        }
+
+        @Override
+        public HedgingPolicy build() {
+            return new DefaultHedgingPolicy(this);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.retries.internal.hedging;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * Tracks a percentile of the most recently recorded latencies.
+ * <p>
+ * Latencies are written into a fixed-size ring buffer without locking. Sorting the buffer is comparatively expensive, so the
+ * percentile is only recalculated after every {@link #RECALCULATE_INTERVAL} recordings, and reads return the last
+ * calculated value.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class LatencyTracker {
+    static final int WINDOW_SIZE = 256;
+    static final int MIN_SAMPLES = 32;
+    static final int RECALCULATE_INTERVAL = 16;
+
+    private final double percentile;
+    private final AtomicLongArray samples = new AtomicLongArray(WINDOW_SIZE);
+    private final AtomicLong recorded = new AtomicLong();
+    private volatile long percentileNanos = -1;
+
+    LatencyTracker(double percentile) {
+        this.percentile = percentile;
+    }
+
+    void record(long latencyNanos) {
+        long count = recorded.getAndIncrement();
+        samples.set((int) (count % WINDOW_SIZE), latencyNanos);
+
+        long total = count + 1;
+        if (total >= MIN_SAMPLES && total % RECALCULATE_INTERVAL == 0) {
+            percentileNanos = calculate((int) Math.min(total, WINDOW_SIZE));
+        }
+    }
+
+    /**
+     * The latency at the tracked percentile in nanoseconds, or -1 if not enough latencies have been recorded yet.
+     */
+    long percentileNanos() {
+        return percentileNanos;
+    }
+
+    private long calculate(int sampleCount) {
+        long[] sorted = new long[sampleCount];
+        for (int i = 0; i < sampleCount; i++) {
+            sorted[i] = samples.get(i);
+        }
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100 * sampleCount) - 1;
+        return sorted[Math.max(0, Math.min(index, sampleCount - 1))];
+    }
+}
@@ -29,4 +29,12 @@ public interface RateLimiterClock {
      * @return the current time in seconds, and should include sub second resolution
      */
     double time();
+
+    /**
+     * Returns the current wall-clock time in milliseconds since the epoch. Unlike {@link #time()}, this is comparable between
+     * processes, and is used to share throttling state with them.
+     */
+    default long epochMillis() {
+        return System.currentTimeMillis();
+    }
 }
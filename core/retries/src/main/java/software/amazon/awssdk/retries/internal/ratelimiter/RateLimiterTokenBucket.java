@@ -16,10 +16,13 @@
 package software.amazon.awssdk.retries.internal.ratelimiter;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.retries.AdaptiveRetryState;
+import software.amazon.awssdk.retries.AdaptiveRetryStateStore;
 
 /**
  * The {@link RateLimiterTokenBucket} keeps track of past throttling responses and adapts to slow down the send rate to adapt to
@@ -33,14 +36,26 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
  *
  * <p>The algorithm used is adapted from the network congestion avoidance algorithm
  * <a href="https://en.wikipedia.org/wiki/CUBIC_TCP">CUBIC</a>.
+ *
+ * <p>When created with an {@link AdaptiveRetryStateStore}, the bucket publishes the send rate it calculates after each
+ * throttling response, and adopts more recent throttling state published by other buckets of the same scope before it
+ * acquires tokens or updates its rate.
  */
 @SdkInternalApi
 public class RateLimiterTokenBucket {
     private final AtomicReference<PersistentState> stateReference;
     private final RateLimiterClock clock;
+    private final AdaptiveRetryStateStore stateStore;
+    private final String scope;
 
     RateLimiterTokenBucket(RateLimiterClock clock) {
+        this(clock, null, null);
+    }
+
+    RateLimiterTokenBucket(RateLimiterClock clock, AdaptiveRetryStateStore stateStore, String scope) {
         this.clock = clock;
+        this.stateStore = stateStore;
+        this.scope = scope;
         this.stateReference = new AtomicReference<>(new PersistentState());
     }
 
@@ -50,7 +65,11 @@ public class RateLimiterTokenBucket {
      * callers need to wait until enough tokens are refilled.
      */
     public RateLimiterAcquireResponse tryAcquire() {
-        StateUpdate<Duration> update = updateState(ts -> ts.tokenBucketAcquire(clock, 1.0));
+        AdaptiveRetryState sharedState = loadSharedState();
+        StateUpdate<Duration> update = updateState(ts -> {
+            ts.adoptSharedState(clock, sharedState);
+            return ts.tokenBucketAcquire(clock, 1.0);
+        });
         return RateLimiterAcquireResponse.create(update.result);
     }
 
@@ -58,7 +77,12 @@ public class RateLimiterTokenBucket {
      * Updates the estimated send rate after a throttling response.
      */
     public RateLimiterUpdateResponse updateRateAfterThrottling() {
-        StateUpdate<Void> update = consumeState(ts -> ts.updateClientSendingRate(clock, true));
+        AdaptiveRetryState sharedState = loadSharedState();
+        StateUpdate<Void> update = consumeState(ts -> {
+            ts.adoptSharedState(clock, sharedState);
+            ts.updateClientSendingRate(clock, true);
+        });
+        storeSharedState(update.newState);
         return RateLimiterUpdateResponse.builder()
                                         .measuredTxRate(update.newState.measuredTxRate())
                                         .fillRate(update.newState.fillRate())
@@ -69,13 +93,29 @@ public class RateLimiterTokenBucket {
      * Updates the estimated send rate after a successful response.
      */
     public RateLimiterUpdateResponse updateRateAfterSuccess() {
-        StateUpdate<Void> update = consumeState(ts -> ts.updateClientSendingRate(clock, false));
+        AdaptiveRetryState sharedState = loadSharedState();
+        StateUpdate<Void> update = consumeState(ts -> {
+            ts.adoptSharedState(clock, sharedState);
+            ts.updateClientSendingRate(clock, false);
+        });
         return RateLimiterUpdateResponse.builder()
                                         .measuredTxRate(update.newState.measuredTxRate())
                                         .fillRate(update.newState.fillRate())
                                         .build();
     }
 
+    private AdaptiveRetryState loadSharedState() {
+        return stateStore == null ? null : stateStore.load(scope).orElse(null);
+    }
+
+    private void storeSharedState(PersistentState state) {
+        if (stateStore != null) {
+            stateStore.store(scope, AdaptiveRetryState.create(Instant.ofEpochMilli(state.lastThrottleEpochMillis),
+                                                              state.lastMaxRate,
+                                                              state.fillRate));
+        }
+    }
+
     /**
      * Similar to {@link #updateState} but used when the caller only cares about the side effects of the {@link Consumer} but not
      * for the value returned.
@@ -124,6 +164,7 @@ public class RateLimiterTokenBucket {
         private static final double SMOOTH = 0.8;
         private static final double BETA = 0.7;
         private static final double SCALE_CONSTANT = 0.4;
+        private static final long MAX_SHARED_STATE_AGE_MILLIS = 5 * 60 * 1000;
         private double fillRate;
         private double maxCapacity;
         private double currentCapacity;
@@ -137,6 +178,7 @@ public class RateLimiterTokenBucket {
         private double lastThrottleTime;
         private double timeWindow;
         private double newTokenBucketRate;
+        private long lastThrottleEpochMillis;
 
         private TransientState(PersistentState state) {
             this.fillRate = state.fillRate;
@@ -152,6 +194,7 @@ public class RateLimiterTokenBucket {
             this.lastThrottleTime = state.lastThrottleTime;
             this.timeWindow = state.timeWindow;
             this.newTokenBucketRate = state.newTokenBucketRate;
+            this.lastThrottleEpochMillis = state.lastThrottleEpochMillis;
         }
 
         PersistentState toPersistent() {
@@ -194,6 +237,7 @@ public class RateLimiterTokenBucket {
                 this.lastMaxRate = rateToUse;
                 calculateTimeWindow();
                 this.lastThrottleTime = clock.time();
+                this.lastThrottleEpochMillis = clock.epochMillis();
                 calculatedRate = cubicThrottle(rateToUse);
                 this.enabled = true;
             } else {
@@ -205,6 +249,38 @@ public class RateLimiterTokenBucket {
             updateRate(clock, newRate);
         }
 
+        /**
+         * Adopts throttling state published by another bucket if it is more recent than the last throttling seen by this
+         * bucket, as if this bucket had been throttled at the same time. State that is too old to still describe the
+         * service is ignored.
+         */
+        void adoptSharedState(RateLimiterClock clock, AdaptiveRetryState sharedState) {
+            if (sharedState == null) {
+                return;
+            }
+            long throttleEpochMillis = sharedState.throttleTime().toEpochMilli();
+            long ageMillis = Math.max(0, clock.epochMillis() - throttleEpochMillis);
+            if (throttleEpochMillis <= this.lastThrottleEpochMillis || ageMillis > MAX_SHARED_STATE_AGE_MILLIS) {
+                return;
+            }
+
+            double time = clock.time();
+            this.lastThrottleEpochMillis = throttleEpochMillis;
+            this.lastThrottleTime = time - ageMillis / 1000.0;
+            this.lastMaxRate = sharedState.maxRate();
+            this.enabled = true;
+            calculateTimeWindow();
+            updateRate(clock, sharedState.fillRate());
+
+            // The new rate is capped by twice the measured rate after each response, so a bucket that has not sent
+            // requests yet starts measuring from the adopted rate instead of falling to the minimum.
+            if (this.measuredTxRate < sharedState.fillRate()) {
+                this.measuredTxRate = sharedState.fillRate();
+                this.requestCount = 0;
+                this.lastTxRateBucket = Math.floor(time * 2) / 2;
+            }
+        }
+
         void refill(RateLimiterClock clock) {
             double timestamp = clock.time();
             if (this.lastTimestampIsSet) {
@@ -263,6 +339,7 @@ public class RateLimiterTokenBucket {
         private final double lastThrottleTime;
         private final double timeWindow;
         private final double newTokenBucketRate;
+        private final long lastThrottleEpochMillis;
 
         private PersistentState() {
             this.fillRate = 0;
@@ -278,6 +355,7 @@ public class RateLimiterTokenBucket {
             this.lastThrottleTime = 0;
             this.timeWindow = 0;
             this.newTokenBucketRate = 0;
+            this.lastThrottleEpochMillis = 0;
         }
 
         PersistentState(TransientState state) {
@@ -294,6 +372,7 @@ public class RateLimiterTokenBucket {
             this.lastThrottleTime = state.lastThrottleTime;
             this.timeWindow = state.timeWindow;
             this.newTokenBucketRate = state.newTokenBucketRate;
+            this.lastThrottleEpochMillis = state.lastThrottleEpochMillis;
         }
 
         TransientState toTransient() {
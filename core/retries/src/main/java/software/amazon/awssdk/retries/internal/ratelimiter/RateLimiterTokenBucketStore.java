@@ -17,10 +17,11 @@ package software.amazon.awssdk.retries.internal.ratelimiter;
 
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.ToBuilderIgnoreField;
+import software.amazon.awssdk.retries.AdaptiveRetryStateStore;
+import software.amazon.awssdk.retries.internal.ScopeCache;
 import software.amazon.awssdk.utils.Validate;
 import software.amazon.awssdk.utils.builder.CopyableBuilder;
 import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
-import software.amazon.awssdk.utils.cache.lru.LruCache;
 
 /**
  * A store to keep token buckets per scope.
@@ -30,20 +31,24 @@ public final class RateLimiterTokenBucketStore
     implements ToCopyableBuilder<RateLimiterTokenBucketStore.Builder, RateLimiterTokenBucketStore> {
     private static final int MAX_ENTRIES = 128;
     private static final RateLimiterClock DEFAULT_CLOCK = new SystemClock();
-    private final LruCache<String, RateLimiterTokenBucket> scopeToTokenBucket;
+    private final ScopeCache<RateLimiterTokenBucket> scopeToTokenBucket;
     private final RateLimiterClock clock;
+    private final AdaptiveRetryStateStore stateStore;
 
     private RateLimiterTokenBucketStore(Builder builder) {
         this.clock = Validate.paramNotNull(builder.clock, "clock");
-        this.scopeToTokenBucket = LruCache.<String, RateLimiterTokenBucket>builder(x -> new RateLimiterTokenBucket(clock))
-                                          .maxSize(MAX_ENTRIES)
-                                          .build();
+        this.stateStore = builder.stateStore;
+        this.scopeToTokenBucket = new ScopeCache<>(MAX_ENTRIES, scope -> new RateLimiterTokenBucket(clock, stateStore, scope));
     }
 
     public RateLimiterTokenBucket tokenBucketForScope(String scope) {
         return scopeToTokenBucket.get(scope);
     }
 
+    public AdaptiveRetryStateStore stateStore() {
+        return stateStore;
+    }
+
     @Override
     @ToBuilderIgnoreField("scopeToTokenBucket")
     public Builder toBuilder() {
@@ -56,6 +61,7 @@ public final class RateLimiterTokenBucketStore
 
     public static class Builder implements CopyableBuilder<Builder, RateLimiterTokenBucketStore> {
         private RateLimiterClock clock;
+        private AdaptiveRetryStateStore stateStore;
 
         Builder() {
             this.clock = DEFAULT_CLOCK;
@@ -63,6 +69,7 @@ public final class RateLimiterTokenBucketStore
 
         Builder(RateLimiterTokenBucketStore store) {
             this.clock = store.clock;
+            this.stateStore = store.stateStore;
         }
 
         public Builder clock(RateLimiterClock clock) {
@@ -70,6 +77,11 @@ public final class RateLimiterTokenBucketStore
             return this;
         }
 
+        public Builder stateStore(AdaptiveRetryStateStore stateStore) {
+            this.stateStore = stateStore;
+            return this;
+        }
+
         @Override
         public RateLimiterTokenBucketStore build() {
             return new RateLimiterTokenBucketStore(this);
@@ -0,0 +1,68 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.retries.internal.state;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.retries.AdaptiveRetryState;
+import software.amazon.awssdk.retries.AdaptiveRetryStateStore;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * An {@link AdaptiveRetryStateStore} that keeps state in a map shared by every store of the same name in the process.
+ */
+@SdkInternalApi
+public final class InMemoryAdaptiveRetryStateStore implements AdaptiveRetryStateStore {
+    private static final ConcurrentMap<String, ConcurrentMap<String, AdaptiveRetryState>> STATES_BY_NAME =
+        new ConcurrentHashMap<>();
+
+    private final String name;
+    private final ConcurrentMap<String, AdaptiveRetryState> states;
+
+    private InMemoryAdaptiveRetryStateStore(String name) {
+        this.name = Validate.paramNotNull(name, "name");
+        this.states = STATES_BY_NAME.computeIfAbsent(name, n -> new ConcurrentHashMap<>());
+    }
+
+    public static InMemoryAdaptiveRetryStateStore create(String name) {
+        return new InMemoryAdaptiveRetryStateStore(name);
+    }
+
+    @Override
+    public Optional<AdaptiveRetryState> load(String scope) {
+        return Optional.ofNullable(states.get(scope));
+    }
+
+    @Override
+    public void store(String scope, AdaptiveRetryState state) {
+        Validate.paramNotNull(state, "state");
+        states.merge(scope, state, InMemoryAdaptiveRetryStateStore::mostRecent);
+    }
+
+    private static AdaptiveRetryState mostRecent(AdaptiveRetryState existing, AdaptiveRetryState state) {
+        return state.throttleTime().isBefore(existing.throttleTime()) ? existing : state;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("InMemoryAdaptiveRetryStateStore")
+                       .add("name", name)
+                       .build();
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.retries.internal.state;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.retries.AdaptiveRetryState;
+import software.amazon.awssdk.retries.AdaptiveRetryStateStore;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * An {@link AdaptiveRetryStateStore} that keeps state in a memory-mapped file, so that it is shared by processes on the same
+ * host.
+ * <p>
+ * The file is a header followed by a fixed number of slots, each holding the state of one scope, found by linear probing on a
+ * 64-bit hash of the scope. Writes are rare, since state is only stored after throttling. A write only happens if a lock on
+ * the file can be taken without waiting, and is otherwise dropped with a debug message, so that storing state never blocks or
+ * fails a request.
+ * <p>
+ * Reads happen whenever a token is acquired, so they take no lock. State stored by this process is also published through a
+ * concurrent map, so reads always see complete writes from this process. State written by other processes is read from the
+ * file: each slot has a sequence number that is odd while the slot is written, and a read is retried if the sequence number
+ * was odd or changed while it read the slot. The state only tunes the send rate, so a read that is abandoned after repeated
+ * conflicts is treated as missing state rather than waited for.
+ * <p>
+ * The Java memory model does not cover writes from other processes, and Java 8 has no memory fences to order the reads of the
+ * sequence number and the slot, so a read that races with a write from another process could in principle see a mix of the
+ * old and new state. Such a read is rejected if the values are out of range, and otherwise only affects the send rate until
+ * the next state is read.
+ * <p>
+ * One instance is created per file, because file locks are held on behalf of the whole process.
+ */
+@SdkInternalApi
+public final class MappedFileAdaptiveRetryStateStore implements AdaptiveRetryStateStore {
+    private static final Logger LOG = Logger.loggerFor(MappedFileAdaptiveRetryStateStore.class);
+    private static final ConcurrentMap<Path, MappedFileAdaptiveRetryStateStore> STORES = new ConcurrentHashMap<>();
+
+    private static final long MAGIC = 0x5344_4b52_5354_0001L;
+    private static final int HEADER_SIZE = 64;
+    private static final int SLOT_SIZE = 64;
+    private static final int SLOT_COUNT = 256;
+    private static final int FILE_SIZE = HEADER_SIZE + SLOT_SIZE * SLOT_COUNT;
+
+    private static final int KEY_OFFSET = 0;
+    private static final int SEQUENCE_OFFSET = 8;
+    private static final int THROTTLE_TIME_OFFSET = 16;
+    private static final int MAX_RATE_OFFSET = 24;
+    private static final int FILL_RATE_OFFSET = 32;
+
+    private static final int MAX_READ_ATTEMPTS = 8;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final ConcurrentMap<String, AdaptiveRetryState> published = new ConcurrentHashMap<>();
+
+    @SdkTestInternalApi
+    MappedFileAdaptiveRetryStateStore(Path file) {
+        this.file = file;
+        try {
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, FILE_SIZE);
+            initialize();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to map adaptive retry state file " + file, e);
+        }
+    }
+
+    public static MappedFileAdaptiveRetryStateStore create(Path file) {
+        Validate.paramNotNull(file, "file");
+        return STORES.computeIfAbsent(realPath(file), MappedFileAdaptiveRetryStateStore::new);
+    }
+
+    private static Path realPath(Path file) {
+        try {
+            if (!Files.exists(file)) {
+                Files.createFile(file);
+            }
+            return file.toRealPath();
+        } catch (IOException e) {
+            if (Files.exists(file)) {
+                return file.toAbsolutePath().normalize();
+            }
+            throw new UncheckedIOException("Unable to create adaptive retry state file " + file, e);
+        }
+    }
+
+    private void initialize() throws IOException {
+        try (FileLock lock = channel.lock()) {
+            long magic = buffer.getLong(0);
+            if (magic == 0) {
+                buffer.putLong(0, MAGIC);
+            } else if (magic != MAGIC) {
+                throw new IllegalArgumentException(file + " is not an adaptive retry state file.");
+            }
+        }
+    }
+
+    @Override
+    public Optional<AdaptiveRetryState> load(String scope) {
+        AdaptiveRetryState local = published.get(scope);
+        AdaptiveRetryState shared = readFromFile(key(scope));
+        if (local == null || shared == null) {
+            return Optional.ofNullable(local != null ? local : shared);
+        }
+        return Optional.of(mostRecent(local, shared));
+    }
+
+    private AdaptiveRetryState readFromFile(long key) {
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            int slot = slotOffset(key, i);
+            long slotKey = buffer.getLong(slot + KEY_OFFSET);
+            if (slotKey == 0) {
+                return null;
+            }
+            if (slotKey == key) {
+                return read(slot);
+            }
+        }
+        return null;
+    }
+
+    private AdaptiveRetryState read(int slot) {
+        for (int attempt = 0; attempt < MAX_READ_ATTEMPTS; attempt++) {
+            long sequence = buffer.getLong(slot + SEQUENCE_OFFSET);
+            if ((sequence & 1) != 0) {
+                continue;
+            }
+
+            long throttleTime = buffer.getLong(slot + THROTTLE_TIME_OFFSET);
+            double maxRate = buffer.getDouble(slot + MAX_RATE_OFFSET);
+            double fillRate = buffer.getDouble(slot + FILL_RATE_OFFSET);
+
+            if (buffer.getLong(slot + SEQUENCE_OFFSET) == sequence) {
+                if (sequence == 0 || !(maxRate >= 0) || !(fillRate > 0) || Double.isInfinite(fillRate)) {
+                    return null;
+                }
+                return AdaptiveRetryState.create(Instant.ofEpochMilli(throttleTime), maxRate, fillRate);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void store(String scope, AdaptiveRetryState state) {
+        Validate.paramNotNull(state, "state");
+        published.merge(scope, state, MappedFileAdaptiveRetryStateStore::mostRecent);
+
+        FileLock lock = tryLock();
+        if (lock == null) {
+            LOG.debug(() -> "Unable to share adaptive retry state for scope " + scope + ", because " + file
+                            + " could not be locked.");
+            return;
+        }
+
+        try {
+            write(scope, state);
+        } finally {
+            release(lock);
+        }
+    }
+
+    private FileLock tryLock() {
+        try {
+            return channel.tryLock();
+        } catch (IOException | OverlappingFileLockException e) {
+            LOG.debug(() -> "Unable to lock adaptive retry state file " + file, e);
+            return null;
+        }
+    }
+
+    private void release(FileLock lock) {
+        try {
+            lock.release();
+        } catch (IOException e) {
+            LOG.debug(() -> "Unable to release the lock on adaptive retry state file " + file, e);
+        }
+    }
+
+    private void write(String scope, AdaptiveRetryState state) {
+        long key = key(scope);
+        int slot = findOrClaimSlot(key);
+        if (slot < 0) {
+            LOG.debug(() -> "Unable to share adaptive retry state for scope " + scope + ", because " + file + " is full.");
+            return;
+        }
+
+        long throttleTime = state.throttleTime().toEpochMilli();
+        long sequence = buffer.getLong(slot + SEQUENCE_OFFSET);
+        if (sequence != 0 && buffer.getLong(slot + THROTTLE_TIME_OFFSET) > throttleTime) {
+            return;
+        }
+
+        buffer.putLong(slot + SEQUENCE_OFFSET, sequence + 1);
+        buffer.putLong(slot + THROTTLE_TIME_OFFSET, throttleTime);
+        buffer.putDouble(slot + MAX_RATE_OFFSET, state.maxRate());
+        buffer.putDouble(slot + FILL_RATE_OFFSET, state.fillRate());
+        buffer.putLong(slot + SEQUENCE_OFFSET, sequence + 2);
+    }
+
+    private static AdaptiveRetryState mostRecent(AdaptiveRetryState existing, AdaptiveRetryState state) {
+        return state.throttleTime().isBefore(existing.throttleTime()) ? existing : state;
+    }
+
+    private int findOrClaimSlot(long key) {
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            int slot = slotOffset(key, i);
+            long slotKey = buffer.getLong(slot + KEY_OFFSET);
+            if (slotKey == key) {
+                return slot;
+            }
+            if (slotKey == 0) {
+                buffer.putLong(slot + KEY_OFFSET, key);
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private static int slotOffset(long key, int probe) {
+        int index = (int) Math.floorMod(key + probe, (long) SLOT_COUNT);
+        return HEADER_SIZE + index * SLOT_SIZE;
+    }
+
+    /**
+     * The 64-bit FNV-1a hash of the scope, which is never zero because zero marks an empty slot.
+     */
+    private static long key(String scope) {
+        long hash = 0xcbf2_9ce4_8422_2325L;
+        for (byte b : scope.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x0100_0000_01b3L;
+        }
+        return hash == 0 ? 1 : hash;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("MappedFileAdaptiveRetryStateStore")
+                       .add("file", file)
+                       .build();
+    }
+}
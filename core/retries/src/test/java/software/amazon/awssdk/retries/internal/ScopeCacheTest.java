@@ -0,0 +1,84 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.retries.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ScopeCacheTest {
+
+    @Test
+    void get_sameScope_returnsSameValue() {
+        AtomicInteger created = new AtomicInteger();
+        ScopeCache<Integer> cache = new ScopeCache<>(4, s -> created.incrementAndGet());
+
+        assertThat(cache.get("a")).isEqualTo(1);
+        assertThat(cache.get("a")).isEqualTo(1);
+        assertThat(cache.get("b")).isEqualTo(2);
+        assertThat(created).hasValue(2);
+    }
+
+    @Test
+    void get_moreScopesThanMaxEntries_evictsToMaxEntries() {
+        ScopeCache<String> cache = new ScopeCache<>(4, s -> s);
+
+        for (int i = 0; i < 100; i++) {
+            cache.get("scope-" + i);
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    void get_recentlyUsedScope_isNotEvictedBeforeUnusedScopes() {
+        AtomicInteger created = new AtomicInteger();
+        ScopeCache<Integer> cache = new ScopeCache<>(2, s -> created.incrementAndGet());
+        cache.get("hot");
+        cache.get("cold");
+
+        // Fill the cache so that every entry's used flag is cleared, then use the hot entry again.
+        cache.get("other");
+        Integer hot = cache.get("hot");
+        cache.get("another");
+
+        assertThat(cache.get("hot")).isEqualTo(hot);
+    }
+
+    @Test
+    void get_concurrentCallers_returnSameValue() throws Exception {
+        ScopeCache<Object> cache = new ScopeCache<>(128, s -> new Object());
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<CompletableFuture<Object>> results = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                results.add(CompletableFuture.supplyAsync(() -> cache.get("scope"), executor));
+            }
+            Object expected = cache.get("scope");
+            for (CompletableFuture<Object> result : results) {
+                assertThat(result.get()).isSameAs(expected);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.retries.internal.hedging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.retries.HedgingPolicy;
+
+class DefaultHedgingPolicyTest {
+
+    @Test
+    void build_withoutDelayOrPercentile_throws() {
+        assertThatThrownBy(() -> HedgingPolicy.builder().build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("delay");
+    }
+
+    @Test
+    void build_withInvalidPercentile_throws() {
+        assertThatThrownBy(() -> HedgingPolicy.builder().latencyPercentile(100).build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("latencyPercentile");
+    }
+
+    @Test
+    void isHedgeable_withoutOperations_onlyHedgesGetAndHead() {
+        HedgingPolicy policy = HedgingPolicy.builder().delay(Duration.ofMillis(10)).build();
+
+        assertThat(policy.isHedgeable("GetObject", "GET")).isTrue();
+        assertThat(policy.isHedgeable("HeadObject", "HEAD")).isTrue();
+        assertThat(policy.isHedgeable("GetItem", "POST")).isFalse();
+    }
+
+    @Test
+    void isHedgeable_withOperations_onlyHedgesThoseOperations() {
+        HedgingPolicy policy = HedgingPolicy.builder().delay(Duration.ofMillis(10)).addOperation("GetItem").build();
+
+        assertThat(policy.isHedgeable("GetItem", "POST")).isTrue();
+        assertThat(policy.isHedgeable("GetObject", "GET")).isFalse();
+    }
+
+    @Test
+    void hedgeDelay_withFixedDelay_returnsDelay() {
+        HedgingPolicy policy = HedgingPolicy.builder().delay(Duration.ofMillis(10)).build();
+
+        assertThat(policy.hedgeDelay()).contains(Duration.ofMillis(10));
+    }
+
+    @Test
+    void hedgeDelay_withPercentile_usesDelayUntilEnoughLatenciesAreRecorded() {
+        HedgingPolicy policy = HedgingPolicy.builder()
+                                            .delay(Duration.ofSeconds(1))
+                                            .latencyPercentile(90)
+                                            .build();
+
+        for (int i = 1; i < LatencyTracker.MIN_SAMPLES; i++) {
+            policy.recordLatency(Duration.ofMillis(i));
+        }
+        assertThat(policy.hedgeDelay()).contains(Duration.ofSeconds(1));
+
+        policy.recordLatency(Duration.ofMillis(LatencyTracker.MIN_SAMPLES));
+        assertThat(policy.hedgeDelay()).contains(Duration.ofMillis(29));
+    }
+
+    @Test
+    void hedgeDelay_withPercentileOnly_isEmptyUntilEnoughLatenciesAreRecorded() {
+        HedgingPolicy policy = HedgingPolicy.builder().latencyPercentile(50).build();
+        assertThat(policy.hedgeDelay()).isEmpty();
+
+        for (int i = 0; i < LatencyTracker.MIN_SAMPLES; i++) {
+            policy.recordLatency(Duration.ofMillis(5));
+        }
+        assertThat(policy.hedgeDelay()).contains(Duration.ofMillis(5));
+    }
+
+    @Test
+    void hedgeDelay_withPercentile_tracksOnlyRecentLatencies() {
+        HedgingPolicy policy = HedgingPolicy.builder().latencyPercentile(50).build();
+
+        for (int i = 0; i < LatencyTracker.WINDOW_SIZE; i++) {
+            policy.recordLatency(Duration.ofMillis(100));
+        }
+        for (int i = 0; i < LatencyTracker.WINDOW_SIZE; i++) {
+            policy.recordLatency(Duration.ofMillis(1));
+        }
+
+        assertThat(policy.hedgeDelay()).contains(Duration.ofMillis(1));
+    }
+
+    @Test
+    void tryAcquireHedge_limitsHedgesToBudgetRatioOfRequests() {
+        HedgingPolicy policy = HedgingPolicy.builder().delay(Duration.ofMillis(10)).budgetRatio(0.1).build();
+
+        for (int i = 0; i < DefaultHedgingPolicy.MAX_BURST_HEDGES; i++) {
+            assertThat(policy.tryAcquireHedge()).isTrue();
+        }
+        assertThat(policy.tryAcquireHedge()).isFalse();
+
+        for (int i = 0; i < 9; i++) {
+            policy.recordRequest();
+        }
+        assertThat(policy.tryAcquireHedge()).isFalse();
+
+        policy.recordRequest();
+        assertThat(policy.tryAcquireHedge()).isTrue();
+        assertThat(policy.tryAcquireHedge()).isFalse();
+    }
+
+    @Test
+    void toBuilder_preservesConfiguration() {
+        HedgingPolicy policy = HedgingPolicy.builder()
+                                            .delay(Duration.ofMillis(10))
+                                            .latencyPercentile(99)
+                                            .budgetRatio(0.2)
+                                            .addOperation("GetItem")
+                                            .build();
+
+        assertThat(policy.toBuilder().build()).hasToString(policy.toString());
+    }
+}
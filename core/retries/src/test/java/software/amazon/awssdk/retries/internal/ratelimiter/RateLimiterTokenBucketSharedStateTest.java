@@ -0,0 +1,111 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.retries.internal.ratelimiter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.time.Duration;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.retries.AdaptiveRetryStateStore;
+
+class RateLimiterTokenBucketSharedStateTest {
+    private static final String SCOPE = "scope";
+
+    private AdaptiveRetryStateStore stateStore;
+    private TestClock clock;
+
+    @BeforeEach
+    void setup() {
+        stateStore = AdaptiveRetryStateStore.inMemory(UUID.randomUUID().toString());
+        clock = new TestClock();
+        clock.set(10.0, 1_000_000);
+    }
+
+    @Test
+    void throttledBucket_newBucketOfSameScope_startsAtThrottledRate() {
+        RateLimiterTokenBucket throttled = new RateLimiterTokenBucket(clock, stateStore, SCOPE);
+        double fillRate = throttle(throttled);
+
+        RateLimiterTokenBucket fresh = new RateLimiterTokenBucket(clock, stateStore, SCOPE);
+        assertThat(fresh.tryAcquire().delay()).isGreaterThan(Duration.ZERO);
+        assertThat(fresh.updateRateAfterSuccess().fillRate()).isCloseTo(fillRate, within(fillRate * 0.1));
+    }
+
+    @Test
+    void throttledBucket_bucketOfOtherScope_isNotLimited() {
+        throttle(new RateLimiterTokenBucket(clock, stateStore, SCOPE));
+
+        RateLimiterTokenBucket other = new RateLimiterTokenBucket(clock, stateStore, "other-scope");
+        assertThat(other.tryAcquire().delay()).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    void throttledBucket_bucketWithoutStateStore_isNotLimited() {
+        throttle(new RateLimiterTokenBucket(clock, stateStore, SCOPE));
+
+        RateLimiterTokenBucket unshared = new RateLimiterTokenBucket(clock);
+        assertThat(unshared.tryAcquire().delay()).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    void staleSharedState_isIgnored() {
+        throttle(new RateLimiterTokenBucket(clock, stateStore, SCOPE));
+        clock.set(clock.time() + 600, clock.epochMillis() + 600_000);
+
+        RateLimiterTokenBucket fresh = new RateLimiterTokenBucket(clock, stateStore, SCOPE);
+        assertThat(fresh.tryAcquire().delay()).isEqualTo(Duration.ZERO);
+    }
+
+    /**
+     * Sends requests at 10 per second for two seconds, then throttles the bucket, returning its new fill rate.
+     */
+    private double throttle(RateLimiterTokenBucket bucket) {
+        for (int i = 0; i < 20; i++) {
+            clock.advanceMillis(100);
+            bucket.tryAcquire();
+            bucket.updateRateAfterSuccess();
+        }
+        bucket.tryAcquire();
+        return bucket.updateRateAfterThrottling().fillRate();
+    }
+
+    private static final class TestClock implements RateLimiterClock {
+        private double time;
+        private long epochMillis;
+
+        @Override
+        public double time() {
+            return time;
+        }
+
+        @Override
+        public long epochMillis() {
+            return epochMillis;
+        }
+
+        void set(double time, long epochMillis) {
+            this.time = time;
+            this.epochMillis = epochMillis;
+        }
+
+        void advanceMillis(long millis) {
+            set(time + millis / 1000.0, epochMillis + millis);
+        }
+    }
+}
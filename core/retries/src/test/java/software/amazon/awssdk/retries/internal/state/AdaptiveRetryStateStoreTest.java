@@ -0,0 +1,134 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.retries.internal.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.retries.AdaptiveRetryState;
+import software.amazon.awssdk.retries.AdaptiveRetryStateStore;
+
+class AdaptiveRetryStateStoreTest {
+    private static final AdaptiveRetryState OLDER = AdaptiveRetryState.create(Instant.ofEpochMilli(1_000), 20.0, 14.0);
+    private static final AdaptiveRetryState NEWER = AdaptiveRetryState.create(Instant.ofEpochMilli(2_000), 10.0, 7.0);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void inMemory_storesWithSameName_shareState() {
+        String name = UUID.randomUUID().toString();
+        AdaptiveRetryStateStore.inMemory(name).store("scope", OLDER);
+
+        assertThat(AdaptiveRetryStateStore.inMemory(name).load("scope")).contains(OLDER);
+        assertThat(AdaptiveRetryStateStore.inMemory(name).load("other-scope")).isEmpty();
+        assertThat(AdaptiveRetryStateStore.inMemory(UUID.randomUUID().toString()).load("scope")).isEmpty();
+    }
+
+    @Test
+    void inMemory_keepsMostRecentState() {
+        AdaptiveRetryStateStore store = AdaptiveRetryStateStore.inMemory(UUID.randomUUID().toString());
+        store.store("scope", NEWER);
+        store.store("scope", OLDER);
+
+        assertThat(store.load("scope")).contains(NEWER);
+    }
+
+    @Test
+    void mappedFile_sameFile_returnsSameStore() {
+        Path file = tempDir.resolve("state");
+        assertThat(AdaptiveRetryStateStore.mappedFile(file)).isSameAs(AdaptiveRetryStateStore.mappedFile(file));
+    }
+
+    @Test
+    void mappedFile_separateMappingsOfSameFile_shareState() {
+        Path file = tempDir.resolve("state");
+        MappedFileAdaptiveRetryStateStore writer = new MappedFileAdaptiveRetryStateStore(file);
+        MappedFileAdaptiveRetryStateStore reader = new MappedFileAdaptiveRetryStateStore(file);
+
+        assertThat(reader.load("scope")).isEmpty();
+        writer.store("scope", OLDER);
+        assertThat(reader.load("scope")).contains(OLDER);
+        assertThat(reader.load("other-scope")).isEmpty();
+
+        writer.store("scope", NEWER);
+        writer.store("scope", OLDER);
+        assertThat(reader.load("scope")).contains(NEWER);
+    }
+
+    @Test
+    void mappedFile_fileLockedElsewhere_publishesStateOnlyInProcess() throws IOException {
+        Path file = tempDir.resolve("state");
+        MappedFileAdaptiveRetryStateStore store = new MappedFileAdaptiveRetryStateStore(file);
+        MappedFileAdaptiveRetryStateStore otherMapping = new MappedFileAdaptiveRetryStateStore(file);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE);
+             FileLock lock = channel.lock()) {
+            store.store("scope", OLDER);
+            assertThat(store.load("scope")).contains(OLDER);
+            assertThat(otherMapping.load("scope")).isEmpty();
+        }
+
+        store.store("scope", NEWER);
+        assertThat(otherMapping.load("scope")).contains(NEWER);
+    }
+
+    @Test
+    void mappedFile_olderStateInFile_loadsNewerPublishedState() {
+        Path file = tempDir.resolve("state");
+        MappedFileAdaptiveRetryStateStore store = new MappedFileAdaptiveRetryStateStore(file);
+        MappedFileAdaptiveRetryStateStore otherMapping = new MappedFileAdaptiveRetryStateStore(file);
+
+        otherMapping.store("scope", OLDER);
+        assertThat(store.load("scope")).contains(OLDER);
+
+        store.store("scope", NEWER);
+        otherMapping.store("scope", OLDER);
+        assertThat(store.load("scope")).contains(NEWER);
+        assertThat(otherMapping.load("scope")).contains(NEWER);
+    }
+
+    @Test
+    void mappedFile_manyScopes_storesEachScope() {
+        AdaptiveRetryStateStore store = AdaptiveRetryStateStore.mappedFile(tempDir.resolve("state"));
+        for (int i = 0; i < 100; i++) {
+            store.store("scope-" + i, AdaptiveRetryState.create(Instant.ofEpochMilli(i + 1), i, i + 1));
+        }
+        for (int i = 0; i < 100; i++) {
+            assertThat(store.load("scope-" + i).get().fillRate()).isEqualTo(i + 1);
+        }
+    }
+
+    @Test
+    void mappedFile_unrelatedFile_throwsException() throws IOException {
+        Path file = tempDir.resolve("unrelated");
+        Files.write(file, "not a state file".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> AdaptiveRetryStateStore.mappedFile(file))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
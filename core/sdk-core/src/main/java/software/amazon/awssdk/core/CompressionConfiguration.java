@@ -15,15 +15,21 @@
 
 package software.amazon.awssdk.core;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.compression.Compressor;
 import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
 import software.amazon.awssdk.utils.builder.CopyableBuilder;
 import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
 
 /**
- * Configuration options for operations with the RequestCompression trait to disable request configuration and set the minimum
- * compression threshold in bytes.
+ * Configuration options for operations with the RequestCompression trait to disable request configuration, set the minimum
+ * compression threshold in bytes, choose the compressors and compression level used to compress requests, and enable response
+ * compression.
  */
 @SdkPublicApi
 public final class CompressionConfiguration implements ToCopyableBuilder<CompressionConfiguration.Builder,
@@ -31,10 +37,16 @@ public final class CompressionConfiguration implements ToCopyableBuilder<Compres
 
     private final Boolean requestCompressionEnabled;
     private final Integer minimumCompressionThresholdInBytes;
+    private final Integer compressionLevel;
+    private final List<Compressor> compressors;
+    private final Boolean responseCompressionEnabled;
 
     private CompressionConfiguration(DefaultBuilder builder) {
         this.requestCompressionEnabled = builder.requestCompressionEnabled;
         this.minimumCompressionThresholdInBytes = builder.minimumCompressionThresholdInBytes;
+        this.compressionLevel = builder.compressionLevel;
+        this.compressors = Collections.unmodifiableList(new ArrayList<>(builder.compressors));
+        this.responseCompressionEnabled = builder.responseCompressionEnabled;
     }
 
     /**
@@ -51,6 +63,27 @@ public final class CompressionConfiguration implements ToCopyableBuilder<Compres
         return minimumCompressionThresholdInBytes;
     }
 
+    /**
+     * If set, returns the compression level, from 1 (fastest) to 9 (smallest), used to compress requests.
+     */
+    public Integer compressionLevel() {
+        return compressionLevel;
+    }
+
+    /**
+     * The compressors that are preferred over the SDK's built-in compressors, in order of preference.
+     */
+    public List<Compressor> compressors() {
+        return compressors;
+    }
+
+    /**
+     * If set, returns true if services are asked to compress responses, else false if they are not.
+     */
+    public Boolean responseCompressionEnabled() {
+        return responseCompressionEnabled;
+    }
+
     /**
      * Create a {@link CompressionConfiguration.Builder}, used to create a {@link CompressionConfiguration}.
      */
@@ -68,6 +101,9 @@ public final class CompressionConfiguration implements ToCopyableBuilder<Compres
         return ToString.builder("CompressionConfiguration")
                        .add("requestCompressionEnabled", requestCompressionEnabled)
                        .add("minimumCompressionThresholdInBytes", minimumCompressionThresholdInBytes)
+                       .add("compressionLevel", compressionLevel)
+                       .add("compressors", compressors)
+                       .add("responseCompressionEnabled", responseCompressionEnabled)
                        .build();
     }
 
@@ -85,13 +121,25 @@ public final class CompressionConfiguration implements ToCopyableBuilder<Compres
         if (!Objects.equals(requestCompressionEnabled, that.requestCompressionEnabled)) {
             return false;
         }
-        return Objects.equals(minimumCompressionThresholdInBytes, that.minimumCompressionThresholdInBytes);
+        if (!Objects.equals(minimumCompressionThresholdInBytes, that.minimumCompressionThresholdInBytes)) {
+            return false;
+        }
+        if (!Objects.equals(compressionLevel, that.compressionLevel)) {
+            return false;
+        }
+        if (!Objects.equals(compressors, that.compressors)) {
+            return false;
+        }
+        return Objects.equals(responseCompressionEnabled, that.responseCompressionEnabled);
     }
 
     @Override
     public int hashCode() {
         int result = requestCompressionEnabled != null ? requestCompressionEnabled.hashCode() : 0;
         result = 31 * result + (minimumCompressionThresholdInBytes != null ? minimumCompressionThresholdInBytes.hashCode() : 0);
+        result = 31 * result + (compressionLevel != null ? compressionLevel.hashCode() : 0);
+        result = 31 * result + (compressors != null ? compressors.hashCode() : 0);
+        result = 31 * result + (responseCompressionEnabled != null ? responseCompressionEnabled.hashCode() : 0);
         return result;
     }
 
@@ -116,11 +164,66 @@ public final class CompressionConfiguration implements ToCopyableBuilder<Compres
          * @return This object for method chaining.
          */
         Builder minimumCompressionThresholdInBytes(Integer minimumCompressionThresholdInBytes);
+
+        /**
+         * Configures the level used to compress requests. The range of levels depends on the compression algorithm, e.g. 1
+         * (fastest, least compression) to 9 (slowest, most compression) for gzip, and is validated by the {@link Compressor}.
+         * Lower levels use less CPU for high-rate operations, such as publishing metrics. The default is the default level of
+         * the compression algorithm, which is 6 for gzip.
+         *
+         * @param compressionLevel
+         * @return This object for method chaining.
+         */
+        default Builder compressionLevel(Integer compressionLevel) {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * Configures the compressors to use, replacing any that were previously added. A request is compressed with the first
+         * of these compressors whose {@link Compressor#compressorType()} the operation supports as a content encoding, or
+         * with a built-in compressor if there is none. Compressors configured on a request are preferred over those
+         * configured on the client.
+         *
+         * @param compressors
+         * @return This object for method chaining.
+         * @see #addCompressor(Compressor)
+         */
+        default Builder compressors(List<Compressor> compressors) {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * Adds a compressor to use, with a lower preference than those that were previously added. For example, this can be
+         * used to compress requests with a zstd implementation for operations that accept the "zstd" content encoding.
+         *
+         * @param compressor
+         * @return This object for method chaining.
+         * @see #compressors(List)
+         */
+        default Builder addCompressor(Compressor compressor) {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * Configures whether services are asked to compress responses, by sending an "Accept-Encoding: gzip" header. This only
+         * applies to operations whose responses are not streamed to the caller, which the SDK decompresses before unmarshalling
+         * them. Compressed responses use less bandwidth at the cost of the CPU time taken to decompress them. The default value
+         * is false.
+         *
+         * @param responseCompressionEnabled
+         * @return This object for method chaining.
+         */
+        default Builder responseCompressionEnabled(Boolean responseCompressionEnabled) {
+            throw new UnsupportedOperationException();
+        }
     }
 
     private static final class DefaultBuilder implements Builder {
         private Boolean requestCompressionEnabled;
         private Integer minimumCompressionThresholdInBytes;
+        private Integer compressionLevel;
+        private List<Compressor> compressors = new ArrayList<>();
+        private Boolean responseCompressionEnabled;
 
         private DefaultBuilder() {
         }
@@ -128,6 +231,9 @@ public final class CompressionConfiguration implements ToCopyableBuilder<Compres
         private DefaultBuilder(CompressionConfiguration compressionConfiguration) {
             this.requestCompressionEnabled = compressionConfiguration.requestCompressionEnabled;
             this.minimumCompressionThresholdInBytes = compressionConfiguration.minimumCompressionThresholdInBytes;
+            this.compressionLevel = compressionConfiguration.compressionLevel;
+            this.compressors = new ArrayList<>(compressionConfiguration.compressors);
+            this.responseCompressionEnabled = compressionConfiguration.responseCompressionEnabled;
         }
 
         @Override
@@ -142,6 +248,30 @@ public final class CompressionConfiguration implements ToCopyableBuilder<Compres
             return this;
         }
 
+        @Override
+        public Builder compressionLevel(Integer compressionLevel) {
+            this.compressionLevel = compressionLevel;
+            return this;
+        }
+
+        @Override
+        public Builder compressors(List<Compressor> compressors) {
+            this.compressors = new ArrayList<>(Validate.paramNotNull(compressors, "compressors"));
+            return this;
+        }
+
+        @Override
+        public Builder addCompressor(Compressor compressor) {
+            this.compressors.add(Validate.paramNotNull(compressor, "compressor"));
+            return this;
+        }
+
+        @Override
+        public Builder responseCompressionEnabled(Boolean responseCompressionEnabled) {
+            this.responseCompressionEnabled = responseCompressionEnabled;
+            return this;
+        }
+
         @Override
         public CompressionConfiguration build() {
             return new CompressionConfiguration(this);
@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.core.client.config;
 
+import static software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption.CHECKSUM_EXECUTOR;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR;
 
 import java.util.Map;
@@ -90,6 +91,9 @@ public final class ClientAsyncConfiguration
             if (option == FUTURE_COMPLETION_EXECUTOR) {
                 Executor executor = FUTURE_COMPLETION_EXECUTOR.convertValue(value);
                 this.advancedOptions.put(FUTURE_COMPLETION_EXECUTOR, ExecutorUtils.unmanagedExecutor(executor));
+            } else if (option == CHECKSUM_EXECUTOR) {
+                Executor executor = CHECKSUM_EXECUTOR.convertValue(value);
+                this.advancedOptions.put(CHECKSUM_EXECUTOR, executor == null ? null : ExecutorUtils.unmanagedExecutor(executor));
             } else {
                 this.advancedOptions.put(option, value);
             }
@@ -28,9 +28,11 @@ import static software.amazon.awssdk.core.client.config.SdkClientOption.CONFIGUR
 import static software.amazon.awssdk.core.client.config.SdkClientOption.CONFIGURED_SCHEDULED_EXECUTOR_SERVICE;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.EXECUTION_ATTRIBUTES;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.EXECUTION_INTERCEPTORS;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.HEDGING_POLICY;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.METRIC_PUBLISHERS;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.PROFILE_FILE_SUPPLIER;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.PROFILE_NAME;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.RATE_LIMITER;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.RETRY_POLICY;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.RETRY_STRATEGY;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.SCHEDULED_EXECUTOR_SERVICE;
@@ -59,6 +61,7 @@ import software.amazon.awssdk.core.SdkPlugin;
 import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.ratelimit.RequestRateLimiter;
 import software.amazon.awssdk.core.retry.RetryMode;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
@@ -66,6 +69,7 @@ import software.amazon.awssdk.metrics.MetricPublisher;
 import software.amazon.awssdk.profiles.ProfileFile;
 import software.amazon.awssdk.profiles.ProfileFileSupplier;
 import software.amazon.awssdk.profiles.ProfileFileSystemSetting;
+import software.amazon.awssdk.retries.HedgingPolicy;
 import software.amazon.awssdk.retries.api.RetryStrategy;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.CollectionUtils;
@@ -122,6 +126,8 @@ public final class ClientOverrideConfiguration
         options.add(CONFIGURED_RETRY_CONFIGURATOR);
         options.add(CONFIGURED_RETRY_MODE);
         options.add(USER_AGENT_APP_ID);
+        options.add(HEDGING_POLICY);
+        options.add(RATE_LIMITER);
         CLIENT_OVERRIDE_OPTIONS = Collections.unmodifiableSet(options);
 
         Set<ClientOption<?>> resolvedOptions = new HashSet<>();
@@ -391,6 +397,24 @@ public final class ClientOverrideConfiguration
         return Optional.ofNullable(config.option(USER_AGENT_APP_ID));
     }
 
+    /**
+     * The optional hedging policy that is used to send concurrent attempts of slow requests made by async clients.
+     *
+     * @see Builder#hedgingPolicy(HedgingPolicy)
+     */
+    public Optional<HedgingPolicy> hedgingPolicy() {
+        return Optional.ofNullable(config.option(HEDGING_POLICY));
+    }
+
+    /**
+     * The optional rate limiter that limits the rate at which this client sends requests.
+     *
+     * @see Builder#rateLimiter(RequestRateLimiter)
+     */
+    public Optional<RequestRateLimiter> rateLimiter() {
+        return Optional.ofNullable(config.option(RATE_LIMITER));
+    }
+
     @Override
     public String toString() {
         return ToString.builder("ClientOverrideConfiguration")
@@ -406,6 +430,8 @@ public final class ClientOverrideConfiguration
                        .add("scheduledExecutorService", scheduledExecutorService().orElse(null))
                        .add("compressionConfiguration", compressionConfiguration().orElse(null))
                        .add("appId", appId().orElse(null))
+                       .add("hedgingPolicy", hedgingPolicy().orElse(null))
+                       .add("rateLimiter", rateLimiter().orElse(null))
                        .build();
     }
 
@@ -778,6 +804,53 @@ public final class ClientOverrideConfiguration
          * The appId for this client. See {@link SdkClientOption#USER_AGENT_APP_ID}.
          */
         String appId();
+
+        /**
+         * Configure the {@link HedgingPolicy} that async clients use to send a second, concurrent attempt of a request when
+         * the first attempt is slow, using whichever response arrives first. Requests with a streaming input and requests
+         * made by sync clients are never hedged.
+         *
+         * <p>
+         * Hedging duplicates the load sent to the service, so it should only be enabled for idempotent read operations.
+         * Hedging is disabled by default.
+         *
+         * @see HedgingPolicy
+         */
+        default Builder hedgingPolicy(HedgingPolicy hedgingPolicy) {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * Configure the {@link HedgingPolicy} that async clients use to hedge slow requests.
+         *
+         * @see #hedgingPolicy(HedgingPolicy)
+         */
+        default Builder hedgingPolicy(Consumer<HedgingPolicy.Builder> hedgingPolicy) {
+            return hedgingPolicy(HedgingPolicy.builder().applyMutation(hedgingPolicy).build());
+        }
+
+        default HedgingPolicy hedgingPolicy() {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * Configure the {@link RequestRateLimiter} that limits the rate at which this client sends requests, so that traffic
+         * can be shaped to a known limit before the service starts throttling it. Every attempt of a rate limited request,
+         * including retries, waits for the rate limiter before it is sent.
+         *
+         * <p>
+         * The same rate limiter can be configured on multiple clients to limit their requests together. Rate limiting is
+         * disabled by default.
+         *
+         * @see RequestRateLimiter
+         */
+        default Builder rateLimiter(RequestRateLimiter rateLimiter) {
+            throw new UnsupportedOperationException();
+        }
+
+        default RequestRateLimiter rateLimiter() {
+            throw new UnsupportedOperationException();
+        }
     }
 
     /**
@@ -1121,6 +1194,36 @@ public final class ClientOverrideConfiguration
             return this;
         }
 
+        @Override
+        public Builder hedgingPolicy(HedgingPolicy hedgingPolicy) {
+            config.option(HEDGING_POLICY, hedgingPolicy);
+            return this;
+        }
+
+        public void setHedgingPolicy(HedgingPolicy hedgingPolicy) {
+            hedgingPolicy(hedgingPolicy);
+        }
+
+        @Override
+        public HedgingPolicy hedgingPolicy() {
+            return config.option(HEDGING_POLICY);
+        }
+
+        @Override
+        public Builder rateLimiter(RequestRateLimiter rateLimiter) {
+            config.option(RATE_LIMITER, rateLimiter);
+            return this;
+        }
+
+        public void setRateLimiter(RequestRateLimiter rateLimiter) {
+            rateLimiter(rateLimiter);
+        }
+
+        @Override
+        public RequestRateLimiter rateLimiter() {
+            return config.option(RATE_LIMITER);
+        }
+
         @Override
         public ClientOverrideConfiguration build() {
             return new ClientOverrideConfiguration(config.build(), resolvedConfig.build());
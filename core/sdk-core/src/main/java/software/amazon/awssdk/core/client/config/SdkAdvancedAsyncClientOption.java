@@ -55,6 +55,21 @@ public final class SdkAdvancedAsyncClientOption<T> extends ClientOption<T> {
     public static final SdkAdvancedAsyncClientOption<Executor> FUTURE_COMPLETION_EXECUTOR =
             new SdkAdvancedAsyncClientOption<>(Executor.class);
 
+    /**
+     * Configure an {@link Executor} that flexible checksums of async request and response bodies are calculated on, instead of
+     * the thread that publishes the body. By default, this is not configured, and checksums are calculated on the thread that
+     * publishes the body, which is often one of the async HTTP client's I/O threads.
+     * <p>
+     * When configured, each checksum is updated on the executor while the I/O thread moves on to the next part of the body. A
+     * limited number of parts of each body can be waiting to be checksummed at a time; after that, the body is not read any
+     * further until the checksum catches up. The checksum of a body is only calculated by one task at a time, so a small,
+     * bounded pool of threads is usually enough.
+     * <p>
+     * This executor is not closed when the client is closed.
+     */
+    public static final SdkAdvancedAsyncClientOption<Executor> CHECKSUM_EXECUTOR =
+            new SdkAdvancedAsyncClientOption<>(Executor.class);
+
     private SdkAdvancedAsyncClientOption(Class<T> valueClass) {
         super(valueClass);
     }
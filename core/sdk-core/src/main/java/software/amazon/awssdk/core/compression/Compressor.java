@@ -0,0 +1,110 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.compression;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.CompressionConfiguration;
+import software.amazon.awssdk.core.SdkBytes;
+
+/**
+ * Interface for compressors used to compress the requests of operations that support request compression.
+ * <p>
+ * The SDK provides a gzip compressor. Other algorithms can be used by configuring a compressor for them with
+ * {@link CompressionConfiguration.Builder#addCompressor(Compressor)}, and are used for any operation that accepts their
+ * {@link #compressorType()} as a content encoding.
+ * <p>
+ * Streaming payloads are compressed one chunk at a time, so each call must produce a complete encoding of its content that
+ * can be concatenated with the encodings of the other chunks, as gzip members and zstd frames can. Implementations must be
+ * thread-safe, since they are shared by all requests that they are configured for.
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface Compressor {
+
+    /**
+     * The compression algorithm type, which is sent as the request's content encoding (e.g. "gzip").
+     *
+     * @return The {@link String} compression algorithm type.
+     */
+    String compressorType();
+
+    /**
+     * A compressor of the same type that uses the given compression level. The range of levels depends on the algorithm, e.g.
+     * 1 (fastest) to 9 (smallest) for gzip, or 1 to 22 for zstd, so each compressor validates the level itself. Compressors
+     * that do not support levels ignore it.
+     *
+     * @param level
+     * @return The {@link Compressor} that uses the level.
+     * @throws IllegalArgumentException If the level is not supported by this compressor.
+     */
+    default Compressor withCompressionLevel(int level) {
+        return this;
+    }
+
+    /**
+     * Compress a {@link SdkBytes} payload.
+     *
+     * @param content
+     * @return The compressed {@link SdkBytes}.
+     */
+    SdkBytes compress(SdkBytes content);
+
+    /**
+     * Compress a byte[] payload.
+     *
+     * @param content
+     * @return The compressed byte array.
+     */
+    default byte[] compress(byte[] content) {
+        return compress(SdkBytes.fromByteArray(content)).asByteArray();
+    }
+
+    /**
+     * Compress a region of a byte[] payload.
+     *
+     * @param content
+     * @param offset The offset of the first byte to compress.
+     * @param length The number of bytes to compress.
+     * @return The compressed byte array.
+     */
+    default byte[] compress(byte[] content, int offset, int length) {
+        return compress(Arrays.copyOfRange(content, offset, offset + length));
+    }
+
+    /**
+     * Compress an {@link InputStream} payload.
+     *
+     * @param content
+     * @return The compressed {@link InputStream}.
+     */
+    default InputStream compress(InputStream content) {
+        return compress(SdkBytes.fromInputStream(content)).asInputStream();
+    }
+
+    /**
+     * Compress an {@link ByteBuffer} payload.
+     *
+     * @param content
+     * @return The compressed {@link ByteBuffer}.
+     */
+    default ByteBuffer compress(ByteBuffer content) {
+        return compress(SdkBytes.fromByteBuffer(content)).asByteBuffer();
+    }
+}
\ No newline at end of file
@@ -18,11 +18,16 @@ package software.amazon.awssdk.core.http;
 import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 
 import java.util.Optional;
-import java.util.zip.GZIPInputStream;
+import java.util.function.BiConsumer;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.core.internal.compression.GzipDecompressingInputStream;
 import software.amazon.awssdk.core.internal.util.Crc32ChecksumValidatingInputStream;
+import software.amazon.awssdk.core.metrics.CoreMetric;
 import software.amazon.awssdk.http.AbortableInputStream;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.metrics.MetricCollector;
 
 /**
  * Validate and decompress input data if necessary.
@@ -35,31 +40,47 @@ public final class Crc32Validation {
 
     public static SdkHttpFullResponse validate(boolean calculateCrc32FromCompressedData,
                                                SdkHttpFullResponse httpResponse) {
+        return validate(calculateCrc32FromCompressedData, httpResponse, null);
+    }
+
+    /**
+     * Validate and decompress the response content if necessary, reporting the
+     * {@link CoreMetric#RESPONSE_COMPRESSION_RATIO} of decompressed content to the attempt's metric collector.
+     */
+    public static SdkHttpFullResponse validate(boolean calculateCrc32FromCompressedData,
+                                               SdkHttpFullResponse httpResponse,
+                                               ExecutionAttributes executionAttributes) {
 
         if (!httpResponse.content().isPresent()) {
             return httpResponse;
         }
 
+        MetricCollector metricCollector = null;
+        if (executionAttributes != null) {
+            metricCollector = executionAttributes.getAttribute(SdkExecutionAttribute.API_CALL_ATTEMPT_METRIC_COLLECTOR);
+        }
+
         return httpResponse.toBuilder().content(
             process(calculateCrc32FromCompressedData, httpResponse,
-                    httpResponse.content().get())).build();
+                    httpResponse.content().get(), metricCollector)).build();
     }
 
     private static AbortableInputStream process(boolean calculateCrc32FromCompressedData,
                                                 SdkHttpFullResponse httpResponse,
-                                                AbortableInputStream content) {
+                                                AbortableInputStream content,
+                                                MetricCollector metricCollector) {
         Optional<Long> crc32Checksum = getCrc32Checksum(httpResponse);
 
         if (shouldDecompress(httpResponse)) {
             if (calculateCrc32FromCompressedData && crc32Checksum.isPresent()) {
-                return decompressing(crc32Validating(content, crc32Checksum.get()));
+                return decompressing(crc32Validating(content, crc32Checksum.get()), metricCollector);
             }
 
             if (crc32Checksum.isPresent()) {
-                return crc32Validating(decompressing(content), crc32Checksum.get());
+                return crc32Validating(decompressing(content, metricCollector), crc32Checksum.get());
             }
 
-            return decompressing(content);
+            return decompressing(content, metricCollector);
 
         }
 
@@ -77,11 +98,19 @@ public final class Crc32Validation {
 
     private static boolean shouldDecompress(SdkHttpFullResponse httpResponse) {
         return httpResponse.firstMatchingHeader("Content-Encoding")
-                           .filter(e -> e.equals("gzip"))
+                           .filter(e -> e.equalsIgnoreCase("gzip"))
                            .isPresent();
     }
 
-    private static AbortableInputStream decompressing(AbortableInputStream source) {
-        return AbortableInputStream.create(invokeSafely(() -> new GZIPInputStream(source)), source);
+    private static AbortableInputStream decompressing(AbortableInputStream source, MetricCollector metricCollector) {
+        BiConsumer<Long, Long> reportCompressionRatio = (compressedBytes, decompressedBytes) -> {
+            if (metricCollector != null && decompressedBytes > 0) {
+                metricCollector.reportMetric(CoreMetric.RESPONSE_COMPRESSION_RATIO,
+                                             (double) compressedBytes / decompressedBytes);
+            }
+        };
+        return AbortableInputStream.create(invokeSafely(() -> GzipDecompressingInputStream.create(source,
+                                                                                                  reportCompressionRatio)),
+                                           source);
     }
 }
@@ -16,6 +16,7 @@
 package software.amazon.awssdk.core.interceptor;
 
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicLong;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.core.ClientEndpointProvider;
@@ -168,6 +169,13 @@ public final class SdkInternalExecutionAttribute extends SdkExecutionAttribute {
     public static final ExecutionAttribute<RequestCompression> REQUEST_COMPRESSION =
         new ExecutionAttribute<>("RequestCompression");
 
+    /**
+     * Whether the SDK decompresses the response of the operation before unmarshalling it, which is the case for operations
+     * whose response is not streamed to the caller.
+     */
+    public static final ExecutionAttribute<Boolean> RESPONSE_DECOMPRESSION_SUPPORTED =
+        new ExecutionAttribute<>("ResponseDecompressionSupported");
+
     /**
      * The key under which the protocol metadata is stored.
      */
@@ -177,6 +185,13 @@ public final class SdkInternalExecutionAttribute extends SdkExecutionAttribute {
     public static final ExecutionAttribute<SdkClient> SDK_CLIENT =
         new ExecutionAttribute<>("SdkClient");
 
+    /**
+     * The executor that flexible checksums of async request and response bodies are calculated on, or null if they are
+     * calculated on the thread that publishes the body.
+     */
+    public static final ExecutionAttribute<Executor> CHECKSUM_EXECUTOR =
+        new ExecutionAttribute<>("ChecksumExecutor");
+
     /**
      * The request checksum calculation setting.
      */
@@ -24,18 +24,25 @@ import static software.amazon.awssdk.core.internal.util.ChunkContentUtils.create
 
 import java.nio.ByteBuffer;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicLong;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.checksums.ParallelCrcChecksum;
 import software.amazon.awssdk.checksums.SdkChecksum;
 import software.amazon.awssdk.checksums.spi.ChecksumAlgorithm;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.checksums.Algorithm;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.internal.util.HttpChecksumUtils;
+import software.amazon.awssdk.core.internal.util.NoopSubscription;
 import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.ExecutorUtils;
 import software.amazon.awssdk.utils.Validate;
 import software.amazon.awssdk.utils.async.DelegatingSubscriber;
 import software.amazon.awssdk.utils.builder.SdkBuilder;
@@ -50,11 +57,13 @@ import software.amazon.awssdk.utils.builder.SdkBuilder;
 public class ChecksumCalculatingAsyncRequestBody implements AsyncRequestBody {
 
     private static final byte[] FINAL_BYTE = new byte[0];
+    private static final int CHUNK_TRAILER_LENGTH = 2;
     private final AsyncRequestBody wrapped;
     private final SdkChecksum sdkChecksum;
     private final ChecksumAlgorithm algorithm;
     private final String trailerHeader;
     private final long totalBytes;
+    private final Executor checksumExecutor;
 
     private ChecksumCalculatingAsyncRequestBody(DefaultBuilder builder) {
 
@@ -66,6 +75,7 @@ public class ChecksumCalculatingAsyncRequestBody implements AsyncRequestBody {
         this.sdkChecksum = builder.algorithm != null ? SdkChecksum.forAlgorithm(algorithm) : null;
         this.trailerHeader = builder.trailerHeader;
         this.totalBytes = initTotalBytes(wrapped, builder.contentLengthHeader);
+        this.checksumExecutor = builder.checksumExecutor;
     }
 
     static long initTotalBytes(AsyncRequestBody wrapped, Long contentLengthHeader) {
@@ -118,6 +128,14 @@ public class ChecksumCalculatingAsyncRequestBody implements AsyncRequestBody {
          * @return This builder for method chaining.
          */
         ChecksumCalculatingAsyncRequestBody.Builder contentLengthHeader(Long contentLengthHeader);
+
+        /**
+         * Optional. The executor that the checksum is calculated on. If not set, the checksum is calculated on the thread
+         * that publishes the wrapped {@link AsyncRequestBody}.
+         * @param checksumExecutor the executor that the checksum is calculated on.
+         * @return This builder for method chaining.
+         */
+        ChecksumCalculatingAsyncRequestBody.Builder checksumExecutor(Executor checksumExecutor);
     }
 
     private static final class DefaultBuilder implements ChecksumCalculatingAsyncRequestBody.Builder {
@@ -126,6 +144,7 @@ public class ChecksumCalculatingAsyncRequestBody implements AsyncRequestBody {
         private ChecksumAlgorithm algorithm;
         private String trailerHeader;
         private Long contentLengthHeader;
+        private Executor checksumExecutor;
 
         @Override
         public ChecksumCalculatingAsyncRequestBody build() {
@@ -155,6 +174,12 @@ public class ChecksumCalculatingAsyncRequestBody implements AsyncRequestBody {
             this.contentLengthHeader = contentLength;
             return this;
         }
+
+        @Override
+        public Builder checksumExecutor(Executor checksumExecutor) {
+            this.checksumExecutor = checksumExecutor;
+            return this;
+        }
     }
 
     @Override
@@ -176,13 +201,52 @@ public class ChecksumCalculatingAsyncRequestBody implements AsyncRequestBody {
     @Override
     public void subscribe(Subscriber<? super ByteBuffer> s) {
         Validate.notNull(s, "Subscription MUST NOT be null.");
+        if (canChecksumFileInParallel()) {
+            subscribeWithParallelChecksum(s, (FileAsyncRequestBody) wrapped);
+            return;
+        }
+
         if (sdkChecksum != null) {
             sdkChecksum.reset();
         }
+        subscribe(s, sdkChecksum);
+    }
 
+    private void subscribe(Subscriber<? super ByteBuffer> s, SdkChecksum checksum) {
         SynchronousChunkBuffer synchronousChunkBuffer = new SynchronousChunkBuffer(totalBytes);
+        Executor executor = checksum instanceof PrecalculatedChecksum ? null : checksumExecutor;
         alwaysInvokeOnNext(wrapped.flatMapIterable(synchronousChunkBuffer::buffer))
-                 .subscribe(new ChecksumCalculatingSubscriber(s, sdkChecksum, trailerHeader, totalBytes));
+                 .subscribe(new ChecksumCalculatingSubscriber(s, checksum, trailerHeader, totalBytes, executor));
+    }
+
+    /**
+     * Whether the body is a file whose whole checksum can be calculated in parallel, by combining the CRCs of segments of
+     * the file, instead of being calculated on the thread that publishes the chunks.
+     */
+    private boolean canChecksumFileInParallel() {
+        return wrapped instanceof FileAsyncRequestBody
+               && ((FileAsyncRequestBody) wrapped).numBytesToRead() == totalBytes
+               && ParallelCrcChecksum.isSupported(algorithm, totalBytes);
+    }
+
+    /**
+     * Calculate the checksum of the file before publishing it, so that the chunks can be published without updating the
+     * checksum. The file is read on the configured checksum executor, or else on the SDK's shared blocking I/O executor, and
+     * never on the subscribing thread.
+     */
+    private void subscribeWithParallelChecksum(Subscriber<? super ByteBuffer> s, FileAsyncRequestBody file) {
+        Executor executor = checksumExecutor != null ? checksumExecutor : ExecutorUtils.sharedBlockingIoExecutor();
+        CompletableFuture<byte[]> checksum =
+            ParallelCrcChecksum.checksum(algorithm, file.path(), file.position(), totalBytes, executor);
+        checksum.whenComplete((checksumBytes, t) -> {
+            if (t != null) {
+                s.onSubscribe(new NoopSubscription(s));
+                s.onError(SdkClientException.create("Unable to calculate the checksum of " + file.path(),
+                                                    CompletableFutureUtils.errorAsCompletionException(t).getCause()));
+                return;
+            }
+            subscribe(s, new PrecalculatedChecksum(checksumBytes));
+        });
     }
 
     private SdkPublisher<ByteBuffer> alwaysInvokeOnNext(SdkPublisher<ByteBuffer> source) {
@@ -196,26 +260,41 @@ public class ChecksumCalculatingAsyncRequestBody implements AsyncRequestBody {
         private final String trailerHeader;
         private byte[] checksumBytes;
         private final AtomicLong remainingBytes;
+        private final Executor checksumExecutor;
         private Subscription subscription;
+        private PipelinedChecksumSubscription pipelinedChecksum;
+        private boolean finalChunkQueued;
+        private volatile CompletableFuture<Boolean> finalChunkPublished = CompletableFuture.completedFuture(true);
 
         ChecksumCalculatingSubscriber(Subscriber<? super ByteBuffer> wrapped,
                                       SdkChecksum checksum,
-                                      String trailerHeader, long totalBytes) {
+                                      String trailerHeader, long totalBytes,
+                                      Executor checksumExecutor) {
             this.wrapped = wrapped;
             this.checksum = checksum;
             this.trailerHeader = trailerHeader;
             this.remainingBytes = new AtomicLong(totalBytes);
+            this.checksumExecutor = checksumExecutor;
         }
 
         @Override
         public void onSubscribe(Subscription subscription) {
-            this.subscription = subscription;
-            wrapped.onSubscribe(subscription);
+            if (checksum != null && checksumExecutor != null) {
+                this.pipelinedChecksum = new PipelinedChecksumSubscription(subscription, checksum, checksumExecutor);
+                this.subscription = pipelinedChecksum;
+            } else {
+                this.subscription = subscription;
+            }
+            wrapped.onSubscribe(this.subscription);
         }
 
         @Override
         public void onNext(ByteBuffer byteBuffer) {
             boolean lastByte = this.remainingBytes.addAndGet(-byteBuffer.remaining()) <= 0;
+            if (pipelinedChecksum != null) {
+                onNextWithPipelinedChecksum(byteBuffer, lastByte);
+                return;
+            }
             try {
                 if (checksum != null) {
                     byteBuffer.mark();
@@ -238,11 +317,57 @@ public class ChecksumCalculatingAsyncRequestBody implements AsyncRequestBody {
             }
         }
 
+        /**
+         * Publish the chunk of the buffer without waiting for the checksum to be updated with it. The checksum is updated from
+         * the chunk, which is not shared with upstream, so the upstream publisher is free to reuse the buffer. The last chunk
+         * is published once every chunk has been checksummed, together with the checksum trailer.
+         */
+        private void onNextWithPipelinedChecksum(ByteBuffer byteBuffer, boolean lastByte) {
+            int dataLength = byteBuffer.remaining();
+            ByteBuffer contentChunk;
+            try {
+                contentChunk = byteBuffer.hasRemaining() ? createChunk(byteBuffer, false) : byteBuffer;
+            } catch (SdkException sdkException) {
+                this.subscription.cancel();
+                onError(sdkException);
+                return;
+            }
+
+            ByteBuffer chunkData = contentChunk.duplicate();
+            if (dataLength > 0) {
+                chunkData.limit(chunkData.limit() - CHUNK_TRAILER_LENGTH);
+                chunkData.position(chunkData.limit() - dataLength);
+            }
+            pipelinedChecksum.update(chunkData);
+
+            if (!lastByte || finalChunkQueued) {
+                wrapped.onNext(contentChunk);
+                return;
+            }
+
+            finalChunkQueued = true;
+            finalChunkPublished = pipelinedChecksum.checksumBytes().handle((bytes, t) -> {
+                if (t != null) {
+                    this.subscription.cancel();
+                    wrapped.onError(SdkClientException.create("Unable to calculate the checksum of the request body",
+                                                              CompletableFutureUtils.errorAsCompletionException(t)
+                                                                                    .getCause()));
+                    return false;
+                }
+                wrapped.onNext(appendFinalChunk(contentChunk, bytes));
+                return true;
+            });
+        }
+
         private ByteBuffer getFinalChecksumAppendedChunk(ByteBuffer byteBuffer) {
+            ByteBuffer contentChunk = byteBuffer.hasRemaining() ? createChunk(byteBuffer, false) : byteBuffer;
+            return appendFinalChunk(contentChunk, checksumBytes);
+        }
+
+        private ByteBuffer appendFinalChunk(ByteBuffer contentChunk, byte[] checksum) {
             ByteBuffer finalChunkedByteBuffer = createChunk(ByteBuffer.wrap(FINAL_BYTE), true);
             ByteBuffer checksumTrailerByteBuffer = createChecksumTrailer(
-                    BinaryUtils.toBase64(checksumBytes), trailerHeader);
-            ByteBuffer contentChunk = byteBuffer.hasRemaining() ? createChunk(byteBuffer, false) : byteBuffer;
+                    BinaryUtils.toBase64(checksum), trailerHeader);
 
             ByteBuffer checksumAppendedBuffer = ByteBuffer.allocate(
                     contentChunk.remaining()
@@ -258,12 +383,71 @@ public class ChecksumCalculatingAsyncRequestBody implements AsyncRequestBody {
 
         @Override
         public void onError(Throwable t) {
-            wrapped.onError(t);
+            finalChunkPublished.thenAccept(published -> {
+                if (published) {
+                    wrapped.onError(t);
+                }
+            });
         }
 
         @Override
         public void onComplete() {
-            wrapped.onComplete();
+            finalChunkPublished.thenAccept(published -> {
+                if (published) {
+                    wrapped.onComplete();
+                }
+            });
+        }
+    }
+
+    /**
+     * A checksum whose value was calculated before the body was published, which ignores the published data.
+     */
+    private static final class PrecalculatedChecksum implements SdkChecksum {
+        private final byte[] checksumBytes;
+
+        private PrecalculatedChecksum(byte[] checksumBytes) {
+            this.checksumBytes = checksumBytes;
+        }
+
+        @Override
+        public byte[] getChecksumBytes() {
+            return checksumBytes.clone();
+        }
+
+        @Override
+        public void mark(int readLimit) {
+        }
+
+        @Override
+        public void update(int b) {
+        }
+
+        @Override
+        public void update(byte[] b, int off, int len) {
+        }
+
+        @Override
+        public void update(ByteBuffer buffer) {
+        }
+
+        /**
+         * The checksum as a number, for checksums of up to 8 bytes, which are the big-endian bytes of the value.
+         */
+        @Override
+        public long getValue() {
+            if (checksumBytes.length > Long.BYTES) {
+                throw new UnsupportedOperationException("Use getChecksumBytes() instead.");
+            }
+            long value = 0;
+            for (byte b : checksumBytes) {
+                value = (value << 8) | (b & 0xff);
+            }
+            return value;
+        }
+
+        @Override
+        public void reset() {
         }
     }
 
@@ -16,6 +16,7 @@
 package software.amazon.awssdk.core.internal.async;
 
 import java.nio.ByteBuffer;
+import java.util.concurrent.Executor;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
@@ -24,6 +25,7 @@ import software.amazon.awssdk.checksums.SdkChecksum;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
 
 /**
  * Publisher to update the checksum as it reads the data and
@@ -35,20 +37,43 @@ public final class ChecksumValidatingPublisher implements SdkPublisher<ByteBuffe
     private final Publisher<ByteBuffer> publisher;
     private final SdkChecksum sdkChecksum;
     private final String expectedChecksum;
+    private final Executor checksumExecutor;
 
     public ChecksumValidatingPublisher(Publisher<ByteBuffer> publisher,
                                        SdkChecksum sdkChecksum,
                                        String expectedChecksum) {
+        this(publisher, sdkChecksum, expectedChecksum, null);
+    }
+
+    /**
+     * @param checksumExecutor The executor that the checksum is calculated on, or null to calculate it on the thread that
+     * publishes the data.
+     */
+    public ChecksumValidatingPublisher(Publisher<ByteBuffer> publisher,
+                                       SdkChecksum sdkChecksum,
+                                       String expectedChecksum,
+                                       Executor checksumExecutor) {
         this.publisher = publisher;
         this.sdkChecksum = sdkChecksum;
         this.expectedChecksum = expectedChecksum;
+        this.checksumExecutor = checksumExecutor;
     }
 
     @Override
     public void subscribe(Subscriber<? super ByteBuffer> s) {
+        if (checksumExecutor != null) {
+            publisher.subscribe(new PipelinedChecksumValidatingSubscriber(s, sdkChecksum, expectedChecksum, checksumExecutor));
+            return;
+        }
         publisher.subscribe(new ChecksumValidatingSubscriber(s, sdkChecksum, expectedChecksum));
     }
 
+    private static SdkClientException checksumMismatch(String calculatedChecksum, String expectedChecksum) {
+        return SdkClientException.create(
+            String.format("Data read has a different checksum than expected. Was %s, but expected %s",
+                          calculatedChecksum, expectedChecksum));
+    }
+
     private static class ChecksumValidatingSubscriber implements Subscriber<ByteBuffer> {
 
         private final Subscriber<? super ByteBuffer> wrapped;
@@ -91,9 +116,7 @@ public final class ChecksumValidatingPublisher implements SdkPublisher<ByteBuffe
                 calculatedChecksum = BinaryUtils.toBase64(sdkChecksum.getChecksumBytes());
 
                 if (!expectedChecksum.equals(calculatedChecksum)) {
-                    onError(SdkClientException.create(
-                            String.format("Data read has a different checksum than expected. Was %s, but expected %s",
-                                    calculatedChecksum, expectedChecksum)));
+                    onError(checksumMismatch(calculatedChecksum, expectedChecksum));
                     return; // Return after onError and not call onComplete below
                 }
             }
@@ -101,4 +124,62 @@ public final class ChecksumValidatingPublisher implements SdkPublisher<ByteBuffe
         }
     }
 
+    /**
+     * Publishes each buffer without waiting for the checksum to be updated with it, and validates the checksum once every
+     * buffer has been checksummed.
+     */
+    private static final class PipelinedChecksumValidatingSubscriber implements Subscriber<ByteBuffer> {
+
+        private final Subscriber<? super ByteBuffer> wrapped;
+        private final SdkChecksum sdkChecksum;
+        private final String expectedChecksum;
+        private final Executor checksumExecutor;
+        private PipelinedChecksumSubscription subscription;
+
+        PipelinedChecksumValidatingSubscriber(Subscriber<? super ByteBuffer> wrapped,
+                                              SdkChecksum sdkChecksum,
+                                              String expectedChecksum,
+                                              Executor checksumExecutor) {
+            this.wrapped = wrapped;
+            this.sdkChecksum = sdkChecksum;
+            this.expectedChecksum = expectedChecksum;
+            this.checksumExecutor = checksumExecutor;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            this.subscription = new PipelinedChecksumSubscription(s, sdkChecksum, checksumExecutor);
+            wrapped.onSubscribe(subscription);
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            subscription.update(byteBuffer);
+            wrapped.onNext(byteBuffer);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            wrapped.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            subscription.checksumBytes().whenComplete((checksumBytes, t) -> {
+                if (t != null) {
+                    wrapped.onError(SdkClientException.create("Unable to calculate the checksum of the response body",
+                                                              CompletableFutureUtils.errorAsCompletionException(t)
+                                                                                    .getCause()));
+                    return;
+                }
+
+                String calculatedChecksum = BinaryUtils.toBase64(checksumBytes);
+                if (!expectedChecksum.equals(calculatedChecksum)) {
+                    wrapped.onError(checksumMismatch(calculatedChecksum, expectedChecksum));
+                    return;
+                }
+                wrapped.onComplete();
+            });
+        }
+    }
 }
@@ -0,0 +1,102 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.async;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.checksums.PipelinedChecksum;
+import software.amazon.awssdk.checksums.SdkChecksum;
+
+/**
+ * A subscription that updates a checksum with the published buffers on an executor, and limits how many of them can be waiting
+ * to be checksummed.
+ * <p>
+ * Demand from downstream is passed upstream one buffer at a time, and only while fewer than {@link #MAX_PENDING_UPDATES}
+ * requested buffers have not been checksummed yet. When the checksum falls behind, the body is not read any further until it
+ * catches up, so the buffers held by pending updates are bounded.
+ */
+@SdkInternalApi
+final class PipelinedChecksumSubscription implements Subscription {
+    static final int MAX_PENDING_UPDATES = 4;
+
+    private final Subscription upstream;
+    private final PipelinedChecksum checksum;
+    private final AtomicLong demand = new AtomicLong();
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final AtomicInteger drainRequests = new AtomicInteger();
+    private volatile boolean cancelled;
+
+    PipelinedChecksumSubscription(Subscription upstream, SdkChecksum checksum, Executor executor) {
+        this.upstream = upstream;
+        this.checksum = PipelinedChecksum.create(checksum, executor);
+    }
+
+    @Override
+    public void request(long n) {
+        if (n <= 0) {
+            // Let the upstream subscription signal the rule violation
+            upstream.request(n);
+            return;
+        }
+        demand.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+        drain();
+    }
+
+    @Override
+    public void cancel() {
+        cancelled = true;
+        upstream.cancel();
+    }
+
+    /**
+     * Queue an update of the checksum with the remaining bytes of a buffer that was delivered by upstream. The buffer's
+     * position is not changed, and its contents must not be changed until the returned future completes.
+     */
+    CompletableFuture<Void> update(ByteBuffer buffer) {
+        return checksum.update(buffer).whenComplete((r, t) -> delivered());
+    }
+
+    /**
+     * Get the checksum bytes once every buffer delivered so far has been checksummed.
+     */
+    CompletableFuture<byte[]> checksumBytes() {
+        return checksum.checksumBytes();
+    }
+
+    private void delivered() {
+        outstanding.decrementAndGet();
+        drain();
+    }
+
+    private void drain() {
+        if (drainRequests.getAndIncrement() != 0) {
+            return;
+        }
+
+        do {
+            while (!cancelled && demand.get() > 0 && outstanding.get() < MAX_PENDING_UPDATES) {
+                demand.decrementAndGet();
+                outstanding.incrementAndGet();
+                upstream.request(1);
+            }
+        } while (drainRequests.decrementAndGet() != 0);
+    }
+}
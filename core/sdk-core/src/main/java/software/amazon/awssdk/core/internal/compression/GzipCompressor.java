@@ -15,40 +15,151 @@
 
 package software.amazon.awssdk.core.internal.compression;
 
-import static software.amazon.awssdk.utils.IoUtils.closeQuietlyV2;
-
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.UncheckedIOException;
-import java.util.zip.GZIPOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkBytes;
-import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.core.compression.Compressor;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.Validate;
 
+/**
+ * Compresses payloads into single-member gzip data.
+ * <p>
+ * Rather than allocating a {@link java.util.zip.GZIPOutputStream} (and the native zlib state behind its {@link Deflater}) for
+ * every payload, this writes the gzip header and trailer itself and deflates the payload directly into the output array with
+ * a {@link Deflater} borrowed from a pool that is shared by all gzip compressors.
+ */
 @SdkInternalApi
 public final class GzipCompressor implements Compressor {
 
     private static final String COMPRESSOR_TYPE = "gzip";
-    private static final Logger log = Logger.loggerFor(GzipCompressor.class);
+    private static final int MIN_LEVEL = Deflater.BEST_SPEED;
+    private static final int MAX_LEVEL = Deflater.BEST_COMPRESSION;
+
+    /**
+     * The gzip member header: magic number, deflate compression method, no flags, no modification time, no extra flags and
+     * an unknown OS, which is the same header that {@link java.util.zip.GZIPOutputStream} writes.
+     */
+    private static final byte[] HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0};
+
+    /**
+     * The gzip member trailer: the CRC-32 and the size of the uncompressed data.
+     */
+    private static final int TRAILER_LENGTH = 8;
+
+    private static final BlockingQueue<Deflater> DEFLATERS =
+        new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors());
+
+    private final int level;
+
+    public GzipCompressor() {
+        this(Deflater.DEFAULT_COMPRESSION);
+    }
+
+    public GzipCompressor(int level) {
+        this.level = level;
+    }
 
     @Override
     public String compressorType() {
         return COMPRESSOR_TYPE;
     }
 
+    @Override
+    public Compressor withCompressionLevel(int level) {
+        Validate.isTrue(level >= MIN_LEVEL && level <= MAX_LEVEL,
+                        "The gzip compression level must be between %s and %s, but was %s.", MIN_LEVEL, MAX_LEVEL, level);
+        return level == this.level ? this : new GzipCompressor(level);
+    }
+
     @Override
     public SdkBytes compress(SdkBytes content) {
-        GZIPOutputStream gzipOutputStream = null;
+        return SdkBytes.fromByteArrayUnsafe(compress(content.asByteArrayUnsafe()));
+    }
+
+    @Override
+    public byte[] compress(byte[] content) {
+        return compress(content, 0, content.length);
+    }
+
+    @Override
+    public byte[] compress(byte[] content, int offset, int length) {
+        ByteBuffer compressed = compressToBuffer(content, offset, length);
+        byte[] array = compressed.array();
+        return compressed.remaining() == array.length ? array : Arrays.copyOf(array, compressed.remaining());
+    }
+
+    /**
+     * Compress the remaining bytes of the buffer, without modifying its position. The returned buffer is backed by the array
+     * that the payload was compressed into, so it is not copied to trim it to the compressed size.
+     */
+    @Override
+    public ByteBuffer compress(ByteBuffer content) {
+        if (content.hasArray()) {
+            return compressToBuffer(content.array(), content.arrayOffset() + content.position(), content.remaining());
+        }
+        return compressToBuffer(BinaryUtils.copyBytesFrom(content), 0, content.remaining());
+    }
+
+    private ByteBuffer compressToBuffer(byte[] content, int offset, int length) {
+        byte[] output = new byte[HEADER.length + maxDeflatedLength(length) + TRAILER_LENGTH];
+        System.arraycopy(HEADER, 0, output, 0, HEADER.length);
+        int position = HEADER.length;
+
+        Deflater deflater = borrowDeflater();
         try {
-            ByteArrayOutputStream compressedOutputStream = new ByteArrayOutputStream();
-            gzipOutputStream = new GZIPOutputStream(compressedOutputStream);
-            gzipOutputStream.write(content.asByteArray());
-            gzipOutputStream.close();
-            return SdkBytes.fromByteArray(compressedOutputStream.toByteArray());
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
+            deflater.setInput(content, offset, length);
+            deflater.finish();
+            while (!deflater.finished()) {
+                if (position == output.length - TRAILER_LENGTH) {
+                    output = Arrays.copyOf(output, output.length * 2);
+                }
+                position += deflater.deflate(output, position, output.length - TRAILER_LENGTH - position);
+            }
         } finally {
-            closeQuietlyV2(gzipOutputStream, log);
+            releaseDeflater(deflater);
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(content, offset, length);
+        writeIntLittleEndian(output, position, (int) crc.getValue());
+        writeIntLittleEndian(output, position + 4, length);
+        return ByteBuffer.wrap(output, 0, position + TRAILER_LENGTH);
+    }
+
+    private Deflater borrowDeflater() {
+        Deflater deflater = DEFLATERS.poll();
+        if (deflater == null) {
+            return new Deflater(level, true);
+        }
+        deflater.setLevel(level);
+        return deflater;
+    }
+
+    private static void releaseDeflater(Deflater deflater) {
+        deflater.reset();
+        if (!DEFLATERS.offer(deflater)) {
+            deflater.end();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * An upper bound on the size of the deflated data, matching zlib's deflateBound() for the default window and memory
+     * levels. Incompressible data expands by a few bytes per 16KB stored block.
+     */
+    private static int maxDeflatedLength(int length) {
+        return length + (length >> 12) + (length >> 14) + (length >> 25) + 13;
+    }
+
+    private static void writeIntLittleEndian(byte[] output, int position, int value) {
+        output[position] = (byte) value;
+        output[position + 1] = (byte) (value >> 8);
+        output[position + 2] = (byte) (value >> 16);
+        output[position + 3] = (byte) (value >> 24);
+    }
+}
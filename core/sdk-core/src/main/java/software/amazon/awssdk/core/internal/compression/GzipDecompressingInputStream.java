@@ -0,0 +1,262 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.compression;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.BiConsumer;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * An input stream that decompresses gzip data, like {@link java.util.zip.GZIPInputStream}, but with an {@link Inflater}
+ * borrowed from a pool that is shared by all such streams and returned when the stream is closed.
+ * <p>
+ * Concatenated gzip members are decompressed as a single stream, and data after the last member that is not a gzip member is
+ * ignored, as with {@code GZIPInputStream}. When the end of the decompressed data is reached, the number of compressed bytes
+ * that were read and decompressed bytes that were returned are passed to the end-of-stream listener.
+ */
+@SdkInternalApi
+public final class GzipDecompressingInputStream extends InputStream {
+    private static final int BUFFER_SIZE = 8 * 1024;
+    private static final int GZIP_MAGIC = 0x8b1f;
+    private static final int FHCRC = 2;
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+
+    private static final BlockingQueue<Inflater> INFLATERS =
+        new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors());
+
+    private final InputStream in;
+    private final BiConsumer<Long, Long> endOfStreamListener;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private final byte[] singleByte = new byte[1];
+    private final CRC32 crc = new CRC32();
+    private Inflater inflater;
+    private int position;
+    private int limit;
+    private long compressedBytes;
+    private long decompressedBytes;
+    private boolean eof;
+
+    private GzipDecompressingInputStream(InputStream in, BiConsumer<Long, Long> endOfStreamListener) throws IOException {
+        this.in = in;
+        this.endOfStreamListener = endOfStreamListener;
+        readHeader();
+        this.inflater = borrowInflater();
+    }
+
+    /**
+     * Create a stream that decompresses the gzip data of the given stream, reading its first member header eagerly.
+     */
+    public static GzipDecompressingInputStream create(InputStream in) throws IOException {
+        return create(in, (compressed, decompressed) -> { });
+    }
+
+    /**
+     * Create a stream that decompresses the gzip data of the given stream, reading its first member header eagerly, and
+     * notifies the listener with the compressed and decompressed sizes once all of the data has been decompressed.
+     */
+    public static GzipDecompressingInputStream create(InputStream in, BiConsumer<Long, Long> endOfStreamListener)
+            throws IOException {
+        return new GzipDecompressingInputStream(in, endOfStreamListener);
+    }
+
+    @Override
+    public int read() throws IOException {
+        return read(singleByte, 0, 1) == -1 ? -1 : singleByte[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        if (off < 0 || len < 0 || len > b.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (len == 0) {
+            return 0;
+        }
+        if (eof) {
+            return -1;
+        }
+
+        while (true) {
+            if (inflater.needsInput()) {
+                if (position == limit && fill() == -1) {
+                    throw new EOFException("Unexpected end of gzip input stream");
+                }
+                inflater.setInput(buffer, position, limit - position);
+                position = limit;
+            }
+
+            int count = inflate(b, off, len);
+            if (count > 0) {
+                crc.update(b, off, count);
+                decompressedBytes += count;
+                return count;
+            }
+
+            if (inflater.finished()) {
+                position = limit - inflater.getRemaining();
+                readTrailer();
+                if (!readNextMemberHeader()) {
+                    eof = true;
+                    endOfStreamListener.accept(compressedBytes, decompressedBytes);
+                    return -1;
+                }
+                inflater.reset();
+                crc.reset();
+            } else if (inflater.needsDictionary()) {
+                throw new ZipException("Gzip data requires a preset dictionary");
+            }
+        }
+    }
+
+    @Override
+    public int available() throws IOException {
+        ensureOpen();
+        return eof ? 0 : 1;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (inflater != null) {
+            releaseInflater(inflater);
+            inflater = null;
+        }
+        in.close();
+    }
+
+    private int inflate(byte[] b, int off, int len) throws ZipException {
+        try {
+            return inflater.inflate(b, off, len);
+        } catch (DataFormatException e) {
+            ZipException zipException = new ZipException(e.getMessage() != null ? e.getMessage() : "Invalid gzip data format");
+            zipException.initCause(e);
+            throw zipException;
+        }
+    }
+
+    private void readHeader() throws IOException {
+        if (readUnsignedShort() != GZIP_MAGIC) {
+            throw new ZipException("Not in gzip format");
+        }
+        if (readUnsignedByte() != 8) {
+            throw new ZipException("Unsupported gzip compression method");
+        }
+        int flags = readUnsignedByte();
+        // Modification time, extra flags and operating system
+        skipBytes(6);
+        if ((flags & FEXTRA) == FEXTRA) {
+            skipBytes(readUnsignedShort());
+        }
+        if ((flags & FNAME) == FNAME) {
+            skipString();
+        }
+        if ((flags & FCOMMENT) == FCOMMENT) {
+            skipString();
+        }
+        if ((flags & FHCRC) == FHCRC) {
+            skipBytes(2);
+        }
+    }
+
+    private void readTrailer() throws IOException {
+        long expectedCrc = readUnsignedInt();
+        long expectedSize = readUnsignedInt();
+        if (expectedCrc != crc.getValue() || expectedSize != (inflater.getBytesWritten() & 0xffffffffL)) {
+            throw new ZipException("Corrupt gzip trailer");
+        }
+    }
+
+    /**
+     * Read the header of the next gzip member, returning false if there is no more data or the data that follows is not a gzip
+     * member.
+     */
+    private boolean readNextMemberHeader() throws IOException {
+        if (position == limit && fill() == -1) {
+            return false;
+        }
+        try {
+            readHeader();
+            return true;
+        } catch (ZipException | EOFException e) {
+            return false;
+        }
+    }
+
+    private int fill() throws IOException {
+        int count = in.read(buffer, 0, buffer.length);
+        if (count > 0) {
+            position = 0;
+            limit = count;
+            compressedBytes += count;
+        }
+        return count;
+    }
+
+    private int readUnsignedByte() throws IOException {
+        if (position == limit && fill() <= 0) {
+            throw new EOFException("Unexpected end of gzip input stream");
+        }
+        return buffer[position++] & 0xff;
+    }
+
+    private int readUnsignedShort() throws IOException {
+        return readUnsignedByte() | readUnsignedByte() << 8;
+    }
+
+    private long readUnsignedInt() throws IOException {
+        return (long) readUnsignedShort() | (long) readUnsignedShort() << 16;
+    }
+
+    private void skipBytes(int count) throws IOException {
+        for (int i = 0; i < count; i++) {
+            readUnsignedByte();
+        }
+    }
+
+    private void skipString() throws IOException {
+        while (readUnsignedByte() != 0) {
+            // Skip until the terminating zero byte
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (inflater == null) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+    private static Inflater borrowInflater() {
+        Inflater inflater = INFLATERS.poll();
+        return inflater != null ? inflater : new Inflater(true);
+    }
+
+    private static void releaseInflater(Inflater inflater) {
+        inflater.reset();
+        if (!INFLATERS.offer(inflater)) {
+            inflater.end();
+        }
+    }
+}
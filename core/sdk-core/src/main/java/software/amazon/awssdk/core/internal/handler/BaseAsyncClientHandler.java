@@ -36,6 +36,7 @@ import software.amazon.awssdk.core.http.ExecutionContext;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.InterceptorContext;
+import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
 import software.amazon.awssdk.core.internal.InternalCoreExecutionAttribute;
 import software.amazon.awssdk.core.internal.http.AmazonAsyncHttpClient;
 import software.amazon.awssdk.core.internal.http.IdempotentAsyncResponseHandler;
@@ -57,13 +58,11 @@ import software.amazon.awssdk.utils.Logger;
 public abstract class BaseAsyncClientHandler extends BaseClientHandler implements AsyncClientHandler {
     private static final Logger log = Logger.loggerFor(BaseAsyncClientHandler.class);
     private final AmazonAsyncHttpClient client;
-    private final Function<SdkHttpFullResponse, SdkHttpFullResponse> crc32Validator;
 
     protected BaseAsyncClientHandler(SdkClientConfiguration clientConfiguration,
                                      AmazonAsyncHttpClient client) {
         super(clientConfiguration);
         this.client = client;
-        this.crc32Validator = response -> Crc32Validation.validate(isCalculateCrc32FromCompressedData(), response);
     }
 
     @Override
@@ -71,6 +70,9 @@ public abstract class BaseAsyncClientHandler extends BaseClientHandler implement
         ClientExecutionParams<InputT, OutputT> executionParams) {
 
         return measureApiCallSuccess(executionParams, () -> {
+            // Non-streaming responses are buffered and decompressed by the crc32 validator before they are unmarshalled.
+            executionParams.putExecutionAttribute(SdkInternalExecutionAttribute.RESPONSE_DECOMPRESSION_SUPPORTED, true);
+
             // Running beforeExecution interceptors and modifyRequest interceptors.
             ExecutionContext executionContext = invokeInterceptorsAndCreateExecutionContext(executionParams);
 
@@ -121,7 +123,7 @@ public abstract class BaseAsyncClientHandler extends BaseClientHandler implement
             asyncStreamingResponseHandler.responseHandler(decoratedResponseHandlers);
 
             TransformingAsyncResponseHandler<? extends SdkException> errorHandler =
-                resolveErrorResponseHandler(executionParams.getErrorResponseHandler(), context, crc32Validator);
+                resolveErrorResponseHandler(executionParams.getErrorResponseHandler(), context, crc32Validator(context));
 
             TransformingAsyncResponseHandler<Response<ReturnT>> combinedResponseHandler =
                 new CombinedResponseAsyncHttpResponseHandler<>(wrappedAsyncStreamingResponseHandler, errorHandler);
@@ -162,11 +164,11 @@ public abstract class BaseAsyncClientHandler extends BaseClientHandler implement
 
         TransformingAsyncResponseHandler<OutputT> decoratedSuccessHandler =
             new AsyncResponseHandler<>(decoratedResponseHandlers,
-                                       crc32Validator,
+                                       crc32Validator(executionContext),
                                        executionContext.executionAttributes());
 
         TransformingAsyncResponseHandler<? extends SdkException> decoratedErrorHandler =
-            resolveErrorResponseHandler(errorHandler, executionContext, crc32Validator);
+            resolveErrorResponseHandler(errorHandler, executionContext, crc32Validator(executionContext));
         return new CombinedResponseAsyncHttpResponseHandler<>(decoratedSuccessHandler, decoratedErrorHandler);
     }
 
@@ -181,10 +183,15 @@ public abstract class BaseAsyncClientHandler extends BaseClientHandler implement
             decorateSuccessResponseHandlers(combinedResponseHandler, executionContext);
 
         return new AsyncResponseHandler<>(decoratedResponseHandlers,
-                                          crc32Validator,
+                                          crc32Validator(executionContext),
                                           executionContext.executionAttributes());
     }
 
+    private Function<SdkHttpFullResponse, SdkHttpFullResponse> crc32Validator(ExecutionContext executionContext) {
+        return response -> Crc32Validation.validate(isCalculateCrc32FromCompressedData(), response,
+                                                    executionContext.executionAttributes());
+    }
+
     private <InputT extends SdkRequest, OutputT extends SdkResponse, ReturnT> CompletableFuture<ReturnT> doExecute(
         ClientExecutionParams<InputT, OutputT> executionParams,
         ExecutionContext executionContext,
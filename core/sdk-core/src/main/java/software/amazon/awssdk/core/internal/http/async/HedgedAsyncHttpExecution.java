@@ -0,0 +1,286 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.async;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.retries.HedgingPolicy;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Executes a request with an {@link SdkAsyncHttpClient}, sending a second concurrent attempt (a hedge) if the first attempt
+ * has not received a response within the delay of the {@link HedgingPolicy}.
+ * <p>
+ * The first attempt to receive response headers wins: its response is delivered to the response handler, and every other
+ * attempt is cancelled. Failures are only delivered to the response handler once no other attempt is in flight, so a hedge
+ * can still succeed after the first attempt fails.
+ * <p>
+ * The request content must be re-subscribable, since it is sent by each attempt.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class HedgedAsyncHttpExecution {
+    private static final Logger log = Logger.loggerFor(HedgedAsyncHttpExecution.class);
+
+    private final SdkAsyncHttpClient httpClient;
+    private final AsyncExecuteRequest.Builder requestBuilder;
+    private final SdkAsyncHttpResponseHandler responseHandler;
+    private final HedgingPolicy hedgingPolicy;
+    private final ScheduledExecutorService scheduler;
+    private final Supplier<MetricCollector> hedgeMetricCollector;
+    private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+    /**
+     * When the first attempt was sent. Latencies are measured from this time even when a hedge wins, so that they include the
+     * hedge delay and reflect how long the caller waited.
+     */
+    private volatile long startTime;
+
+    /**
+     * All access is guarded by {@code this}.
+     */
+    private final List<Attempt> attempts = new ArrayList<>(2);
+    private Attempt winner;
+    private ScheduledFuture<?> hedgeTimer;
+
+    public HedgedAsyncHttpExecution(SdkAsyncHttpClient httpClient,
+                                    AsyncExecuteRequest.Builder requestBuilder,
+                                    SdkAsyncHttpResponseHandler responseHandler,
+                                    HedgingPolicy hedgingPolicy,
+                                    ScheduledExecutorService scheduler,
+                                    Supplier<MetricCollector> hedgeMetricCollector) {
+        this.httpClient = httpClient;
+        this.requestBuilder = requestBuilder;
+        this.responseHandler = responseHandler;
+        this.hedgingPolicy = hedgingPolicy;
+        this.scheduler = scheduler;
+        this.hedgeMetricCollector = hedgeMetricCollector;
+    }
+
+    /**
+     * Send the request, returning a future that completes with the future of the winning attempt. Completing the returned
+     * future exceptionally cancels every attempt.
+     */
+    public CompletableFuture<Void> execute() {
+        hedgingPolicy.recordRequest();
+        result.whenComplete((r, t) -> {
+            if (t != null) {
+                cancelAttempts(null, t);
+            }
+        });
+
+        Attempt primary = new Attempt();
+        startTime = System.nanoTime();
+        synchronized (this) {
+            attempts.add(primary);
+        }
+        primary.start(requestBuilder.responseHandler(primary).build());
+        hedgingPolicy.hedgeDelay().ifPresent(this::scheduleHedge);
+        return result;
+    }
+
+    private void scheduleHedge(Duration delay) {
+        synchronized (this) {
+            if (winner != null) {
+                return;
+            }
+            try {
+                hedgeTimer = scheduler.schedule(this::sendHedge, delay.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                log.debug(() -> "Unable to schedule a hedged request.", e);
+            }
+        }
+    }
+
+    private void sendHedge() {
+        Attempt hedge = new Attempt();
+        synchronized (this) {
+            if (winner != null || result.isDone() || !hedgingPolicy.tryAcquireHedge()) {
+                return;
+            }
+            attempts.add(hedge);
+        }
+        log.debug(() -> "Sending a hedged request, because the first attempt has not received a response.");
+        hedge.start(requestBuilder.responseHandler(hedge).metricCollector(hedgeMetricCollector.get()).build());
+    }
+
+    /**
+     * Make the given attempt the winner if no other attempt has won yet, cancelling the others.
+     */
+    private boolean claimWin(Attempt attempt) {
+        synchronized (this) {
+            if (winner != null) {
+                return winner == attempt;
+            }
+            winner = attempt;
+            if (hedgeTimer != null) {
+                hedgeTimer.cancel(false);
+            }
+        }
+        cancelAttempts(attempt, SdkClientException.create("Request was cancelled, because a hedged request received a "
+                                                          + "response first."));
+        return true;
+    }
+
+    /**
+     * Record that an attempt failed before receiving a response. The failure is only delivered if no other attempt can
+     * still receive a response.
+     */
+    private void attemptFailed(Attempt attempt, Throwable error) {
+        synchronized (this) {
+            if (winner != null || attempt.failed) {
+                return;
+            }
+            attempt.failed = true;
+            if (attempts.stream().anyMatch(a -> !a.failed)) {
+                log.debug(() -> "A request failed while another attempt is still in flight.", error);
+                return;
+            }
+        }
+
+        if (claimWin(attempt)) {
+            responseHandler.onError(error);
+        }
+    }
+
+    private void cancelAttempts(Attempt except, Throwable cause) {
+        List<Attempt> toCancel;
+        synchronized (this) {
+            toCancel = new ArrayList<>(attempts);
+            if (hedgeTimer != null) {
+                hedgeTimer.cancel(false);
+            }
+        }
+        toCancel.stream()
+                .filter(a -> a != except)
+                .forEach(a -> a.cancel(cause));
+    }
+
+    private boolean isWinner(Attempt attempt) {
+        synchronized (this) {
+            return winner == attempt;
+        }
+    }
+
+    private boolean isLoser(Attempt attempt) {
+        synchronized (this) {
+            return winner != attempt && (winner != null || result.isDone());
+        }
+    }
+
+    /**
+     * One request sent to the HTTP client, which only forwards its response to the response handler if it wins.
+     */
+    private final class Attempt implements SdkAsyncHttpResponseHandler {
+        private volatile CompletableFuture<Void> future;
+        private boolean failed;
+
+        private void start(AsyncExecuteRequest request) {
+            future = httpClient.execute(request);
+            future.whenComplete((r, t) -> {
+                if (t != null) {
+                    attemptFailed(this, t);
+                }
+                if (isWinner(this)) {
+                    if (t != null) {
+                        result.completeExceptionally(t);
+                    } else {
+                        result.complete(r);
+                    }
+                }
+            });
+
+            // The execution may have finished while this attempt was being started, before it could be cancelled.
+            if (isLoser(this)) {
+                cancel(SdkClientException.create("Request was cancelled, because the hedged execution already finished."));
+            }
+        }
+
+        private void cancel(Throwable cause) {
+            CompletableFuture<Void> attemptFuture = future;
+            if (attemptFuture != null) {
+                attemptFuture.completeExceptionally(cause);
+            }
+        }
+
+        @Override
+        public void onHeaders(SdkHttpResponse headers) {
+            if (claimWin(this)) {
+                hedgingPolicy.recordLatency(Duration.ofNanos(System.nanoTime() - startTime));
+                responseHandler.onHeaders(headers);
+            }
+        }
+
+        @Override
+        public void onStream(Publisher<ByteBuffer> stream) {
+            if (isWinner(this)) {
+                responseHandler.onStream(stream);
+            } else {
+                stream.subscribe(new CancellingSubscriber());
+            }
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            if (isWinner(this)) {
+                responseHandler.onError(error);
+            } else {
+                attemptFailed(this, error);
+            }
+        }
+    }
+
+    /**
+     * Discards the response content of an attempt that lost.
+     */
+    private static final class CancellingSubscriber implements Subscriber<ByteBuffer> {
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            subscription.cancel();
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.pipeline.stages;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.Response;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
+import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
+import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
+import software.amazon.awssdk.core.internal.http.pipeline.stages.utils.RateLimiterHelper;
+import software.amazon.awssdk.core.ratelimit.RequestRateLimiter;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+
+/**
+ * Wrapper pipeline that waits for the client's {@link RequestRateLimiter} before each attempt. Attempts that have to wait
+ * are scheduled on the client's scheduled executor, so no thread is blocked while waiting.
+ */
+@SdkInternalApi
+public final class AsyncRateLimitingStage<OutputT> implements RequestPipeline<SdkHttpFullRequest,
+    CompletableFuture<Response<OutputT>>> {
+    private final RequestRateLimiter rateLimiter;
+    private final ScheduledExecutorService scheduledExecutor;
+    private final RequestPipeline<SdkHttpFullRequest, CompletableFuture<Response<OutputT>>> wrapped;
+
+    public AsyncRateLimitingStage(HttpClientDependencies dependencies,
+                                  RequestPipeline<SdkHttpFullRequest, CompletableFuture<Response<OutputT>>> wrapped) {
+        this.rateLimiter = dependencies.clientConfiguration().option(SdkClientOption.RATE_LIMITER);
+        this.scheduledExecutor = dependencies.clientConfiguration().option(SdkClientOption.SCHEDULED_EXECUTOR_SERVICE);
+        this.wrapped = wrapped;
+    }
+
+    @Override
+    public CompletableFuture<Response<OutputT>> execute(SdkHttpFullRequest request,
+                                                        RequestExecutionContext context) throws Exception {
+        if (rateLimiter == null) {
+            return wrapped.execute(request, context);
+        }
+
+        Duration delay = RateLimiterHelper.reserve(rateLimiter, context);
+        if (delay.isZero()) {
+            return wrapped.execute(request, context);
+        }
+
+        CompletableFuture<Response<OutputT>> result = new CompletableFuture<>();
+        ScheduledFuture<?> scheduledAttempt = scheduledExecutor.schedule(() -> executeAttempt(request, context, result),
+                                                                         delay.toNanos(), TimeUnit.NANOSECONDS);
+        result.whenComplete((r, t) -> {
+            if (t != null) {
+                scheduledAttempt.cancel(false);
+            }
+        });
+        return result;
+    }
+
+    private void executeAttempt(SdkHttpFullRequest request,
+                                RequestExecutionContext context,
+                                CompletableFuture<Response<OutputT>> result) {
+        if (result.isDone()) {
+            return;
+        }
+        try {
+            CompletableFuture<Response<OutputT>> attemptFuture = wrapped.execute(request, context);
+            CompletableFutureUtils.forwardResultTo(attemptFuture, result);
+            CompletableFutureUtils.forwardExceptionTo(result, attemptFuture);
+        } catch (Throwable t) {
+            result.completeExceptionally(t);
+        }
+    }
+}
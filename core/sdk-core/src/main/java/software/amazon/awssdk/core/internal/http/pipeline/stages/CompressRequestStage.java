@@ -20,27 +20,32 @@ import static software.amazon.awssdk.core.client.config.SdkClientOption.COMPRESS
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.CompressionConfiguration;
 import software.amazon.awssdk.core.RequestOverrideConfiguration;
-import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.compression.Compressor;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
 import software.amazon.awssdk.core.internal.async.CompressionAsyncRequestBody;
-import software.amazon.awssdk.core.internal.compression.Compressor;
 import software.amazon.awssdk.core.internal.compression.CompressorType;
 import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.pipeline.MutableRequestToRequestPipeline;
 import software.amazon.awssdk.core.internal.sync.CompressionContentStreamProvider;
+import software.amazon.awssdk.core.internal.util.MetricUtils;
+import software.amazon.awssdk.core.metrics.CoreMetric;
 import software.amazon.awssdk.core.useragent.BusinessMetricFeatureId;
 import software.amazon.awssdk.http.ContentStreamProvider;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.utils.IoUtils;
+import software.amazon.awssdk.utils.Pair;
 
 /**
  * Compress requests whose operations are marked with the "requestCompression" C2J trait.
@@ -65,12 +70,21 @@ public class CompressRequestStage implements MutableRequestToRequestPipeline {
             return input;
         }
 
-        Compressor compressor = resolveCompressorType(context.executionAttributes());
+        Compressor compressor = resolveCompressor(context);
 
         if (!isStreaming(context)) {
-            compressEntirePayload(input, compressor);
+            // Read the payload once, and compress it once: the compressed bytes are both the new payload and the source of
+            // its length, and are replayed as-is on retries.
+            byte[] payload = readPayload(input);
+            if (!isRequestSizeWithinThreshold(payload.length, context)) {
+                return input;
+            }
+            Pair<byte[], Duration> measuredCompress = MetricUtils.measureDuration(() -> compressor.compress(payload));
+            byte[] compressedPayload = measuredCompress.left();
+            reportCompressionMetrics(context, measuredCompress.right(), payload.length, compressedPayload.length);
+            input.contentStreamProvider(ContentStreamProvider.fromByteArrayUnsafe(compressedPayload));
             updateContentEncodingHeader(input, compressor, context.executionAttributes());
-            updateContentLengthHeader(input);
+            input.putHeader("Content-Length", String.valueOf(compressedPayload.length));
             return input;
         }
 
@@ -96,7 +110,7 @@ public class CompressRequestStage implements MutableRequestToRequestPipeline {
         if (context.executionAttributes().getAttribute(SdkInternalExecutionAttribute.REQUEST_COMPRESSION) == null) {
             return false;
         }
-        if (resolveCompressorType(context.executionAttributes()) == null) {
+        if (resolveCompressorType(context) == null) {
             return false;
         }
         if (!resolveRequestCompressionEnabled(context)) {
@@ -105,20 +119,28 @@ public class CompressRequestStage implements MutableRequestToRequestPipeline {
         if (isStreaming(context)) {
             return true;
         }
-        if (input.contentStreamProvider() == null) {
-            return false;
-        }
-        return isRequestSizeWithinThreshold(input, context);
+        return input.contentStreamProvider() != null;
     }
 
     private boolean isStreaming(RequestExecutionContext context) {
         return context.executionAttributes().getAttribute(SdkInternalExecutionAttribute.REQUEST_COMPRESSION).isStreaming();
     }
 
-    private void compressEntirePayload(SdkHttpFullRequest.Builder input, Compressor compressor) {
-        ContentStreamProvider wrappedProvider = input.contentStreamProvider();
-        ContentStreamProvider compressedStreamProvider = () -> compressor.compress(wrappedProvider.newStream());
-        input.contentStreamProvider(compressedStreamProvider);
+    private byte[] readPayload(SdkHttpFullRequest.Builder input) {
+        try (InputStream inputStream = input.contentStreamProvider().newStream()) {
+            return IoUtils.toByteArray(inputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void reportCompressionMetrics(RequestExecutionContext context, Duration duration, int uncompressedLength,
+                                          int compressedLength) {
+        MetricCollector metricCollector = context.executionContext().metricCollector();
+        metricCollector.reportMetric(CoreMetric.COMPRESSION_DURATION, duration);
+        if (uncompressedLength > 0) {
+            metricCollector.reportMetric(CoreMetric.COMPRESSION_RATIO, (double) compressedLength / uncompressedLength);
+        }
     }
 
     private void updateContentEncodingHeader(SdkHttpFullRequest.Builder input,
@@ -133,26 +155,35 @@ public class CompressRequestStage implements MutableRequestToRequestPipeline {
         }
     }
 
-    private void updateContentLengthHeader(SdkHttpFullRequest.Builder input) {
-        InputStream inputStream = input.contentStreamProvider().newStream();
-        try {
-            byte[] bytes = IoUtils.toByteArray(inputStream);
-            String length = String.valueOf(bytes.length);
-            input.putHeader("Content-Length", length);
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
-        }
-    }
-
     private boolean isTransferEncodingChunked(SdkHttpFullRequest.Builder input) {
         return input.firstMatchingHeader("Transfer-Encoding")
                     .map(headerValue -> headerValue.equals("chunked"))
                     .orElse(false);
     }
 
-    private Compressor resolveCompressorType(ExecutionAttributes executionAttributes) {
+    private Compressor resolveCompressor(RequestExecutionContext context) {
+        Compressor compressor = resolveCompressorType(context);
+        Integer compressionLevel = resolveCompressionLevel(context);
+        if (compressionLevel == null) {
+            return compressor;
+        }
+        try {
+            return compressor.withCompressionLevel(compressionLevel);
+        } catch (IllegalArgumentException e) {
+            throw SdkClientException.create(e.getMessage(), e);
+        }
+    }
+
+    private Compressor resolveCompressorType(RequestExecutionContext context) {
         List<String> encodings =
-            executionAttributes.getAttribute(SdkInternalExecutionAttribute.REQUEST_COMPRESSION).getEncodings();
+            context.executionAttributes().getAttribute(SdkInternalExecutionAttribute.REQUEST_COMPRESSION).getEncodings();
+
+        for (Compressor compressor : resolveConfiguredCompressors(context)) {
+            String compressorType = compressor.compressorType().toLowerCase(Locale.ROOT);
+            if (encodings.stream().anyMatch(encoding -> encoding.toLowerCase(Locale.ROOT).equals(compressorType))) {
+                return compressor;
+            }
+        }
 
         for (String encoding: encodings) {
             encoding = encoding.toLowerCase(Locale.ROOT);
@@ -163,6 +194,15 @@ public class CompressRequestStage implements MutableRequestToRequestPipeline {
         return null;
     }
 
+    private List<Compressor> resolveConfiguredCompressors(RequestExecutionContext context) {
+        List<Compressor> compressors = new ArrayList<>();
+        context.originalRequest().overrideConfiguration()
+               .flatMap(RequestOverrideConfiguration::compressionConfiguration)
+               .ifPresent(c -> compressors.addAll(c.compressors()));
+        compressors.addAll(compressionConfig.compressors());
+        return compressors;
+    }
+
     private boolean resolveRequestCompressionEnabled(RequestExecutionContext context) {
 
         Optional<Boolean> requestCompressionEnabledRequestLevel =
@@ -181,10 +221,9 @@ public class CompressRequestStage implements MutableRequestToRequestPipeline {
         return true;
     }
 
-    private boolean isRequestSizeWithinThreshold(SdkHttpFullRequest.Builder input, RequestExecutionContext context) {
+    private boolean isRequestSizeWithinThreshold(int requestSize, RequestExecutionContext context) {
         int minimumCompressionThreshold = resolveMinCompressionSize(context);
         validateMinCompressionSizeInput(minimumCompressionThreshold);
-        int requestSize = SdkBytes.fromInputStream(input.contentStreamProvider().newStream()).asByteArray().length;
         return requestSize >= minimumCompressionThreshold;
     }
 
@@ -212,4 +251,17 @@ public class CompressRequestStage implements MutableRequestToRequestPipeline {
                                             + "10485760.", new IllegalArgumentException());
         }
     }
+
+    private Integer resolveCompressionLevel(RequestExecutionContext context) {
+
+        Optional<Integer> compressionLevelRequestLevel =
+            context.originalRequest().overrideConfiguration()
+                   .flatMap(RequestOverrideConfiguration::compressionConfiguration)
+                   .map(CompressionConfiguration::compressionLevel);
+        if (compressionLevelRequestLevel.isPresent()) {
+            return compressionLevelRequestLevel.get();
+        }
+
+        return compressionConfig.compressionLevel();
+    }
 }
@@ -244,7 +244,9 @@ public class HttpChecksumStage implements MutableRequestToRequestPipeline {
                     ChecksumCalculatingAsyncRequestBody.builder()
                                                        .asyncRequestBody(context.requestProvider())
                                                        .algorithm(checksumSpecs.algorithmV2())
-                                                       .trailerHeader(checksumSpecs.headerName());
+                                                       .trailerHeader(checksumSpecs.headerName())
+                                                       .checksumExecutor(context.executionAttributes().getAttribute(
+                                                           SdkInternalExecutionAttribute.CHECKSUM_EXECUTOR));
                 Optional<Long> maybeContentLengthHeader = request.firstMatchingHeader("Content-Length")
                                                                  .map(Long::parseLong);
                 maybeContentLengthHeader.ifPresent(checksumBodyBuilder::contentLengthHeader);
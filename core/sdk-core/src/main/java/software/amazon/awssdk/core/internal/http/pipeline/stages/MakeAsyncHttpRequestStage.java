@@ -37,11 +37,13 @@ import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
 import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
 import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.TransformingAsyncResponseHandler;
 import software.amazon.awssdk.core.internal.http.async.FilterTransformingAsyncHttpResponseHandler;
+import software.amazon.awssdk.core.internal.http.async.HedgedAsyncHttpExecution;
 import software.amazon.awssdk.core.internal.http.async.SimpleHttpContentPublisher;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.timers.TimeoutTracker;
@@ -56,6 +58,7 @@ import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
 import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.retries.HedgingPolicy;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.Logger;
 
@@ -73,6 +76,7 @@ public final class MakeAsyncHttpRequestStage<OutputT>
     private final Executor futureCompletionExecutor;
     private final ScheduledExecutorService timeoutExecutor;
     private final Duration apiCallAttemptTimeout;
+    private final HedgingPolicy hedgingPolicy;
 
     public MakeAsyncHttpRequestStage(TransformingAsyncResponseHandler<Response<OutputT>> responseHandler,
                                      HttpClientDependencies dependencies) {
@@ -82,6 +86,7 @@ public final class MakeAsyncHttpRequestStage<OutputT>
         this.sdkAsyncHttpClient = dependencies.clientConfiguration().option(SdkClientOption.ASYNC_HTTP_CLIENT);
         this.apiCallAttemptTimeout = dependencies.clientConfiguration().option(SdkClientOption.API_CALL_ATTEMPT_TIMEOUT);
         this.timeoutExecutor = dependencies.clientConfiguration().option(SdkClientOption.SCHEDULED_EXECUTOR_SERVICE);
+        this.hedgingPolicy = dependencies.clientConfiguration().option(SdkClientOption.HEDGING_POLICY);
     }
 
     @Override
@@ -148,7 +153,8 @@ public final class MakeAsyncHttpRequestStage<OutputT>
                        .getAttribute(SDK_HTTP_EXECUTION_ATTRIBUTES));
         }
 
-        CompletableFuture<Void> httpClientFuture = doExecuteHttpRequest(context, executeRequestBuilder, responseHandler);
+        CompletableFuture<Void> httpClientFuture = doExecuteHttpRequest(context, executeRequestBuilder, responseHandler,
+                                                                        shouldHedge(context, request));
 
         TimeoutTracker timeoutTracker = setupAttemptTimer(responseFuture, context);
         context.apiCallAttemptTimeoutTracker(timeoutTracker);
@@ -192,16 +198,27 @@ public final class MakeAsyncHttpRequestStage<OutputT>
 
     private CompletableFuture<Void> doExecuteHttpRequest(RequestExecutionContext context,
                                                          AsyncExecuteRequest.Builder executeRequestBuilder,
-                                                         TransformingAsyncResponseHandler<Response<OutputT>> responseHandler) {
+                                                         TransformingAsyncResponseHandler<Response<OutputT>> responseHandler,
+                                                         boolean hedge) {
         MetricCollector metricCollector = context.attemptMetricCollector();
         ReadMetricsTrackingResponseHandler<Response<OutputT>> wrappedResponseHandler =
             new ReadMetricsTrackingResponseHandler<>(responseHandler, context);
 
-        AsyncExecuteRequest executeRequest = executeRequestBuilder.responseHandler(wrappedResponseHandler)
-                                                                  .build();
-
         long startTime = MetricUtils.resetApiCallAttemptStartNanoTime(context);
-        CompletableFuture<Void> httpClientFuture = sdkAsyncHttpClient.execute(executeRequest);
+        CompletableFuture<Void> httpClientFuture;
+        if (hedge) {
+            httpClientFuture = new HedgedAsyncHttpExecution(sdkAsyncHttpClient,
+                                                            executeRequestBuilder,
+                                                            wrappedResponseHandler,
+                                                            hedgingPolicy,
+                                                            timeoutExecutor,
+                                                            () -> MetricUtils.createHttpMetricsCollector(context))
+                .execute();
+        } else {
+            AsyncExecuteRequest executeRequest = executeRequestBuilder.responseHandler(wrappedResponseHandler)
+                                                                      .build();
+            httpClientFuture = sdkAsyncHttpClient.execute(executeRequest);
+        }
 
         CompletableFuture<Void> result = httpClientFuture.whenComplete((r, t) -> {
             long d = System.nanoTime() - startTime;
@@ -214,6 +231,17 @@ public final class MakeAsyncHttpRequestStage<OutputT>
         return result;
     }
 
+    /**
+     * Requests are only hedged when their content can be sent more than once, which excludes streaming inputs.
+     */
+    private boolean shouldHedge(RequestExecutionContext context, SdkHttpFullRequest request) {
+        if (hedgingPolicy == null || context.requestProvider() != null || isFullDuplex(context.executionAttributes())) {
+            return false;
+        }
+        String operationName = context.executionAttributes().getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+        return hedgingPolicy.isHedgeable(operationName, request.method().name());
+    }
+
     private boolean isFullDuplex(ExecutionAttributes executionAttributes) {
         return executionAttributes.getAttribute(SdkInternalExecutionAttribute.IS_FULL_DUPLEX) != null &&
                executionAttributes.getAttribute(SdkInternalExecutionAttribute.IS_FULL_DUPLEX);
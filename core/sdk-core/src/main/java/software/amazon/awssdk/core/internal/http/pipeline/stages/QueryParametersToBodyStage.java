@@ -18,13 +18,13 @@ package software.amazon.awssdk.core.internal.http.pipeline.stages;
 import static java.util.Collections.singletonList;
 import static software.amazon.awssdk.utils.StringUtils.lowerCase;
 
-import java.io.ByteArrayInputStream;
 import java.nio.charset.StandardCharsets;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkProtocolMetadata;
 import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.pipeline.MutableRequestToRequestPipeline;
+import software.amazon.awssdk.core.internal.util.FormDataEncoder;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpMethod;
 
@@ -44,13 +44,13 @@ public class QueryParametersToBodyStage implements MutableRequestToRequestPipeli
     public SdkHttpFullRequest.Builder execute(SdkHttpFullRequest.Builder request, RequestExecutionContext context)
             throws Exception {
 
-        if (shouldPutParamsInBody(request.build(), context)) {
-            return changeQueryParametersToFormData(request.build()).toBuilder();
+        if (shouldPutParamsInBody(request, context)) {
+            return changeQueryParametersToFormData(request);
         }
         return request;
     }
 
-    private boolean shouldPutParamsInBody(SdkHttpFullRequest request, RequestExecutionContext context) {
+    private boolean shouldPutParamsInBody(SdkHttpFullRequest.Builder request, RequestExecutionContext context) {
         SdkProtocolMetadata protocolMetadata =
             context.executionAttributes().getAttribute(SdkInternalExecutionAttribute.PROTOCOL_METADATA);
         if (protocolMetadata == null) {
@@ -61,18 +61,21 @@ public class QueryParametersToBodyStage implements MutableRequestToRequestPipeli
 
         return isQueryProtocol &&
                request.method() == SdkHttpMethod.POST &&
-               !request.contentStreamProvider().isPresent() &&
+               request.contentStreamProvider() == null &&
                request.numRawQueryParameters() > 0;
     }
 
-    private SdkHttpFullRequest changeQueryParametersToFormData(SdkHttpFullRequest request) {
-        byte[] params = request.encodedQueryParametersAsFormData().orElse("")
-                             .getBytes(StandardCharsets.UTF_8);
+    /**
+     * Encodes the parameters straight from the builder into the body buffer, without building intermediate copies of the
+     * request or an encoded form-data string.
+     */
+    private SdkHttpFullRequest.Builder changeQueryParametersToFormData(SdkHttpFullRequest.Builder request) {
+        FormDataEncoder formData = new FormDataEncoder();
+        request.forEachRawQueryParameter(formData::writeParameter);
 
-        return request.toBuilder().clearQueryParameters()
-                    .contentStreamProvider(() -> new ByteArrayInputStream(params))
-                    .putHeader("Content-Length", singletonList(String.valueOf(params.length)))
-                    .putHeader("Content-Type", singletonList(DEFAULT_CONTENT_TYPE))
-                    .build();
+        return request.clearQueryParameters()
+                      .contentStreamProvider(formData.toContentStreamProvider())
+                      .putHeader("Content-Length", singletonList(String.valueOf(formData.size())))
+                      .putHeader("Content-Type", singletonList(DEFAULT_CONTENT_TYPE));
     }
 }
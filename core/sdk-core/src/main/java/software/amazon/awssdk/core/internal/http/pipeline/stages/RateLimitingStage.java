@@ -0,0 +1,55 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.pipeline.stages;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.Response;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
+import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
+import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
+import software.amazon.awssdk.core.internal.http.pipeline.RequestToResponsePipeline;
+import software.amazon.awssdk.core.internal.http.pipeline.stages.utils.RateLimiterHelper;
+import software.amazon.awssdk.core.ratelimit.RequestRateLimiter;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+
+/**
+ * Wrapper pipeline that waits for the client's {@link RequestRateLimiter} before each attempt, blocking the calling thread.
+ */
+@SdkInternalApi
+public final class RateLimitingStage<OutputT> implements RequestToResponsePipeline<OutputT> {
+    private final RequestRateLimiter rateLimiter;
+    private final RequestPipeline<SdkHttpFullRequest, Response<OutputT>> wrapped;
+
+    public RateLimitingStage(HttpClientDependencies dependencies,
+                             RequestPipeline<SdkHttpFullRequest, Response<OutputT>> wrapped) {
+        this.rateLimiter = dependencies.clientConfiguration().option(SdkClientOption.RATE_LIMITER);
+        this.wrapped = wrapped;
+    }
+
+    @Override
+    public Response<OutputT> execute(SdkHttpFullRequest request, RequestExecutionContext context) throws Exception {
+        if (rateLimiter != null) {
+            Duration delay = RateLimiterHelper.reserve(rateLimiter, context);
+            if (!delay.isZero()) {
+                TimeUnit.NANOSECONDS.sleep(delay.toNanos());
+            }
+        }
+        return wrapped.execute(request, context);
+    }
+}
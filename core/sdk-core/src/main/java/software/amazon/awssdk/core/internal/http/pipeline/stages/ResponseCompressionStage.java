@@ -0,0 +1,77 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.pipeline.stages;
+
+import static software.amazon.awssdk.core.client.config.SdkClientOption.COMPRESSION_CONFIGURATION;
+
+import java.util.Optional;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.CompressionConfiguration;
+import software.amazon.awssdk.core.RequestOverrideConfiguration;
+import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
+import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
+import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
+import software.amazon.awssdk.core.internal.http.pipeline.MutableRequestToRequestPipeline;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+
+/**
+ * Ask the service to compress the response, when response compression is enabled and the SDK decompresses the response of the
+ * operation before unmarshalling it. Streaming responses are passed to the caller as they are received, so they are never
+ * requested compressed.
+ */
+@SdkInternalApi
+public class ResponseCompressionStage implements MutableRequestToRequestPipeline {
+
+    private static final String ACCEPT_ENCODING_HEADER = "Accept-Encoding";
+    private static final String GZIP = "gzip";
+    private final CompressionConfiguration compressionConfig;
+
+    public ResponseCompressionStage(HttpClientDependencies dependencies) {
+        compressionConfig = dependencies.clientConfiguration().option(COMPRESSION_CONFIGURATION);
+    }
+
+    @Override
+    public SdkHttpFullRequest.Builder execute(SdkHttpFullRequest.Builder input, RequestExecutionContext context)
+            throws Exception {
+
+        if (!Boolean.TRUE.equals(context.executionAttributes()
+                                        .getAttribute(SdkInternalExecutionAttribute.RESPONSE_DECOMPRESSION_SUPPORTED))) {
+            return input;
+        }
+        if (!resolveResponseCompressionEnabled(context)) {
+            return input;
+        }
+        if (input.firstMatchingHeader(ACCEPT_ENCODING_HEADER).isPresent()) {
+            return input;
+        }
+
+        return input.putHeader(ACCEPT_ENCODING_HEADER, GZIP);
+    }
+
+    private boolean resolveResponseCompressionEnabled(RequestExecutionContext context) {
+
+        Optional<Boolean> responseCompressionEnabledRequestLevel =
+            context.originalRequest().overrideConfiguration()
+                   .flatMap(RequestOverrideConfiguration::compressionConfiguration)
+                   .map(CompressionConfiguration::responseCompressionEnabled);
+        if (responseCompressionEnabledRequestLevel.isPresent()) {
+            return responseCompressionEnabledRequestLevel.get();
+        }
+
+        Boolean isEnabled = compressionConfig == null ? null : compressionConfig.responseCompressionEnabled();
+        return Boolean.TRUE.equals(isEnabled);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.pipeline.stages.utils;
+
+import java.time.Duration;
+import java.util.Optional;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.core.ratelimit.RequestRateLimiter;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Contains the logic shared by the sync and async rate limiting stages.
+ */
+@SdkInternalApi
+public final class RateLimiterHelper {
+    private static final Logger log = Logger.loggerFor(RateLimiterHelper.class);
+
+    private RateLimiterHelper() {
+    }
+
+    /**
+     * Reserve a permit for the next attempt of the request, reporting the rate limit metrics and returning how long the
+     * attempt must wait before it is sent.
+     */
+    public static Duration reserve(RequestRateLimiter rateLimiter, RequestExecutionContext context) {
+        String operationName = context.executionAttributes().getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+        SdkRequest request = context.executionContext().interceptorContext().request();
+        Optional<RequestRateLimiter.Reservation> reservation = rateLimiter.reserve(operationName, request);
+        if (!reservation.isPresent()) {
+            return Duration.ZERO;
+        }
+
+        Duration delay = reservation.get().delay();
+        context.attemptMetricCollector().reportMetric(CoreMetric.RATE_LIMIT_DELAY_DURATION, delay);
+        context.attemptMetricCollector().reportMetric(CoreMetric.RATE_LIMIT_QUEUE_DEPTH, reservation.get().queueDepth());
+        if (!delay.isZero()) {
+            log.debug(() -> String.format("Waiting %dms for the rate limit of %s.", delay.toMillis(), operationName));
+        }
+        return delay;
+    }
+}
@@ -22,6 +22,7 @@ import static software.amazon.awssdk.core.internal.util.HttpChecksumUtils.getAlg
 import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 import org.reactivestreams.Publisher;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -33,6 +34,7 @@ import software.amazon.awssdk.core.interceptor.Context;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
 import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
 import software.amazon.awssdk.core.internal.async.ChecksumValidatingPublisher;
 import software.amazon.awssdk.core.internal.io.ChecksumValidatingInputStream;
 import software.amazon.awssdk.core.internal.util.HttpChecksumResolver;
@@ -92,9 +94,11 @@ public final class HttpChecksumValidationInterceptor implements ExecutionInterce
                                                                                                   resolvedChecksumSpecs);
             updateContextWithChecksumValidationStatus(executionAttributes, algorithmChecksumPair);
             if (algorithmChecksumPair != null && context.responsePublisher().isPresent()) {
+                Executor checksumExecutor = executionAttributes.getAttribute(SdkInternalExecutionAttribute.CHECKSUM_EXECUTOR);
                 return Optional.of(new ChecksumValidatingPublisher(context.responsePublisher().get(),
                                                                    SdkChecksum.forAlgorithm(algorithmChecksumPair.left()),
-                                                                   algorithmChecksumPair.right()));
+                                                                   algorithmChecksumPair.right(),
+                                                                   checksumExecutor));
             }
         }
         return context.responsePublisher();
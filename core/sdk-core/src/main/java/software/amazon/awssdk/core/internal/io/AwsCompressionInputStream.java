@@ -17,9 +17,8 @@ package software.amazon.awssdk.core.internal.io;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.Arrays;
 import software.amazon.awssdk.annotations.SdkInternalApi;
-import software.amazon.awssdk.core.internal.compression.Compressor;
+import software.amazon.awssdk.core.compression.Compressor;
 import software.amazon.awssdk.utils.Validate;
 
 /**
@@ -28,6 +27,7 @@ import software.amazon.awssdk.utils.Validate;
 @SdkInternalApi
 public final class AwsCompressionInputStream extends AwsChunkedInputStream {
     private final Compressor compressor;
+    private final byte[] chunkData = new byte[DEFAULT_CHUNK_SIZE];
 
     private AwsCompressionInputStream(InputStream in, Compressor compressor) {
         this.compressor = compressor;
@@ -72,7 +72,6 @@ public final class AwsCompressionInputStream extends AwsChunkedInputStream {
     }
 
     private boolean setUpNextChunk() throws IOException {
-        byte[] chunkData = new byte[DEFAULT_CHUNK_SIZE];
         int chunkSizeInBytes = 0;
         while (chunkSizeInBytes < DEFAULT_CHUNK_SIZE) {
             /** Read from the buffer of the uncompressed stream */
@@ -95,11 +94,8 @@ public final class AwsCompressionInputStream extends AwsChunkedInputStream {
             return true;
         }
 
-        if (chunkSizeInBytes < chunkData.length) {
-            chunkData = Arrays.copyOf(chunkData, chunkSizeInBytes);
-        }
-        // Compress the chunk
-        byte[] compressedChunkData = compressor.compress(chunkData);
+        // Compress the chunk. The chunk buffer is reused for the next chunk, so only the compressed data is allocated.
+        byte[] compressedChunkData = compressor.compress(chunkData, 0, chunkSizeInBytes);
         currentChunkIterator = new ChunkContentIterator(compressedChunkData);
         return false;
     }
@@ -0,0 +1,103 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * A rate limit for a single key, implemented with the generic cell rate algorithm (GCRA).
+ * <p>
+ * Instead of counting tokens, the bucket tracks the theoretical arrival time: the time at which the next request would be
+ * sent if requests were sent exactly at the configured rate. A request may be sent as soon as the theoretical arrival time is
+ * no more than the burst tolerance ahead of the current time. This is equivalent to a token bucket whose capacity is the
+ * burst size, and with a burst size of one it is equivalent to a leaky bucket that sends requests at evenly spaced intervals.
+ * <p>
+ * Permits are reserved rather than waited for, so that callers can wait without blocking a thread, and reserving a permit is
+ * a single compare-and-set.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class RateLimitBucket {
+    /**
+     * Returned by {@link #reserve(long, long)} once the bucket has been retired by {@link #retireIfIdle(long)}.
+     */
+    public static final long RETIRED = Long.MIN_VALUE;
+
+    private final long intervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrivalNanos;
+
+    public RateLimitBucket(double permitsPerSecond, int burstSize, long nowNanos) {
+        this.intervalNanos = Math.max(1, (long) (1_000_000_000 / permitsPerSecond));
+        this.burstToleranceNanos = (burstSize - 1) * intervalNanos;
+        this.theoreticalArrivalNanos = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Reserve a permit, returning how many nanoseconds the caller must wait before using it, or -1 if the caller would have
+     * to wait longer than {@code maxWaitNanos}, in which case no permit is reserved. Returns {@link #RETIRED} if the bucket has
+     * been retired.
+     */
+    public long reserve(long nowNanos, long maxWaitNanos) {
+        while (true) {
+            long theoreticalArrival = theoreticalArrivalNanos.get();
+            if (theoreticalArrival == RETIRED) {
+                return RETIRED;
+            }
+            long waitNanos = Math.max(0, theoreticalArrival - burstToleranceNanos - nowNanos);
+            if (waitNanos > maxWaitNanos) {
+                return -1;
+            }
+            long next = Math.max(theoreticalArrival, nowNanos) + intervalNanos;
+            if (theoreticalArrivalNanos.compareAndSet(theoreticalArrival, next)) {
+                return waitNanos;
+            }
+        }
+    }
+
+    /**
+     * Retire the bucket if its theoretical arrival time has passed, which means it has a full burst available and behaves
+     * exactly like a new bucket. Once retired, {@link #reserve(long, long)} returns {@link #RETIRED} instead of reserving a
+     * permit, so that the caller can reserve it from a new bucket instead.
+     */
+    public boolean retireIfIdle(long nowNanos) {
+        while (true) {
+            long theoreticalArrival = theoreticalArrivalNanos.get();
+            if (theoreticalArrival == RETIRED) {
+                return true;
+            }
+            if (theoreticalArrival - nowNanos > 0) {
+                return false;
+            }
+            if (theoreticalArrivalNanos.compareAndSet(theoreticalArrival, RETIRED)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * The number of reserved permits that are waiting ahead of a reservation that has to wait the given time.
+     */
+    public int queueDepth(long waitNanos) {
+        return (int) Math.min(Integer.MAX_VALUE, (waitNanos + intervalNanos - 1) / intervalNanos);
+    }
+
+    public long intervalNanos() {
+        return intervalNanos;
+    }
+}
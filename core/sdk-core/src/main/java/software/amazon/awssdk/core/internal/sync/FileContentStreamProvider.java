@@ -22,12 +22,13 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.ContentStreamProvider;
+import software.amazon.awssdk.http.FileBackedContentStreamProvider;
 
 /**
  * {@link ContentStreamProvider} implementation for files.
  */
 @SdkInternalApi
-public final class FileContentStreamProvider implements ContentStreamProvider {
+public final class FileContentStreamProvider implements FileBackedContentStreamProvider {
     private final Path filePath;
     private InputStream currentStream;
 
@@ -42,6 +43,11 @@ public final class FileContentStreamProvider implements ContentStreamProvider {
         return currentStream;
     }
 
+    @Override
+    public Path path() {
+        return filePath;
+    }
+
     private void closeCurrentStream() {
         if (currentStream != null) {
             invokeSafely(currentStream::close);
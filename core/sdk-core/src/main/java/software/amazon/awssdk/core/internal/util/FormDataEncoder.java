@@ -0,0 +1,193 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.util;
+
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+import java.util.List;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.ContentStreamProvider;
+import software.amazon.awssdk.utils.http.SdkHttpUtils;
+
+/**
+ * Writes {@code application/x-www-form-urlencoded} parameters directly into a growable byte buffer.
+ *
+ * <p>The output is byte-for-byte identical to {@link SdkHttpUtils#encodeAndFlattenFormData(java.util.Map)} encoded as
+ * UTF-8, but avoids creating an encoded {@link String} per key and value, the flattened {@link StringBuilder}, and the
+ * final {@code getBytes} copy.
+ */
+@SdkInternalApi
+public final class FormDataEncoder {
+    private static final int DEFAULT_INITIAL_CAPACITY = 256;
+    private static final byte[] HEX = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B', 'C', 'D', 'E', 'F'};
+    private static final boolean[] UNRESERVED = new boolean[128];
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            UNRESERVED[c] = true;
+        }
+        for (char c = 'A'; c <= 'Z'; c++) {
+            UNRESERVED[c] = true;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            UNRESERVED[c] = true;
+        }
+        UNRESERVED['.'] = true;
+        UNRESERVED['-'] = true;
+        UNRESERVED['*'] = true;
+        UNRESERVED['_'] = true;
+    }
+
+    private byte[] buffer;
+    private int size;
+
+    public FormDataEncoder() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public FormDataEncoder(int initialCapacity) {
+        this.buffer = new byte[Math.max(initialCapacity, 16)];
+    }
+
+    /**
+     * Append every value of the given parameter. A null value emits the key without an {@code =}, and a null list emits
+     * nothing, matching {@link SdkHttpUtils#encodeAndFlattenFormData(java.util.Map)}.
+     */
+    public FormDataEncoder writeParameter(String key, List<String> values) {
+        if (values == null) {
+            return this;
+        }
+        for (int i = 0; i < values.size(); i++) {
+            writeParameter(key, values.get(i));
+        }
+        return this;
+    }
+
+    /**
+     * Append a single {@code key=value} pair, preceded by {@code &} if this is not the first pair.
+     */
+    public FormDataEncoder writeParameter(String key, String value) {
+        if (size > 0) {
+            ensureCapacity(1);
+            buffer[size++] = '&';
+        }
+        writeEncoded(key);
+        if (value != null) {
+            ensureCapacity(1);
+            buffer[size++] = '=';
+            writeEncoded(value);
+        }
+        return this;
+    }
+
+    /**
+     * @return The number of bytes written so far.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return A {@link ContentStreamProvider} over the bytes written so far, backed by the internal buffer without
+     * copying. The encoder must not be written to after this is called.
+     */
+    public ContentStreamProvider toContentStreamProvider() {
+        byte[] bytes = buffer;
+        int length = size;
+        return () -> new ByteArrayInputStream(bytes, 0, length);
+    }
+
+    /**
+     * @return A copy of the bytes written so far.
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    private void writeEncoded(String value) {
+        int length = value.length();
+        ensureCapacity(encodedLength(value));
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                if (UNRESERVED[c]) {
+                    buffer[size++] = (byte) c;
+                } else if (c == ' ') {
+                    buffer[size++] = '+';
+                } else {
+                    writePercentEncoded(c);
+                }
+            } else if (c < 0x800) {
+                writePercentEncoded(0xC0 | (c >> 6));
+                writePercentEncoded(0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                writePercentEncoded(0xF0 | (codePoint >> 18));
+                writePercentEncoded(0x80 | ((codePoint >> 12) & 0x3F));
+                writePercentEncoded(0x80 | ((codePoint >> 6) & 0x3F));
+                writePercentEncoded(0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // Unpaired surrogates are replaced with '?', the same as String.getBytes(UTF_8)
+                writePercentEncoded('?');
+            } else {
+                writePercentEncoded(0xE0 | (c >> 12));
+                writePercentEncoded(0x80 | ((c >> 6) & 0x3F));
+                writePercentEncoded(0x80 | (c & 0x3F));
+            }
+        }
+    }
+
+    private void writePercentEncoded(int b) {
+        buffer[size++] = '%';
+        buffer[size++] = HEX[(b >> 4) & 0xF];
+        buffer[size++] = HEX[b & 0xF];
+    }
+
+    /**
+     * Computes the exact number of bytes {@link #writeEncoded(String)} will produce, so the buffer grows at most once
+     * per key or value.
+     */
+    private static int encodedLength(String value) {
+        int length = value.length();
+        int result = 0;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                result += UNRESERVED[c] || c == ' ' ? 1 : 3;
+            } else if (c < 0x800) {
+                result += 6;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                result += 12;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                result += 3;
+            } else {
+                result += 9;
+            }
+        }
+        return result;
+    }
+
+    private void ensureCapacity(int additional) {
+        int required = size + additional;
+        if (required < 0) {
+            throw new OutOfMemoryError("Form data exceeds the maximum array size.");
+        }
+        if (required > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(required, buffer.length << 1));
+        }
+    }
+}
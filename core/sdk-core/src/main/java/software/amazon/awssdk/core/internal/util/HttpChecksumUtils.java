@@ -46,16 +46,12 @@ import software.amazon.awssdk.core.internal.signer.SigningMethod;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.http.SdkHttpResponse;
-import software.amazon.awssdk.utils.ClassLoaderHelper;
 import software.amazon.awssdk.utils.ImmutableMap;
-import software.amazon.awssdk.utils.Lazy;
-import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.Pair;
 import software.amazon.awssdk.utils.StringUtils;
 
 @SdkInternalApi
 public final class HttpChecksumUtils {
-    private static final Logger log = Logger.loggerFor(HttpChecksumUtils.class);
 
     private static final int CHECKSUM_BUFFER_SIZE = 16 * 1024;
 
@@ -75,15 +71,6 @@ public final class HttpChecksumUtils {
         Algorithm.CRC64NVME, CRC64NVME
     );
 
-    private static Lazy<Boolean> isCrc64NvmeAvailable = new Lazy<>(() -> {
-        try {
-            ClassLoaderHelper.loadClass("software.amazon.awssdk.crt.checksums.CRC64NVME", false);
-        } catch (ClassNotFoundException e) {
-            return false;
-        }
-        return true;
-    });
-
     private HttpChecksumUtils() {
     }
 
@@ -326,11 +313,6 @@ public final class HttpChecksumUtils {
                 sdkHttpResponse.firstMatchingHeader(httpChecksumHeader(checksumAlgorithm.algorithmId()));
 
             if (firstMatchingHeader.isPresent()) {
-                if (checksumAlgorithm.equals(CRC64NVME) && !isCrc64NvmeAvailable.getValue()) {
-                    log.debug(() -> "Skip CRC64NVME checksum validation because CRT is not on the classpath and CRC64NVME is "
-                                    + "not available");
-                    continue;
-                }
                 return Pair.of(checksumAlgorithm, firstMatchingHeader.get());
             }
         }
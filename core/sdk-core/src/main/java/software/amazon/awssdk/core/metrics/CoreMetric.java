@@ -19,6 +19,7 @@ import java.net.URI;
 import java.time.Duration;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.ratelimit.RequestRateLimiter;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.metrics.MetricCategory;
@@ -87,12 +88,48 @@ public final class CoreMetric {
     public static final SdkMetric<Duration> BACKOFF_DELAY_DURATION =
         metric("BackoffDelayDuration", Duration.class, MetricLevel.INFO);
 
+    /**
+     * The duration of time that this API call attempt waited for the client's {@link RequestRateLimiter} before it was sent.
+     * This is only reported when the operation is rate limited.
+     */
+    public static final SdkMetric<Duration> RATE_LIMIT_DELAY_DURATION =
+        metric("RateLimitDelayDuration", Duration.class, MetricLevel.INFO);
+
+    /**
+     * The number of requests to the same operation and resource that were already waiting for the client's
+     * {@link RequestRateLimiter} when this API call attempt started waiting. This is only reported when the operation is rate
+     * limited.
+     */
+    public static final SdkMetric<Integer> RATE_LIMIT_QUEUE_DEPTH =
+        metric("RateLimitQueueDepth", Integer.class, MetricLevel.INFO);
+
     /**
      * The duration of time taken to marshall the SDK request to an HTTP request.
      */
     public static final SdkMetric<Duration> MARSHALLING_DURATION =
         metric("MarshallingDuration", Duration.class, MetricLevel.INFO);
 
+    /**
+     * The duration of time taken to compress the request payload. This is only reported for requests whose payload is
+     * compressed in its entirety, which excludes streaming requests.
+     */
+    public static final SdkMetric<Duration> COMPRESSION_DURATION =
+        metric("CompressionDuration", Duration.class, MetricLevel.INFO);
+
+    /**
+     * The size of the compressed request payload divided by the size of the uncompressed payload. This is reported alongside
+     * {@link #COMPRESSION_DURATION}, to weigh the bandwidth saved by compression against the time taken to compress.
+     */
+    public static final SdkMetric<Double> COMPRESSION_RATIO =
+        metric("CompressionRatio", Double.class, MetricLevel.INFO);
+
+    /**
+     * The size of a compressed response payload divided by the size of the payload once the SDK has decompressed it. This is
+     * only reported for responses that the SDK decompresses, which excludes streaming responses.
+     */
+    public static final SdkMetric<Double> RESPONSE_COMPRESSION_RATIO =
+        metric("ResponseCompressionRatio", Double.class, MetricLevel.INFO);
+
     /**
      * The duration of time taken to sign the HTTP request.
      */
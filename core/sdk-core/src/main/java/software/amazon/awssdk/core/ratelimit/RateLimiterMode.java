@@ -0,0 +1,35 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.ratelimit;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * How a {@link RequestRateLimiter} shapes the requests that it limits.
+ */
+@SdkPublicApi
+public enum RateLimiterMode {
+    /**
+     * Requests are sent immediately while there are permits in the bucket, allowing bursts of up to
+     * {@link RequestRateLimiter.Builder#burstSize(Integer)} requests, and the bucket refills at the configured rate.
+     */
+    TOKEN_BUCKET,
+
+    /**
+     * Requests are sent at evenly spaced intervals at the configured rate, without bursts.
+     */
+    LEAKY_BUCKET
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.ratelimit;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.internal.ratelimit.RateLimitBucket;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Limits the rate at which a client sends requests, so that traffic can be shaped to a known limit (for example, the
+ * provisioned throughput of a DynamoDB table) before the service starts throttling it.
+ * <p>
+ * Requests are limited per operation, and optionally per resource within an operation, such as the table that a DynamoDB
+ * request is sent to. Requests that are over the rate wait until they can be sent: async clients wait without blocking a
+ * thread, using the client's scheduled executor, and sync clients block the calling thread. Every attempt of a request,
+ * including retries, is limited.
+ * <p>
+ * A rate limiter can be shared by multiple clients, in which case their requests are limited together. The rate limiter is
+ * configured with {@link ClientOverrideConfiguration.Builder#rateLimiter(RequestRateLimiter)}.
+ * <p>
+ * The limit of each operation and resource is only kept while it has requests waiting or recently sent. A limit that has
+ * recovered its full burst is discarded once the number of limits grows, since a new limit for it would behave the same way.
+ *
+ * <p>Example Usage
+ * <pre>
+ * RequestRateLimiter rateLimiter =
+ *     RequestRateLimiter.builder()
+ *                       .putOperationPermitsPerSecond("PutItem", 100)
+ *                       .resourceResolver(r -&gt; r.getValueForField("TableName", String.class).orElse(null))
+ *                       .build();
+ * </pre>
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class RequestRateLimiter {
+    /**
+     * The number of buckets at which idle buckets are evicted. After each eviction, the threshold is set to twice the
+     * number of buckets that remain, so that eviction runs in amortized constant time.
+     */
+    private static final int MIN_EVICTION_THRESHOLD = 1024;
+
+    private final RateLimiterMode mode;
+    private final Double permitsPerSecond;
+    private final Map<String, Double> operationPermitsPerSecond;
+    private final Integer burstSize;
+    private final Function<SdkRequest, String> resourceResolver;
+    private final Integer maxQueueDepth;
+    private final Map<String, RateLimitBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicInteger evictionThreshold = new AtomicInteger(MIN_EVICTION_THRESHOLD);
+
+    private RequestRateLimiter(Builder builder) {
+        this.mode = Validate.paramNotNull(builder.mode, "mode");
+        this.permitsPerSecond = Validate.isPositiveOrNull(builder.permitsPerSecond, "permitsPerSecond");
+        this.operationPermitsPerSecond = Collections.unmodifiableMap(new HashMap<>(builder.operationPermitsPerSecond));
+        this.burstSize = Validate.isPositiveOrNull(builder.burstSize, "burstSize");
+        this.resourceResolver = builder.resourceResolver;
+        this.maxQueueDepth = builder.maxQueueDepth;
+        Validate.isTrue(maxQueueDepth == null || maxQueueDepth >= 0, "maxQueueDepth must not be negative.");
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Reserve a permit to send a request, returning how long the request must wait before it is sent, or empty if requests to
+     * the operation are not limited.
+     *
+     * @throws SdkClientException if the number of requests waiting for the operation and resource would exceed
+     * {@link Builder#maxQueueDepth(Integer)}.
+     */
+    public Optional<Reservation> reserve(String operationName, SdkRequest request) {
+        Double rate = operationPermitsPerSecond.getOrDefault(operationName, permitsPerSecond);
+        if (rate == null) {
+            return Optional.empty();
+        }
+
+        String key = key(operationName, request);
+        long now = System.nanoTime();
+        RateLimitBucket bucket;
+        long waitNanos;
+        do {
+            bucket = bucket(key, rate, now);
+            long maxWaitNanos = maxQueueDepth == null ? Long.MAX_VALUE : maxQueueDepth * bucket.intervalNanos();
+            waitNanos = bucket.reserve(now, maxWaitNanos);
+            if (waitNanos == RateLimitBucket.RETIRED) {
+                buckets.remove(key, bucket);
+            }
+        } while (waitNanos == RateLimitBucket.RETIRED);
+
+        if (waitNanos < 0) {
+            throw SdkClientException.create(String.format("Unable to send request, because more than %d requests are waiting "
+                                                          + "for the rate limit of %s.", maxQueueDepth, key));
+        }
+        return Optional.of(new Reservation(Duration.ofNanos(waitNanos), bucket.queueDepth(waitNanos)));
+    }
+
+    private RateLimitBucket bucket(String key, double rate, long now) {
+        RateLimitBucket bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        evictIdleBucketsIfNeeded(now);
+        return buckets.computeIfAbsent(key, k -> new RateLimitBucket(rate, burstSize(rate), now));
+    }
+
+    /**
+     * Evict the buckets that have recovered their full burst, if the number of buckets has reached the eviction threshold.
+     * Only one thread evicts at a time.
+     */
+    private void evictIdleBucketsIfNeeded(long now) {
+        int threshold = evictionThreshold.get();
+        if (buckets.size() < threshold || !evictionThreshold.compareAndSet(threshold, Integer.MAX_VALUE)) {
+            return;
+        }
+        try {
+            buckets.values().removeIf(bucket -> bucket.retireIfIdle(now));
+        } finally {
+            evictionThreshold.set(Math.max(MIN_EVICTION_THRESHOLD, 2 * buckets.size()));
+        }
+    }
+
+    @SdkTestInternalApi
+    int bucketCount() {
+        return buckets.size();
+    }
+
+    private String key(String operationName, SdkRequest request) {
+        String resource = resourceResolver == null || request == null ? null : resourceResolver.apply(request);
+        return resource == null ? operationName : operationName + "/" + resource;
+    }
+
+    private int burstSize(double rate) {
+        if (mode == RateLimiterMode.LEAKY_BUCKET) {
+            return 1;
+        }
+        return burstSize != null ? burstSize : (int) Math.max(1, Math.ceil(rate));
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("RequestRateLimiter")
+                       .add("mode", mode)
+                       .add("permitsPerSecond", permitsPerSecond)
+                       .add("operationPermitsPerSecond", operationPermitsPerSecond)
+                       .add("burstSize", burstSize)
+                       .add("maxQueueDepth", maxQueueDepth)
+                       .build();
+    }
+
+    /**
+     * A permit reserved by {@link #reserve(String, SdkRequest)}.
+     */
+    public static final class Reservation {
+        private final Duration delay;
+        private final int queueDepth;
+
+        private Reservation(Duration delay, int queueDepth) {
+            this.delay = delay;
+            this.queueDepth = queueDepth;
+        }
+
+        /**
+         * How long the request must wait before it is sent.
+         */
+        public Duration delay() {
+            return delay;
+        }
+
+        /**
+         * The number of requests with the same operation and resource that were already waiting when this permit was
+         * reserved.
+         */
+        public int queueDepth() {
+            return queueDepth;
+        }
+    }
+
+    public static final class Builder {
+        private final Map<String, Double> operationPermitsPerSecond = new HashMap<>();
+        private RateLimiterMode mode = RateLimiterMode.TOKEN_BUCKET;
+        private Double permitsPerSecond;
+        private Integer burstSize;
+        private Function<SdkRequest, String> resourceResolver;
+        private Integer maxQueueDepth;
+
+        private Builder() {
+        }
+
+        /**
+         * How requests are shaped. Defaults to {@link RateLimiterMode#TOKEN_BUCKET}.
+         */
+        public Builder mode(RateLimiterMode mode) {
+            this.mode = mode;
+            return this;
+        }
+
+        /**
+         * The rate at which requests to each operation (and resource) may be sent, for operations that do not have a rate
+         * configured with {@link #putOperationPermitsPerSecond(String, double)}. If this is not configured, only those
+         * operations are limited.
+         */
+        public Builder permitsPerSecond(Double permitsPerSecond) {
+            this.permitsPerSecond = permitsPerSecond;
+            return this;
+        }
+
+        /**
+         * The rate at which requests to the given operation (and to each resource of it) may be sent.
+         */
+        public Builder putOperationPermitsPerSecond(String operationName, double permitsPerSecond) {
+            Validate.paramNotNull(operationName, "operationName");
+            Validate.isTrue(permitsPerSecond > 0, "permitsPerSecond must be positive.");
+            this.operationPermitsPerSecond.put(operationName, permitsPerSecond);
+            return this;
+        }
+
+        /**
+         * The number of requests that can be sent at once in {@link RateLimiterMode#TOKEN_BUCKET} mode, after a period without
+         * requests. Defaults to one second of requests at the configured rate.
+         */
+        public Builder burstSize(Integer burstSize) {
+            this.burstSize = burstSize;
+            return this;
+        }
+
+        /**
+         * A function that returns the resource a request is sent to, or null if the request has no resource. Requests to
+         * different resources of the same operation are limited separately.
+         */
+        public Builder resourceResolver(Function<SdkRequest, String> resourceResolver) {
+            this.resourceResolver = resourceResolver;
+            return this;
+        }
+
+        /**
+         * The maximum number of requests to the same operation and resource that may wait for the rate limit. Requests that
+         * would exceed it fail with an {@link SdkClientException} instead of waiting. By default, the number of waiting
+         * requests is not limited.
+         */
+        public Builder maxQueueDepth(Integer maxQueueDepth) {
+            this.maxQueueDepth = maxQueueDepth;
+            return this;
+        }
+
+        public RequestRateLimiter build() {
+            return new RequestRateLimiter(this);
+        }
+    }
+}
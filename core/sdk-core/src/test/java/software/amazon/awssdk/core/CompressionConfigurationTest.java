@@ -17,15 +17,20 @@ package software.amazon.awssdk.core;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
+import java.util.Arrays;
+import java.util.Collections;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.compression.Compressor;
+import software.amazon.awssdk.core.internal.compression.GzipCompressor;
 
 public class CompressionConfigurationTest {
 
     @Test
     public void equalsHashcode() {
         EqualsVerifier.forClass(CompressionConfiguration.class)
-                      .withNonnullFields("requestCompressionEnabled", "minimumCompressionThresholdInBytes")
+                      .withNonnullFields("requestCompressionEnabled", "minimumCompressionThresholdInBytes", "compressionLevel",
+                                         "compressors")
                       .verify();
     }
 
@@ -35,9 +40,26 @@ public class CompressionConfigurationTest {
             CompressionConfiguration.builder()
                                     .requestCompressionEnabled(true)
                                     .minimumCompressionThresholdInBytes(99999)
+                                    .compressionLevel(1)
+                                    .addCompressor(new GzipCompressor())
+                                    .responseCompressionEnabled(true)
                                     .build();
 
         CompressionConfiguration another = configuration.toBuilder().build();
         assertThat(configuration).isEqualTo(another);
     }
+
+    @Test
+    public void addCompressor_appendsToConfiguredCompressors() {
+        Compressor first = new GzipCompressor(1);
+        Compressor second = new GzipCompressor(9);
+
+        CompressionConfiguration configuration =
+            CompressionConfiguration.builder()
+                                    .compressors(Collections.singletonList(first))
+                                    .addCompressor(second)
+                                    .build();
+
+        assertThat(configuration.compressors()).isEqualTo(Arrays.asList(first, second));
+    }
 }
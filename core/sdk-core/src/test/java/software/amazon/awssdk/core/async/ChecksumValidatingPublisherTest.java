@@ -15,6 +15,9 @@
 
 package software.amazon.awssdk.core.async;
 
+import io.reactivex.Flowable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.reactivestreams.Publisher;
@@ -23,6 +26,7 @@ import org.reactivestreams.Subscription;
 import software.amazon.awssdk.checksums.DefaultChecksumAlgorithm;
 import software.amazon.awssdk.checksums.SdkChecksum;
 import software.amazon.awssdk.checksums.spi.ChecksumAlgorithm;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.internal.async.ChecksumValidatingPublisher;
 
 import java.nio.ByteBuffer;
@@ -128,6 +132,44 @@ public class ChecksumValidatingPublisherTest {
         assertFalse(s.hasCompleted());
     }
 
+    @Test
+    public void checksumExecutor_validChecksum_publishesAllData() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            List<ByteBuffer> packets = new ArrayList<>();
+            for (int i = 0; i < testData.length; i++) {
+                packets.add(ByteBuffer.wrap(testData, i, 1));
+            }
+            ChecksumValidatingPublisher p = new ChecksumValidatingPublisher(Flowable.fromIterable(packets),
+                                                                            SdkChecksum.forAlgorithm(DefaultChecksumAlgorithm.SHA256),
+                                                                            SHA256_OF_HELLO_WORLD,
+                                                                            executor);
+
+            List<ByteBuffer> received = Flowable.fromPublisher(p).toList().blockingGet();
+
+            assertEquals(testData.length, received.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void checksumExecutor_checksumValidationFailure_signalsSdkClientException() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            ChecksumValidatingPublisher p = new ChecksumValidatingPublisher(Flowable.just(ByteBuffer.wrap(testData)),
+                                                                            SdkChecksum.forAlgorithm(DefaultChecksumAlgorithm.SHA256),
+                                                                            "someInvalidData",
+                                                                            executor);
+
+            Throwable error = Flowable.fromPublisher(p).ignoreElements().blockingGet();
+
+            assertTrue(error instanceof SdkClientException);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     private class TestSubscriber implements Subscriber<ByteBuffer> {
         final byte[] expected;
         final List<ByteBuffer> received;
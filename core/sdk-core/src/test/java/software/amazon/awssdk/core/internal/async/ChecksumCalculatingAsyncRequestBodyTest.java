@@ -15,15 +15,20 @@
 
 package software.amazon.awssdk.core.internal.async;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Random;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import com.google.common.jimfs.Configuration;
@@ -39,7 +44,9 @@ import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import software.amazon.awssdk.checksums.DefaultChecksumAlgorithm;
+import software.amazon.awssdk.checksums.spi.ChecksumAlgorithm;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.internal.util.Mimetype;
 import software.amazon.awssdk.http.async.SimpleSubscriber;
 import software.amazon.awssdk.utils.BinaryUtils;
@@ -301,6 +308,75 @@ public class ChecksumCalculatingAsyncRequestBodyTest {
         assertThat(sb.toString()).isEqualTo(expectedEmptyString);
     }
 
+    @Test
+    public void fromLargeFile_checksumCalculatedInParallel_producesSameDataAsFromBytes() throws IOException {
+        byte[] content = new byte[40 * 1024 * 1024 + 17];
+        new Random(7).nextBytes(content);
+        Path largeFile = path.getFileSystem().getPath("./testLarge");
+        Files.write(largeFile, content);
+
+        for (ChecksumAlgorithm algorithm : Arrays.asList(DefaultChecksumAlgorithm.CRC32,
+                                                         DefaultChecksumAlgorithm.CRC32C,
+                                                         DefaultChecksumAlgorithm.CRC64NVME)) {
+            assertThat(publishedBytes(largeChecksumBody(AsyncRequestBody.fromFile(largeFile), algorithm)))
+                .isEqualTo(publishedBytes(largeChecksumBody(AsyncRequestBody.fromBytes(content), algorithm)));
+        }
+    }
+
+    @Test
+    public void fromLargeFile_fileShorterThanContentLength_failsWithClientException() throws IOException {
+        Path largeFile = path.getFileSystem().getPath("./testTruncated");
+        Files.write(largeFile, new byte[40 * 1024 * 1024]);
+        AsyncRequestBody fileBody = AsyncRequestBody.fromFile(largeFile);
+        Files.write(largeFile, new byte[1024]);
+
+        assertThatExceptionOfType(SdkClientException.class)
+            .isThrownBy(() -> publishedBytes(largeChecksumBody(fileBody, DefaultChecksumAlgorithm.CRC32C)))
+            .withMessageContaining("Unable to calculate the checksum");
+    }
+
+    @Test
+    public void checksumExecutor_producesSameDataAsChecksummingOnPublishingThread() {
+        byte[] content = new byte[1024 * 1024 + 17];
+        new Random(11).nextBytes(content);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            for (ChecksumAlgorithm algorithm : Arrays.asList(DefaultChecksumAlgorithm.CRC32,
+                                                             DefaultChecksumAlgorithm.SHA256)) {
+                for (byte[] body : Arrays.asList(content, new byte[0])) {
+                    ChecksumCalculatingAsyncRequestBody offloaded =
+                        ChecksumCalculatingAsyncRequestBody.builder()
+                                                           .asyncRequestBody(AsyncRequestBody.fromBytes(body))
+                                                           .algorithm(algorithm)
+                                                           .trailerHeader("x-amz-checksum")
+                                                           .checksumExecutor(executor)
+                                                           .build();
+
+                    byte[] expected = publishedBytes(largeChecksumBody(AsyncRequestBody.fromBytes(body), algorithm));
+                    assertThat(publishedBytes(offloaded)).isEqualTo(expected);
+                    // Resubscribing recalculates the checksum from the start
+                    assertThat(publishedBytes(offloaded)).isEqualTo(expected);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static ChecksumCalculatingAsyncRequestBody largeChecksumBody(AsyncRequestBody body, ChecksumAlgorithm algorithm) {
+        return ChecksumCalculatingAsyncRequestBody.builder()
+                                                  .asyncRequestBody(body)
+                                                  .algorithm(algorithm)
+                                                  .trailerHeader("x-amz-checksum")
+                                                  .build();
+    }
+
+    private static byte[] publishedBytes(AsyncRequestBody body) {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        Flowable.fromPublisher(body).blockingForEach(buffer -> result.write(BinaryUtils.copyAllBytesFrom(buffer)));
+        return result.toByteArray();
+    }
+
     static class EmptyBufferPublisher implements AsyncRequestBody {
 
         private final ByteBuffer[] buffers = new ByteBuffer[2];
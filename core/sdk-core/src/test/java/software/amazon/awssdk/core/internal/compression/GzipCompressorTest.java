@@ -22,9 +22,13 @@ import static org.hamcrest.core.Is.is;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Random;
 import java.util.zip.GZIPInputStream;
 import org.junit.Test;
+import software.amazon.awssdk.core.compression.Compressor;
+import software.amazon.awssdk.utils.BinaryUtils;
 
 public class GzipCompressorTest {
     private static final Compressor gzipCompressor = new GzipCompressor();
@@ -40,6 +44,85 @@ public class GzipCompressorTest {
         int compressedSize = compressedData.length;
         assertThat(compressedSize, lessThan(uncompressedSize));
 
+        assertThat(decompress(compressedData), is(originalData));
+    }
+
+    @Test
+    public void compressedData_atEachLevel_decompressesCorrectly() throws IOException {
+        byte[] originalData = COMPRESSABLE_STRING.getBytes(StandardCharsets.UTF_8);
+        for (int level = 1; level <= 9; level++) {
+            byte[] compressedData = gzipCompressor.withCompressionLevel(level).compress(originalData);
+            assertThat(decompress(compressedData), is(originalData));
+        }
+    }
+
+    @Test
+    public void withCompressionLevel_sameLevel_returnsSameCompressor() {
+        Compressor compressor = new GzipCompressor(3);
+        assertThat(compressor.withCompressionLevel(3), is(compressor));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void withCompressionLevel_levelAboveNine_throwsException() {
+        gzipCompressor.withCompressionLevel(10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void withCompressionLevel_levelBelowOne_throwsException() {
+        gzipCompressor.withCompressionLevel(0);
+    }
+
+    @Test
+    public void incompressibleData_largerThanInput_decompressesCorrectly() throws IOException {
+        byte[] originalData = new byte[256 * 1024];
+        new Random(0).nextBytes(originalData);
+
+        byte[] compressedData = gzipCompressor.compress(originalData);
+
+        assertThat(decompress(compressedData), is(originalData));
+    }
+
+    @Test
+    public void emptyData_decompressesCorrectly() throws IOException {
+        assertThat(decompress(gzipCompressor.compress(new byte[0])), is(new byte[0]));
+    }
+
+    @Test
+    public void compressRegion_compressesOnlyRegion() throws IOException {
+        byte[] originalData = ("xx" + COMPRESSABLE_STRING + "yy").getBytes(StandardCharsets.UTF_8);
+
+        byte[] compressedData = gzipCompressor.compress(originalData, 2, originalData.length - 4);
+
+        assertThat(decompress(compressedData), is(COMPRESSABLE_STRING.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void compressByteBuffer_compressesRemainingBytesWithoutConsumingThem() throws IOException {
+        byte[] originalData = ("xx" + COMPRESSABLE_STRING).getBytes(StandardCharsets.UTF_8);
+        ByteBuffer heapBuffer = ByteBuffer.wrap(originalData);
+        heapBuffer.position(2);
+        ByteBuffer directBuffer = ByteBuffer.allocateDirect(originalData.length - 2);
+        directBuffer.put(originalData, 2, originalData.length - 2).flip();
+
+        byte[] expected = COMPRESSABLE_STRING.getBytes(StandardCharsets.UTF_8);
+        assertThat(decompress(BinaryUtils.copyBytesFrom(gzipCompressor.compress(heapBuffer))), is(expected));
+        assertThat(decompress(BinaryUtils.copyBytesFrom(gzipCompressor.compress(directBuffer))), is(expected));
+        assertThat(heapBuffer.position(), is(2));
+        assertThat(directBuffer.position(), is(0));
+    }
+
+    @Test
+    public void repeatedCompression_withPooledDeflaters_producesSameData() {
+        byte[] originalData = COMPRESSABLE_STRING.getBytes(StandardCharsets.UTF_8);
+        byte[] expected = gzipCompressor.compress(originalData);
+
+        for (int i = 0; i < 100; i++) {
+            gzipCompressor.withCompressionLevel(i % 9 + 1).compress(originalData);
+            assertThat(gzipCompressor.compress(originalData), is(expected));
+        }
+    }
+
+    private static byte[] decompress(byte[] compressedData) throws IOException {
         ByteArrayInputStream bais = new ByteArrayInputStream(compressedData);
         GZIPInputStream gzipInputStream = new GZIPInputStream(bais);
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
@@ -49,8 +132,6 @@ public class GzipCompressorTest {
             baos.write(buffer, 0, bytesRead);
         }
         gzipInputStream.close();
-        byte[] decompressedData = baos.toByteArray();
-
-        assertThat(decompressedData, is(originalData));
+        return baos.toByteArray();
     }
 }
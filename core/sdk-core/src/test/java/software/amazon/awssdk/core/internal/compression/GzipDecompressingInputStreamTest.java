@@ -0,0 +1,189 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.compression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.utils.IoUtils;
+
+public class GzipDecompressingInputStreamTest {
+    private static final byte[] COMPRESSIBLE_DATA =
+        "GzipDecompressingInputStreamTest-GzipDecompressingInputStreamTest-GzipDecompressingInputStreamTest"
+            .getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    public void read_compressibleData_returnsOriginalData() throws IOException {
+        assertThat(decompress(gzip(COMPRESSIBLE_DATA))).isEqualTo(COMPRESSIBLE_DATA);
+    }
+
+    @Test
+    public void read_largeIncompressibleData_returnsOriginalData() throws IOException {
+        byte[] data = new byte[1024 * 1024];
+        new Random(0).nextBytes(data);
+
+        assertThat(decompress(gzip(data))).isEqualTo(data);
+    }
+
+    @Test
+    public void read_singleBytes_returnsOriginalData() throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (InputStream in = GzipDecompressingInputStream.create(new ByteArrayInputStream(gzip(COMPRESSIBLE_DATA)))) {
+            int b;
+            while ((b = in.read()) != -1) {
+                result.write(b);
+            }
+        }
+        assertThat(result.toByteArray()).isEqualTo(COMPRESSIBLE_DATA);
+    }
+
+    @Test
+    public void read_sdkCompressedData_returnsOriginalData() throws IOException {
+        byte[] compressed = new GzipCompressor().compress(COMPRESSIBLE_DATA);
+
+        assertThat(decompress(compressed)).isEqualTo(COMPRESSIBLE_DATA);
+    }
+
+    @Test
+    public void read_concatenatedMembers_returnsConcatenatedData() throws IOException {
+        byte[] first = gzip("first-".getBytes(StandardCharsets.UTF_8));
+        byte[] second = gzip("second".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(decompress(concat(first, second))).isEqualTo("first-second".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void read_trailingDataThatIsNotGzip_isIgnored() throws IOException {
+        byte[] compressed = concat(gzip(COMPRESSIBLE_DATA), "garbage".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(decompress(compressed)).isEqualTo(COMPRESSIBLE_DATA);
+    }
+
+    @Test
+    public void read_headerWithOptionalFields_skipsFields() throws IOException {
+        byte[] compressed = gzip(COMPRESSIBLE_DATA);
+        byte[] optionalFields = {
+            // FEXTRA: length 2, then 2 bytes
+            2, 0, 'x', 'y',
+            // FNAME and FCOMMENT: zero-terminated strings
+            'n', 'a', 'm', 'e', 0,
+            'c', 0,
+            // FHCRC
+            0, 0
+        };
+        byte[] header = Arrays.copyOf(compressed, 10);
+        header[3] = 2 | 4 | 8 | 16;
+
+        byte[] withOptionalFields = concat(header, optionalFields, Arrays.copyOfRange(compressed, 10, compressed.length));
+
+        assertThat(decompress(withOptionalFields)).isEqualTo(COMPRESSIBLE_DATA);
+    }
+
+    @Test
+    public void read_endOfStream_notifiesListenerWithSizes() throws IOException {
+        byte[] compressed = gzip(COMPRESSIBLE_DATA);
+        AtomicLong compressedSize = new AtomicLong();
+        AtomicLong decompressedSize = new AtomicLong();
+
+        try (InputStream in = GzipDecompressingInputStream.create(new ByteArrayInputStream(compressed),
+                                                                  (c, d) -> {
+                                                                      compressedSize.set(c);
+                                                                      decompressedSize.set(d);
+                                                                  })) {
+            IoUtils.toByteArray(in);
+        }
+
+        assertThat(compressedSize.get()).isEqualTo(compressed.length);
+        assertThat(decompressedSize.get()).isEqualTo(COMPRESSIBLE_DATA.length);
+    }
+
+    @Test
+    public void create_notGzip_throwsException() {
+        assertThatThrownBy(() -> GzipDecompressingInputStream.create(new ByteArrayInputStream(COMPRESSIBLE_DATA)))
+            .isInstanceOf(ZipException.class);
+    }
+
+    @Test
+    public void read_corruptTrailer_throwsException() throws IOException {
+        byte[] compressed = gzip(COMPRESSIBLE_DATA);
+        compressed[compressed.length - 8] ^= 1;
+
+        assertThatThrownBy(() -> decompress(compressed)).isInstanceOf(ZipException.class)
+                                                        .hasMessageContaining("trailer");
+    }
+
+    @Test
+    public void read_truncatedData_throwsException() throws IOException {
+        byte[] compressed = gzip(COMPRESSIBLE_DATA);
+
+        assertThatThrownBy(() -> decompress(Arrays.copyOf(compressed, compressed.length - 12)))
+            .isInstanceOf(EOFException.class);
+    }
+
+    @Test
+    public void read_afterClose_throwsException() throws IOException {
+        InputStream in = GzipDecompressingInputStream.create(new ByteArrayInputStream(gzip(COMPRESSIBLE_DATA)));
+        in.close();
+
+        assertThatThrownBy(in::read).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void read_manyStreams_withPooledInflaters_returnsOriginalData() throws IOException {
+        byte[] compressed = gzip(COMPRESSIBLE_DATA);
+        for (int i = 0; i < 100; i++) {
+            // Leave some streams unfinished, so that inflaters are returned to the pool mid-stream.
+            try (InputStream in = GzipDecompressingInputStream.create(new ByteArrayInputStream(compressed))) {
+                in.read(new byte[i % 10 + 1]);
+            }
+            assertThat(decompress(compressed)).isEqualTo(COMPRESSIBLE_DATA);
+        }
+    }
+
+    private static byte[] decompress(byte[] compressed) throws IOException {
+        try (InputStream in = GzipDecompressingInputStream.create(new ByteArrayInputStream(compressed))) {
+            return IoUtils.toByteArray(in);
+        }
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(result)) {
+            out.write(data);
+        }
+        return result.toByteArray();
+    }
+
+    private static byte[] concat(byte[]... arrays) {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        for (byte[] array : arrays) {
+            result.write(array, 0, array.length);
+        }
+        return result.toByteArray();
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.reactivex.Flowable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.reactivestreams.Publisher;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
+import software.amazon.awssdk.retries.HedgingPolicy;
+
+class HedgedAsyncHttpExecutionTest {
+    private FakeHttpClient httpClient;
+    private RecordingResponseHandler responseHandler;
+    private ScheduledExecutorService scheduler;
+    private List<Runnable> scheduledHedges;
+
+    @BeforeEach
+    void setup() {
+        httpClient = new FakeHttpClient();
+        responseHandler = new RecordingResponseHandler();
+        scheduledHedges = new ArrayList<>();
+        scheduler = mock(ScheduledExecutorService.class);
+        when(scheduler.schedule(any(Runnable.class), anyLong(), any(TimeUnit.class))).thenAnswer(i -> {
+            scheduledHedges.add(i.getArgument(0));
+            return mock(ScheduledFuture.class);
+        });
+    }
+
+    @Test
+    void execute_firstAttemptRespondsBeforeDelay_doesNotSendHedge() {
+        CompletableFuture<Void> result = execution(policy()).execute();
+
+        httpClient.respond(0);
+        scheduledHedges.forEach(Runnable::run);
+
+        assertThat(result).isCompleted();
+        assertThat(httpClient.requests).hasSize(1);
+        assertThat(responseHandler.headers).isEqualTo(httpClient.response(0));
+    }
+
+    @Test
+    void execute_hedgeRespondsFirst_usesHedgeResponseAndCancelsFirstAttempt() {
+        CompletableFuture<Void> result = execution(policy()).execute();
+
+        scheduledHedges.forEach(Runnable::run);
+        assertThat(httpClient.requests).hasSize(2);
+
+        httpClient.respond(1);
+
+        assertThat(result).isCompleted();
+        assertThat(responseHandler.headers).isEqualTo(httpClient.response(1));
+        assertThat(httpClient.futures.get(0)).isCompletedExceptionally();
+
+        // The cancelled attempt's response is not delivered.
+        httpClient.requests.get(0).responseHandler().onError(new IOException("aborted"));
+        assertThat(responseHandler.error).isNull();
+    }
+
+    @Test
+    void execute_hedgeRespondsFirst_recordsLatencyFromFirstAttempt() throws InterruptedException {
+        HedgingPolicy policy = mock(HedgingPolicy.class);
+        when(policy.hedgeDelay()).thenReturn(Optional.of(Duration.ofMillis(10)));
+        when(policy.tryAcquireHedge()).thenReturn(true);
+        execution(policy).execute();
+
+        Thread.sleep(50);
+        scheduledHedges.forEach(Runnable::run);
+        httpClient.respond(1);
+
+        ArgumentCaptor<Duration> latency = ArgumentCaptor.forClass(Duration.class);
+        verify(policy).recordLatency(latency.capture());
+        assertThat(latency.getValue()).isGreaterThanOrEqualTo(Duration.ofMillis(50));
+    }
+
+    @Test
+    void execute_firstAttemptFailsWhileHedgeInFlight_usesHedgeResponse() {
+        CompletableFuture<Void> result = execution(policy()).execute();
+        scheduledHedges.forEach(Runnable::run);
+
+        httpClient.fail(0, new IOException("connection reset"));
+        assertThat(result).isNotDone();
+        assertThat(responseHandler.error).isNull();
+
+        httpClient.respond(1);
+        assertThat(result).isCompleted();
+        assertThat(responseHandler.headers).isEqualTo(httpClient.response(1));
+    }
+
+    @Test
+    void execute_firstAttemptFailsBeforeHedge_deliversFailure() {
+        CompletableFuture<Void> result = execution(policy()).execute();
+
+        IOException failure = new IOException("connection reset");
+        httpClient.fail(0, failure);
+        scheduledHedges.forEach(Runnable::run);
+
+        assertThat(result).isCompletedExceptionally();
+        assertThat(responseHandler.error).isSameAs(failure);
+        assertThat(httpClient.requests).hasSize(1);
+    }
+
+    @Test
+    void execute_allAttemptsFail_deliversLastFailure() {
+        CompletableFuture<Void> result = execution(policy()).execute();
+        scheduledHedges.forEach(Runnable::run);
+
+        httpClient.fail(0, new IOException("first"));
+        IOException lastFailure = new IOException("second");
+        httpClient.fail(1, lastFailure);
+
+        assertThat(result).isCompletedExceptionally();
+        assertThat(responseHandler.error).isSameAs(lastFailure);
+    }
+
+    @Test
+    void execute_budgetExhausted_doesNotSendHedge() {
+        HedgingPolicy policy = policy();
+        while (policy.tryAcquireHedge()) {
+            // Drain the budget.
+        }
+
+        execution(policy).execute();
+        scheduledHedges.forEach(Runnable::run);
+
+        assertThat(httpClient.requests).hasSize(1);
+    }
+
+    @Test
+    void execute_resultCancelled_cancelsAllAttempts() {
+        CompletableFuture<Void> result = execution(policy()).execute();
+        scheduledHedges.forEach(Runnable::run);
+
+        result.cancel(true);
+
+        assertThat(httpClient.futures).allSatisfy(f -> assertThat(f).isCompletedExceptionally());
+    }
+
+    private HedgedAsyncHttpExecution execution(HedgingPolicy policy) {
+        SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                                                       .method(SdkHttpMethod.GET)
+                                                       .protocol("https")
+                                                       .host("localhost")
+                                                       .build();
+        AsyncExecuteRequest.Builder requestBuilder = AsyncExecuteRequest.builder()
+                                                                        .request(request)
+                                                                        .requestContentPublisher(
+                                                                            new SimpleHttpContentPublisher(request));
+        return new HedgedAsyncHttpExecution(httpClient, requestBuilder, responseHandler, policy, scheduler,
+                                            NoOpMetricCollector::create);
+    }
+
+    private static HedgingPolicy policy() {
+        return HedgingPolicy.builder().delay(Duration.ofMillis(10)).build();
+    }
+
+    private static final class FakeHttpClient implements SdkAsyncHttpClient {
+        private final List<AsyncExecuteRequest> requests = new ArrayList<>();
+        private final List<CompletableFuture<Void>> futures = new ArrayList<>();
+        private final List<SdkHttpResponse> responses = new ArrayList<>();
+
+        @Override
+        public CompletableFuture<Void> execute(AsyncExecuteRequest request) {
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            requests.add(request);
+            futures.add(future);
+            responses.add(SdkHttpResponse.builder().statusCode(200).putHeader("attempt", "" + responses.size()).build());
+            return future;
+        }
+
+        private SdkHttpResponse response(int attempt) {
+            return responses.get(attempt);
+        }
+
+        private void respond(int attempt) {
+            SdkAsyncHttpResponseHandler handler = requests.get(attempt).responseHandler();
+            handler.onHeaders(responses.get(attempt));
+            handler.onStream(Flowable.empty());
+            futures.get(attempt).complete(null);
+        }
+
+        private void fail(int attempt, Throwable error) {
+            requests.get(attempt).responseHandler().onError(error);
+            futures.get(attempt).completeExceptionally(error);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static final class RecordingResponseHandler implements SdkAsyncHttpResponseHandler {
+        private SdkHttpResponse headers;
+        private Throwable error;
+
+        @Override
+        public void onHeaders(SdkHttpResponse headers) {
+            assertThat(this.headers).isNull();
+            this.headers = headers;
+        }
+
+        @Override
+        public void onStream(Publisher<ByteBuffer> stream) {
+            Flowable.fromPublisher(stream).blockingSubscribe();
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            assertThat(this.error).isNull();
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class RateLimitBucketTest {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    public void reserve_withinBurst_doesNotWait() {
+        RateLimitBucket bucket = new RateLimitBucket(10, 5, 0);
+        for (int i = 0; i < 5; i++) {
+            assertThat(bucket.reserve(0, Long.MAX_VALUE)).isZero();
+        }
+        assertThat(bucket.reserve(0, Long.MAX_VALUE)).isEqualTo(SECOND / 10);
+    }
+
+    @Test
+    public void reserve_burstSizeOne_spacesRequestsEvenly() {
+        RateLimitBucket bucket = new RateLimitBucket(4, 1, 0);
+        assertThat(bucket.reserve(0, Long.MAX_VALUE)).isZero();
+        assertThat(bucket.reserve(0, Long.MAX_VALUE)).isEqualTo(SECOND / 4);
+        assertThat(bucket.reserve(0, Long.MAX_VALUE)).isEqualTo(2 * SECOND / 4);
+        assertThat(bucket.reserve(SECOND, Long.MAX_VALUE)).isZero();
+    }
+
+    @Test
+    public void reserve_afterIdlePeriod_refillsUpToBurst() {
+        RateLimitBucket bucket = new RateLimitBucket(10, 2, 0);
+        bucket.reserve(0, Long.MAX_VALUE);
+        bucket.reserve(0, Long.MAX_VALUE);
+
+        long later = 10 * SECOND;
+        assertThat(bucket.reserve(later, Long.MAX_VALUE)).isZero();
+        assertThat(bucket.reserve(later, Long.MAX_VALUE)).isZero();
+        assertThat(bucket.reserve(later, Long.MAX_VALUE)).isEqualTo(SECOND / 10);
+    }
+
+    @Test
+    public void reserve_waitExceedsMax_reservesNothing() {
+        RateLimitBucket bucket = new RateLimitBucket(1, 1, 0);
+        assertThat(bucket.reserve(0, 0)).isZero();
+        assertThat(bucket.reserve(0, SECOND / 2)).isEqualTo(-1);
+        assertThat(bucket.reserve(0, SECOND)).isEqualTo(SECOND);
+    }
+
+    @Test
+    public void retireIfIdle_onlyRetiresBucketWithFullBurst() {
+        RateLimitBucket bucket = new RateLimitBucket(10, 2, 0);
+        bucket.reserve(0, Long.MAX_VALUE);
+        assertThat(bucket.retireIfIdle(SECOND / 20)).isFalse();
+        assertThat(bucket.reserve(SECOND / 20, Long.MAX_VALUE)).isZero();
+
+        assertThat(bucket.retireIfIdle(SECOND)).isTrue();
+        assertThat(bucket.reserve(SECOND, Long.MAX_VALUE)).isEqualTo(RateLimitBucket.RETIRED);
+    }
+
+    @Test
+    public void queueDepth_isNumberOfIntervalsWaited() {
+        RateLimitBucket bucket = new RateLimitBucket(10, 1, 0);
+        assertThat(bucket.queueDepth(0)).isZero();
+        assertThat(bucket.queueDepth(1)).isEqualTo(1);
+        assertThat(bucket.queueDepth(3 * SECOND / 10)).isEqualTo(3);
+    }
+}
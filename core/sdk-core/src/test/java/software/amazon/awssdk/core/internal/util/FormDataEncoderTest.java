@@ -0,0 +1,99 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import software.amazon.awssdk.utils.IoUtils;
+import software.amazon.awssdk.utils.http.SdkHttpUtils;
+
+public class FormDataEncoderTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "simple", "with space", "a+b=c&d", "~!@#$%^&()[]{}|\\/?<>,;:'\"`",
+                            "éèê", "中文", "😀 emoji", "unpaired \ud83d high",
+                            "unpaired \ude00 low", "trailing \ud83d", ".-*_"})
+    public void writeParameter_matchesSdkHttpUtils(String value) {
+        Map<String, List<String>> params = new LinkedHashMap<>();
+        params.put("Action", Collections.singletonList("SendMessage"));
+        params.put(value, Collections.singletonList(value));
+
+        assertEncodingMatches(params);
+    }
+
+    @Test
+    public void writeParameter_nullAndMultipleValues_matchesSdkHttpUtils() {
+        Map<String, List<String>> params = new LinkedHashMap<>();
+        params.put("NullValue", Collections.singletonList(null));
+        params.put("NullList", null);
+        params.put("Multi", Arrays.asList("one", "two", null, "four"));
+
+        assertEncodingMatches(params);
+    }
+
+    @Test
+    public void writeParameter_randomUnicode_matchesSdkHttpUtils() {
+        Random random = new Random(42);
+        for (int i = 0; i < 1_000; i++) {
+            Map<String, List<String>> params = new LinkedHashMap<>();
+            for (int j = 0; j < 1 + random.nextInt(5); j++) {
+                params.put(randomString(random), Collections.singletonList(randomString(random)));
+            }
+            assertEncodingMatches(params);
+        }
+    }
+
+    @Test
+    public void toContentStreamProvider_exceedsInitialCapacity_containsAllBytes() throws IOException {
+        FormDataEncoder encoder = new FormDataEncoder(16);
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            encoder.writeParameter("Key" + i, "Value" + i);
+            expected.append(i == 0 ? "" : "&").append("Key").append(i).append("=Value").append(i);
+        }
+
+        byte[] body = IoUtils.toByteArray(encoder.toContentStreamProvider().newStream());
+        assertThat(new String(body, StandardCharsets.UTF_8)).isEqualTo(expected.toString());
+        assertThat(encoder.size()).isEqualTo(body.length);
+    }
+
+    private static void assertEncodingMatches(Map<String, List<String>> params) {
+        FormDataEncoder encoder = new FormDataEncoder();
+        params.forEach(encoder::writeParameter);
+
+        String expected = SdkHttpUtils.encodeAndFlattenFormData(params).orElse("");
+        assertThat(encoder.toByteArray()).isEqualTo(expected.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String randomString(Random random) {
+        char[] chars = new char[random.nextInt(20)];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) random.nextInt(random.nextBoolean() ? 0x80 : 0x10000);
+        }
+        return new String(chars);
+    }
+}
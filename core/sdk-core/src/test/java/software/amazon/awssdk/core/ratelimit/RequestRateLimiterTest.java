@@ -0,0 +1,145 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.RequestOverrideConfiguration;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.ratelimit.RequestRateLimiter.Reservation;
+
+public class RequestRateLimiterTest {
+
+    @Test
+    public void reserve_operationWithoutRate_isNotLimited() {
+        RequestRateLimiter limiter = RequestRateLimiter.builder()
+                                                       .putOperationPermitsPerSecond("PutItem", 1)
+                                                       .build();
+
+        assertThat(limiter.reserve("GetItem", null)).isEmpty();
+        assertThat(limiter.reserve("PutItem", null)).isPresent();
+    }
+
+    @Test
+    public void reserve_leakyBucket_delaysSecondRequest() {
+        RequestRateLimiter limiter = RequestRateLimiter.builder()
+                                                       .mode(RateLimiterMode.LEAKY_BUCKET)
+                                                       .permitsPerSecond(1.0)
+                                                       .build();
+
+        assertThat(limiter.reserve("GetItem", null).get().delay()).isEqualTo(Duration.ZERO);
+        Reservation second = limiter.reserve("GetItem", null).get();
+        assertThat(second.delay()).isGreaterThan(Duration.ofMillis(900));
+        assertThat(second.queueDepth()).isEqualTo(1);
+    }
+
+    @Test
+    public void reserve_operationRate_overridesDefaultRate() {
+        RequestRateLimiter limiter = RequestRateLimiter.builder()
+                                                       .permitsPerSecond(1000.0)
+                                                       .putOperationPermitsPerSecond("PutItem", 1)
+                                                       .build();
+
+        limiter.reserve("PutItem", null);
+        assertThat(limiter.reserve("PutItem", null).get().delay()).isGreaterThan(Duration.ofMillis(900));
+        assertThat(limiter.reserve("GetItem", null).get().delay()).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void reserve_withResourceResolver_limitsEachResourceSeparately() {
+        SdkRequest first = request();
+        SdkRequest second = request();
+        RequestRateLimiter limiter = RequestRateLimiter.builder()
+                                                       .permitsPerSecond(1.0)
+                                                       .resourceResolver(r -> r == first ? "first" : "second")
+                                                       .build();
+
+        assertThat(limiter.reserve("GetItem", first).get().delay()).isEqualTo(Duration.ZERO);
+        assertThat(limiter.reserve("GetItem", second).get().delay()).isEqualTo(Duration.ZERO);
+        assertThat(limiter.reserve("GetItem", first).get().delay()).isGreaterThan(Duration.ZERO);
+    }
+
+    @Test
+    public void reserve_queueFull_throwsException() {
+        RequestRateLimiter limiter = RequestRateLimiter.builder()
+                                                       .permitsPerSecond(1.0)
+                                                       .maxQueueDepth(1)
+                                                       .build();
+
+        limiter.reserve("GetItem", null);
+        limiter.reserve("GetItem", null);
+        assertThatThrownBy(() -> limiter.reserve("GetItem", null))
+            .isInstanceOf(SdkClientException.class)
+            .hasMessageContaining("GetItem");
+    }
+
+    @Test
+    public void reserve_manyIdleResources_evictsTheirLimits() throws InterruptedException {
+        String[] resource = {"slow"};
+        RequestRateLimiter limiter = RequestRateLimiter.builder()
+                                                       .mode(RateLimiterMode.LEAKY_BUCKET)
+                                                       .permitsPerSecond(1000.0)
+                                                       .putOperationPermitsPerSecond("Slow", 0.001)
+                                                       .resourceResolver(r -> resource[0])
+                                                       .build();
+        SdkRequest request = request();
+        limiter.reserve("Slow", request);
+        limiter.reserve("Slow", request);
+
+        for (int i = 1; i < 1024; i++) {
+            resource[0] = "resource-" + i;
+            limiter.reserve("GetItem", request);
+        }
+        assertThat(limiter.bucketCount()).isEqualTo(1024);
+
+        // Once every GetItem limit has recovered its burst, adding another limit evicts them.
+        Thread.sleep(20);
+        resource[0] = "resource-1024";
+        assertThat(limiter.reserve("GetItem", request).get().delay()).isEqualTo(Duration.ZERO);
+        assertThat(limiter.bucketCount()).isEqualTo(2);
+
+        // The limit with waiting requests is kept.
+        resource[0] = "slow";
+        assertThat(limiter.reserve("Slow", request).get().queueDepth()).isEqualTo(2);
+    }
+
+    private static SdkRequest request() {
+        return new SdkRequest() {
+            @Override
+            public Optional<? extends RequestOverrideConfiguration> overrideConfiguration() {
+                return Optional.empty();
+            }
+
+            @Override
+            public Builder toBuilder() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public List<SdkField<?>> sdkFields() {
+                return Collections.emptyList();
+            }
+        };
+    }
+}
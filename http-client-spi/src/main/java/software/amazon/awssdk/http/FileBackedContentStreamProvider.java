@@ -0,0 +1,33 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http;
+
+import java.nio.file.Path;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+
+/**
+ * A {@link ContentStreamProvider} whose streams contain the entire contents of a file.
+ * <p>
+ * Components that need to read the whole payload before it is sent, such as signers that hash the payload, can read the file
+ * directly (for example, with concurrent positional reads) instead of reading it through {@link #newStream()}.
+ */
+@SdkProtectedApi
+public interface FileBackedContentStreamProvider extends ContentStreamProvider {
+    /**
+     * The file whose contents are returned by {@link #newStream()}.
+     */
+    Path path();
+}
@@ -0,0 +1,275 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.cloudfront;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.security.InvalidKeyException;
+import java.security.PrivateKey;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.cloudfront.cookie.CookiesForCannedPolicy;
+import software.amazon.awssdk.services.cloudfront.cookie.CookiesForCustomPolicy;
+import software.amazon.awssdk.services.cloudfront.internal.auth.SignaturePool;
+import software.amazon.awssdk.services.cloudfront.internal.cookie.DefaultCookiesForCannedPolicy;
+import software.amazon.awssdk.services.cloudfront.internal.cookie.DefaultCookiesForCustomPolicy;
+import software.amazon.awssdk.services.cloudfront.internal.url.DefaultSignedUrl;
+import software.amazon.awssdk.services.cloudfront.internal.utils.SigningUtils;
+import software.amazon.awssdk.services.cloudfront.url.SignedUrl;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Creates CloudFront signed URLs and signed cookies with a single private key and key pair ID.
+ * <p>
+ * {@link CloudFrontUtilities} signs each request with the private key included in it. When many URLs or cookies are signed
+ * with the same key, create a {@code CloudFrontSigner} once and share it instead: the private key is loaded once, and the
+ * {@link java.security.Signature} instances initialized with it are reused across calls and threads.
+ *
+ * <p><b>Example Usage</b>
+ * <p>
+ * {@snippet :
+ *     CloudFrontSigner signer = CloudFrontSigner.builder()
+ *                                               .privateKey(myKeyFile)
+ *                                               .keyPairId("myKeyPairId")
+ *                                               .build();
+ *
+ *     Instant expirationDate = Instant.now().plus(Duration.ofDays(7));
+ *     SignedUrl signedUrl = signer.getSignedUrlWithCannedPolicy("https://d111111abcdef8.cloudfront.net/s3ObjectKey",
+ *                                                               expirationDate);
+ *     String url = signedUrl.url();
+ * }
+ */
+@Immutable
+@ThreadSafe
+@SdkPublicApi
+public final class CloudFrontSigner {
+    private static final String KEY_PAIR_ID_KEY = "CloudFront-Key-Pair-Id";
+    private static final String SIGNATURE_KEY = "CloudFront-Signature";
+    private static final String EXPIRES_KEY = "CloudFront-Expires";
+    private static final String POLICY_KEY = "CloudFront-Policy";
+
+    private final String keyPairId;
+    private final SignaturePool signatures;
+
+    /**
+     * Used by {@link CloudFrontUtilities}, which does not require the key or key pair ID of a request to be set.
+     */
+    CloudFrontSigner(PrivateKey privateKey, String keyPairId) {
+        this.keyPairId = keyPairId;
+        this.signatures = new SignaturePool(privateKey);
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    /**
+     * Returns a signed URL with a canned policy that grants universal access to private content until a given date.
+     * For more information, see <a href=
+     * "https://docs.aws.amazon.com/AmazonCloudFront/latest/DeveloperGuide/private-content-creating-signed-url-canned-policy.html"
+     * >Creating a signed URL using a canned policy</a>.
+     *
+     * @param resourceUrl The URL of the resource to grant access to.
+     * @param expirationDate The date after which access is no longer granted.
+     * @return A signed URL that will permit access to a specific distribution and S3 object.
+     */
+    public SignedUrl getSignedUrlWithCannedPolicy(String resourceUrl, Instant expirationDate) {
+        try {
+            String cannedPolicy = SigningUtils.buildCannedPolicy(resourceUrl, expirationDate);
+            String urlSafeSignature = SigningUtils.makeBytesUrlSafe(signatures.sign(cannedPolicy.getBytes(UTF_8)));
+            return signedUrl(resourceUrl, "Expires=" + expirationDate.getEpochSecond()
+                                          + "&Signature=" + urlSafeSignature
+                                          + "&Key-Pair-Id=" + keyPairId);
+        } catch (InvalidKeyException e) {
+            throw SdkClientException.create("Could not sign url", e);
+        }
+    }
+
+    /**
+     * Returns a signed URL that provides tailored access to private content based on an access time window and an ip range.
+     * For more information, see <a href=
+     * "https://docs.aws.amazon.com/AmazonCloudFront/latest/DeveloperGuide/private-content-creating-signed-url-custom-policy.html"
+     * >Creating a signed URL using a custom policy</a>.
+     *
+     * @param resourceUrl The URL of the resource to grant access to, which may include wildcards.
+     * @param activeDate The optional date before which access is not granted.
+     * @param expirationDate The date after which access is no longer granted.
+     * @param ipRange The optional range of client IP addresses to grant access to.
+     * @return A signed URL that will permit access to distribution and S3 objects as specified in the policy document.
+     */
+    public SignedUrl getSignedUrlWithCustomPolicy(String resourceUrl, Instant activeDate, Instant expirationDate,
+                                                  String ipRange) {
+        try {
+            String policy = SigningUtils.buildCustomPolicyForSignedUrl(resourceUrl, activeDate, expirationDate, ipRange);
+            String urlSafePolicy = SigningUtils.makeStringUrlSafe(policy);
+            String urlSafeSignature = SigningUtils.makeBytesUrlSafe(signatures.sign(policy.getBytes(UTF_8)));
+            return signedUrl(resourceUrl, "Policy=" + urlSafePolicy
+                                          + "&Signature=" + urlSafeSignature
+                                          + "&Key-Pair-Id=" + keyPairId);
+        } catch (InvalidKeyException e) {
+            throw SdkClientException.create("Could not sign url", e);
+        }
+    }
+
+    /**
+     * Returns signed URLs for many resources that share the same custom policy conditions, as if
+     * {@link #getSignedUrlWithCustomPolicy(String, Instant, Instant, String)} was called for each of them. The URLs are
+     * signed in parallel, using the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param resourceUrls The URLs of the resources to grant access to, which may include wildcards.
+     * @param activeDate The optional date before which access is not granted.
+     * @param expirationDate The date after which access is no longer granted.
+     * @param ipRange The optional range of client IP addresses to grant access to.
+     * @return The signed URLs, in the same order as the resource URLs.
+     */
+    public List<SignedUrl> getSignedUrlsWithCustomPolicy(List<String> resourceUrls, Instant activeDate, Instant expirationDate,
+                                                         String ipRange) {
+        Validate.paramNotNull(resourceUrls, "resourceUrls");
+        return resourceUrls.parallelStream()
+                           .map(resourceUrl -> getSignedUrlWithCustomPolicy(resourceUrl, activeDate, expirationDate, ipRange))
+                           .collect(Collectors.toList());
+    }
+
+    /**
+     * Generate signed cookies that allows access to a specific distribution and resource path by applying access
+     * restrictions from a "canned" (simplified) policy document.
+     * For more information, see <a href=
+     * "https://docs.aws.amazon.com/AmazonCloudFront/latest/DeveloperGuide/private-content-setting-signed-cookie-canned-policy.html"
+     * >Setting signed cookies using a canned policy</a>.
+     *
+     * @param resourceUrl The URL of the resource to grant access to.
+     * @param expirationDate The date after which access is no longer granted.
+     * @return The signed cookies with canned policy.
+     */
+    public CookiesForCannedPolicy getCookiesForCannedPolicy(String resourceUrl, Instant expirationDate) {
+        try {
+            String cannedPolicy = SigningUtils.buildCannedPolicy(resourceUrl, expirationDate);
+            String urlSafeSignature = SigningUtils.makeBytesUrlSafe(signatures.sign(cannedPolicy.getBytes(UTF_8)));
+            String expiry = String.valueOf(expirationDate.getEpochSecond());
+            return DefaultCookiesForCannedPolicy.builder()
+                                                .resourceUrl(resourceUrl)
+                                                .keyPairIdHeaderValue(KEY_PAIR_ID_KEY + "=" + keyPairId)
+                                                .signatureHeaderValue(SIGNATURE_KEY + "=" + urlSafeSignature)
+                                                .expiresHeaderValue(EXPIRES_KEY + "=" + expiry).build();
+        } catch (InvalidKeyException e) {
+            throw SdkClientException.create("Could not sign canned policy cookie", e);
+        }
+    }
+
+    /**
+     * Returns signed cookies that provides tailored access to private content based on an access time window and an ip range.
+     * For more information, see <a href=
+     * "https://docs.aws.amazon.com/AmazonCloudFront/latest/DeveloperGuide/private-content-setting-signed-cookie-custom-policy.html"
+     * >Setting signed cookies using a custom policy</a>.
+     *
+     * @param resourceUrl The URL of the resource to grant access to, which may include wildcards.
+     * @param activeDate The optional date before which access is not granted.
+     * @param expirationDate The date after which access is no longer granted.
+     * @param ipRange The optional range of client IP addresses to grant access to.
+     * @return The signed cookies with custom policy.
+     */
+    public CookiesForCustomPolicy getCookiesForCustomPolicy(String resourceUrl, Instant activeDate, Instant expirationDate,
+                                                            String ipRange) {
+        try {
+            String policy = SigningUtils.buildCustomPolicy(resourceUrl, activeDate, expirationDate, ipRange);
+            String urlSafePolicy = SigningUtils.makeStringUrlSafe(policy);
+            String urlSafeSignature = SigningUtils.makeBytesUrlSafe(signatures.sign(policy.getBytes(UTF_8)));
+            return DefaultCookiesForCustomPolicy.builder()
+                                                .resourceUrl(resourceUrl)
+                                                .keyPairIdHeaderValue(KEY_PAIR_ID_KEY + "=" + keyPairId)
+                                                .signatureHeaderValue(SIGNATURE_KEY + "=" + urlSafeSignature)
+                                                .policyHeaderValue(POLICY_KEY + "=" + urlSafePolicy).build();
+        } catch (InvalidKeyException e) {
+            throw SdkClientException.create("Could not sign custom policy cookie", e);
+        }
+    }
+
+    private static SignedUrl signedUrl(String resourceUrl, String signingParameters) {
+        URI uri = URI.create(resourceUrl);
+        String protocol = uri.getScheme();
+        String encodedPath = uri.getRawPath()
+                             + (uri.getQuery() != null ? "?" + uri.getRawQuery() + "&" : "?")
+                             + signingParameters;
+        return DefaultSignedUrl.builder()
+                               .protocol(protocol)
+                               .domain(uri.getHost())
+                               .encodedPath(encodedPath)
+                               .url(protocol + "://" + uri.getAuthority() + encodedPath)
+                               .build();
+    }
+
+    @NotThreadSafe
+    @SdkPublicApi
+    public interface Builder {
+
+        /**
+         * The private key used to sign URLs and cookies. This must be configured.
+         */
+        Builder privateKey(PrivateKey privateKey);
+
+        /**
+         * Load the private key used to sign URLs and cookies from a PEM or DER file.
+         */
+        Builder privateKey(Path keyFile) throws Exception;
+
+        /**
+         * The ID of the CloudFront key pair or public key matching the private key. This must be configured.
+         */
+        Builder keyPairId(String keyPairId);
+
+        CloudFrontSigner build();
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private PrivateKey privateKey;
+        private String keyPairId;
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public Builder privateKey(PrivateKey privateKey) {
+            this.privateKey = privateKey;
+            return this;
+        }
+
+        @Override
+        public Builder privateKey(Path keyFile) throws Exception {
+            this.privateKey = SigningUtils.loadPrivateKey(keyFile);
+            return this;
+        }
+
+        @Override
+        public Builder keyPairId(String keyPairId) {
+            this.keyPairId = keyPairId;
+            return this;
+        }
+
+        @Override
+        public CloudFrontSigner build() {
+            return new CloudFrontSigner(Validate.paramNotNull(privateKey, "privateKey"),
+                                        Validate.paramNotNull(keyPairId, "keyPairId"));
+        }
+    }
+}
@@ -15,21 +15,12 @@
 
 package software.amazon.awssdk.services.cloudfront;
 
-import static java.nio.charset.StandardCharsets.UTF_8;
-
-import java.net.URI;
-import java.security.InvalidKeyException;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
-import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.cloudfront.cookie.CookiesForCannedPolicy;
 import software.amazon.awssdk.services.cloudfront.cookie.CookiesForCustomPolicy;
-import software.amazon.awssdk.services.cloudfront.internal.cookie.DefaultCookiesForCannedPolicy;
-import software.amazon.awssdk.services.cloudfront.internal.cookie.DefaultCookiesForCustomPolicy;
-import software.amazon.awssdk.services.cloudfront.internal.url.DefaultSignedUrl;
-import software.amazon.awssdk.services.cloudfront.internal.utils.SigningUtils;
 import software.amazon.awssdk.services.cloudfront.model.CannedSignerRequest;
 import software.amazon.awssdk.services.cloudfront.model.CustomSignerRequest;
 import software.amazon.awssdk.services.cloudfront.url.SignedUrl;
@@ -45,18 +36,15 @@ import software.amazon.awssdk.services.cloudfront.url.SignedUrl;
  * Signed URLs take precedence over signed cookies. If you use both signed URLs and signed cookies to control access to the
  * same files and a viewer uses a signed URL to request a file, CloudFront determines whether to return the file to the
  * viewer based only on the signed URL.
- *
+ * <p>
+ * To sign many URLs or cookies with the same private key, use a {@link CloudFrontSigner}, which loads the key once and reuses
+ * it across calls.
  */
 @Immutable
 @ThreadSafe
 @SdkPublicApi
 public final class CloudFrontUtilities {
 
-    private static final String KEY_PAIR_ID_KEY = "CloudFront-Key-Pair-Id";
-    private static final String SIGNATURE_KEY = "CloudFront-Signature";
-    private static final String EXPIRES_KEY = "CloudFront-Expires";
-    private static final String POLICY_KEY = "CloudFront-Policy";
-
     private CloudFrontUtilities() {
     }
 
@@ -137,27 +125,7 @@ public final class CloudFrontUtilities {
      * }
      */
     public SignedUrl getSignedUrlWithCannedPolicy(CannedSignerRequest request) {
-        try {
-            String resourceUrl = request.resourceUrl();
-            String cannedPolicy = SigningUtils.buildCannedPolicy(resourceUrl, request.expirationDate());
-            byte[] signatureBytes = SigningUtils.signWithSha1Rsa(cannedPolicy.getBytes(UTF_8), request.privateKey());
-            String urlSafeSignature = SigningUtils.makeBytesUrlSafe(signatureBytes);
-            URI uri = URI.create(resourceUrl);
-            String protocol = uri.getScheme();
-            String encodedPath = uri.getRawPath()
-                                 + (uri.getQuery() != null ? "?" + uri.getRawQuery() + "&" : "?")
-                                 + "Expires=" + request.expirationDate().getEpochSecond()
-                                 + "&Signature=" + urlSafeSignature
-                                 + "&Key-Pair-Id=" + request.keyPairId();
-            return DefaultSignedUrl.builder()
-                                   .protocol(protocol)
-                                   .domain(uri.getHost())
-                                   .encodedPath(encodedPath)
-                                   .url(protocol + "://" + uri.getAuthority() + encodedPath)
-                                   .build();
-        } catch (InvalidKeyException e) {
-            throw SdkClientException.create("Could not sign url", e);
-        }
+        return signer(request).getSignedUrlWithCannedPolicy(request.resourceUrl(), request.expirationDate());
     }
 
     /**
@@ -247,29 +215,8 @@ public final class CloudFrontUtilities {
      * }
      */
     public SignedUrl getSignedUrlWithCustomPolicy(CustomSignerRequest request) {
-        try {
-            String resourceUrl = request.resourceUrl();
-            String policy = SigningUtils.buildCustomPolicyForSignedUrl(request.resourceUrl(), request.activeDate(),
-                                                                       request.expirationDate(), request.ipRange());
-            byte[] signatureBytes = SigningUtils.signWithSha1Rsa(policy.getBytes(UTF_8), request.privateKey());
-            String urlSafePolicy = SigningUtils.makeStringUrlSafe(policy);
-            String urlSafeSignature = SigningUtils.makeBytesUrlSafe(signatureBytes);
-            URI uri = URI.create(resourceUrl);
-            String protocol = uri.getScheme();
-            String encodedPath = uri.getRawPath()
-                                 + (uri.getQuery() != null ? "?" + uri.getRawQuery() + "&" : "?")
-                                 + "Policy=" + urlSafePolicy
-                                 + "&Signature=" + urlSafeSignature
-                                 + "&Key-Pair-Id=" + request.keyPairId();
-            return DefaultSignedUrl.builder()
-                                   .protocol(protocol)
-                                   .domain(uri.getHost())
-                                   .encodedPath(encodedPath)
-                                   .url(protocol + "://" + uri.getAuthority() + encodedPath)
-                                   .build();
-        } catch (InvalidKeyException e) {
-            throw SdkClientException.create("Could not sign url", e);
-        }
+        return signer(request).getSignedUrlWithCustomPolicy(request.resourceUrl(), request.activeDate(),
+                                                            request.expirationDate(), request.ipRange());
     }
 
     /**
@@ -351,19 +298,7 @@ public final class CloudFrontUtilities {
      * }
      */
     public CookiesForCannedPolicy getCookiesForCannedPolicy(CannedSignerRequest request) {
-        try {
-            String cannedPolicy = SigningUtils.buildCannedPolicy(request.resourceUrl(), request.expirationDate());
-            byte[] signatureBytes = SigningUtils.signWithSha1Rsa(cannedPolicy.getBytes(UTF_8), request.privateKey());
-            String urlSafeSignature = SigningUtils.makeBytesUrlSafe(signatureBytes);
-            String expiry = String.valueOf(request.expirationDate().getEpochSecond());
-            return DefaultCookiesForCannedPolicy.builder()
-                                                .resourceUrl(request.resourceUrl())
-                                                .keyPairIdHeaderValue(KEY_PAIR_ID_KEY + "=" + request.keyPairId())
-                                                .signatureHeaderValue(SIGNATURE_KEY + "=" + urlSafeSignature)
-                                                .expiresHeaderValue(EXPIRES_KEY + "=" + expiry).build();
-        } catch (InvalidKeyException e) {
-            throw SdkClientException.create("Could not sign canned policy cookie", e);
-        }
+        return signer(request).getCookiesForCannedPolicy(request.resourceUrl(), request.expirationDate());
     }
 
     /**
@@ -451,20 +386,16 @@ public final class CloudFrontUtilities {
      * }
      */
     public CookiesForCustomPolicy getCookiesForCustomPolicy(CustomSignerRequest request) {
-        try {
-            String policy = SigningUtils.buildCustomPolicy(request.resourceUrl(), request.activeDate(), request.expirationDate(),
-                                                           request.ipRange());
-            byte[] signatureBytes = SigningUtils.signWithSha1Rsa(policy.getBytes(UTF_8), request.privateKey());
-            String urlSafePolicy = SigningUtils.makeStringUrlSafe(policy);
-            String urlSafeSignature = SigningUtils.makeBytesUrlSafe(signatureBytes);
-            return DefaultCookiesForCustomPolicy.builder()
-                                                .resourceUrl(request.resourceUrl())
-                                                .keyPairIdHeaderValue(KEY_PAIR_ID_KEY + "=" + request.keyPairId())
-                                                .signatureHeaderValue(SIGNATURE_KEY + "=" + urlSafeSignature)
-                                                .policyHeaderValue(POLICY_KEY + "=" + urlSafePolicy).build();
-        } catch (InvalidKeyException e) {
-            throw SdkClientException.create("Could not sign custom policy cookie", e);
-        }
+        return signer(request).getCookiesForCustomPolicy(request.resourceUrl(), request.activeDate(),
+                                                         request.expirationDate(), request.ipRange());
+    }
+
+    private static CloudFrontSigner signer(CannedSignerRequest request) {
+        return new CloudFrontSigner(request.privateKey(), request.keyPairId());
+    }
+
+    private static CloudFrontSigner signer(CustomSignerRequest request) {
+        return new CloudFrontSigner(request.privateKey(), request.keyPairId());
     }
 
 }
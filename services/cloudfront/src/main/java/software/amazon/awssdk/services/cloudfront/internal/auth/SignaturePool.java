@@ -0,0 +1,75 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.cloudfront.internal.auth;
+
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.SignatureException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * Signs data with SHA1withRSA using a single private key, reusing the {@link Signature} instances initialized with it.
+ * <p>
+ * Creating a {@link Signature} and initializing it with a key is comparable in cost to signing a short policy, so signers
+ * are kept in a pool and reused: {@link Signature#sign()} returns a signer to the state it was in after it was initialized.
+ * The pool grows to the number of threads that have signed concurrently.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class SignaturePool {
+    private static final String ALGORITHM = "SHA1withRSA";
+
+    private final PrivateKey privateKey;
+    private final Queue<Signature> signatures = new ConcurrentLinkedQueue<>();
+
+    public SignaturePool(PrivateKey privateKey) {
+        this.privateKey = privateKey;
+    }
+
+    /**
+     * Signs the data given with the private key of this pool.
+     */
+    public byte[] sign(byte[] dataToSign) throws InvalidKeyException {
+        Signature signature = signatures.poll();
+        if (signature == null) {
+            signature = newSignature();
+        }
+
+        try {
+            signature.update(dataToSign);
+            byte[] result = signature.sign();
+            signatures.offer(signature);
+            return result;
+        } catch (SignatureException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Signature newSignature() throws InvalidKeyException {
+        try {
+            Signature signature = Signature.getInstance(ALGORITHM);
+            signature.initSign(privateKey);
+            return signature;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -20,12 +20,7 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
-import java.security.SecureRandom;
-import java.security.Signature;
-import java.security.SignatureException;
 import java.time.Instant;
 import java.util.Base64;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -122,22 +117,6 @@ public final class SigningUtils {
         return makeBytesUrlSafe(str.getBytes(UTF_8));
     }
 
-    /**
-     * Signs the data given with the private key given, using the SHA1withRSA
-     * algorithm provided by bouncy castle.
-     */
-    public static byte[] signWithSha1Rsa(byte[] dataToSign, PrivateKey privateKey) throws InvalidKeyException {
-        try {
-            Signature signature = Signature.getInstance("SHA1withRSA");
-            SecureRandom random = new SecureRandom();
-            signature.initSign(privateKey, random);
-            signature.update(dataToSign);
-            return signature.sign();
-        } catch (NoSuchAlgorithmException | SignatureException e) {
-            throw new IllegalStateException(e);
-        }
-    }
-
     /**
      * Generate a policy document that describes custom access permissions to
      * apply via a private distribution's signed URL.
@@ -0,0 +1,149 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.cloudfront;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.cloudfront.cookie.CookiesForCannedPolicy;
+import software.amazon.awssdk.services.cloudfront.cookie.CookiesForCustomPolicy;
+import software.amazon.awssdk.services.cloudfront.model.CannedSignerRequest;
+import software.amazon.awssdk.services.cloudfront.model.CustomSignerRequest;
+import software.amazon.awssdk.services.cloudfront.url.SignedUrl;
+
+class CloudFrontSignerTest {
+    private static final String RESOURCE_URL = "https://d1npcfkc2mojrf.cloudfront.net/s3ObjectKey";
+    private static final Instant ACTIVE_DATE = LocalDate.of(2022, 1, 1).atStartOfDay().toInstant(ZoneOffset.UTC);
+    private static final Instant EXPIRATION_DATE = LocalDate.of(2024, 1, 1).atStartOfDay().toInstant(ZoneOffset.UTC);
+    private static final String IP_RANGE = "1.2.3.4";
+
+    private static KeyPair keyPair;
+    private static CloudFrontSigner signer;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        KeyPairGenerator kpg = KeyPairGenerator.getInstance("RSA");
+        kpg.initialize(2048);
+        keyPair = kpg.generateKeyPair();
+        signer = CloudFrontSigner.builder()
+                                 .privateKey(keyPair.getPrivate())
+                                 .keyPairId("keyPairId")
+                                 .build();
+    }
+
+    @Test
+    void build_withoutPrivateKey_throws() {
+        assertThatThrownBy(() -> CloudFrontSigner.builder().keyPairId("keyPairId").build())
+            .isInstanceOf(NullPointerException.class)
+            .hasMessageContaining("privateKey");
+    }
+
+    @Test
+    void build_withoutKeyPairId_throws() {
+        assertThatThrownBy(() -> CloudFrontSigner.builder().privateKey(keyPair.getPrivate()).build())
+            .isInstanceOf(NullPointerException.class)
+            .hasMessageContaining("keyPairId");
+    }
+
+    @Test
+    void getSignedUrlWithCannedPolicy_matchesCloudFrontUtilities() {
+        SignedUrl expected = CloudFrontUtilities.create().getSignedUrlWithCannedPolicy(
+            CannedSignerRequest.builder()
+                               .resourceUrl(RESOURCE_URL)
+                               .privateKey(keyPair.getPrivate())
+                               .keyPairId("keyPairId")
+                               .expirationDate(EXPIRATION_DATE)
+                               .build());
+
+        assertThat(signer.getSignedUrlWithCannedPolicy(RESOURCE_URL, EXPIRATION_DATE).url()).isEqualTo(expected.url());
+    }
+
+    @Test
+    void getSignedUrlWithCustomPolicy_matchesCloudFrontUtilities() {
+        SignedUrl expected = CloudFrontUtilities.create().getSignedUrlWithCustomPolicy(customRequest(RESOURCE_URL));
+
+        SignedUrl signedUrl = signer.getSignedUrlWithCustomPolicy(RESOURCE_URL, ACTIVE_DATE, EXPIRATION_DATE, IP_RANGE);
+        assertThat(signedUrl.url()).isEqualTo(expected.url());
+    }
+
+    @Test
+    void getSignedUrlsWithCustomPolicy_returnsUrlsInOrder() {
+        List<String> resourceUrls = IntStream.range(0, 100)
+                                             .mapToObj(i -> RESOURCE_URL + i)
+                                             .collect(Collectors.toList());
+
+        List<SignedUrl> signedUrls = signer.getSignedUrlsWithCustomPolicy(resourceUrls, ACTIVE_DATE, EXPIRATION_DATE, IP_RANGE);
+
+        assertThat(signedUrls).hasSameSizeAs(resourceUrls);
+        for (int i = 0; i < resourceUrls.size(); i++) {
+            SignedUrl expected = CloudFrontUtilities.create().getSignedUrlWithCustomPolicy(customRequest(resourceUrls.get(i)));
+            assertThat(signedUrls.get(i).url()).isEqualTo(expected.url());
+        }
+    }
+
+    @Test
+    void getSignedUrlsWithCustomPolicy_withEmptyList_returnsEmptyList() {
+        assertThat(signer.getSignedUrlsWithCustomPolicy(Arrays.asList(), ACTIVE_DATE, EXPIRATION_DATE, IP_RANGE)).isEmpty();
+    }
+
+    @Test
+    void getCookiesForCannedPolicy_matchesCloudFrontUtilities() {
+        CookiesForCannedPolicy expected = CloudFrontUtilities.create().getCookiesForCannedPolicy(
+            CannedSignerRequest.builder()
+                               .resourceUrl(RESOURCE_URL)
+                               .privateKey(keyPair.getPrivate())
+                               .keyPairId("keyPairId")
+                               .expirationDate(EXPIRATION_DATE)
+                               .build());
+
+        CookiesForCannedPolicy cookies = signer.getCookiesForCannedPolicy(RESOURCE_URL, EXPIRATION_DATE);
+        assertThat(cookies.signatureHeaderValue()).isEqualTo(expected.signatureHeaderValue());
+        assertThat(cookies.expiresHeaderValue()).isEqualTo(expected.expiresHeaderValue());
+        assertThat(cookies.keyPairIdHeaderValue()).isEqualTo(expected.keyPairIdHeaderValue());
+    }
+
+    @Test
+    void getCookiesForCustomPolicy_matchesCloudFrontUtilities() {
+        CookiesForCustomPolicy expected = CloudFrontUtilities.create().getCookiesForCustomPolicy(customRequest(RESOURCE_URL));
+
+        CookiesForCustomPolicy cookies = signer.getCookiesForCustomPolicy(RESOURCE_URL, ACTIVE_DATE, EXPIRATION_DATE, IP_RANGE);
+        assertThat(cookies.signatureHeaderValue()).isEqualTo(expected.signatureHeaderValue());
+        assertThat(cookies.policyHeaderValue()).isEqualTo(expected.policyHeaderValue());
+        assertThat(cookies.keyPairIdHeaderValue()).isEqualTo(expected.keyPairIdHeaderValue());
+    }
+
+    private static CustomSignerRequest customRequest(String resourceUrl) {
+        return CustomSignerRequest.builder()
+                                  .resourceUrl(resourceUrl)
+                                  .privateKey(keyPair.getPrivate())
+                                  .keyPairId("keyPairId")
+                                  .activeDate(ACTIVE_DATE)
+                                  .expirationDate(EXPIRATION_DATE)
+                                  .ipRange(IP_RANGE)
+                                  .build();
+    }
+}
@@ -18,10 +18,13 @@ package software.amazon.awssdk.services.s3.internal.s3express;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Function;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.services.s3.model.SessionCredentials;
+import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.SdkAutoCloseable;
 import software.amazon.awssdk.utils.cache.CachedSupplier;
 import software.amazon.awssdk.utils.cache.NonBlocking;
@@ -45,6 +48,10 @@ import software.amazon.awssdk.utils.cache.RefreshResult;
  *           refresh
  * </pre>
  * <p>
+ * The prefetch time of each session is moved earlier by a random amount of up to a tenth of the time until it would otherwise
+ * start, so that the sessions of many buckets created at the same time (e.g. when the cache is prewarmed) are refreshed in
+ * the background at different times instead of all at once.
+ * <p>
  * Make sure to {@link #close} instances when they are no longer used.
  */
 @SdkInternalApi
@@ -54,6 +61,8 @@ public final class CachedS3ExpressCredentials implements SdkAutoCloseable {
     private static final Duration DEFAULT_EXPIRATION_TIME = Duration.ofMinutes(5);
     private static final Duration DEFAULT_STALE_TIME = Duration.ofSeconds(15);
     private static final Duration DEFAULT_PREFETCH_TIME = Duration.ofSeconds(60);
+    private static final double MAX_PREFETCH_JITTER_FRACTION = 0.1;
+    private static final Logger log = Logger.loggerFor(CachedS3ExpressCredentials.class);
     private final Duration staleTime;
     private final Duration prefetchTime;
     private final Function<S3ExpressIdentityKey, SessionCredentials> credentialsSupplier;
@@ -85,6 +94,13 @@ public final class CachedS3ExpressCredentials implements SdkAutoCloseable {
         return sessionCache.get();
     }
 
+    /**
+     * Get the credentials without blocking the calling thread, creating the session in the background if it is not cached.
+     */
+    public CompletableFuture<SessionCredentials> getAsync() {
+        return sessionCache.getAsync();
+    }
+
     private RefreshResult<SessionCredentials> refreshResult(
         Function<S3ExpressIdentityKey, SessionCredentials> identitySupplier, S3ExpressIdentityKey key) {
 
@@ -94,11 +110,20 @@ public final class CachedS3ExpressCredentials implements SdkAutoCloseable {
             expirationTime = Instant.now().plus(DEFAULT_EXPIRATION_TIME);
         }
         return RefreshResult.builder(newCredentials)
-                     .prefetchTime(expirationTime.minus(prefetchTime))
+                     .prefetchTime(jitter(expirationTime.minus(prefetchTime)))
                      .staleTime(expirationTime.minus(staleTime))
                      .build();
     }
 
+    private static Instant jitter(Instant prefetchTime) {
+        Duration timeUntilPrefetch = Duration.between(Instant.now(), prefetchTime);
+        if (timeUntilPrefetch.isNegative()) {
+            return prefetchTime;
+        }
+        double jitterFraction = ThreadLocalRandom.current().nextDouble(MAX_PREFETCH_JITTER_FRACTION);
+        return prefetchTime.minusMillis((long) (timeUntilPrefetch.toMillis() * jitterFraction));
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -120,6 +145,7 @@ public final class CachedS3ExpressCredentials implements SdkAutoCloseable {
 
     @Override
     public void close() {
+        log.debug(() -> "Closing cached S3 Express session credentials, which will no longer be refreshed.");
         sessionCache.close();
     }
 
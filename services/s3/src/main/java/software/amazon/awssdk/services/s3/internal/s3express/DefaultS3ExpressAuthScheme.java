@@ -15,24 +15,35 @@
 
 package software.amazon.awssdk.services.s3.internal.s3express;
 
+import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.awscore.AwsServiceClientConfiguration;
+import software.amazon.awssdk.core.SdkClient;
+import software.amazon.awssdk.core.SdkServiceClientConfiguration;
 import software.amazon.awssdk.http.auth.spi.signer.HttpSigner;
 import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
 import software.amazon.awssdk.identity.spi.IdentityProvider;
 import software.amazon.awssdk.identity.spi.IdentityProviders;
 import software.amazon.awssdk.services.s3.s3express.S3ExpressAuthScheme;
 import software.amazon.awssdk.services.s3.s3express.S3ExpressSessionCredentials;
+import software.amazon.awssdk.utils.Validate;
 
 @SdkInternalApi
 public final class DefaultS3ExpressAuthScheme implements S3ExpressAuthScheme {
     private volatile S3ExpressIdentityCache cache;
     private final Object cacheLock = new Object();
+    private final Integer sessionCacheSize;
 
-    private DefaultS3ExpressAuthScheme() {
+    private DefaultS3ExpressAuthScheme(Integer sessionCacheSize) {
+        this.sessionCacheSize = sessionCacheSize;
     }
 
     public static DefaultS3ExpressAuthScheme create() {
-        return new DefaultS3ExpressAuthScheme();
+        return new DefaultS3ExpressAuthScheme(null);
+    }
+
+    public static DefaultS3ExpressAuthScheme create(int sessionCacheSize) {
+        return new DefaultS3ExpressAuthScheme(Validate.isPositive(sessionCacheSize, "sessionCacheSize"));
     }
 
     @Override
@@ -54,6 +65,35 @@ public final class DefaultS3ExpressAuthScheme implements S3ExpressAuthScheme {
         return DefaultS3ExpressHttpSigner.create();
     }
 
+    @Override
+    public CompletableFuture<Void> prewarm(SdkClient client, String... buckets) {
+        Validate.paramNotNull(client, "client");
+        SdkServiceClientConfiguration configuration = client.serviceClientConfiguration();
+        if (configuration.authSchemes().get(SCHEME_ID) != this) {
+            throw new IllegalArgumentException("The client is not configured with this auth scheme, so prewarming this auth "
+                                               + "scheme's sessions would not affect its requests.");
+        }
+        if (!(configuration instanceof AwsServiceClientConfiguration)) {
+            throw new IllegalArgumentException("The client must be an S3Client or S3AsyncClient, but was " + client.getClass());
+        }
+
+        IdentityProvider<? extends AwsCredentialsIdentity> baseIdentityProvider =
+            ((AwsServiceClientConfiguration) configuration).credentialsProvider();
+        S3ExpressIdentityCache identityCache = getOrCreateCache();
+
+        return baseIdentityProvider.resolveIdentity().thenCompose(identity -> {
+            CompletableFuture<?>[] sessions = new CompletableFuture[buckets.length];
+            for (int i = 0; i < buckets.length; i++) {
+                sessions[i] = identityCache.prewarm(S3ExpressIdentityKey.builder()
+                                                                        .bucket(buckets[i])
+                                                                        .client(client)
+                                                                        .identity(identity)
+                                                                        .build());
+            }
+            return CompletableFuture.allOf(sessions);
+        });
+    }
+
     private S3ExpressIdentityCache getOrCreateCache() {
         if (cache == null) {
             synchronized (cacheLock) {
@@ -66,6 +106,6 @@ public final class DefaultS3ExpressAuthScheme implements S3ExpressAuthScheme {
     }
 
     private S3ExpressIdentityCache initCache() {
-        return S3ExpressIdentityCache.create();
+        return sessionCacheSize == null ? S3ExpressIdentityCache.create() : S3ExpressIdentityCache.create(sessionCacheSize);
     }
 }
@@ -17,6 +17,7 @@ package software.amazon.awssdk.services.s3.internal.s3express;
 
 import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
 import software.amazon.awssdk.auth.credentials.CredentialUtils;
@@ -30,6 +31,7 @@ import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.CreateSessionRequest;
 import software.amazon.awssdk.services.s3.model.SessionCredentials;
 import software.amazon.awssdk.services.s3.s3express.S3ExpressSessionCredentials;
+import software.amazon.awssdk.utils.Validate;
 import software.amazon.awssdk.utils.cache.lru.LruCache;
 
 @SdkInternalApi
@@ -47,12 +49,16 @@ public class S3ExpressIdentityCache {
 
     private final LruCache<S3ExpressIdentityKey, CachedS3ExpressCredentials> cache;
 
-    private S3ExpressIdentityCache() {
-        this.cache = initCache();
+    private S3ExpressIdentityCache(int maxSize) {
+        this.cache = initCache(maxSize);
     }
 
     public static S3ExpressIdentityCache create() {
-        return new S3ExpressIdentityCache();
+        return new S3ExpressIdentityCache(DEFAULT_LRU_CACHE_SIZE);
+    }
+
+    public static S3ExpressIdentityCache create(int maxSize) {
+        return new S3ExpressIdentityCache(Validate.isPositive(maxSize, "maxSize"));
     }
 
     //TODO (s3express) add test to make sure the right exception type is returned and not CompletionException
@@ -61,9 +67,20 @@ public class S3ExpressIdentityCache {
         return S3ExpressSessionCredentials.fromSessionResponse(cachedCredentials.get());
     }
 
-    private LruCache<S3ExpressIdentityKey, CachedS3ExpressCredentials> initCache() {
+    /**
+     * Create the session for a key in the background if it isn't already cached, so that the first request that uses it does
+     * not have to wait for it. The returned future completes when the session is cached.
+     * <p>
+     * The session is created on the SDK's shared background threads, and a concurrent request for the same session waits for
+     * the same creation instead of starting another one.
+     */
+    public CompletableFuture<Void> prewarm(S3ExpressIdentityKey key) {
+        return cache.get(key).getAsync().thenApply(credentials -> null);
+    }
+
+    private LruCache<S3ExpressIdentityKey, CachedS3ExpressCredentials> initCache(int maxSize) {
         return LruCache.builder(this::getCachedCredentials)
-                       .maxSize(DEFAULT_LRU_CACHE_SIZE)
+                       .maxSize(maxSize)
                        .build();
     }
 
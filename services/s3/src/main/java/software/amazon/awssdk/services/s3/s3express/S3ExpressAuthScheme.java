@@ -15,17 +15,21 @@
 
 package software.amazon.awssdk.services.s3.s3express;
 
+import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.SdkClient;
 import software.amazon.awssdk.http.auth.aws.signer.AwsV4HttpSigner;
 import software.amazon.awssdk.http.auth.spi.scheme.AuthScheme;
 import software.amazon.awssdk.http.auth.spi.signer.HttpSigner;
 import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
 import software.amazon.awssdk.identity.spi.IdentityProvider;
 import software.amazon.awssdk.identity.spi.IdentityProviders;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.S3ClientBuilder;
 import software.amazon.awssdk.services.s3.internal.s3express.DefaultS3ExpressAuthScheme;
 import software.amazon.awssdk.services.s3.model.CreateSessionRequest;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
 
 /**
  * An auth scheme for faster authentication when interacting with S3 express.
@@ -53,6 +57,15 @@ public interface S3ExpressAuthScheme extends AuthScheme<S3ExpressSessionCredenti
         return DefaultS3ExpressAuthScheme.create();
     }
 
+    /**
+     * Create an S3Express auth scheme that caches the sessions of up to {@code sessionCacheSize} combinations of bucket and
+     * credentials, evicting the least recently used session when the cache is full. Use this when a client regularly accesses
+     * more directory buckets than fit in the default cache, since every cache miss requires a {@code CreateSession} call.
+     */
+    static S3ExpressAuthScheme create(int sessionCacheSize) {
+        return DefaultS3ExpressAuthScheme.create(sessionCacheSize);
+    }
+
     /**
      * Retrieve the {@link AwsCredentialsIdentity} based {@link IdentityProvider} associated with this authentication scheme.
      */
@@ -64,4 +77,32 @@ public interface S3ExpressAuthScheme extends AuthScheme<S3ExpressSessionCredenti
      */
     @Override
     HttpSigner<S3ExpressSessionCredentials> signer();
+
+    /**
+     * Create the sessions for the given directory buckets ahead of time using the client's credentials, so that the first
+     * request to each bucket does not have to wait for a {@code CreateSession} call. Prewarmed sessions are refreshed in the
+     * background before they expire, like any other cached session.
+     * <p>
+     * The client must be an {@link S3Client} or {@link S3AsyncClient} configured with this auth scheme, e.g.
+     * {@snippet :
+     * S3ExpressAuthScheme authScheme = S3ExpressAuthScheme.create();
+     * S3Client s3 = S3Client.builder().putAuthScheme(authScheme).build();
+     * authScheme.prewarm(s3, "bucket-1--usw2-az1--x-s3", "bucket-2--usw2-az1--x-s3").join();
+     * }
+     * <p>
+     * The {@code CreateSession} calls are made on a bounded pool of SDK threads for blocking I/O, never on the calling thread.
+     * If that pool and its queue are full, the returned future fails with a
+     * {@link java.util.concurrent.RejectedExecutionException}. The client's credentials are resolved with its credentials
+     * provider's {@link IdentityProvider#resolveIdentity()}, which may block if that provider does.
+     * <p>
+     * Only the auth schemes returned by {@link #create()} and {@link #create(int)} support prewarming. Other implementations
+     * return a future that fails with an {@link UnsupportedOperationException}.
+     *
+     * @return A future that completes when the session of every bucket has been created.
+     */
+    default CompletableFuture<Void> prewarm(SdkClient client, String... buckets) {
+        return CompletableFutureUtils.failedFuture(new UnsupportedOperationException(
+            "Prewarming sessions is only supported by the auth schemes returned by S3ExpressAuthScheme.create(), not by "
+            + getClass().getName()));
+    }
 }
@@ -18,23 +18,28 @@ package software.amazon.awssdk.services.s3.internal.s3express;
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.anyUrl;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.put;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlMatching;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
 import static java.lang.Boolean.TRUE;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES;
 
 import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
 import com.github.tomakehurst.wiremock.junit5.WireMockTest;
 import java.net.URI;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
 import java.util.stream.IntStream;
 import org.junit.jupiter.api.AfterEach;
@@ -60,6 +65,7 @@ import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.s3express.S3ExpressAuthScheme;
 import software.amazon.awssdk.services.s3.s3express.S3ExpressSessionCredentials;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
@@ -219,6 +225,40 @@ public class S3ExpressCacheFunctionalTest {
         assertThat(apiCallIdentities).hasSize(4);
     }
 
+    @Test
+    void prewarm_createsSessionsBeforeFirstRequests(WireMockRuntimeInfo wm) {
+        S3ExpressAuthScheme authScheme = S3ExpressAuthScheme.create();
+        S3Client s3Client = getS3ClientBuilder(wm).putAuthScheme(authScheme).build();
+
+        authScheme.prewarm(s3Client, S3EXPRESS_BUCKET_1, S3EXPRESS_BUCKET_2).join();
+        verify(2, getRequestedFor(urlMatching("/.*session")));
+
+        s3Client.putObject(r -> r.bucket(S3EXPRESS_BUCKET_1).key("key"), RequestBody.fromString("tmp"));
+        s3Client.putObject(r -> r.bucket(S3EXPRESS_BUCKET_2).key("key"), RequestBody.fromString("tmp"));
+        verify(2, getRequestedFor(urlMatching("/.*session")));
+    }
+
+    @Test
+    void prewarm_clientWithDifferentAuthScheme_throwsException(WireMockRuntimeInfo wm) {
+        S3Client s3Client = getS3ClientBuilder(wm).build();
+
+        assertThatThrownBy(() -> S3ExpressAuthScheme.create().prewarm(s3Client, S3EXPRESS_BUCKET_1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("not configured with this auth scheme");
+    }
+
+    @Test
+    void prewarm_authSchemeWithoutPrewarmSupport_returnsFailedFuture(WireMockRuntimeInfo wm) {
+        S3ExpressAuthScheme authScheme = Mockito.mock(S3ExpressAuthScheme.class, Mockito.CALLS_REAL_METHODS);
+        S3Client s3Client = getS3ClientBuilder(wm).build();
+
+        assertThat(authScheme.prewarm(s3Client, S3EXPRESS_BUCKET_1))
+            .failsWithin(Duration.ZERO)
+            .withThrowableOfType(ExecutionException.class)
+            .withCauseInstanceOf(UnsupportedOperationException.class)
+            .withMessageContaining("S3ExpressAuthScheme.create()");
+    }
+
     private S3ExpressSessionCredentials s3ExpressCredentialsFromFuture(CompletableFuture<?> credentialsFuture) {
         Object o = CompletableFutureUtils.joinLikeSync(credentialsFuture);
         assertThat(o).isInstanceOf(S3ExpressSessionCredentials.class);
@@ -26,6 +26,7 @@ import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
 import software.amazon.awssdk.services.sts.StsClient;
+import software.amazon.awssdk.services.sts.internal.FixedRequestSupplier;
 import software.amazon.awssdk.services.sts.model.AssumeRoleRequest;
 import software.amazon.awssdk.services.sts.model.AssumeRoleResponse;
 import software.amazon.awssdk.utils.ToString;
@@ -121,7 +122,7 @@ public final class StsAssumeRoleCredentialsProvider
          * @return This object for chained calls.
          */
         public Builder refreshRequest(AssumeRoleRequest assumeRoleRequest) {
-            return refreshRequest(() -> assumeRoleRequest);
+            return refreshRequest(new FixedRequestSupplier<>(assumeRoleRequest));
         }
 
         /**
@@ -145,6 +146,11 @@ public final class StsAssumeRoleCredentialsProvider
             return refreshRequest(AssumeRoleRequest.builder().applyMutation(assumeRoleRequest).build());
         }
 
+        @Override
+        Object refreshRequestKey() {
+            return resolvedRequestKey(assumeRoleRequestSupplier);
+        }
+
         @Override
         public StsAssumeRoleCredentialsProvider build() {
             return super.build();
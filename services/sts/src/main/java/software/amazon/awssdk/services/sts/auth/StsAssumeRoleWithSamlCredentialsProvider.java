@@ -26,6 +26,7 @@ import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
 import software.amazon.awssdk.services.sts.StsClient;
+import software.amazon.awssdk.services.sts.internal.FixedRequestSupplier;
 import software.amazon.awssdk.services.sts.model.AssumeRoleWithSamlRequest;
 import software.amazon.awssdk.services.sts.model.AssumeRoleWithSamlResponse;
 import software.amazon.awssdk.utils.Validate;
@@ -114,7 +115,7 @@ public final class StsAssumeRoleWithSamlCredentialsProvider
          * @return This object for chained calls.
          */
         public Builder refreshRequest(AssumeRoleWithSamlRequest assumeRoleWithSamlRequest) {
-            return refreshRequest(() -> assumeRoleWithSamlRequest);
+            return refreshRequest(new FixedRequestSupplier<>(assumeRoleWithSamlRequest));
         }
 
         /**
@@ -138,6 +139,11 @@ public final class StsAssumeRoleWithSamlCredentialsProvider
             return refreshRequest(AssumeRoleWithSamlRequest.builder().applyMutation(assumeRoleWithSamlRequest).build());
         }
 
+        @Override
+        Object refreshRequestKey() {
+            return resolvedRequestKey(assumeRoleWithSamlRequestSupplier);
+        }
+
         @Override
         public StsAssumeRoleWithSamlCredentialsProvider build() {
             return super.build();
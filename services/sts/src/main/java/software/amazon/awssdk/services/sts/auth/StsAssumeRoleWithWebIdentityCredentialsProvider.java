@@ -27,6 +27,7 @@ import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
 import software.amazon.awssdk.services.sts.StsClient;
+import software.amazon.awssdk.services.sts.internal.FixedRequestSupplier;
 import software.amazon.awssdk.services.sts.model.AssumeRoleWithWebIdentityRequest;
 import software.amazon.awssdk.services.sts.model.AssumeRoleWithWebIdentityResponse;
 import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
@@ -114,7 +115,7 @@ public final class StsAssumeRoleWithWebIdentityCredentialsProvider
          * @return This object for chained calls.
          */
         public Builder refreshRequest(AssumeRoleWithWebIdentityRequest assumeRoleWithWebIdentityRequest) {
-            return refreshRequest(() -> assumeRoleWithWebIdentityRequest);
+            return refreshRequest(new FixedRequestSupplier<>(assumeRoleWithWebIdentityRequest));
         }
 
         /**
@@ -139,6 +140,11 @@ public final class StsAssumeRoleWithWebIdentityCredentialsProvider
                                                                   .build());
         }
 
+        @Override
+        Object refreshRequestKey() {
+            return resolvedRequestKey(assumeRoleWithWebIdentityRequestSupplier);
+        }
+
         @Override
         public StsAssumeRoleWithWebIdentityCredentialsProvider build() {
             return super.build();
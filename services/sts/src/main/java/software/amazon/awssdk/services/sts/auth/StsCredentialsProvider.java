@@ -17,15 +17,24 @@ package software.amazon.awssdk.services.sts.auth;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.NotThreadSafe;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+import software.amazon.awssdk.identity.spi.ResolveIdentityRequest;
 import software.amazon.awssdk.services.sts.StsClient;
+import software.amazon.awssdk.services.sts.StsServiceClientConfiguration;
+import software.amazon.awssdk.services.sts.internal.AssumeRoleWithWebIdentityRequestSupplier;
+import software.amazon.awssdk.services.sts.internal.FixedRequestSupplier;
+import software.amazon.awssdk.utils.IoUtils;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.SdkAutoCloseable;
 import software.amazon.awssdk.utils.ToString;
@@ -33,8 +42,10 @@ import software.amazon.awssdk.utils.Validate;
 import software.amazon.awssdk.utils.builder.CopyableBuilder;
 import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
 import software.amazon.awssdk.utils.cache.CachedSupplier;
+import software.amazon.awssdk.utils.cache.CachedValueSupplier;
 import software.amazon.awssdk.utils.cache.NonBlocking;
 import software.amazon.awssdk.utils.cache.RefreshResult;
+import software.amazon.awssdk.utils.cache.SharedCachedSupplier;
 
 
 /**
@@ -45,6 +56,10 @@ import software.amazon.awssdk.utils.cache.RefreshResult;
  * thread (by default) or asynchronously (if {@link #asyncCredentialUpdateEnabled} is true). If the credentials expire, this
  * class will block all calls to {@link #resolveCredentials()} until the credentials are updated.
  *
+ * If {@link BaseBuilder#sharedCredentialCacheEnabled} is true, providers of the same type that use STS clients with the same
+ * credentials provider, region and endpoint, equal refresh requests given directly to their builders and the same timing
+ * configuration share a single process-wide session cache that is updated in the background.
+ *
  * Users of this provider must {@link #close()} it when they are finished using it.
  */
 @ThreadSafe
@@ -60,10 +75,15 @@ public abstract class StsCredentialsProvider implements AwsCredentialsProvider,
      */
     final StsClient stsClient;
 
+    /**
+     * Whether the session cache is shared with equivalent providers. Read by child classes that delegate to another provider.
+     */
+    final Boolean sharedCredentialCacheEnabled;
+
     /**
      * The session cache that handles automatically updating the credentials when they get close to expiring.
      */
-    private final CachedSupplier<AwsSessionCredentials> sessionCache;
+    private final CachedValueSupplier<AwsSessionCredentials> sessionCache;
 
     private final Duration staleTime;
     private final Duration prefetchTime;
@@ -76,13 +96,43 @@ public abstract class StsCredentialsProvider implements AwsCredentialsProvider,
         this.prefetchTime = Optional.ofNullable(builder.prefetchTime).orElse(DEFAULT_PREFETCH_TIME);
 
         this.asyncCredentialUpdateEnabled = builder.asyncCredentialUpdateEnabled;
-        CachedSupplier.Builder<AwsSessionCredentials> cacheBuilder =
-            CachedSupplier.builder(this::updateSessionCredentials)
-                          .cachedValueName(toString());
-        if (builder.asyncCredentialUpdateEnabled) {
-            cacheBuilder.prefetchStrategy(new NonBlocking(asyncThreadName));
+        this.sharedCredentialCacheEnabled = builder.sharedCredentialCacheEnabled;
+        Object refreshRequestKey = builder.refreshRequestKey();
+        if (Boolean.TRUE.equals(builder.sharedCredentialCacheEnabled) && refreshRequestKey != null) {
+            this.sessionCache = SharedCachedSupplier.builder(this::updateSessionCredentials)
+                                                    .key(Arrays.asList(providerName(), stsClientKey(stsClient),
+                                                                       refreshRequestKey, staleTime, prefetchTime))
+                                                    .cachedValueName(toString())
+                                                    .asyncThreadName(asyncThreadName)
+                                                    .build();
+        } else {
+            CachedSupplier.Builder<AwsSessionCredentials> cacheBuilder =
+                CachedSupplier.builder(this::updateSessionCredentials)
+                              .cachedValueName(toString());
+            if (Boolean.TRUE.equals(builder.asyncCredentialUpdateEnabled)
+                || Boolean.TRUE.equals(builder.sharedCredentialCacheEnabled)) {
+                cacheBuilder.prefetchStrategy(new NonBlocking(asyncThreadName));
+            }
+            this.sessionCache = cacheBuilder.build();
+        }
+    }
+
+    /**
+     * The configuration of the STS client that determines which session STS returns for a request: the credentials provider
+     * it authenticates with, its region and its endpoint. Clients that do not expose their configuration or credentials
+     * provider are only equal to themselves.
+     */
+    private static Object stsClientKey(StsClient stsClient) {
+        try {
+            StsServiceClientConfiguration configuration = stsClient.serviceClientConfiguration();
+            if (configuration != null && configuration.credentialsProvider() != null) {
+                return Arrays.asList(configuration.credentialsProvider(), configuration.region(),
+                                     configuration.endpointOverride().orElse(null));
+            }
+        } catch (UnsupportedOperationException e) {
+            // Fall through to identity.
         }
-        this.sessionCache = cacheBuilder.build();
+        return stsClient;
     }
 
     /**
@@ -110,9 +160,23 @@ public abstract class StsCredentialsProvider implements AwsCredentialsProvider,
         return credentials;
     }
 
+    /**
+     * Resolve credentials without blocking the calling thread. If the cached credentials are stale, STS is called on a
+     * background thread.
+     */
+    @Override
+    public CompletableFuture<AwsCredentialsIdentity> resolveIdentity(ResolveIdentityRequest request) {
+        return sessionCache.getAsync().thenApply(credentials -> {
+            credentials.expirationTime().ifPresent(t -> {
+                log.debug(() -> "Using STS credentials with expiration time of " + t);
+            });
+            return credentials;
+        });
+    }
+
     @Override
     public void close() {
-        sessionCache.close();
+        IoUtils.closeIfCloseable(sessionCache, null);
     }
 
     /**
@@ -153,6 +217,7 @@ public abstract class StsCredentialsProvider implements AwsCredentialsProvider,
         private final Function<B, T> providerConstructor;
 
         private Boolean asyncCredentialUpdateEnabled = false;
+        private Boolean sharedCredentialCacheEnabled = false;
         private StsClient stsClient;
         private Duration staleTime;
         private Duration prefetchTime;
@@ -164,6 +229,7 @@ public abstract class StsCredentialsProvider implements AwsCredentialsProvider,
         BaseBuilder(Function<B, T> providerConstructor, StsCredentialsProvider provider) {
             this.providerConstructor = providerConstructor;
             this.asyncCredentialUpdateEnabled = provider.asyncCredentialUpdateEnabled;
+            this.sharedCredentialCacheEnabled = provider.sharedCredentialCacheEnabled;
             this.stsClient = provider.stsClient;
             this.staleTime = provider.staleTime;
             this.prefetchTime = provider.prefetchTime;
@@ -195,6 +261,29 @@ public abstract class StsCredentialsProvider implements AwsCredentialsProvider,
             return (B) this;
         }
 
+        /**
+         * Configure whether the provider should share its session credentials with every other provider of the same type in
+         * this process that uses an {@link StsClient} with the same credentials provider, region and endpoint, an equal refresh
+         * request, and the same stale time and prefetch time. If this is true, STS is called once per refresh for all of these
+         * providers, the session is updated by a single background thread at a jittered time before it becomes stale, and the
+         * last session is used while an update fails. This overrides {@link #asyncCredentialUpdateEnabled(Boolean)}.
+         *
+         * <p>Only a refresh request given directly to the builder identifies a session. A provider configured with a refresh
+         * request {@link Supplier} does not share its session, and instead updates it asynchronously on its own. STS clients
+         * are compared by the credentials provider instance they are configured with, so clients that do not expose their
+         * configuration only share a session when they are the same instance.
+         *
+         * <p>Providers that share a session must be {@link StsCredentialsProvider#close() closed} when they are no longer
+         * used. Until then, the shared session keeps a reference to each of them.
+         *
+         * <p>By default, this is disabled.</p>
+         */
+        @SuppressWarnings("unchecked")
+        public B sharedCredentialCacheEnabled(Boolean sharedCredentialCacheEnabled) {
+            this.sharedCredentialCacheEnabled = sharedCredentialCacheEnabled;
+            return (B) this;
+        }
+
         /**
          * Configure the amount of time, relative to STS token expiration, that the cached credentials are considered
          * stale and must be updated. All threads will block until the value is updated.
@@ -223,6 +312,25 @@ public abstract class StsCredentialsProvider implements AwsCredentialsProvider,
         }
 
 
+        /**
+         * The request configuration that determines the credentials STS returns, used to identify providers that can share
+         * a session when {@link #sharedCredentialCacheEnabled(Boolean)} is true.
+         */
+        abstract Object refreshRequestKey();
+
+        /**
+         * The refresh request supplier if it always returns equal requests for equal configuration, or null if it is provided
+         * by the user and may return a different request every time it is called. Web identity suppliers are compared by their
+         * token file, because the token they read changes over time.
+         */
+        static Object resolvedRequestKey(Supplier<?> requestSupplier) {
+            if (requestSupplier instanceof FixedRequestSupplier
+                || requestSupplier instanceof AssumeRoleWithWebIdentityRequestSupplier) {
+                return requestSupplier;
+            }
+            return null;
+        }
+
         /**
          * Build the credentials provider using the configuration applied to this builder.
          */
@@ -134,6 +134,11 @@ public class StsGetFederationTokenCredentialsProvider
             return refreshRequest(GetFederationTokenRequest.builder().applyMutation(getFederationTokenRequest).build());
         }
 
+        @Override
+        Object refreshRequestKey() {
+            return getFederationTokenRequest;
+        }
+
         @Override
         public StsGetFederationTokenCredentialsProvider build() {
             return super.build();
@@ -123,6 +123,11 @@ public class StsGetSessionTokenCredentialsProvider
             return refreshRequest(GetSessionTokenRequest.builder().applyMutation(getFederationTokenRequest).build());
         }
         
+        @Override
+        Object refreshRequestKey() {
+            return getSessionTokenRequest;
+        }
+
         @Override
         public StsGetSessionTokenCredentialsProvider build() {
             return super.build();
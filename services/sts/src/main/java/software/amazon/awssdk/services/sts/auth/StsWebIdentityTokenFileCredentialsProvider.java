@@ -22,6 +22,7 @@ import static software.amazon.awssdk.utils.Validate.notNull;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkPublicApi;
@@ -107,6 +108,7 @@ public final class StsWebIdentityTokenFileCredentialsProvider
                 StsAssumeRoleWithWebIdentityCredentialsProvider.builder()
                                                                .stsClient(builder.stsClient)
                                                                .refreshRequest(supplier)
+                                                               .sharedCredentialCacheEnabled(sharedCredentialCacheEnabled)
                                                                .build();
         } catch (RuntimeException e) {
             // If we couldn't load the credentials provider for some reason, save an exception describing why. This exception
@@ -297,6 +299,12 @@ public final class StsWebIdentityTokenFileCredentialsProvider
                                                                   .build());
         }
 
+        @Override
+        Object refreshRequestKey() {
+            return Arrays.asList(roleArn, roleSessionName, webIdentityTokenFile,
+                                 resolvedRequestKey(assumeRoleWithWebIdentityRequestSupplier));
+        }
+
         @Override
         public StsWebIdentityTokenFileCredentialsProvider build() {
             return new StsWebIdentityTokenFileCredentialsProvider(this);
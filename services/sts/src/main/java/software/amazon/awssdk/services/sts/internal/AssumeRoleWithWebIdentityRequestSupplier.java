@@ -20,6 +20,7 @@ import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Objects;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.services.sts.model.AssumeRoleWithWebIdentityRequest;
@@ -48,6 +49,26 @@ public class AssumeRoleWithWebIdentityRequestSupplier implements Supplier<Assume
         return request.toBuilder().webIdentityToken(getToken(webIdentityTokenFile)).build();
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        AssumeRoleWithWebIdentityRequestSupplier that = (AssumeRoleWithWebIdentityRequestSupplier) o;
+        return Objects.equals(request, that.request) && Objects.equals(webIdentityTokenFile, that.webIdentityTokenFile);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(request);
+        result = 31 * result + Objects.hashCode(webIdentityTokenFile);
+        return result;
+    }
+
     //file extraction
     private String getToken(Path file) {
         try (InputStream webIdentityTokenStream = Files.newInputStream(file)) {
@@ -0,0 +1,56 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sts.internal;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Supplies a refresh request that was given directly to a credentials provider builder. Unlike a user-provided
+ * {@link Supplier}, it always returns the same request, so it is equal to any other supplier of an equal request.
+ */
+@SdkInternalApi
+public final class FixedRequestSupplier<T> implements Supplier<T> {
+    private final T request;
+
+    public FixedRequestSupplier(T request) {
+        this.request = request;
+    }
+
+    @Override
+    public T get() {
+        return request;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        FixedRequestSupplier<?> that = (FixedRequestSupplier<?>) o;
+        return Objects.equals(request, that.request);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(request);
+    }
+}
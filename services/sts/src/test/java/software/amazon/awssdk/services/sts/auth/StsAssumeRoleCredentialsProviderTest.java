@@ -15,6 +15,17 @@
 
 package software.amazon.awssdk.services.sts.auth;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
 import software.amazon.awssdk.services.sts.StsClient;
 import software.amazon.awssdk.services.sts.model.AssumeRoleRequest;
 import software.amazon.awssdk.services.sts.model.AssumeRoleResponse;
@@ -26,6 +37,31 @@ import software.amazon.awssdk.services.sts.model.Credentials;
  * Inherits tests from {@link StsCredentialsProviderTestBase}.
  */
 public class StsAssumeRoleCredentialsProviderTest extends StsCredentialsProviderTestBase<AssumeRoleRequest, AssumeRoleResponse> {
+    @Test
+    public void sharedCredentialCache_requestSupplier_doesNotShareSessionOrCallSupplierOnBuild() {
+        Credentials credentials = Credentials.builder().accessKeyId("a").secretAccessKey("b").sessionToken("c")
+                                             .expiration(Instant.now().plus(Duration.ofHours(5))).build();
+        when(stsClient.assumeRole(any(AssumeRoleRequest.class))).thenReturn(getResponse(credentials));
+        AtomicInteger supplierCalls = new AtomicInteger();
+        Supplier<AssumeRoleRequest> requestSupplier = () -> AssumeRoleRequest.builder()
+                                                                             .roleSessionName("session-" + supplierCalls.incrementAndGet())
+                                                                             .build();
+        StsAssumeRoleCredentialsProvider.Builder builder = StsAssumeRoleCredentialsProvider.builder()
+                                                                                           .stsClient(stsClient)
+                                                                                           .refreshRequest(requestSupplier)
+                                                                                           .sharedCredentialCacheEnabled(true);
+
+        try (StsAssumeRoleCredentialsProvider first = builder.build();
+             StsAssumeRoleCredentialsProvider second = builder.build()) {
+            assertThat(supplierCalls).hasValue(0);
+            first.resolveCredentials();
+            second.resolveCredentials();
+        }
+
+        assertThat(supplierCalls).hasValue(2);
+        verify(stsClient, times(2)).assumeRole(any(AssumeRoleRequest.class));
+    }
+
     @Override
     protected AssumeRoleRequest getRequest() {
         return AssumeRoleRequest.builder().build();
@@ -27,8 +27,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.sts.StsClient;
+import software.amazon.awssdk.services.sts.StsServiceClientConfiguration;
 import software.amazon.awssdk.services.sts.endpoints.internal.Arn;
 import software.amazon.awssdk.services.sts.model.Credentials;
 
@@ -90,6 +95,100 @@ public abstract class StsCredentialsProviderTestBase<RequestT, ResponseT> {
         callClient(verify(stsClient, times(2)), Mockito.any());
     }
 
+    @Test
+    public void sharedCredentialCache_providersFromSameBuilder_callStsOnce() {
+        Credentials credentials = Credentials.builder().accessKeyId("a").secretAccessKey("b").sessionToken("c")
+                                             .expiration(Instant.now().plus(Duration.ofHours(5))).build();
+        RequestT request = getRequest();
+        when(callClient(stsClient, request)).thenReturn(getResponse(credentials));
+
+        StsCredentialsProvider.BaseBuilder<?, ? extends StsCredentialsProvider> builder =
+            createCredentialsProviderBuilder(request).stsClient(stsClient).sharedCredentialCacheEnabled(true);
+
+        try (StsCredentialsProvider first = builder.build();
+             StsCredentialsProvider second = builder.build()) {
+            assertThat(second.resolveCredentials()).isSameAs(first.resolveCredentials());
+        }
+
+        callClient(verify(stsClient, times(1)), Mockito.any());
+    }
+
+    @Test
+    public void sharedCredentialCache_separateBuildersWithEqualRequests_shareSession() {
+        Credentials credentials = Credentials.builder().accessKeyId("a").secretAccessKey("b").sessionToken("c")
+                                             .expiration(Instant.now().plus(Duration.ofHours(5))).build();
+        when(callClient(stsClient, getRequest())).thenReturn(getResponse(credentials));
+
+        try (StsCredentialsProvider first = createCredentialsProviderBuilder(getRequest()).stsClient(stsClient)
+                                                                                          .sharedCredentialCacheEnabled(true)
+                                                                                          .build();
+             StsCredentialsProvider second = createCredentialsProviderBuilder(getRequest()).stsClient(stsClient)
+                                                                                           .sharedCredentialCacheEnabled(true)
+                                                                                           .build()) {
+            assertThat(second.resolveCredentials()).isSameAs(first.resolveCredentials());
+        }
+
+        callClient(verify(stsClient, times(1)), Mockito.any());
+    }
+
+    @Test
+    public void sharedCredentialCache_clientsWithSameCredentialsRegionAndEndpoint_shareSession() {
+        Credentials credentials = Credentials.builder().accessKeyId("a").secretAccessKey("b").sessionToken("c")
+                                             .expiration(Instant.now().plus(Duration.ofHours(5))).build();
+        StsClient otherStsClient = Mockito.mock(StsClient.class);
+        StsServiceClientConfiguration configuration = clientConfiguration(StaticCredentialsProvider.create(
+            AwsBasicCredentials.create("akid", "skid")));
+        when(stsClient.serviceClientConfiguration()).thenReturn(configuration);
+        when(otherStsClient.serviceClientConfiguration()).thenReturn(configuration);
+        when(callClient(stsClient, getRequest())).thenReturn(getResponse(credentials));
+
+        try (StsCredentialsProvider first = createCredentialsProviderBuilder(getRequest()).stsClient(stsClient)
+                                                                                          .sharedCredentialCacheEnabled(true)
+                                                                                          .build();
+             StsCredentialsProvider second = createCredentialsProviderBuilder(getRequest()).stsClient(otherStsClient)
+                                                                                           .sharedCredentialCacheEnabled(true)
+                                                                                           .build()) {
+            assertThat(second.resolveCredentials()).isSameAs(first.resolveCredentials());
+        }
+
+        callClient(verify(otherStsClient, Mockito.never()), Mockito.any());
+    }
+
+    @Test
+    public void sharedCredentialCache_clientsWithDifferentCredentials_doNotShareSession() {
+        Credentials credentials = Credentials.builder().accessKeyId("a").secretAccessKey("b").sessionToken("c")
+                                             .expiration(Instant.now().plus(Duration.ofHours(5))).build();
+        Credentials otherCredentials = Credentials.builder().accessKeyId("d").secretAccessKey("e").sessionToken("f")
+                                                  .expiration(Instant.now().plus(Duration.ofHours(5))).build();
+        StsClient otherStsClient = Mockito.mock(StsClient.class);
+        when(stsClient.serviceClientConfiguration()).thenReturn(clientConfiguration(StaticCredentialsProvider.create(
+            AwsBasicCredentials.create("akid", "skid"))));
+        when(otherStsClient.serviceClientConfiguration()).thenReturn(clientConfiguration(StaticCredentialsProvider.create(
+            AwsBasicCredentials.create("other-akid", "other-skid"))));
+        when(callClient(stsClient, getRequest())).thenReturn(getResponse(credentials));
+        when(callClient(otherStsClient, getRequest())).thenReturn(getResponse(otherCredentials));
+
+        try (StsCredentialsProvider first = createCredentialsProviderBuilder(getRequest()).stsClient(stsClient)
+                                                                                          .sharedCredentialCacheEnabled(true)
+                                                                                          .build();
+             StsCredentialsProvider second = createCredentialsProviderBuilder(getRequest()).stsClient(otherStsClient)
+                                                                                           .sharedCredentialCacheEnabled(true)
+                                                                                           .build()) {
+            assertThat(first.resolveCredentials().accessKeyId()).isEqualTo("a");
+            assertThat(second.resolveCredentials().accessKeyId()).isEqualTo("d");
+        }
+
+        callClient(verify(stsClient, times(1)), Mockito.any());
+        callClient(verify(otherStsClient, times(1)), Mockito.any());
+    }
+
+    private static StsServiceClientConfiguration clientConfiguration(AwsCredentialsProvider credentialsProvider) {
+        return StsServiceClientConfiguration.builder()
+                                            .region(Region.US_WEST_2)
+                                            .credentialsProvider(credentialsProvider)
+                                            .build();
+    }
+
     protected abstract RequestT getRequest();
 
     protected abstract ResponseT getResponse(Credentials credentials);
@@ -41,6 +41,9 @@ import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.junit.After;
@@ -55,6 +58,7 @@ import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.checksums.Algorithm;
 import software.amazon.awssdk.core.checksums.SdkChecksum;
+import software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption;
 import software.amazon.awssdk.core.internal.async.FileAsyncRequestBody;
 import software.amazon.awssdk.core.internal.util.Mimetype;
 import software.amazon.awssdk.regions.Region;
@@ -191,6 +195,49 @@ public class AsyncRequestBodyFlexibleChecksumInTrailerTest {
                 + "x-amz-checksum-crc32:" + expectedChecksum + CRLF + CRLF)));
     }
 
+    @Test
+    public void asyncStreaming_withChecksumExecutor_calculatesChecksumOnExecutor() throws IOException {
+        stubResponseWithHeaders();
+        AtomicInteger checksumTasks = new AtomicInteger();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (ProtocolRestJsonAsyncClient client =
+                 ProtocolRestJsonAsyncClient.builder()
+                                            .credentialsProvider(AnonymousCredentialsProvider.create())
+                                            .region(Region.US_EAST_1)
+                                            .endpointOverride(URI.create("http://localhost:" + wireMock.port()))
+                                            .asyncConfiguration(c -> c.advancedOption(
+                                                SdkAdvancedAsyncClientOption.CHECKSUM_EXECUTOR,
+                                                r -> {
+                                                    checksumTasks.incrementAndGet();
+                                                    executor.execute(r);
+                                                }))
+                                            .overrideConfiguration(
+                                                o -> o.putExecutionAttribute(ENABLE_CHUNKED_ENCODING, true)
+                                                      .putExecutionAttribute(ENABLE_PAYLOAD_SIGNING, false))
+                                            .build()) {
+            File randomFileOfFixedLength = new RandomTempFile(37 * KB);
+            String contentString = new String(Files.readAllBytes(randomFileOfFixedLength.toPath()));
+            String expectedChecksum = calculatedChecksum(contentString, Algorithm.CRC32);
+
+            client.putOperationWithChecksum(b -> b.checksumAlgorithm(ChecksumAlgorithm.CRC32),
+                                            FileAsyncRequestBody.builder().path(randomFileOfFixedLength.toPath())
+                                                                .chunkSizeInBytes(16 * KB)
+                                                                .build()).join();
+
+            verifyHeadersForPutRequest("37948", "37888", "x-amz-checksum-crc32");
+            verify(putRequestedFor(anyUrl()).withRequestBody(
+                containing(
+                    "4000" + CRLF + contentString.substring(0, 16 * KB) + CRLF
+                    + "4000" + CRLF + contentString.substring(16 * KB, 32 * KB) + CRLF
+                    + "1400" + CRLF + contentString.substring(32 * KB) + CRLF
+                    + "0" + CRLF
+                    + "x-amz-checksum-crc32:" + expectedChecksum + CRLF + CRLF)));
+            assertThat(checksumTasks.get()).isGreaterThan(0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Test
     public void asyncStreaming_withRetry_FromAsyncRequestBody_VariableChunkSize_NoSigner_addsChecksums_fromInterceptors() throws IOException {
 
@@ -16,6 +16,7 @@
 package software.amazon.awssdk.services;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 
 import java.io.ByteArrayInputStream;
@@ -25,12 +26,13 @@ import java.io.InputStream;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.AfterEach;
 import software.amazon.awssdk.auth.credentials.AnonymousCredentialsProvider;
 import software.amazon.awssdk.core.SdkBytes;
-import software.amazon.awssdk.core.internal.compression.Compressor;
+import software.amazon.awssdk.core.compression.Compressor;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.internal.compression.GzipCompressor;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
@@ -97,6 +99,86 @@ public class RequestCompressionTest {
         assertThat(loggedRequest.firstMatchingHeader("Content-encoding").get()).isEqualTo("gzip");
     }
 
+    @Test
+    public void syncNonStreamingOperation_compressionLevelOverridden_compressesAtLevel() {
+        mockHttpClient.stubNextResponse(mockResponse(), Duration.ofMillis(500));
+
+        PutOperationWithRequestCompressionRequest request =
+            PutOperationWithRequestCompressionRequest.builder()
+                                                     .body(SdkBytes.fromUtf8String(UNCOMPRESSED_BODY))
+                                                     .overrideConfiguration(o -> o.compressionConfiguration(
+                                                         c -> c.minimumCompressionThresholdInBytes(1).compressionLevel(1)))
+                                                     .build();
+        syncClient.putOperationWithRequestCompression(request);
+
+        SdkHttpFullRequest loggedRequest = (SdkHttpFullRequest) mockHttpClient.getLastRequest();
+        InputStream loggedStream = loggedRequest.contentStreamProvider().get().newStream();
+        byte[] loggedBody = SdkBytes.fromInputStream(loggedStream).asByteArray();
+        byte[] expectedBody = new GzipCompressor(1).compress(UNCOMPRESSED_BODY.getBytes());
+
+        assertThat(loggedBody).isEqualTo(expectedBody);
+        assertThat(loggedRequest.firstMatchingHeader("Content-Length")).hasValue(String.valueOf(expectedBody.length));
+    }
+
+    @Test
+    public void syncNonStreamingOperation_invalidCompressionLevel_throwsException() {
+        PutOperationWithRequestCompressionRequest request =
+            PutOperationWithRequestCompressionRequest.builder()
+                                                     .body(SdkBytes.fromUtf8String(UNCOMPRESSED_BODY))
+                                                     .overrideConfiguration(o -> o.compressionConfiguration(
+                                                         c -> c.minimumCompressionThresholdInBytes(1).compressionLevel(10)))
+                                                     .build();
+
+        assertThatThrownBy(() -> syncClient.putOperationWithRequestCompression(request))
+            .isInstanceOf(SdkClientException.class)
+            .hasMessageContaining("compression level");
+    }
+
+    @Test
+    public void syncNonStreamingOperation_configuredCompressor_isPreferredOverBuiltInCompressor() {
+        mockHttpClient.stubNextResponse(mockResponse(), Duration.ofMillis(500));
+        Compressor unsupportedCompressor = new FixedOutputCompressor("zstd", "unexpected");
+        Compressor configuredCompressor = new FixedOutputCompressor("GZIP", "configured");
+
+        PutOperationWithRequestCompressionRequest request =
+            PutOperationWithRequestCompressionRequest.builder()
+                                                     .body(SdkBytes.fromUtf8String(UNCOMPRESSED_BODY))
+                                                     .overrideConfiguration(o -> o.compressionConfiguration(
+                                                         c -> c.minimumCompressionThresholdInBytes(1)
+                                                               .addCompressor(unsupportedCompressor)
+                                                               .addCompressor(configuredCompressor)))
+                                                     .build();
+        syncClient.putOperationWithRequestCompression(request);
+
+        SdkHttpFullRequest loggedRequest = (SdkHttpFullRequest) mockHttpClient.getLastRequest();
+        InputStream loggedStream = loggedRequest.contentStreamProvider().get().newStream();
+        String loggedBody = new String(SdkBytes.fromInputStream(loggedStream).asByteArray());
+
+        assertThat(loggedBody).isEqualTo("configured");
+        assertThat(loggedRequest.firstMatchingHeader("Content-encoding")).hasValue("GZIP");
+    }
+
+    @Test
+    public void syncNonStreamingOperation_configuredCompressorNotSupportedByOperation_usesBuiltInCompressor() {
+        mockHttpClient.stubNextResponse(mockResponse(), Duration.ofMillis(500));
+
+        PutOperationWithRequestCompressionRequest request =
+            PutOperationWithRequestCompressionRequest.builder()
+                                                     .body(SdkBytes.fromUtf8String(UNCOMPRESSED_BODY))
+                                                     .overrideConfiguration(o -> o.compressionConfiguration(
+                                                         c -> c.minimumCompressionThresholdInBytes(1)
+                                                               .addCompressor(new FixedOutputCompressor("zstd", "unexpected"))))
+                                                     .build();
+        syncClient.putOperationWithRequestCompression(request);
+
+        SdkHttpFullRequest loggedRequest = (SdkHttpFullRequest) mockHttpClient.getLastRequest();
+        InputStream loggedStream = loggedRequest.contentStreamProvider().get().newStream();
+        String loggedBody = new String(SdkBytes.fromInputStream(loggedStream).asByteArray());
+
+        assertThat(loggedBody).isEqualTo(compressedBody);
+        assertThat(loggedRequest.firstMatchingHeader("Content-encoding")).hasValue("gzip");
+    }
+
     @Test
     public void syncNonStreamingOperation_payloadSizeLessThanCompressionThreshold_doesNotCompress() {
         mockHttpClient.stubNextResponse(mockResponse(), Duration.ofMillis(500));
@@ -187,6 +269,26 @@ public class RequestCompressionTest {
                                   .build();
     }
 
+    private static final class FixedOutputCompressor implements Compressor {
+        private final String compressorType;
+        private final String output;
+
+        private FixedOutputCompressor(String compressorType, String output) {
+            this.compressorType = compressorType;
+            this.output = output;
+        }
+
+        @Override
+        public String compressorType() {
+            return compressorType;
+        }
+
+        @Override
+        public SdkBytes compress(SdkBytes content) {
+            return SdkBytes.fromUtf8String(output);
+        }
+    }
+
     private static final class TestContentProvider implements ContentStreamProvider {
         private final byte[] content;
         private final List<CloseTrackingInputStream> createdStreams = new ArrayList<>();
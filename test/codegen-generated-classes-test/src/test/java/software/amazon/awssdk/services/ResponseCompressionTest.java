@@ -0,0 +1,172 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletionException;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AnonymousCredentialsProvider;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonAsyncClient;
+import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonClient;
+import software.amazon.awssdk.services.protocolrestjson.model.AllTypesResponse;
+import software.amazon.awssdk.services.protocolrestjson.model.EmptyModeledException;
+import software.amazon.awssdk.testutils.service.http.MockAsyncHttpClient;
+import software.amazon.awssdk.testutils.service.http.MockSyncHttpClient;
+import software.amazon.awssdk.utils.StringInputStream;
+
+public class ResponseCompressionTest {
+    private static final String RESPONSE_BODY = "{\"StringMember\":\"foo\"}";
+
+    private MockSyncHttpClient mockHttpClient;
+    private MockAsyncHttpClient mockAsyncHttpClient;
+    private ProtocolRestJsonClient syncClient;
+    private ProtocolRestJsonAsyncClient asyncClient;
+
+    @BeforeEach
+    public void setUp() {
+        mockHttpClient = new MockSyncHttpClient();
+        mockAsyncHttpClient = new MockAsyncHttpClient();
+        syncClient = ProtocolRestJsonClient.builder()
+                                           .credentialsProvider(AnonymousCredentialsProvider.create())
+                                           .region(Region.US_EAST_1)
+                                           .httpClient(mockHttpClient)
+                                           .overrideConfiguration(o -> o.compressionConfiguration(
+                                               c -> c.responseCompressionEnabled(true)))
+                                           .build();
+        asyncClient = ProtocolRestJsonAsyncClient.builder()
+                                                 .credentialsProvider(AnonymousCredentialsProvider.create())
+                                                 .region(Region.US_EAST_1)
+                                                 .httpClient(mockAsyncHttpClient)
+                                                 .overrideConfiguration(o -> o.compressionConfiguration(
+                                                     c -> c.responseCompressionEnabled(true)))
+                                                 .build();
+    }
+
+    @AfterEach
+    public void reset() {
+        mockHttpClient.reset();
+        mockAsyncHttpClient.reset();
+    }
+
+    @Test
+    public void syncNonStreamingOperation_responseCompressionEnabled_requestsAndDecompressesGzip() {
+        mockHttpClient.stubNextResponse(gzipResponse(200, RESPONSE_BODY));
+
+        AllTypesResponse response = syncClient.allTypes(r -> { });
+
+        assertThat(response.stringMember()).isEqualTo("foo");
+        assertThat(mockHttpClient.getLastRequest().firstMatchingHeader("Accept-Encoding")).hasValue("gzip");
+    }
+
+    @Test
+    public void syncNonStreamingOperation_compressedErrorResponse_isDecompressed() {
+        mockHttpClient.stubNextResponse(gzipErrorResponse());
+
+        assertThatThrownBy(() -> syncClient.allTypes(r -> { })).isInstanceOf(EmptyModeledException.class);
+    }
+
+    @Test
+    public void syncNonStreamingOperation_responseCompressionDisabledForRequest_doesNotRequestGzip() {
+        mockHttpClient.stubNextResponse(response(200, RESPONSE_BODY));
+
+        syncClient.allTypes(r -> r.overrideConfiguration(o -> o.compressionConfiguration(
+            c -> c.responseCompressionEnabled(false))));
+
+        assertThat(mockHttpClient.getLastRequest().firstMatchingHeader("Accept-Encoding")).isEmpty();
+    }
+
+    @Test
+    public void syncStreamingOperation_responseCompressionEnabled_doesNotRequestGzip() {
+        mockHttpClient.stubNextResponse(response(200, "streaming"));
+
+        byte[] result = syncClient.streamingOutputOperation(r -> { }, ResponseTransformer.toBytes()).asByteArray();
+
+        assertThat(result).isEqualTo("streaming".getBytes(StandardCharsets.UTF_8));
+        assertThat(mockHttpClient.getLastRequest().firstMatchingHeader("Accept-Encoding")).isEmpty();
+    }
+
+    @Test
+    public void asyncNonStreamingOperation_responseCompressionEnabled_requestsAndDecompressesGzip() {
+        mockAsyncHttpClient.stubNextResponse(gzipResponse(200, RESPONSE_BODY));
+
+        AllTypesResponse response = asyncClient.allTypes(r -> { }).join();
+
+        assertThat(response.stringMember()).isEqualTo("foo");
+        assertThat(mockAsyncHttpClient.getLastRequest().firstMatchingHeader("Accept-Encoding")).hasValue("gzip");
+    }
+
+    @Test
+    public void asyncNonStreamingOperation_compressedErrorResponse_isDecompressed() {
+        mockAsyncHttpClient.stubNextResponse(gzipErrorResponse());
+
+        assertThatThrownBy(() -> asyncClient.allTypes(r -> { }).join())
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(EmptyModeledException.class);
+    }
+
+    private static HttpExecuteResponse gzipErrorResponse() {
+        return gzipResponse(SdkHttpResponse.builder()
+                                           .statusCode(400)
+                                           .putHeader("x-amzn-ErrorType", "EmptyModeledException"),
+                            "{}");
+    }
+
+    private static HttpExecuteResponse gzipResponse(int statusCode, String body) {
+        return gzipResponse(SdkHttpResponse.builder().statusCode(statusCode), body);
+    }
+
+    private static HttpExecuteResponse gzipResponse(SdkHttpResponse.Builder response, String body) {
+        byte[] compressed = gzip(body);
+        return HttpExecuteResponse.builder()
+                                  .response(response.putHeader("Content-Encoding", "gzip")
+                                                    .putHeader("Content-Length", String.valueOf(compressed.length))
+                                                    .build())
+                                  .responseBody(AbortableInputStream.create(new ByteArrayInputStream(compressed)))
+                                  .build();
+    }
+
+    private static HttpExecuteResponse response(int statusCode, String body) {
+        return HttpExecuteResponse.builder()
+                                  .response(SdkHttpResponse.builder().statusCode(statusCode).build())
+                                  .responseBody(AbortableInputStream.create(new StringInputStream(body)))
+                                  .build();
+    }
+
+    private static byte[] gzip(String body) {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(result)) {
+            out.write(body.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return result.toByteArray();
+    }
+}
@@ -15,8 +15,7 @@
 
 package software.amazon.awssdk.checksumtest;
 
-import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static software.amazon.awssdk.auth.signer.S3SignerExecutionAttribute.ENABLE_CHUNKED_ENCODING;
 
@@ -25,8 +24,10 @@ import java.io.IOException;
 import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import software.amazon.awssdk.auth.credentials.AnonymousCredentialsProvider;
+import software.amazon.awssdk.checksums.DefaultChecksumAlgorithm;
 import software.amazon.awssdk.core.SdkRequest;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.checksums.ChecksumValidation;
@@ -36,6 +37,7 @@ import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
 import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
 import software.amazon.awssdk.http.HttpExecuteResponse;
 import software.amazon.awssdk.http.SdkHttpClient;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
@@ -52,6 +54,16 @@ import software.amazon.awssdk.services.protocolrestjson.model.OperationWithCusto
 import software.amazon.awssdk.services.protocolrestjson.model.PutOperationWithChecksumRequest;
 
 public class Crc64NvmeNotAvailableTest {
+    /**
+     * The CRC64NVME checksum of an empty payload.
+     */
+    private static final String EMPTY_CRC64NVME = "AAAAAAAAAAA=";
+
+    /**
+     * The CRC64NVME checksum of an empty JSON request body, "{}".
+     */
+    private static final String EMPTY_JSON_CRC64NVME = "Sv1wpwepjTw=";
+
     private SdkHttpClient httpClient;
     private SdkAsyncHttpClient httpAsyncClient;
     private ProtocolRestJsonAsyncClient asyncClient;
@@ -110,51 +122,55 @@ public class Crc64NvmeNotAvailableTest {
     }
 
     @Test
-    public void asyncChecksumCalculation_crc64NvmeNotAvailable_shouldThrowException() throws IOException {
+    public void asyncChecksumCalculation_crtNotAvailable_shouldUseSdkCrc64Nvme() throws IOException {
         stubResponse(SdkHttpFullResponse.builder());
-        assertThatThrownBy(() -> asyncClient.operationWithCustomRequestChecksum(
+        asyncClient.operationWithCustomRequestChecksum(
             OperationWithCustomRequestChecksumRequest.builder()
                                                      .checksumAlgorithm(ChecksumAlgorithm.CRC64_NVME)
-                                                     .build()).join()).hasMessageContaining("Add dependency on "
-                                                                                            + "'software.amazon.awssdk"
-                                                                                            + ".crt:aws-crt' module to "
-                                                                                            + "enable CRC64NVME feature");
+                                                     .build()).join();
+
+        ArgumentCaptor<AsyncExecuteRequest> request = ArgumentCaptor.forClass(AsyncExecuteRequest.class);
+        Mockito.verify(httpAsyncClient).execute(request.capture());
+        assertThat(request.getValue().request().firstMatchingHeader("x-amz-checksum-crc64nvme"))
+            .hasValue(EMPTY_JSON_CRC64NVME);
     }
 
     @Test
-    public void syncChecksumCalculation_crc64NvmeNotAvailable_shouldThrowException() throws IOException {
+    public void syncChecksumCalculation_crtNotAvailable_shouldUseSdkCrc64Nvme() throws IOException {
         stubResponse(SdkHttpFullResponse.builder());
-        assertThatThrownBy(() -> client.operationWithCustomRequestChecksum(
+        client.operationWithCustomRequestChecksum(
             OperationWithCustomRequestChecksumRequest.builder()
                                                      .checksumAlgorithm(ChecksumAlgorithm.CRC64_NVME)
-                                                     .build())).hasMessageContaining("Add dependency on "
-                                                                                     + "'software.amazon.awssdk"
-                                                                                     + ".crt:aws-crt' module to "
-                                                                                     + "enable CRC64NVME feature");
+                                                     .build());
+
+        ArgumentCaptor<HttpExecuteRequest> request = ArgumentCaptor.forClass(HttpExecuteRequest.class);
+        Mockito.verify(httpClient).prepareRequest(request.capture());
+        assertThat(request.getValue().httpRequest().firstMatchingHeader("x-amz-checksum-crc64nvme"))
+            .hasValue(EMPTY_JSON_CRC64NVME);
     }
 
     @Test
-    public void syncChecksumValidation_onlyHasCrc64Nvme_shouldSkipValidation() throws IOException {
-        stubResponse(SdkHttpFullResponse.builder().putHeader("x-amz-checksum-crc64nvme", "foobar"));
+    public void syncChecksumValidation_onlyHasCrc64Nvme_crtNotAvailable_shouldValidate() throws IOException {
+        stubResponse(SdkHttpFullResponse.builder().putHeader("x-amz-checksum-crc64nvme", EMPTY_CRC64NVME));
 
         client.getOperationWithChecksum(
             r -> r.checksumMode(ChecksumMode.ENABLED),
             ResponseTransformer.toBytes());
 
-        assertThat(CaptureChecksumValidationInterceptor.checksumValidation).isEqualTo(ChecksumValidation.CHECKSUM_ALGORITHM_NOT_FOUND);
-        assertThat(CaptureChecksumValidationInterceptor.expectedAlgorithm).isNull();
+        assertThat(CaptureChecksumValidationInterceptor.checksumValidation).isEqualTo(ChecksumValidation.VALIDATED);
+        assertThat(CaptureChecksumValidationInterceptor.expectedAlgorithm).isEqualTo(DefaultChecksumAlgorithm.CRC64NVME);
     }
 
     @Test
-    public void asyncChecksumValidation_onlyHasCrc64Nvme_shouldSkipValidation() throws IOException {
-        stubResponse(SdkHttpFullResponse.builder().putHeader("x-amz-checksum-crc64nvme", "foobar"));
+    public void asyncChecksumValidation_onlyHasCrc64Nvme_crtNotAvailable_shouldValidate() throws IOException {
+        stubResponse(SdkHttpFullResponse.builder().putHeader("x-amz-checksum-crc64nvme", EMPTY_CRC64NVME));
 
         asyncClient.getOperationWithChecksum(
             r -> r.checksumMode(ChecksumMode.ENABLED),
             AsyncResponseTransformer.toBytes()).join();
 
-        assertThat(CaptureChecksumValidationInterceptor.checksumValidation).isEqualTo(ChecksumValidation.CHECKSUM_ALGORITHM_NOT_FOUND);
-        assertThat(CaptureChecksumValidationInterceptor.expectedAlgorithm).isNull();
+        assertThat(CaptureChecksumValidationInterceptor.checksumValidation).isEqualTo(ChecksumValidation.VALIDATED);
+        assertThat(CaptureChecksumValidationInterceptor.expectedAlgorithm).isEqualTo(DefaultChecksumAlgorithm.CRC64NVME);
     }
 
 
@@ -34,6 +34,7 @@ import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
 import software.amazon.awssdk.checksums.DefaultChecksumAlgorithm;
 import software.amazon.awssdk.checksums.SdkChecksum;
+import software.amazon.awssdk.checksums.internal.CrcChecksumProvider;
 
 @State(Scope.Benchmark)
 @Warmup(iterations = 3, time = 15, timeUnit = TimeUnit.SECONDS)
@@ -48,7 +49,7 @@ public class ChecksumBenchmark {
         @Param({"128B", "4KB", "128KB", "1MB"})
         public String size;
 
-        @Param({"MD5", "CRC32", "CRC32C", "SHA1", "SHA256", "CRC64NVME"})
+        @Param({"MD5", "CRC32", "CRC32C", "SHA1", "SHA256", "CRC64NVME", "CRC64NVME_SDK"})
         public String checksumProvider;
 
         private byte[] payload;
@@ -76,6 +77,10 @@ public class ChecksumBenchmark {
                 case "CRC64NVME":
                     sdkChecksum = SdkChecksum.forAlgorithm(DefaultChecksumAlgorithm.CRC64NVME);
                     break;
+                case "CRC64NVME_SDK":
+                    // The pure Java implementation that is used when the CRT is not on the classpath
+                    sdkChecksum = CrcChecksumProvider.createSdkBasedCrc64Nvme();
+                    break;
 
                 default:
                     throw new IllegalArgumentException("Invalid checksumProvider: " + checksumProvider);
@@ -0,0 +1,116 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.marshaller.dynamodb;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.benchmark.apicall.protocol.JsonCodec;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.protocols.json.AwsJsonProtocol;
+import software.amazon.awssdk.protocols.json.internal.AwsStructuredPlainJsonFactory;
+import software.amazon.awssdk.protocols.json.internal.unmarshall.DefaultProtocolUnmarshallDependencies;
+import software.amazon.awssdk.protocols.json.internal.unmarshall.JsonProtocolUnmarshaller;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonFactory;
+
+/**
+ * Measures the fast JSON unmarshaller on a DynamoDB query page, where every item is a map of {@link AttributeValue}s and
+ * nearly every token is a short field name. The {@code canonicalizeFieldNames} parameter compares the SDK's JSON factory
+ * against one that allocates a new {@link String} for every field name.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class V2DynamoDbItemUnmarshallingBenchmark {
+    private static final int ITEMS_PER_PAGE = 100;
+
+    @Param({"TINY", "SMALL", "HUGE"})
+    private String itemSize;
+
+    @Param({"true", "false"})
+    private boolean canonicalizeFieldNames;
+
+    private JsonProtocolUnmarshaller unmarshaller;
+    private byte[] queryResponse;
+
+    @Setup
+    public void setup() {
+        V2ItemFactory factory = new V2ItemFactory();
+        List<Map<String, AttributeValue>> items = new ArrayList<>(ITEMS_PER_PAGE);
+        for (int i = 0; i < ITEMS_PER_PAGE; i++) {
+            switch (itemSize) {
+                case "TINY":
+                    items.add(factory.tiny());
+                    break;
+                case "SMALL":
+                    items.add(factory.small());
+                    break;
+                default:
+                    items.add(factory.huge());
+                    break;
+            }
+        }
+        queryResponse = new JsonCodec().marshall(AwsJsonProtocol.AWS_JSON,
+                                                 QueryResponse.builder().items(items).count(ITEMS_PER_PAGE).build());
+
+        JsonFactory jsonFactory = AwsStructuredPlainJsonFactory.SDK_JSON_FACTORY.getJsonFactory();
+        if (!canonicalizeFieldNames) {
+            jsonFactory = jsonFactory.rebuild().disable(JsonFactory.Feature.CANONICALIZE_FIELD_NAMES).build();
+        }
+        DefaultProtocolUnmarshallDependencies defaults = JsonProtocolUnmarshaller.defaultProtocolUnmarshallDependencies();
+        unmarshaller = JsonProtocolUnmarshaller
+            .builder()
+            .enableFastUnmarshalling(true)
+            .protocolUnmarshallDependencies(DefaultProtocolUnmarshallDependencies
+                                                .builder()
+                                                .jsonUnmarshallerRegistry(defaults.jsonUnmarshallerRegistry())
+                                                .nodeValueFactory(defaults.nodeValueFactory())
+                                                .timestampFormats(defaults.timestampFormats())
+                                                .jsonFactory(jsonFactory)
+                                                .build())
+            .build();
+    }
+
+    @Benchmark
+    public QueryResponse unmarshallQueryResponse() throws Exception {
+        SdkHttpFullResponse response = SdkHttpFullResponse
+            .builder()
+            .statusCode(200)
+            .putHeader("Content-Type", "application/x-amz-json-1.0")
+            .content(AbortableInputStream.create(new ByteArrayInputStream(queryResponse)))
+            .build();
+        return unmarshaller.unmarshall(QueryResponse.builder(), response);
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.retries;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.retries.AdaptiveRetryStrategy;
+import software.amazon.awssdk.retries.StandardRetryStrategy;
+import software.amazon.awssdk.retries.api.AcquireInitialTokenRequest;
+import software.amazon.awssdk.retries.api.RecordSuccessRequest;
+import software.amazon.awssdk.retries.api.RetryStrategy;
+import software.amazon.awssdk.retries.api.RetryToken;
+import software.amazon.awssdk.retries.internal.ScopeCache;
+import software.amazon.awssdk.retries.internal.circuitbreaker.TokenBucket;
+import software.amazon.awssdk.utils.cache.lru.LruCache;
+
+/**
+ * Measures the per-request overhead of the retry strategies, which acquire a retry token before and record a success after
+ * every request attempt, when the strategy is shared by many request threads. Compare the single-threaded and
+ * multi-threaded results: per-operation time that grows with the number of threads indicates contention.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RetryTokenBucketBenchmark {
+    private static final String SCOPE = "benchmark";
+
+    private RetryStrategy standardStrategy;
+    private RetryStrategy adaptiveStrategy;
+    private ScopeCache<TokenBucket> scopeCache;
+    private LruCache<String, TokenBucket> lruCache;
+
+    @Setup
+    public void setup() {
+        standardStrategy = StandardRetryStrategy.builder().build();
+        adaptiveStrategy = AdaptiveRetryStrategy.builder().build();
+        scopeCache = new ScopeCache<>(128, s -> new TokenBucket(500));
+        lruCache = LruCache.<String, TokenBucket>builder(s -> new TokenBucket(500)).maxSize(128).build();
+    }
+
+    @Benchmark
+    public void standardStrategy_singleThread(Blackhole blackhole) {
+        blackhole.consume(succeed(standardStrategy));
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void standardStrategy_allThreads(Blackhole blackhole) {
+        blackhole.consume(succeed(standardStrategy));
+    }
+
+    @Benchmark
+    public void adaptiveStrategy_singleThread(Blackhole blackhole) {
+        blackhole.consume(succeed(adaptiveStrategy));
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void adaptiveStrategy_allThreads(Blackhole blackhole) {
+        blackhole.consume(succeed(adaptiveStrategy));
+    }
+
+    /**
+     * The scope lookup used by the token bucket stores.
+     */
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void scopeCacheLookup_allThreads(Blackhole blackhole) {
+        TokenBucket bucket = scopeCache.get(SCOPE);
+        blackhole.consume(bucket.release(1));
+    }
+
+    /**
+     * The scope lookup previously used by the token bucket stores, for comparison.
+     */
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void lruCacheLookup_allThreads(Blackhole blackhole) {
+        TokenBucket bucket = lruCache.get(SCOPE);
+        blackhole.consume(bucket.release(1));
+    }
+
+    private static RetryToken succeed(RetryStrategy strategy) {
+        RetryToken token = strategy.acquireInitialToken(AcquireInitialTokenRequest.create(SCOPE)).token();
+        return strategy.recordSuccess(RecordSuccessRequest.create(token)).token();
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(RetryTokenBucketBenchmark.class.getSimpleName())
+            .build();
+        new Runner(opt).run();
+    }
+}
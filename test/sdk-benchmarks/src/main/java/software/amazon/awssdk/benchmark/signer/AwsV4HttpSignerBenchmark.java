@@ -0,0 +1,125 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.signer;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.http.ContentStreamProvider;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.auth.aws.internal.signer.V4CanonicalRequest;
+import software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerUtils;
+import software.amazon.awssdk.http.auth.aws.signer.AwsV4HttpSigner;
+import software.amazon.awssdk.http.auth.spi.signer.SignedRequest;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+/**
+ * Measures SigV4 header signing through {@link AwsV4HttpSigner} for request shapes typical of JSON (DynamoDB) and
+ * query-parameter heavy (S3 ListObjectsV2) calls, and the canonical request hashing step in isolation.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AwsV4HttpSignerBenchmark {
+    private static final AwsCredentialsIdentity CREDENTIALS =
+        AwsCredentialsIdentity.create("AKIDEXAMPLE", "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY");
+
+    private final AwsV4HttpSigner signer = AwsV4HttpSigner.create();
+
+    private final SdkHttpRequest jsonRequest =
+        SdkHttpRequest.builder()
+                      .method(SdkHttpMethod.POST)
+                      .protocol("https")
+                      .host("dynamodb.us-east-1.amazonaws.com")
+                      .encodedPath("/")
+                      .putHeader("Content-Type", "application/x-amz-json-1.0")
+                      .putHeader("X-Amz-Target", "DynamoDB_20120810.GetItem")
+                      .putHeader("amz-sdk-invocation-id", "3b2a7c1e-36a4-4d2c-9d63-2b0b9c0a1f4e")
+                      .putHeader("amz-sdk-request", "attempt=1; max=4")
+                      .putHeader("Content-Length", "87")
+                      .putHeader("User-Agent", "aws-sdk-java/2.x.x md/io#sync md/http#Apache ua/2.0 os/Linux")
+                      .build();
+
+    private final ContentStreamProvider jsonPayload = ContentStreamProvider.fromUtf8String(
+        "{\"TableName\":\"table\",\"Key\":{\"hashKey\":{\"S\":\"0123456789abcdef\"}},\"ConsistentRead\":true}");
+
+    private final SdkHttpRequest queryRequest =
+        SdkHttpRequest.builder()
+                      .method(SdkHttpMethod.GET)
+                      .protocol("https")
+                      .host("bucket.s3.us-east-1.amazonaws.com")
+                      .encodedPath("/")
+                      .putRawQueryParameter("list-type", "2")
+                      .putRawQueryParameter("prefix", "photos/2024/")
+                      .putRawQueryParameter("delimiter", "/")
+                      .putRawQueryParameter("max-keys", "1000")
+                      .putRawQueryParameter("continuation-token", "1ueGcxLPRx1Tr/XYExHnhbYLgveDs2J/wm36Hy4vbOwM=")
+                      .putHeader("amz-sdk-invocation-id", "3b2a7c1e-36a4-4d2c-9d63-2b0b9c0a1f4e")
+                      .putHeader("amz-sdk-request", "attempt=1; max=4")
+                      .putHeader("User-Agent", "aws-sdk-java/2.x.x md/io#sync md/http#Apache ua/2.0 os/Linux")
+                      .build();
+
+    private final SdkHttpRequest canonicalRequestInput = jsonRequest.toBuilder()
+                                                                    .putHeader("Host", "dynamodb.us-east-1.amazonaws.com")
+                                                                    .putHeader("X-Amz-Date", "20240101T000000Z")
+                                                                    .build();
+
+    private final V4CanonicalRequest.Options canonicalRequestOptions = new V4CanonicalRequest.Options(true, true);
+
+    @Benchmark
+    public SignedRequest signJsonRequest() {
+        return signer.sign(r -> r.identity(CREDENTIALS)
+                                 .request(jsonRequest)
+                                 .payload(jsonPayload)
+                                 .putProperty(AwsV4HttpSigner.SERVICE_SIGNING_NAME, "dynamodb")
+                                 .putProperty(AwsV4HttpSigner.REGION_NAME, "us-east-1"));
+    }
+
+    @Benchmark
+    public SignedRequest signQueryRequest() {
+        return signer.sign(r -> r.identity(CREDENTIALS)
+                                 .request(queryRequest)
+                                 .putProperty(AwsV4HttpSigner.SERVICE_SIGNING_NAME, "s3")
+                                 .putProperty(AwsV4HttpSigner.REGION_NAME, "us-east-1")
+                                 .putProperty(AwsV4HttpSigner.DOUBLE_URL_ENCODE, false)
+                                 .putProperty(AwsV4HttpSigner.NORMALIZE_PATH, false));
+    }
+
+    @Benchmark
+    public String canonicalRequestHash() {
+        return new V4CanonicalRequest(canonicalRequestInput, "UNSIGNED-PAYLOAD", canonicalRequestOptions)
+            .getCanonicalRequestHash();
+    }
+
+    @Benchmark
+    public String canonicalRequestStringHash() {
+        String canonicalRequest = new V4CanonicalRequest(canonicalRequestInput, "UNSIGNED-PAYLOAD", canonicalRequestOptions)
+            .getCanonicalRequestString();
+        return BinaryUtils.toHex(SignerUtils.hash(canonicalRequest));
+    }
+}
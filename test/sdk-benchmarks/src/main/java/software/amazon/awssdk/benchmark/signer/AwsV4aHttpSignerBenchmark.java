@@ -0,0 +1,118 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.signer;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.http.ContentStreamProvider;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.auth.aws.crt.internal.signer.DefaultAwsCrtV4aHttpSigner;
+import software.amazon.awssdk.http.auth.aws.internal.signer.DefaultAwsV4aHttpSigner;
+import software.amazon.awssdk.http.auth.aws.internal.signer.util.EcdsaSigningKeys;
+import software.amazon.awssdk.http.auth.aws.signer.AwsV4aHttpSigner;
+import software.amazon.awssdk.http.auth.aws.signer.RegionSet;
+import software.amazon.awssdk.http.auth.spi.signer.SignedRequest;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+
+/**
+ * Compares the Java and CRT implementations of {@link AwsV4aHttpSigner} for header signing of an S3 multi-region access point
+ * request and for pre-signing a URL, and measures the uncached derivation of the ECDSA key from the credentials.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AwsV4aHttpSignerBenchmark {
+    private static final AwsCredentialsIdentity CREDENTIALS =
+        AwsCredentialsIdentity.create("AKIDEXAMPLE", "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY");
+    private static final RegionSet REGION_SET = RegionSet.create("*");
+
+    @Param({"JAVA", "CRT"})
+    private String implementation;
+
+    private AwsV4aHttpSigner signer;
+
+    private final SdkHttpRequest putObjectRequest =
+        SdkHttpRequest.builder()
+                      .method(SdkHttpMethod.PUT)
+                      .protocol("https")
+                      .host("mfzwi23gnjvgw.mrap.accesspoint.s3-global.amazonaws.com")
+                      .encodedPath("/photos/2024/image.jpg")
+                      .putHeader("Content-Type", "image/jpeg")
+                      .putHeader("Content-Length", "1024")
+                      .putHeader("amz-sdk-invocation-id", "3b2a7c1e-36a4-4d2c-9d63-2b0b9c0a1f4e")
+                      .putHeader("amz-sdk-request", "attempt=1; max=4")
+                      .putHeader("User-Agent", "aws-sdk-java/2.x.x md/io#sync md/http#Apache ua/2.0 os/Linux")
+                      .build();
+
+    private final ContentStreamProvider payload = ContentStreamProvider.fromByteArrayUnsafe(new byte[1024]);
+
+    private final SdkHttpRequest getObjectRequest = putObjectRequest.toBuilder()
+                                                                    .method(SdkHttpMethod.GET)
+                                                                    .removeHeader("Content-Type")
+                                                                    .removeHeader("Content-Length")
+                                                                    .build();
+
+    @Setup
+    public void setup() {
+        signer = "JAVA".equals(implementation) ? new DefaultAwsV4aHttpSigner() : new DefaultAwsCrtV4aHttpSigner();
+    }
+
+    @Benchmark
+    public SignedRequest signPutObject() {
+        return signer.sign(r -> r.identity(CREDENTIALS)
+                                 .request(putObjectRequest)
+                                 .payload(payload)
+                                 .putProperty(AwsV4aHttpSigner.SERVICE_SIGNING_NAME, "s3")
+                                 .putProperty(AwsV4aHttpSigner.REGION_SET, REGION_SET)
+                                 .putProperty(AwsV4aHttpSigner.PAYLOAD_SIGNING_ENABLED, false)
+                                 .putProperty(AwsV4aHttpSigner.DOUBLE_URL_ENCODE, false)
+                                 .putProperty(AwsV4aHttpSigner.NORMALIZE_PATH, false));
+    }
+
+    @Benchmark
+    public SignedRequest presignGetObject() {
+        return signer.sign(r -> r.identity(CREDENTIALS)
+                                 .request(getObjectRequest)
+                                 .putProperty(AwsV4aHttpSigner.SERVICE_SIGNING_NAME, "s3")
+                                 .putProperty(AwsV4aHttpSigner.REGION_SET, REGION_SET)
+                                 .putProperty(AwsV4aHttpSigner.AUTH_LOCATION, AwsV4aHttpSigner.AuthLocation.QUERY_STRING)
+                                 .putProperty(AwsV4aHttpSigner.EXPIRATION_DURATION, Duration.ofMinutes(15))
+                                 .putProperty(AwsV4aHttpSigner.PAYLOAD_SIGNING_ENABLED, false)
+                                 .putProperty(AwsV4aHttpSigner.DOUBLE_URL_ENCODE, false)
+                                 .putProperty(AwsV4aHttpSigner.NORMALIZE_PATH, false));
+    }
+
+    @Benchmark
+    public BigInteger deriveSigningKey() {
+        return EcdsaSigningKeys.derivePrivateKey(CREDENTIALS.accessKeyId(), CREDENTIALS.secretAccessKey());
+    }
+}
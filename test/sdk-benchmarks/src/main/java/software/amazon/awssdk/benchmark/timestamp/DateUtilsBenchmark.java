@@ -0,0 +1,116 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.timestamp;
+
+import static java.time.ZoneOffset.UTC;
+import static java.time.format.DateTimeFormatter.ISO_INSTANT;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.chrono.IsoChronology;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.ResolverStyle;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.utils.DateUtils;
+
+/**
+ * Compares the {@link DateUtils} timestamp parsers and formatters against the {@link DateTimeFormatter}s they used
+ * exclusively before the fast path was added.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DateUtilsBenchmark {
+    private static final DateTimeFormatter RFC_822_DATE_TIME = new DateTimeFormatterBuilder()
+        .parseCaseInsensitive()
+        .parseLenient()
+        .appendPattern("EEE, dd MMM yyyy HH:mm:ss")
+        .appendLiteral(' ')
+        .appendOffset("+HHMM", "GMT")
+        .toFormatter()
+        .withLocale(Locale.US)
+        .withResolverStyle(ResolverStyle.SMART)
+        .withChronology(IsoChronology.INSTANCE);
+
+    private final Instant instant = Instant.parse("2025-02-14T08:31:27.123Z");
+    private final String iso8601 = "2025-02-14T08:31:27.123Z";
+    private final String rfc822 = "Fri, 14 Feb 2025 08:31:27 GMT";
+    private final String unixTimestamp = "1739521887.123";
+
+    @Benchmark
+    public Instant parseIso8601() {
+        return DateUtils.parseIso8601Date(iso8601);
+    }
+
+    @Benchmark
+    public Instant parseIso8601WithFormatter() {
+        return ISO_INSTANT.parse(iso8601, Instant::from);
+    }
+
+    @Benchmark
+    public String formatIso8601() {
+        return DateUtils.formatIso8601Date(instant);
+    }
+
+    @Benchmark
+    public String formatIso8601WithFormatter() {
+        return ISO_INSTANT.format(instant);
+    }
+
+    @Benchmark
+    public Instant parseRfc822() {
+        return DateUtils.parseRfc822Date(rfc822);
+    }
+
+    @Benchmark
+    public Instant parseRfc822WithFormatter() {
+        return RFC_822_DATE_TIME.withZone(UTC).parse(rfc822, Instant::from);
+    }
+
+    @Benchmark
+    public String formatRfc822() {
+        return DateUtils.formatRfc822Date(instant);
+    }
+
+    @Benchmark
+    public String formatRfc822WithFormatter() {
+        return RFC_822_DATE_TIME.format(ZonedDateTime.ofInstant(instant, UTC));
+    }
+
+    @Benchmark
+    public Instant parseUnixTimestamp() {
+        return DateUtils.parseUnixTimestampInstant(unixTimestamp);
+    }
+
+    @Benchmark
+    public String formatUnixTimestamp() {
+        return DateUtils.formatUnixTimestampInstant(instant);
+    }
+}
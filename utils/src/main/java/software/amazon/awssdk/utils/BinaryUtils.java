@@ -29,6 +29,7 @@ import software.amazon.awssdk.utils.internal.Base16Lower;
 @SdkProtectedApi
 public final class BinaryUtils {
     private static final byte[] EMPTY_BYTE_ARRAY = new byte[0];
+    private static final int[] BASE64_DECODE_TABLE = base64DecodeTable();
 
     private BinaryUtils() {
     }
@@ -102,6 +103,57 @@ public final class BinaryUtils {
         return b64Data == null ? null : Base64.getDecoder().decode(b64Data);
     }
 
+    /**
+     * Converts a range of Base64-encoded characters to the original byte data, without first copying them into a
+     * {@link String}. This is equivalent to {@code fromBase64(new String(b64Data, offset, length))}, including the
+     * exceptions thrown for malformed input, but decodes directly into a single, exactly-sized array.
+     *
+     * @param b64Data
+     *            a buffer containing Base64-encoded characters, such as a JSON parser's text buffer.
+     * @param offset
+     *            the index of the first character to decode.
+     * @param length
+     *            the number of characters to decode.
+     *
+     * @return bytes decoded from the Base64 characters.
+     */
+    public static byte[] fromBase64(char[] b64Data, int offset, int length) {
+        if (b64Data == null) {
+            return null;
+        }
+        int end = offset + length;
+        int padding = 0;
+        if (length > 0 && b64Data[end - 1] == '=') {
+            padding = length > 1 && b64Data[end - 2] == '=' ? 2 : 1;
+        }
+        int significant = length - padding;
+        int remainder = significant % 4;
+        boolean canonicalEnding = padding == 0 ? remainder != 1 : length % 4 == 0 && remainder == 4 - padding;
+        if (!canonicalEnding) {
+            return fromBase64(new String(b64Data, offset, length));
+        }
+
+        byte[] result = new byte[significant / 4 * 3 + (remainder == 0 ? 0 : remainder - 1)];
+        int out = 0;
+        int accumulator = 0;
+        int bits = 0;
+        for (int i = offset; i < offset + significant; i++) {
+            char c = b64Data[i];
+            int value = c < BASE64_DECODE_TABLE.length ? BASE64_DECODE_TABLE[c] : -1;
+            if (value < 0) {
+                // Let the JDK decoder produce the same exception it always has.
+                return fromBase64(new String(b64Data, offset, length));
+            }
+            accumulator = accumulator << 6 | value;
+            bits += 6;
+            if (bits >= 8) {
+                bits -= 8;
+                result[out++] = (byte) (accumulator >> bits);
+            }
+        }
+        return result;
+    }
+
     /**
      * Wraps a ByteBuffer in an InputStream. If the input {@code byteBuffer}
      * is null, returns an empty stream.
@@ -304,4 +356,13 @@ public final class BinaryUtils {
         return dst;
     }
 
+    private static int[] base64DecodeTable() {
+        int[] table = new int[128];
+        Arrays.fill(table, -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+        for (int i = 0; i < alphabet.length(); i++) {
+            table[alphabet.charAt(i)] = i;
+        }
+        return table;
+    }
 }
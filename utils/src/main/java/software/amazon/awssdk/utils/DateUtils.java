@@ -35,6 +35,7 @@ import java.util.List;
 import java.util.Locale;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.internal.DateTimeFastPath;
 
 /**
  * Utilities for parsing and formatting dates.
@@ -91,6 +92,11 @@ public final class DateUtils {
                              .concat("Z");
         }
 
+        Instant fastPathResult = DateTimeFastPath.parseIso8601(dateString);
+        if (fastPathResult != null) {
+            return fastPathResult;
+        }
+
         DateTimeParseException exception = null;
 
         for (DateTimeFormatter formatter : ALTERNATE_ISO_8601_FORMATTERS) {
@@ -116,7 +122,8 @@ public final class DateUtils {
      * @return the ISO-8601 string representing the specified date
      */
     public static String formatIso8601Date(Instant date) {
-        return ISO_INSTANT.format(date);
+        String fastPathResult = DateTimeFastPath.formatIso8601(date);
+        return fastPathResult != null ? fastPathResult : ISO_INSTANT.format(date);
     }
 
     /**
@@ -131,7 +138,8 @@ public final class DateUtils {
         if (dateString == null) {
             return null;
         }
-        return parseInstant(dateString, RFC_822_DATE_TIME);
+        Instant fastPathResult = DateTimeFastPath.parseRfc822(dateString);
+        return fastPathResult != null ? fastPathResult : parseInstant(dateString, RFC_822_DATE_TIME);
     }
 
     /**
@@ -143,6 +151,10 @@ public final class DateUtils {
      * @return The RFC 822 string representing the specified date.
      */
     public static String formatRfc822Date(Instant instant) {
+        String fastPathResult = DateTimeFastPath.formatRfc822(instant);
+        if (fastPathResult != null) {
+            return fastPathResult;
+        }
         return RFC_822_DATE_TIME.format(ZonedDateTime.ofInstant(instant, UTC));
     }
 
@@ -202,6 +214,10 @@ public final class DateUtils {
         }
 
         validateTimestampLength(dateString);
+        Instant fastPathResult = DateTimeFastPath.parseUnixTimestamp(dateString);
+        if (fastPathResult != null) {
+            return fastPathResult;
+        }
         BigDecimal dateValue = new BigDecimal(dateString);
         return Instant.ofEpochMilli(dateValue.scaleByPowerOfTen(MILLI_SECOND_PRECISION).longValue());
     }
@@ -223,6 +239,10 @@ public final class DateUtils {
         if (instant == null) {
             return null;
         }
+        String fastPathResult = DateTimeFastPath.formatUnixTimestamp(instant);
+        if (fastPathResult != null) {
+            return fastPathResult;
+        }
         BigDecimal dateValue = BigDecimal.valueOf(instant.toEpochMilli());
         return dateValue.scaleByPowerOfTen(0 - MILLI_SECOND_PRECISION)
                         .toPlainString();
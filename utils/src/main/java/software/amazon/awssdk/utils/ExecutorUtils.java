@@ -20,6 +20,8 @@ import static java.util.concurrent.TimeUnit.SECONDS;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 
@@ -28,9 +30,65 @@ import software.amazon.awssdk.annotations.SdkProtectedApi;
  */
 @SdkProtectedApi
 public final class ExecutorUtils {
+    /**
+     * The maximum number of threads in the {@link #sharedBackgroundExecutor()}.
+     */
+    private static final int MAX_SHARED_BACKGROUND_THREADS = Math.max(8, 2 * Runtime.getRuntime().availableProcessors());
+
+    /**
+     * The number of threads in the {@link #sharedBlockingIoExecutor()}.
+     */
+    private static final int SHARED_BLOCKING_IO_THREADS = Math.max(16, 4 * Runtime.getRuntime().availableProcessors());
+
+    /**
+     * The number of tasks the {@link #sharedBlockingIoExecutor()} queues while all of its threads are busy.
+     */
+    private static final int SHARED_BLOCKING_IO_QUEUE_CAPACITY = 1024;
+
     private ExecutorUtils() {
     }
 
+    /**
+     * A process-wide executor for short-lived, CPU-bound SDK background work, like updating checksums. The threads in the
+     * executor are daemon threads, and idle threads are released after 60 seconds.
+     * <p>
+     * The number of threads is bounded. When every thread is busy, the task is run on the thread that submitted it instead of
+     * being queued, so tasks that wait for other tasks submitted to this executor cannot deadlock. Work that blocks on I/O, or
+     * that must not run on the submitting thread, should use {@link #sharedBlockingIoExecutor()} instead. The returned executor
+     * cannot be shut down.
+     */
+    public static Executor sharedBackgroundExecutor() {
+        return SharedBackgroundExecutor.EXECUTOR;
+    }
+
+    /**
+     * A process-wide executor for SDK background work that blocks on I/O, like refreshing credentials. The threads in the
+     * executor are daemon threads, and idle threads are released after 60 seconds.
+     * <p>
+     * The number of threads is bounded. When every thread is busy, tasks are queued. When the queue is full too, the task is
+     * rejected with a {@link RejectedExecutionException}, so that blocking work never runs on the thread that submitted it,
+     * which may be an event loop. Tasks submitted to this executor must not wait for other tasks submitted to it. The returned
+     * executor cannot be shut down.
+     */
+    public static Executor sharedBlockingIoExecutor() {
+        return SharedBlockingIoExecutor.EXECUTOR;
+    }
+
+    /**
+     * Create an executor with a fixed number of daemon threads, which are released when idle for 60 seconds, and a bounded
+     * queue. Tasks submitted while the queue is full are rejected with a {@link RejectedExecutionException}.
+     */
+    static ExecutorService newBlockingIoExecutor(int threads, int queueCapacity, String threadNamePrefix) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, SECONDS,
+                                                             new LinkedBlockingQueue<>(queueCapacity),
+                                                             new ThreadFactoryBuilder().daemonThreads(true)
+                                                                                       .threadNamePrefix(threadNamePrefix)
+                                                                                       .build(),
+                                                             new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     /**
      * Create a bounded-queue executor with one thread for performing background tasks. The thread in the service is marked as a
      * daemon thread.
@@ -48,6 +106,28 @@ public final class ExecutorUtils {
         return new UnmanagedExecutor(executor);
     }
 
+    private static final class SharedBackgroundExecutor {
+        private static final Executor EXECUTOR =
+            unmanagedExecutor(new ThreadPoolExecutor(0, MAX_SHARED_BACKGROUND_THREADS, 60, SECONDS,
+                                                     new SynchronousQueue<>(),
+                                                     new ThreadFactoryBuilder().daemonThreads(true)
+                                                                               .threadNamePrefix("sdk-background")
+                                                                               .build(),
+                                                     new ThreadPoolExecutor.CallerRunsPolicy()));
+
+        private SharedBackgroundExecutor() {
+        }
+    }
+
+    private static final class SharedBlockingIoExecutor {
+        private static final Executor EXECUTOR =
+            unmanagedExecutor(newBlockingIoExecutor(SHARED_BLOCKING_IO_THREADS, SHARED_BLOCKING_IO_QUEUE_CAPACITY,
+                                                    "sdk-blocking-io"));
+
+        private SharedBlockingIoExecutor() {
+        }
+    }
+
     private static class UnmanagedExecutor implements Executor {
         private final Executor executor;
 
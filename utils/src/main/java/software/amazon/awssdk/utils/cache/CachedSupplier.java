@@ -21,15 +21,19 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.utils.ComparableUtils;
+import software.amazon.awssdk.utils.ExecutorUtils;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.SdkAutoCloseable;
 import software.amazon.awssdk.utils.Validate;
@@ -45,7 +49,7 @@ import software.amazon.awssdk.utils.Validate;
  * This should be created using {@link #builder(Supplier)}.
  */
 @SdkProtectedApi
-public class CachedSupplier<T> implements Supplier<T>, SdkAutoCloseable {
+public class CachedSupplier<T> implements CachedValueSupplier<T> {
     private static final Logger log = Logger.loggerFor(CachedSupplier.class);
 
     /**
@@ -78,6 +82,12 @@ public class CachedSupplier<T> implements Supplier<T>, SdkAutoCloseable {
      */
     private final StaleValueBehavior staleValueBehavior;
 
+    /**
+     * The refresh started by {@link #getAsync()} that has not completed yet, shared by every caller of {@link #getAsync()}
+     * while it is running.
+     */
+    private final AtomicReference<CompletableFuture<T>> backgroundRefresh = new AtomicReference<>();
+
     /**
      * The clock used by this supplier. Adjustable for testing.
      */
@@ -141,6 +151,62 @@ public class CachedSupplier<T> implements Supplier<T>, SdkAutoCloseable {
         return this.cachedValue.value();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * When the cached value has reached its prefetch time but is not yet stale, the cached value is returned and the prefetch
+     * is started on a background thread, even if the configured prefetch strategy would have blocked the caller of
+     * {@link #get()}.
+     */
+    @Override
+    public CompletableFuture<T> getAsync() {
+        if (cacheIsStale()) {
+            log.debug(() -> "(" + cachedValueName + ") Cached value is stale and will be refreshed in the background.");
+            // Give each caller its own future, so that a caller cancelling it does not cancel the refresh for other callers.
+            return refreshInBackground().thenApply(value -> value);
+        }
+
+        RefreshResult<T> currentCachedValue = cachedValue;
+        if (shouldInitiateCachePrefetch()) {
+            refreshInBackground();
+        }
+        return CompletableFuture.completedFuture(currentCachedValue.value());
+    }
+
+    /**
+     * Call {@link #get()} on a background thread, unless a previous call to this method has not completed yet, in which case
+     * its result is shared.
+     */
+    private CompletableFuture<T> refreshInBackground() {
+        CompletableFuture<T> refresh = new CompletableFuture<>();
+        if (!backgroundRefresh.compareAndSet(null, refresh)) {
+            CompletableFuture<T> inProgress = backgroundRefresh.get();
+            if (inProgress != null) {
+                return inProgress;
+            }
+            return refreshInBackground();
+        }
+
+        try {
+            ExecutorUtils.sharedBlockingIoExecutor().execute(() -> {
+                try {
+                    T value = get();
+                    backgroundRefresh.set(null);
+                    refresh.complete(value);
+                } catch (Throwable t) {
+                    backgroundRefresh.set(null);
+                    refresh.completeExceptionally(t);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug(() -> "(" + cachedValueName + ") Unable to refresh cached value, because the SDK's blocking I/O "
+                            + "executor is saturated.", e);
+            backgroundRefresh.set(null);
+            refresh.completeExceptionally(e);
+        }
+        return refresh;
+    }
+
     /**
      * Determines whether the value in this cache is stale, and all threads should block and wait for an updated value.
      */
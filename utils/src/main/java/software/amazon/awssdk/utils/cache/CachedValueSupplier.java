@@ -0,0 +1,44 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * A {@link Supplier} of a cached value, which can also be retrieved by callers that must not block while the value is
+ * refreshed.
+ *
+ * @see CachedSupplier
+ * @see SharedCachedSupplier
+ */
+@SdkProtectedApi
+public interface CachedValueSupplier<T> extends Supplier<T>, SdkAutoCloseable {
+    /**
+     * Retrieve the cached value without blocking the calling thread.
+     *
+     * If the cached value can be used, the returned future is already complete. Otherwise, the value is refreshed on a
+     * background thread and the returned future is completed once the refresh finishes, in the same way as {@link #get()}
+     * would have returned or thrown. Concurrent callers that need a refresh share a single background refresh.
+     *
+     * Refreshes run on the {@link software.amazon.awssdk.utils.ExecutorUtils#sharedBlockingIoExecutor()}, and never on the
+     * calling thread. If that executor's queue is full, the returned future fails with a
+     * {@link java.util.concurrent.RejectedExecutionException}.
+     */
+    CompletableFuture<T> getAsync();
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils.cache;
+
+import java.time.Clock;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.cache.CachedSupplier.StaleValueBehavior;
+
+/**
+ * A lease on a process-wide {@link CachedSupplier} that is shared by every {@code SharedCachedSupplier} created with an equal
+ * {@link Builder#key(Object)}.
+ *
+ * This allows many objects that would otherwise each cache the same value (for example, credential providers for many clients
+ * that were created with the same configuration) to call the underlying supplier only once per refresh. The shared cache is
+ * refreshed by a single {@link NonBlocking} background task at a jittered time before its value becomes stale, and uses
+ * {@link StaleValueBehavior#ALLOW}, so that the last successfully-retrieved value continues to be served when a refresh fails.
+ *
+ * Every lease contributes its own value supplier. The shared cache uses the supplier of the oldest open lease, so closing the
+ * lease that created the cache does not stop the others from being refreshed. The shared cache is closed and forgotten when
+ * its last lease is closed.
+ *
+ * Every lease must be {@link #close() closed} when it is no longer used. Until then, the process-wide shared cache holds a
+ * reference to the lease's value supplier, and to anything that supplier references, such as the object that created it.
+ *
+ * This should be created using {@link #builder(Supplier)}.
+ */
+@SdkProtectedApi
+@ThreadSafe
+public final class SharedCachedSupplier<T> implements CachedValueSupplier<T> {
+    private static final Logger log = Logger.loggerFor(SharedCachedSupplier.class);
+
+    /**
+     * The shared caches that have at least one open lease, by key.
+     */
+    private static final Map<Object, SharedEntry<?>> ENTRIES = new ConcurrentHashMap<>();
+
+    private final Object key;
+    private final SharedEntry<T> entry;
+    private final Supplier<RefreshResult<T>> valueSupplier;
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    @SuppressWarnings("unchecked")
+    private SharedCachedSupplier(Builder<T> builder) {
+        this.key = Validate.paramNotNull(builder.key, "key");
+        this.valueSupplier = Validate.paramNotNull(builder.supplier, "supplier");
+        this.entry = (SharedEntry<T>) ENTRIES.compute(key, (k, existing) -> {
+            SharedEntry<T> e = existing != null ? (SharedEntry<T>) existing : new SharedEntry<>(builder);
+            e.leases++;
+            e.valueSuppliers.add(valueSupplier);
+            return e;
+        });
+    }
+
+    /**
+     * Retrieve a builder that can be used for creating a {@link SharedCachedSupplier}.
+     *
+     * @param valueSupplier The value supplier that should be used to refresh the shared value while this lease is open.
+     */
+    public static <T> Builder<T> builder(Supplier<RefreshResult<T>> valueSupplier) {
+        return new Builder<>(valueSupplier);
+    }
+
+    @Override
+    public T get() {
+        return entry.cache.get();
+    }
+
+    @Override
+    public CompletableFuture<T> getAsync() {
+        return entry.cache.getAsync();
+    }
+
+    /**
+     * Release this lease on the shared cache, closing the shared cache if this was its last open lease.
+     */
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+
+        ENTRIES.computeIfPresent(key, (k, existing) -> {
+            if (existing != entry) {
+                return existing;
+            }
+
+            entry.valueSuppliers.removeFirstOccurrence(valueSupplier);
+            if (--entry.leases > 0) {
+                return entry;
+            }
+
+            log.debug(() -> "(" + entry.cachedValueName + ") Closing shared cache because its last lease was closed.");
+            entry.cache.close();
+            return null;
+        });
+    }
+
+    /**
+     * A cache shared by every lease with the same key. The lease count is only read or modified while holding the key's lock
+     * in {@link #ENTRIES}.
+     */
+    private static final class SharedEntry<T> {
+        private final Deque<Supplier<RefreshResult<T>>> valueSuppliers = new ConcurrentLinkedDeque<>();
+        private final String cachedValueName;
+        private final CachedSupplier<T> cache;
+        private int leases;
+
+        private SharedEntry(Builder<T> builder) {
+            this.cachedValueName = builder.cachedValueName;
+            this.cache = CachedSupplier.builder(this::refresh)
+                                       .cachedValueName(cachedValueName)
+                                       .prefetchStrategy(new NonBlocking(builder.asyncThreadName))
+                                       .staleValueBehavior(StaleValueBehavior.ALLOW)
+                                       .clock(builder.clock)
+                                       .build();
+        }
+
+        private RefreshResult<T> refresh() {
+            Supplier<RefreshResult<T>> valueSupplier = valueSuppliers.peekFirst();
+            if (valueSupplier == null) {
+                throw new IllegalStateException("(" + cachedValueName + ") Every lease on this shared cache has been closed.");
+            }
+            return valueSupplier.get();
+        }
+    }
+
+    /**
+     * A Builder for {@link SharedCachedSupplier}, created by {@link #builder(Supplier)}.
+     */
+    public static final class Builder<T> {
+        private final Supplier<RefreshResult<T>> supplier;
+        private Object key;
+        private String cachedValueName = "unknown";
+        private String asyncThreadName = "shared-cache";
+        private Clock clock = Clock.systemUTC();
+
+        private Builder(Supplier<RefreshResult<T>> supplier) {
+            this.supplier = supplier;
+        }
+
+        /**
+         * Configure the key identifying the shared cache. Leases created with equal keys share a single cached value, so the
+         * key must capture everything that affects the value returned by the supplier. Leases that share a key must cache the
+         * same type of value.
+         *
+         * This must be configured.
+         */
+        public Builder<T> key(Object key) {
+            this.key = key;
+            return this;
+        }
+
+        /**
+         * Configures a name for the cached value, used in logs. This is only used if this lease creates the shared cache.
+         *
+         * By default, this uses "unknown".
+         */
+        public Builder<T> cachedValueName(String cachedValueName) {
+            this.cachedValueName = cachedValueName;
+            return this;
+        }
+
+        /**
+         * Configures the name of the background thread that refreshes the shared cache. This is only used if this lease
+         * creates the shared cache.
+         *
+         * By default, this uses "shared-cache".
+         */
+        public Builder<T> asyncThreadName(String asyncThreadName) {
+            this.asyncThreadName = asyncThreadName;
+            return this;
+        }
+
+        /**
+         * Configure the clock used by the shared cache. Configurable for testing.
+         */
+        @SdkTestInternalApi
+        public Builder<T> clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Create a lease on the shared cache for the configured key, creating the shared cache if there is none. The lease
+         * must be {@link SharedCachedSupplier#close() closed} when it is no longer used, so that the shared cache releases its
+         * value supplier.
+         */
+        public SharedCachedSupplier<T> build() {
+            return new SharedCachedSupplier<>(this);
+        }
+    }
+}
@@ -0,0 +1,396 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils.internal;
+
+import java.time.Instant;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Hand-written parsers and formatters for the fixed timestamp layouts used on the wire by the AWS protocols.
+ *
+ * <p>Every method only handles the canonical form of its layout and returns {@code null} for anything else, in which
+ * case the caller is expected to fall back to the equivalent {@link java.time.format.DateTimeFormatter}. Whenever a
+ * method returns a non-null value, that value is identical to what the formatter-based implementation in
+ * {@link software.amazon.awssdk.utils.DateUtils} would have produced.
+ */
+@SdkInternalApi
+public final class DateTimeFastPath {
+    private static final long SECONDS_PER_DAY = 86_400L;
+    private static final long DAYS_0000_TO_1970 = 719_528L;
+    private static final int MIN_YEAR = 1;
+    private static final int MAX_YEAR = 9999;
+
+    /**
+     * Epoch seconds of 0001-01-01T00:00:00Z and 10000-01-01T00:00:00Z, the range where the year is four digits.
+     */
+    private static final long MIN_EPOCH_SECOND = -62_135_596_800L;
+    private static final long MAX_EPOCH_SECOND = 253_402_300_800L;
+
+    private static final int[] DAYS_IN_MONTH = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+    private static final String[] DAY_NAMES = {"Mon", "Tue", "Wed", "Thu", "Fri", "Sat", "Sun"};
+    private static final String[] MONTH_NAMES = {"Jan", "Feb", "Mar", "Apr", "May", "Jun",
+                                                 "Jul", "Aug", "Sep", "Oct", "Nov", "Dec"};
+
+    private static final int ISO_8601_BASE_LENGTH = "yyyy-MM-ddTHH:mm:ssZ".length();
+    private static final int RFC_822_LENGTH = "EEE, dd MMM yyyy HH:mm:ss GMT".length();
+
+    /**
+     * Longest integer part accepted by {@link #parseUnixTimestamp(String)} without risking {@code long} overflow when
+     * scaled to milliseconds.
+     */
+    private static final int MAX_UNIX_SECONDS_DIGITS = 15;
+
+    private DateTimeFastPath() {
+    }
+
+    /**
+     * Parses {@code yyyy-MM-dd'T'HH:mm:ss[.S{1,9}]'Z'}, or returns null if the value is not in exactly that form.
+     */
+    public static Instant parseIso8601(String value) {
+        int length = value.length();
+        if (length < ISO_8601_BASE_LENGTH
+            || value.charAt(4) != '-' || value.charAt(7) != '-' || value.charAt(10) != 'T'
+            || value.charAt(13) != ':' || value.charAt(16) != ':' || value.charAt(length - 1) != 'Z') {
+            return null;
+        }
+
+        int year = digits(value, 0, 4);
+        int month = digits(value, 5, 2);
+        int day = digits(value, 8, 2);
+        int hour = digits(value, 11, 2);
+        int minute = digits(value, 14, 2);
+        int second = digits(value, 17, 2);
+        if (!isValidDateTime(year, month, day, hour, minute, second)) {
+            return null;
+        }
+
+        int nanos = 0;
+        int fractionStart = ISO_8601_BASE_LENGTH - 1;
+        if (length != ISO_8601_BASE_LENGTH) {
+            int fractionDigits = length - ISO_8601_BASE_LENGTH - 1;
+            if (value.charAt(fractionStart) != '.' || fractionDigits < 1 || fractionDigits > 9) {
+                return null;
+            }
+            nanos = digits(value, fractionStart + 1, fractionDigits);
+            if (nanos < 0) {
+                return null;
+            }
+            for (int i = fractionDigits; i < 9; i++) {
+                nanos *= 10;
+            }
+        }
+
+        return Instant.ofEpochSecond(epochSecond(year, month, day, hour, minute, second), nanos);
+    }
+
+    /**
+     * Formats the instant the same way as {@link java.time.format.DateTimeFormatter#ISO_INSTANT}, or returns null if the
+     * year is outside of {@code [1, 9999]}.
+     */
+    public static String formatIso8601(Instant instant) {
+        long epochSecond = instant.getEpochSecond();
+        if (epochSecond < MIN_EPOCH_SECOND || epochSecond >= MAX_EPOCH_SECOND) {
+            return null;
+        }
+
+        int nanos = instant.getNano();
+        int fractionDigits;
+        if (nanos == 0) {
+            fractionDigits = 0;
+        } else if (nanos % 1_000_000 == 0) {
+            fractionDigits = 3;
+        } else if (nanos % 1_000 == 0) {
+            fractionDigits = 6;
+        } else {
+            fractionDigits = 9;
+        }
+
+        char[] buf = new char[ISO_8601_BASE_LENGTH + (fractionDigits == 0 ? 0 : fractionDigits + 1)];
+        long epochDay = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+        int secondOfDay = (int) Math.floorMod(epochSecond, SECONDS_PER_DAY);
+        int packedDate = civilDate(epochDay);
+
+        writeDigits(buf, 0, packedDate >>> 9, 4);
+        buf[4] = '-';
+        writeDigits(buf, 5, (packedDate >>> 5) & 0xF, 2);
+        buf[7] = '-';
+        writeDigits(buf, 8, packedDate & 0x1F, 2);
+        buf[10] = 'T';
+        writeTime(buf, 11, secondOfDay);
+
+        int pos = ISO_8601_BASE_LENGTH - 1;
+        if (fractionDigits != 0) {
+            buf[pos++] = '.';
+            writeDigits(buf, pos, nanos / pow10(9 - fractionDigits), fractionDigits);
+            pos += fractionDigits;
+        }
+        buf[pos] = 'Z';
+        return new String(buf);
+    }
+
+    /**
+     * Parses {@code EEE, dd MMM yyyy HH:mm:ss 'GMT'} with the canonical capitalization, or returns null if the value is
+     * not in exactly that form or names the wrong day of the week.
+     */
+    public static Instant parseRfc822(String value) {
+        if (value.length() != RFC_822_LENGTH
+            || value.charAt(3) != ',' || value.charAt(4) != ' ' || value.charAt(7) != ' ' || value.charAt(11) != ' '
+            || value.charAt(16) != ' ' || value.charAt(19) != ':' || value.charAt(22) != ':'
+            || !value.endsWith(" GMT")) {
+            return null;
+        }
+
+        int dayOfWeek = indexOf(DAY_NAMES, value, 0);
+        int month = indexOf(MONTH_NAMES, value, 8) + 1;
+        int day = digits(value, 5, 2);
+        int year = digits(value, 12, 4);
+        int hour = digits(value, 17, 2);
+        int minute = digits(value, 20, 2);
+        int second = digits(value, 23, 2);
+        if (dayOfWeek < 0 || !isValidDateTime(year, month, day, hour, minute, second)) {
+            return null;
+        }
+
+        long epochDay = epochDay(year, month, day);
+        if (dayOfWeekIndex(epochDay) != dayOfWeek) {
+            return null;
+        }
+        return Instant.ofEpochSecond(epochDay * SECONDS_PER_DAY + hour * 3600L + minute * 60L + second);
+    }
+
+    /**
+     * Formats the instant as {@code EEE, dd MMM yyyy HH:mm:ss 'GMT'}, or returns null if the year is outside of
+     * {@code [1, 9999]}.
+     */
+    public static String formatRfc822(Instant instant) {
+        long epochSecond = instant.getEpochSecond();
+        if (epochSecond < MIN_EPOCH_SECOND || epochSecond >= MAX_EPOCH_SECOND) {
+            return null;
+        }
+
+        char[] buf = new char[RFC_822_LENGTH];
+        long epochDay = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+        int secondOfDay = (int) Math.floorMod(epochSecond, SECONDS_PER_DAY);
+        int packedDate = civilDate(epochDay);
+
+        DAY_NAMES[dayOfWeekIndex(epochDay)].getChars(0, 3, buf, 0);
+        buf[3] = ',';
+        buf[4] = ' ';
+        writeDigits(buf, 5, packedDate & 0x1F, 2);
+        buf[7] = ' ';
+        MONTH_NAMES[((packedDate >>> 5) & 0xF) - 1].getChars(0, 3, buf, 8);
+        buf[11] = ' ';
+        writeDigits(buf, 12, packedDate >>> 9, 4);
+        buf[16] = ' ';
+        writeTime(buf, 17, secondOfDay);
+        " GMT".getChars(0, 4, buf, 25);
+        return new String(buf);
+    }
+
+    /**
+     * Parses a plain decimal number of epoch seconds ({@code -?\d+(\.\d+)?}) into an instant truncated to millisecond
+     * precision, or returns null if the value is in any other form (exponents, explicit plus signs, very large values).
+     */
+    public static Instant parseUnixTimestamp(String value) {
+        int length = value.length();
+        int pos = 0;
+        boolean negative = false;
+        if (length > 0 && value.charAt(0) == '-') {
+            negative = true;
+            pos++;
+        }
+
+        long seconds = 0;
+        int integerStart = pos;
+        while (pos < length && isDigit(value.charAt(pos))) {
+            seconds = seconds * 10 + (value.charAt(pos++) - '0');
+        }
+        int integerDigits = pos - integerStart;
+        if (integerDigits == 0 || integerDigits > MAX_UNIX_SECONDS_DIGITS) {
+            return null;
+        }
+
+        long millis = 0;
+        if (pos < length) {
+            if (value.charAt(pos++) != '.' || pos == length) {
+                return null;
+            }
+            int fractionStart = pos;
+            while (pos < length) {
+                char c = value.charAt(pos);
+                if (!isDigit(c)) {
+                    return null;
+                }
+                if (pos - fractionStart < 3) {
+                    millis = millis * 10 + (c - '0');
+                }
+                pos++;
+            }
+            for (int i = pos - fractionStart; i < 3; i++) {
+                millis *= 10;
+            }
+        }
+
+        long epochMilli = seconds * 1000 + millis;
+        return Instant.ofEpochMilli(negative ? -epochMilli : epochMilli);
+    }
+
+    /**
+     * Formats the instant as epoch seconds with exactly three fractional digits, or returns null if the epoch
+     * milliseconds cannot be negated.
+     */
+    public static String formatUnixTimestamp(Instant instant) {
+        long epochMilli = instant.toEpochMilli();
+        if (epochMilli == Long.MIN_VALUE) {
+            return null;
+        }
+        boolean negative = epochMilli < 0;
+        long abs = Math.abs(epochMilli);
+        long seconds = abs / 1000;
+        int millis = (int) (abs % 1000);
+
+        char[] buf = new char[24];
+        int pos = buf.length;
+        writeDigits(buf, pos - 3, millis, 3);
+        pos -= 4;
+        buf[pos] = '.';
+        do {
+            buf[--pos] = (char) ('0' + seconds % 10);
+            seconds /= 10;
+        } while (seconds != 0);
+        if (negative) {
+            buf[--pos] = '-';
+        }
+        return new String(buf, pos, buf.length - pos);
+    }
+
+    private static boolean isValidDateTime(int year, int month, int day, int hour, int minute, int second) {
+        return year >= MIN_YEAR && year <= MAX_YEAR
+               && month >= 1 && month <= 12
+               && day >= 1 && day <= daysInMonth(year, month)
+               && hour >= 0 && hour <= 23
+               && minute >= 0 && minute <= 59
+               && second >= 0 && second <= 59;
+    }
+
+    private static int daysInMonth(int year, int month) {
+        return month == 2 && isLeapYear(year) ? 29 : DAYS_IN_MONTH[month - 1];
+    }
+
+    private static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    private static long epochSecond(int year, int month, int day, int hour, int minute, int second) {
+        return epochDay(year, month, day) * SECONDS_PER_DAY + hour * 3600L + minute * 60L + second;
+    }
+
+    /**
+     * Same algorithm as {@link java.time.LocalDate#toEpochDay()}, restricted to positive years.
+     */
+    private static long epochDay(int year, int month, int day) {
+        long y = year;
+        long total = 365 * y + (y + 3) / 4 - (y + 99) / 100 + (y + 399) / 400;
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (!isLeapYear(year)) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * Same algorithm as {@link java.time.LocalDate#ofEpochDay(long)}, restricted to positive years. The result is packed
+     * as {@code year << 9 | month << 5 | day} to avoid allocating.
+     */
+    private static int civilDate(long epochDay) {
+        long zeroDay = epochDay + DAYS_0000_TO_1970 - 60;
+        long yearEst = (400 * zeroDay + 591) / 146097;
+        long doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        if (doyEst < 0) {
+            yearEst--;
+            doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        }
+        int marchDoy0 = (int) doyEst;
+        int marchMonth0 = (marchDoy0 * 5 + 2) / 153;
+        int month = (marchMonth0 + 2) % 12 + 1;
+        int day = marchDoy0 - (marchMonth0 * 306 + 5) / 10 + 1;
+        int year = (int) (yearEst + marchMonth0 / 10);
+        return year << 9 | month << 5 | day;
+    }
+
+    /**
+     * Returns the ISO day of the week of the given epoch day as an index from 0 (Monday) to 6 (Sunday).
+     */
+    private static int dayOfWeekIndex(long epochDay) {
+        return (int) Math.floorMod(epochDay + 3, 7L);
+    }
+
+    private static void writeTime(char[] buf, int offset, int secondOfDay) {
+        writeDigits(buf, offset, secondOfDay / 3600, 2);
+        buf[offset + 2] = ':';
+        writeDigits(buf, offset + 3, (secondOfDay / 60) % 60, 2);
+        buf[offset + 5] = ':';
+        writeDigits(buf, offset + 6, secondOfDay % 60, 2);
+    }
+
+    private static void writeDigits(char[] buf, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            buf[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    /**
+     * Parses {@code count} ASCII digits starting at {@code offset}, returning -1 if any of them is not a digit.
+     */
+    private static int digits(String value, int offset, int count) {
+        int result = 0;
+        for (int i = offset; i < offset + count; i++) {
+            char c = value.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int indexOf(String[] names, String value, int offset) {
+        for (int i = 0; i < names.length; i++) {
+            if (value.startsWith(names[i], offset)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int pow10(int exponent) {
+        int result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= 10;
+        }
+        return result;
+    }
+}
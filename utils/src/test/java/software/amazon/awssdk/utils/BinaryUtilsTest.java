@@ -25,6 +25,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.Random;
 import org.junit.jupiter.api.Test;
 import software.amazon.awssdk.utils.internal.Base16Lower;
 
@@ -345,4 +346,37 @@ public class BinaryUtilsTest {
         assertThrows(IllegalArgumentException.class, () -> BinaryUtils.toNonDirectBuffer(nonDirectBuffer));
     }
 
+
+    @Test
+    public void testFromBase64CharRange_matchesStringDecoder() {
+        Random random = new Random(17);
+        for (int length = 0; length < 64; length++) {
+            byte[] data = new byte[length];
+            random.nextBytes(data);
+            String padded = BinaryUtils.toBase64(data);
+            String unpadded = padded.replace("=", "");
+
+            for (String encoded : Arrays.asList(padded, unpadded)) {
+                char[] buffer = ("xx" + encoded + "yy").toCharArray();
+                assertArrayEquals(data, BinaryUtils.fromBase64(buffer, 2, encoded.length()));
+            }
+        }
+    }
+
+    @Test
+    public void testFromBase64CharRange_malformedInput_throwsSameExceptionAsStringDecoder() {
+        for (String malformed : Arrays.asList("a", "ab=", "abc==", "ab=c", "a===", "ab\ncd", "ab cd", "abcd=", "Zm9v\u00e9")) {
+            IllegalArgumentException expected =
+                assertThrows(IllegalArgumentException.class, () -> BinaryUtils.fromBase64(malformed));
+            IllegalArgumentException actual =
+                assertThrows(IllegalArgumentException.class,
+                             () -> BinaryUtils.fromBase64(malformed.toCharArray(), 0, malformed.length()));
+            assertEquals(expected.getMessage(), actual.getMessage());
+        }
+    }
+
+    @Test
+    public void testFromBase64CharRange_nullBuffer() {
+        assertNull(BinaryUtils.fromBase64(null, 0, 0));
+    }
 }
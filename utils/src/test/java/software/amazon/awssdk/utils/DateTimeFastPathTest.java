@@ -0,0 +1,171 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils;
+
+import static java.time.ZoneOffset.UTC;
+import static java.time.format.DateTimeFormatter.ISO_INSTANT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.awssdk.utils.DateUtils.RFC_822_DATE_TIME;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import software.amazon.awssdk.utils.internal.DateTimeFastPath;
+
+/**
+ * Fuzz tests verifying that {@link DateTimeFastPath} agrees with the {@link java.time.format.DateTimeFormatter}s that
+ * {@link DateUtils} falls back to.
+ */
+public class DateTimeFastPathTest {
+    private static final int ITERATIONS = 100_000;
+    private static final long MIN_EPOCH_SECOND = Instant.parse("0001-01-01T00:00:00Z").getEpochSecond();
+    private static final long MAX_EPOCH_SECOND = Instant.parse("9999-12-31T23:59:59Z").getEpochSecond();
+
+    private final Random random = new Random(5381);
+
+    @Test
+    public void iso8601_randomInstants_matchesIsoInstantFormatter() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            Instant instant = randomInstant();
+            String expected = ISO_INSTANT.format(instant);
+
+            assertThat(DateTimeFastPath.formatIso8601(instant)).isEqualTo(expected);
+            assertThat(DateTimeFastPath.parseIso8601(expected)).isEqualTo(instant);
+        }
+    }
+
+    @Test
+    public void rfc822_randomInstants_matchesRfc822Formatter() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            Instant instant = Instant.ofEpochSecond(randomInstant().getEpochSecond());
+            String expected = RFC_822_DATE_TIME.format(ZonedDateTime.ofInstant(instant, UTC));
+
+            assertThat(DateTimeFastPath.formatRfc822(instant)).isEqualTo(expected);
+            assertThat(DateTimeFastPath.parseRfc822(expected)).isEqualTo(instant);
+        }
+    }
+
+    @Test
+    public void unixTimestamp_randomInstants_matchesBigDecimalConversion() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            Instant instant = Instant.ofEpochMilli(random.nextLong() % 100_000_000_000_000L);
+            String expected = BigDecimal.valueOf(instant.toEpochMilli()).scaleByPowerOfTen(-3).toPlainString();
+
+            assertThat(DateTimeFastPath.formatUnixTimestamp(instant)).isEqualTo(expected);
+            assertThat(DateTimeFastPath.parseUnixTimestamp(expected)).isEqualTo(instant);
+        }
+    }
+
+    @Test
+    public void unixTimestamp_randomFractions_truncatesLikeBigDecimal() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            StringBuilder value = new StringBuilder();
+            if (random.nextBoolean()) {
+                value.append('-');
+            }
+            value.append(Math.abs(random.nextLong() % 10_000_000_000L));
+            if (random.nextBoolean()) {
+                value.append('.').append(random.nextInt(Integer.MAX_VALUE));
+            }
+            String input = value.toString();
+            long expected = new BigDecimal(input).scaleByPowerOfTen(3).longValue();
+
+            assertThat(DateTimeFastPath.parseUnixTimestamp(input)).isEqualTo(Instant.ofEpochMilli(expected));
+        }
+    }
+
+    @Test
+    public void iso8601_randomMutations_neverDisagreesWithFormatters() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            String input = mutate(ISO_INSTANT.format(randomInstant()));
+            Instant fastPath = DateTimeFastPath.parseIso8601(input);
+            if (fastPath != null) {
+                assertThat(fastPath).isEqualTo(ISO_INSTANT.parse(input, Instant::from));
+            }
+        }
+    }
+
+    @Test
+    public void rfc822_randomMutations_neverDisagreesWithFormatters() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            String input = mutate(RFC_822_DATE_TIME.format(ZonedDateTime.ofInstant(randomInstant(), UTC)));
+            Instant fastPath = DateTimeFastPath.parseRfc822(input);
+            if (fastPath != null) {
+                assertThat(fastPath).isEqualTo(RFC_822_DATE_TIME.withZone(UTC).parse(input, Instant::from));
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2014-03-06T14:28:58.000Z.000Z", "2014-02-30T00:00:00Z", "2014-03-06T24:00:00Z",
+                            "2014-03-06T14:28:60Z", "2014-03-06t14:28:58z", "2014-03-06T14:28:58.Z",
+                            "2014-03-06T14:28:58.1234567890Z", "2021-05-10T17:12:13-07:00", "+10000-01-01T00:00:00Z"})
+    public void parseIso8601_nonCanonicalInput_returnsNull(String input) {
+        assertThat(DateTimeFastPath.parseIso8601(input)).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Wed, 31 Apr 2014 17:43:26 GMT", "Thu, 30 Apr 2014 17:43:26 GMT",
+                            "wed, 30 apr 2014 17:43:26 gmt", "Wed, 2 Apr 2014 17:43:26 GMT",
+                            "Wed, 30 Apr 2014 17:43:26 +0000"})
+    public void parseRfc822_nonCanonicalInput_returnsNull(String input) {
+        assertThat(DateTimeFastPath.parseRfc822(input)).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "-", "1.", ".5", "+1", "1e3", "1.5E9", "12a", "1234567890123456"})
+    public void parseUnixTimestamp_nonCanonicalInput_returnsNull(String input) {
+        assertThat(DateTimeFastPath.parseUnixTimestamp(input)).isNull();
+    }
+
+    @Test
+    public void format_yearOutsideFourDigits_returnsNull() {
+        Instant tooLate = Instant.parse("+10000-01-01T00:00:00Z");
+        Instant tooEarly = Instant.parse("0000-12-31T23:59:59Z");
+
+        assertThat(DateTimeFastPath.formatIso8601(tooLate)).isNull();
+        assertThat(DateTimeFastPath.formatIso8601(tooEarly)).isNull();
+        assertThat(DateTimeFastPath.formatRfc822(tooLate)).isNull();
+        assertThat(DateTimeFastPath.formatRfc822(tooEarly)).isNull();
+    }
+
+    private Instant randomInstant() {
+        long epochSecond = MIN_EPOCH_SECOND + (long) (random.nextDouble() * (MAX_EPOCH_SECOND - MIN_EPOCH_SECOND));
+        switch (random.nextInt(4)) {
+            case 0:
+                return Instant.ofEpochSecond(epochSecond);
+            case 1:
+                return Instant.ofEpochSecond(epochSecond, random.nextInt(1000) * 1_000_000L);
+            case 2:
+                return Instant.ofEpochSecond(epochSecond, random.nextInt(1_000_000) * 1_000L);
+            default:
+                return Instant.ofEpochSecond(epochSecond, random.nextInt(1_000_000_000));
+        }
+    }
+
+    private String mutate(String value) {
+        char[] chars = value.toCharArray();
+        int mutations = 1 + random.nextInt(2);
+        for (int i = 0; i < mutations; i++) {
+            chars[random.nextInt(chars.length)] = (char) ('*' + random.nextInt('[' - '*'));
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class ExecutorUtilsTest {
+    @Test
+    public void sharedBackgroundExecutor_runsOnDaemonThread() throws InterruptedException {
+        AtomicBoolean daemon = new AtomicBoolean();
+        CountDownLatch done = new CountDownLatch(1);
+        ExecutorUtils.sharedBackgroundExecutor().execute(() -> {
+            daemon.set(Thread.currentThread().isDaemon());
+            done.countDown();
+        });
+        done.await();
+        assertThat(daemon).isTrue();
+    }
+
+    @Test
+    public void sharedBackgroundExecutor_allThreadsBusy_runsOnCallingThread() {
+        Executor executor = ExecutorUtils.sharedBackgroundExecutor();
+        Thread caller = Thread.currentThread();
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean ranOnCaller = new AtomicBoolean();
+        try {
+            for (int i = 0; i < 10_000 && !ranOnCaller.get(); i++) {
+                executor.execute(() -> {
+                    if (Thread.currentThread() == caller) {
+                        ranOnCaller.set(true);
+                        return;
+                    }
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+        } finally {
+            release.countDown();
+        }
+        assertThat(ranOnCaller).isTrue();
+    }
+
+    @Test
+    public void sharedBlockingIoExecutor_runsOnDaemonThreadOtherThanCaller() throws InterruptedException {
+        Thread caller = Thread.currentThread();
+        AtomicBoolean daemonOtherThanCaller = new AtomicBoolean();
+        CountDownLatch done = new CountDownLatch(1);
+        ExecutorUtils.sharedBlockingIoExecutor().execute(() -> {
+            Thread thread = Thread.currentThread();
+            daemonOtherThanCaller.set(thread.isDaemon() && thread != caller);
+            done.countDown();
+        });
+        done.await();
+        assertThat(daemonOtherThanCaller).isTrue();
+    }
+
+    @Test
+    public void blockingIoExecutor_allThreadsBusy_queuesThenRejectsWithoutRunningOnCaller() throws InterruptedException {
+        ExecutorService executor = ExecutorUtils.newBlockingIoExecutor(2, 2, "test-blocking-io");
+        Thread caller = Thread.currentThread();
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean ranOnCaller = new AtomicBoolean();
+        AtomicInteger completed = new AtomicInteger();
+        Runnable task = () -> {
+            if (Thread.currentThread() == caller) {
+                ranOnCaller.set(true);
+            }
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            completed.incrementAndGet();
+        };
+
+        try {
+            for (int i = 0; i < 4; i++) {
+                executor.execute(task);
+            }
+            assertThatThrownBy(() -> executor.execute(task)).isInstanceOf(RejectedExecutionException.class);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(ranOnCaller).isFalse();
+        assertThat(completed).hasValue(4);
+    }
+}
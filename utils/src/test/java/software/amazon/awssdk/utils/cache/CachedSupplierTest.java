@@ -34,6 +34,7 @@ import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -569,6 +570,54 @@ public class CachedSupplierTest {
         throw new AssertionError("Thread count never exceeded 0.");
     }
 
+    @Test
+    public void getAsyncRefreshesStaleValueOnceInTheBackground() {
+        try (WaitingSupplier waitingSupplier = new WaitingSupplier(future(), future())) {
+            CachedSupplier<String> cachedSupplier = CachedSupplier.builder(waitingSupplier).build();
+
+            // Both calls return without waiting for the refresh, and share it.
+            CompletableFuture<String> first = cachedSupplier.getAsync();
+            CompletableFuture<String> second = cachedSupplier.getAsync();
+            waitingSupplier.waitForGetsToHaveStarted(1);
+            assertThat(first).isNotDone();
+            assertThat(second).isNotDone();
+
+            // Cancelling one caller's future does not cancel the shared refresh for the other.
+            first.cancel(false);
+            waitingSupplier.permits.release(1);
+            assertThat(second.join()).isEqualTo("value");
+            waitingSupplier.waitForGetsToHaveFinished(1);
+
+            assertThat(cachedSupplier.getAsync()).isCompletedWithValue("value");
+            assertThat(waitingSupplier.startedGetPermits.availablePermits()).isZero();
+        }
+    }
+
+    @Test
+    public void getAsyncReturnsCachedValueAndPrefetchesInTheBackground() {
+        try (WaitingSupplier waitingSupplier = new WaitingSupplier(future(), past())) {
+            CachedSupplier<String> cachedSupplier = CachedSupplier.builder(waitingSupplier)
+                                                                  .jitterEnabled(false)
+                                                                  .build();
+            waitingSupplier.permits.release(1);
+            cachedSupplier.get();
+
+            // The blocking prefetch strategy would make this caller wait for the prefetch.
+            assertThat(cachedSupplier.getAsync()).isCompletedWithValue("value");
+            waitingSupplier.waitForGetsToHaveStarted(2);
+            waitingSupplier.permits.release(1);
+            waitingSupplier.waitForGetsToHaveFinished(2);
+        }
+    }
+
+    @Test
+    public void getAsyncFailsIfRefreshFails() {
+        RuntimeException failure = new RuntimeException("failure");
+        CachedSupplier<String> cachedSupplier = CachedSupplier.builder(new MutableSupplier().set(failure)).build();
+
+        assertThatThrownBy(() -> cachedSupplier.getAsync().join()).hasCause(failure);
+    }
+
     @FunctionalInterface
     interface ThrowingSupplier {
         Collection<CachedSupplier<?>> get() throws InterruptedException;
@@ -0,0 +1,203 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Validate the functionality of {@link SharedCachedSupplier}.
+ */
+public class SharedCachedSupplierTest {
+    private final AdjustableClock clock = new AdjustableClock(Instant.parse("2024-01-01T00:00:00Z"));
+
+    @Test
+    public void get_sameKey_callsSupplierOnce() {
+        Object key = new Object();
+        CountingSupplier first = new CountingSupplier("first");
+        CountingSupplier second = new CountingSupplier("second");
+
+        try (SharedCachedSupplier<String> firstLease = lease(key, first);
+             SharedCachedSupplier<String> secondLease = lease(key, second)) {
+            assertThat(firstLease.get()).isEqualTo("first");
+            assertThat(secondLease.get()).isEqualTo("first");
+        }
+
+        assertThat(first.calls.get()).isEqualTo(1);
+        assertThat(second.calls.get()).isZero();
+    }
+
+    @Test
+    public void get_differentKeys_doNotShareValues() {
+        try (SharedCachedSupplier<String> firstLease = lease(new Object(), new CountingSupplier("first"));
+             SharedCachedSupplier<String> secondLease = lease(new Object(), new CountingSupplier("second"))) {
+            assertThat(firstLease.get()).isEqualTo("first");
+            assertThat(secondLease.get()).isEqualTo("second");
+        }
+    }
+
+    @Test
+    public void get_afterFirstLeaseClosed_refreshesWithRemainingLeaseSupplier() {
+        Object key = new Object();
+        SharedCachedSupplier<String> firstLease = lease(key, new CountingSupplier("first"));
+        try (SharedCachedSupplier<String> secondLease = lease(key, new CountingSupplier("second"))) {
+            assertThat(secondLease.get()).isEqualTo("first");
+
+            firstLease.close();
+            clock.advance(Duration.ofMinutes(2));
+
+            assertThat(secondLease.get()).isEqualTo("second");
+        }
+    }
+
+    @Test
+    public void build_afterAllLeasesClosed_createsNewSharedCache() {
+        Object key = new Object();
+        CountingSupplier supplier = new CountingSupplier("value");
+
+        lease(key, supplier).close();
+        try (SharedCachedSupplier<String> firstLease = lease(key, supplier)) {
+            firstLease.get();
+        }
+        try (SharedCachedSupplier<String> secondLease = lease(key, supplier)) {
+            secondLease.get();
+        }
+
+        assertThat(supplier.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void close_leasesClosedOutOfOrder_refreshesWithOldestOpenLeaseSupplier() {
+        Object key = new Object();
+        SharedCachedSupplier<String> firstLease = lease(key, new CountingSupplier("first"));
+        SharedCachedSupplier<String> secondLease = lease(key, new CountingSupplier("second"));
+        SharedCachedSupplier<String> thirdLease = lease(key, new CountingSupplier("third"));
+        assertThat(thirdLease.get()).isEqualTo("first");
+
+        secondLease.close();
+        clock.advance(Duration.ofMinutes(2));
+        assertThat(thirdLease.get()).isEqualTo("first");
+
+        firstLease.close();
+        clock.advance(Duration.ofMinutes(2));
+        assertThat(thirdLease.get()).isEqualTo("third");
+
+        thirdLease.close();
+        CountingSupplier newSupplier = new CountingSupplier("new");
+        try (SharedCachedSupplier<String> newLease = lease(key, newSupplier)) {
+            assertThat(newLease.get()).isEqualTo("new");
+        }
+        assertThat(newSupplier.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void close_calledTwice_onlyReleasesOneLease() {
+        Object key = new Object();
+        CountingSupplier supplier = new CountingSupplier("value");
+
+        try (SharedCachedSupplier<String> remainingLease = lease(key, supplier)) {
+            SharedCachedSupplier<String> closedLease = lease(key, supplier);
+            remainingLease.get();
+            closedLease.close();
+            closedLease.close();
+
+            try (SharedCachedSupplier<String> newLease = lease(key, supplier)) {
+                newLease.get();
+            }
+        }
+
+        assertThat(supplier.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void get_refreshFailsAfterValueIsStale_returnsStaleValue() {
+        Object key = new Object();
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<RefreshResult<String>> failsAfterFirstCall = () -> {
+            if (calls.getAndIncrement() > 0) {
+                throw new IllegalStateException("refresh failed");
+            }
+            return RefreshResult.builder("value").staleTime(clock.instant().plus(Duration.ofMinutes(1))).build();
+        };
+
+        try (SharedCachedSupplier<String> lease = lease(key, failsAfterFirstCall)) {
+            assertThat(lease.get()).isEqualTo("value");
+
+            clock.advance(Duration.ofMinutes(2));
+
+            assertThat(lease.get()).isEqualTo("value");
+            assertThat(calls.get()).isEqualTo(2);
+        }
+    }
+
+    private SharedCachedSupplier<String> lease(Object key, Supplier<RefreshResult<String>> supplier) {
+        return SharedCachedSupplier.builder(supplier)
+                                   .key(key)
+                                   .cachedValueName("test")
+                                   .clock(clock)
+                                   .build();
+    }
+
+    private final class CountingSupplier implements Supplier<RefreshResult<String>> {
+        private final String value;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        private CountingSupplier(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public RefreshResult<String> get() {
+            calls.incrementAndGet();
+            return RefreshResult.builder(value).staleTime(clock.instant().plus(Duration.ofMinutes(1))).build();
+        }
+    }
+
+    private static class AdjustableClock extends Clock {
+        private volatile Instant time;
+
+        private AdjustableClock(Instant time) {
+            this.time = time;
+        }
+
+        private void advance(Duration duration) {
+            time = time.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return time;
+        }
+    }
+}